@@ -0,0 +1,99 @@
+package com.githubqacore.seleniumassured.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * An in-memory {@link WebDriver} returning a fixed <em>current url</em> and <em>title</em>, so the benchmarks measure only the assertions and not the browser.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @since 1.0.0
+ *
+ */
+public class InMemoryWebDriver implements WebDriver {
+
+	private final String	currentUrl;
+
+	private final String	title;
+
+	public InMemoryWebDriver(String currentUrl, String title) {
+		this.currentUrl = currentUrl;
+		this.title = title;
+	}
+
+	@Override
+	public void get(String url) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public String getCurrentUrl() {
+		return currentUrl;
+	}
+
+	@Override
+	public String getTitle() {
+		return title;
+	}
+
+	@Override
+	public List<WebElement> findElements(By by) {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public WebElement findElement(By by) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public String getPageSource() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public void close() {
+
+	}
+
+	@Override
+	public void quit() {
+
+	}
+
+	@Override
+	public Set<String> getWindowHandles() {
+		return Collections.singleton(getWindowHandle());
+	}
+
+	@Override
+	public String getWindowHandle() {
+		return "in-memory";
+	}
+
+	@Override
+	public TargetLocator switchTo() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Navigation navigate() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Options manage() {
+		throw new UnsupportedOperationException();
+	}
+
+}
@@ -0,0 +1,159 @@
+package com.githubqacore.seleniumassured.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.WebDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.githubqacore.seleniumassured.WebDriverAssert;
+
+/**
+ * Benchmarks of every category of {@link WebDriverAssert} check (exact, ignore case, prefix at an offset, contains and regular expression) against an {@link InMemoryWebDriver}, from short titles
+ * to 1 MB urls. Every benchmarked assertion passes, and the searched values are at the end of the url, so the whole url is scanned. Run it with the <code>gc</code> profiler to report the allocation
+ * rate:
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar -prof gc
+ * </pre>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see WebDriverAssert
+ *
+ * @since 1.0.0
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WebDriverAssertBenchmark {
+
+	private static final String	ORIGIN	= "https://example.com";
+
+	private static final String	PATH	= "/checkout?id=42";
+
+	private static final String	TITLE	= "Checkout - Store";
+
+	/**
+	 * The length of the <em>current url</em>, in characters.
+	 */
+	@Param({ "64", "1024", "65536", "1048576" })
+	private int					length;
+
+	private WebDriver			driver;
+
+	private String				url;
+
+	private String				expectedUrl;
+
+	private String				upperCaseUrl;
+
+	private String				regex;
+
+	private Pattern				pattern;
+
+	@Setup
+	public void setUp() {
+		StringBuilder builder = new StringBuilder(length).append(ORIGIN).append('/');
+
+		while (builder.length() < length - PATH.length())
+			builder.append((char) ('a' + builder.length() % 26));
+
+		url = builder.append(PATH).toString();
+		upperCaseUrl = url.toUpperCase();
+		regex = "https://[^/]+/[a-z]*/checkout\\?id=\\d+";
+		pattern = Pattern.compile(regex);
+		// a copy, so equals can not short-circuit on the identity
+		expectedUrl = new String(url);
+		driver = new InMemoryWebDriver(url, TITLE);
+	}
+
+	@Benchmark
+	public void currentUrlEquals() {
+		WebDriverAssert.assertCurrentUrlEquals(driver, expectedUrl);
+	}
+
+	@Benchmark
+	public void currentUrlEqualsIgnoreCase() {
+		WebDriverAssert.assertCurrentUrlEqualsIgnoreCase(driver, upperCaseUrl);
+	}
+
+	@Benchmark
+	public void currentUrlStartsWithOffset() {
+		WebDriverAssert.assertCurrentUrlStartsWith(driver, PATH, length - PATH.length());
+	}
+
+	@Benchmark
+	public void currentUrlStartsWithOffsetIgnoreCase() {
+		WebDriverAssert.assertCurrentUrlStartsWithIgnoreCase(driver, "/CHECKOUT", length - PATH.length());
+	}
+
+	@Benchmark
+	public void currentUrlEndsWith() {
+		WebDriverAssert.assertCurrentUrlEndsWith(driver, PATH);
+	}
+
+	@Benchmark
+	public void currentUrlContains() {
+		WebDriverAssert.assertCurrentUrlContains(driver, PATH);
+	}
+
+	@Benchmark
+	public void currentUrlContainsIgnoreCase() {
+		WebDriverAssert.assertCurrentUrlContainsIgnoreCase(driver, "/CHECKOUT?ID=");
+	}
+
+	@Benchmark
+	public void currentUrlDoesNotContain() {
+		WebDriverAssert.assertCurrentUrlDoesNotContain(driver, "/cart");
+	}
+
+	@Benchmark
+	public void currentUrlMatchesRegex() {
+		WebDriverAssert.assertCurrentUrlMatches(driver, regex);
+	}
+
+	@Benchmark
+	public void currentUrlMatchesPattern() {
+		WebDriverAssert.assertCurrentUrlMatches(driver, pattern);
+	}
+
+	@Benchmark
+	public void titleEquals() {
+		WebDriverAssert.assertTitleEquals(driver, TITLE);
+	}
+
+	@Benchmark
+	public void titleEqualsIgnoreCase() {
+		WebDriverAssert.assertTitleEqualsIgnoreCase(driver, "checkout - store");
+	}
+
+	@Benchmark
+	public void titleContainsIgnoreCase() {
+		WebDriverAssert.assertTitleContainsIgnoreCase(driver, "STORE");
+	}
+
+	@Benchmark
+	public void titleMatchesRegex() {
+		WebDriverAssert.assertTitleMatches(driver, "\\w+ - Store");
+	}
+
+}
@@ -0,0 +1,48 @@
+package com.githubqacore.seleniumassured;
+
+/**
+ * Listener of the metrics of the {@link WebDriverAssert} assertions, registered with {@link AssertionMetrics#setListener(AssertionListener)}. It is called by the thread running the assertion,
+ * so implementations must be thread safe and fast. Assertions are identified by the name of their method, e.g. <em>assertTitleEquals</em>, and the checks of the fluent, soft, eventual,
+ * parallel, asynchronous, in browser and element assertions by the class of their API, e.g. <em>PageAssert</em>. These checks are only reported to {@link #onEvaluation(String, long, boolean)},
+ * their time including the driver calls they made, if any; the in browser and element assertions report a batch as one check.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see AssertionMetrics
+ * @see RecordingAssertionListener
+ *
+ * @since 1.0.0
+ *
+ */
+public interface AssertionListener {
+
+	/**
+	 * Called after the assertion read a value from the driver.
+	 *
+	 * @param assertion
+	 *            the name of the assertion
+	 *
+	 * @param nanos
+	 *            the latency of the driver call, in nanoseconds
+	 */
+	void onDriverCall(String assertion, long nanos);
+
+	/**
+	 * Called after the assertion checked the value, before a failure is thrown.
+	 *
+	 * @param assertion
+	 *            the name of the assertion
+	 *
+	 * @param nanos
+	 *            the time spent checking the value, in nanoseconds
+	 *
+	 * @param passed
+	 *            <code>true</code> if the check passed. Otherwise, false.
+	 */
+	void onEvaluation(String assertion, long nanos, boolean passed);
+
+}
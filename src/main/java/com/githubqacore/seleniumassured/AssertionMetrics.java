@@ -0,0 +1,298 @@
+package com.githubqacore.seleniumassured;
+
+import java.nio.file.Paths;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntries;
+import org.openqa.selenium.logging.LogType;
+
+/**
+ * Registration of the {@link AssertionListener} of the {@link WebDriverAssert} assertions. By default there is no listener, and the assertions do not even read the clock:
+ *
+ * <pre>
+ * RecordingAssertionListener recorder = new RecordingAssertionListener();
+ *
+ * recorder.exportOnShutdown(Paths.get("target/assertion-metrics.csv"));
+ * AssertionMetrics.setListener(recorder);
+ * </pre>
+ *
+ * The same is done without code by setting the <code>seleniumassured.metrics.file</code> system property to the path of the exported file.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see AssertionListener
+ *
+ * @since 1.0.0
+ *
+ */
+public final class AssertionMetrics {
+
+	/**
+	 * The system property with the path of the file where the metrics are exported at shutdown. When set, a {@link RecordingAssertionListener} is registered.
+	 */
+	public static final String						METRICS_FILE_PROPERTY	= "seleniumassured.metrics.file";
+
+	/**
+	 * The driver call and the time it ended of the assertion running in each thread.
+	 */
+	private static final ThreadLocal<long[]>		PROBE					= ThreadLocal.withInitial(() -> new long[2]);
+
+	private static final int						DRIVER_NANOS			= 0;
+
+	private static final int						READ_END				= 1;
+
+	private static volatile AssertionListener		listener;
+
+	static {
+		String file = System.getProperty(METRICS_FILE_PROPERTY);
+
+		if (file != null && !file.isEmpty()) {
+			RecordingAssertionListener recorder = new RecordingAssertionListener();
+
+			recorder.exportOnShutdown(Paths.get(file));
+			listener = recorder;
+		}
+	}
+
+	/**
+	 * Registers the <code>listener</code> of all assertions, replacing the current one.
+	 *
+	 * @param listener
+	 *            the <code>listener</code>, or <code>null</code> to disable the metrics
+	 */
+	public static void setListener(AssertionListener listener) {
+		AssertionMetrics.listener = listener;
+	}
+
+	/**
+	 * Returns the registered listener.
+	 *
+	 * @return the registered listener, or <code>null</code> if the metrics are disabled
+	 */
+	public static AssertionListener getListener() {
+		return listener;
+	}
+
+	/**
+	 * Reads the <code>property</code> from the <code>driver</code>, through its {@link PageCache} if any, timing the driver call when there is a listener.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> where will be read
+	 *
+	 * @param property
+	 *            the <code>property</code> to be read
+	 *
+	 * @return the value of the <code>property</code>
+	 */
+	static String read(WebDriver driver, PageProperty property) {
+		if (listener == null)
+			return PageCache.read(driver, property);
+
+		PageCache cache = PageCache.of(driver);
+		String value = cache == null ? null : cache.get(property);
+		long[] probe = PROBE.get();
+
+		if (value != null) {
+			// answered by the cache, without a driver call
+			probe[READ_END] = System.nanoTime();
+			probe[DRIVER_NANOS] = -1;
+
+			return value;
+		}
+
+		long epoch = cache == null ? 0 : cache.getEpoch();
+		long start = System.nanoTime();
+
+		value = property.read(driver);
+		probe[READ_END] = System.nanoTime();
+		probe[DRIVER_NANOS] = probe[READ_END] - start;
+
+		if (cache != null)
+			cache.put(property, value, epoch);
+
+		return value;
+	}
+
+	/**
+	 * Reads the page source from the <code>driver</code>, timing the driver call when there is a listener. The page source changes without navigation, so it is never cached.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> where will be read
+	 *
+	 * @return the page source
+	 */
+	static String readPageSource(WebDriver driver) {
+		return timed(driver::getPageSource);
+	}
+
+	/**
+	 * Takes a screenshot as PNG with the <code>driver</code>, timing the driver call when there is a listener.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> which takes the screenshot
+	 *
+	 * @return the screenshot, as PNG
+	 *
+	 * @throws IllegalArgumentException
+	 *             if the <code>driver</code> does not take screenshots
+	 */
+	static byte[] readScreenshot(WebDriver driver) {
+		if (!(driver instanceof TakesScreenshot))
+			throw new IllegalArgumentException("The driver " + driver.getClass().getName() + " does not take screenshots");
+
+		return timed(() -> ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES));
+	}
+
+	/**
+	 * Makes the driver <code>call</code> of a read which is never cached, timing it when there is a listener.
+	 *
+	 * @param call
+	 *            the driver call
+	 *
+	 * @return the value returned by the <code>call</code>
+	 */
+	static <T> T timed(Supplier<T> call) {
+		if (listener == null)
+			return call.get();
+
+		long[] probe = PROBE.get();
+		long start = System.nanoTime();
+		T value = call.get();
+
+		probe[READ_END] = System.nanoTime();
+		probe[DRIVER_NANOS] = probe[READ_END] - start;
+
+		return value;
+	}
+
+	/**
+	 * Reads the browser log entries from the <code>driver</code>, timing the driver call when there is a listener. The driver clears its log on every read, so the entries are only returned once.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> where will be read
+	 *
+	 * @return the entries logged since the last read
+	 */
+	static LogEntries readBrowserLog(WebDriver driver) {
+		return timed(() -> driver.manage().logs().get(LogType.BROWSER));
+	}
+
+	/**
+	 * Reads the <code>property</code> from the <code>snapshot</code>, which makes no driver call.
+	 *
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be read
+	 *
+	 * @param property
+	 *            the <code>property</code> to be read
+	 *
+	 * @return the value of the <code>property</code>
+	 */
+	static String read(PageSnapshot snapshot, PageProperty property) {
+		driverless();
+
+		return property.read(snapshot);
+	}
+
+	/**
+	 * Reads the <code>timings</code>, which makes no driver call: they were captured before, so the navigations of {@link NavigationTimings#sample(WebDriver, String, int)} are not reported.
+	 *
+	 * @param timings
+	 *            the <code>timings</code> to be checked
+	 *
+	 * @return the <code>timings</code>
+	 */
+	static NavigationTimings read(NavigationTimings timings) {
+		driverless();
+
+		return timings;
+	}
+
+	/**
+	 * Marks the end of a read which made no driver call, when there is a listener.
+	 */
+	private static void driverless() {
+		if (listener != null) {
+			long[] probe = PROBE.get();
+
+			probe[READ_END] = System.nanoTime();
+			probe[DRIVER_NANOS] = -1;
+		}
+	}
+
+	/**
+	 * Returns the start of a check reported by {@link #evaluated(String, long, boolean)}.
+	 *
+	 * @return the current time, in nanoseconds, or <code>0</code> if there is no listener
+	 */
+	static long start() {
+		return listener == null ? 0 : System.nanoTime();
+	}
+
+	/**
+	 * Reports a check which was not timed by the reads, as made by the APIs which read a value once for several checks. Its time includes the driver calls it made, if any, which are not reported
+	 * apart.
+	 *
+	 * @param assertion
+	 *            the name of the assertion
+	 *
+	 * @param start
+	 *            the start of the check, see {@link #start()}
+	 *
+	 * @param passed
+	 *            <code>true</code> if the check passed. Otherwise, false.
+	 */
+	static void evaluated(String assertion, long start, boolean passed) {
+		AssertionListener current = listener;
+
+		// the listener may have been registered during the check
+		if (current == null || start == 0)
+			return;
+
+		current.onEvaluation(assertion, System.nanoTime() - start, passed);
+	}
+
+	/**
+	 * Reports the driver call and the check made since the last read of the current thread.
+	 *
+	 * @param assertion
+	 *            the name of the assertion method
+	 *
+	 * @param passed
+	 *            <code>true</code> if the check passed. Otherwise, false.
+	 */
+	static void verified(String assertion, boolean passed) {
+		AssertionListener current = listener;
+
+		if (current == null)
+			return;
+
+		long end = System.nanoTime();
+		long[] probe = PROBE.get();
+
+		// the listener may have been registered between the read and the check
+		if (probe[READ_END] == 0)
+			return;
+
+		if (probe[DRIVER_NANOS] >= 0)
+			current.onDriverCall(assertion, probe[DRIVER_NANOS]);
+
+		current.onEvaluation(assertion, end - probe[READ_END], passed);
+		probe[READ_END] = 0;
+	}
+
+	/**
+	 * Private constructor (static class)
+	 */
+	private AssertionMetrics() {
+
+	}
+
+}
@@ -0,0 +1,135 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The metrics recorded by a {@link RecordingAssertionListener} for one assertion method.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see RecordingAssertionListener
+ *
+ * @since 1.0.0
+ *
+ */
+public final class AssertionStatistics {
+
+	private final String			assertion;
+
+	private final LatencyHistogram	driverCalls;
+
+	private final LatencyHistogram	evaluations;
+
+	private final long				passed;
+
+	private final long				failed;
+
+	AssertionStatistics(String assertion, LatencyHistogram driverCalls, LatencyHistogram evaluations, long passed, long failed) {
+		this.assertion = assertion;
+		this.driverCalls = driverCalls;
+		this.evaluations = evaluations;
+		this.passed = passed;
+		this.failed = failed;
+	}
+
+	/**
+	 * Returns the name of the assertion method, e.g. <em>assertTitleEquals</em>.
+	 *
+	 * @return the name of the assertion method
+	 */
+	public String getAssertion() {
+		return assertion;
+	}
+
+	/**
+	 * Returns how many driver calls the assertion made.
+	 *
+	 * @return how many driver calls the assertion made
+	 */
+	public long getDriverCalls() {
+		return driverCalls.getCount();
+	}
+
+	/**
+	 * Returns the latency below or equal to which the given <code>percentile</code> of the driver calls fall.
+	 *
+	 * @param percentile
+	 *            the <code>percentile</code>, from 0 to 100
+	 *
+	 * @param unit
+	 *            the unit of the returned latency
+	 *
+	 * @return the latency of the <code>percentile</code>, with an error below 12.5%
+	 */
+	public long getDriverCallLatency(double percentile, TimeUnit unit) {
+		return unit.convert(driverCalls.getPercentile(percentile), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the time spent in driver calls.
+	 *
+	 * @param unit
+	 *            the unit of the returned time
+	 *
+	 * @return the time spent in driver calls
+	 */
+	public long getDriverCallTime(TimeUnit unit) {
+		return unit.convert(driverCalls.getTotal(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the time below or equal to which the given <code>percentile</code> of the checks fall.
+	 *
+	 * @param percentile
+	 *            the <code>percentile</code>, from 0 to 100
+	 *
+	 * @param unit
+	 *            the unit of the returned time
+	 *
+	 * @return the time of the <code>percentile</code>, with an error below 12.5%
+	 */
+	public long getEvaluationLatency(double percentile, TimeUnit unit) {
+		return unit.convert(evaluations.getPercentile(percentile), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the time spent checking the values.
+	 *
+	 * @param unit
+	 *            the unit of the returned time
+	 *
+	 * @return the time spent checking the values
+	 */
+	public long getEvaluationTime(TimeUnit unit) {
+		return unit.convert(evaluations.getTotal(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns how many times the assertion passed.
+	 *
+	 * @return how many times the assertion passed
+	 */
+	public long getPassed() {
+		return passed;
+	}
+
+	/**
+	 * Returns how many times the assertion failed.
+	 *
+	 * @return how many times the assertion failed
+	 */
+	public long getFailed() {
+		return failed;
+	}
+
+	@Override
+	public String toString() {
+		return assertion + ": " + passed + " passed, " + failed + " failed, " + getDriverCalls() + " driver calls in " + getDriverCallTime(TimeUnit.MILLISECONDS) + " ms (p99 "
+				+ getDriverCallLatency(99, TimeUnit.MICROSECONDS) + " us), evaluated in " + getEvaluationTime(TimeUnit.MILLISECONDS) + " ms";
+	}
+
+}
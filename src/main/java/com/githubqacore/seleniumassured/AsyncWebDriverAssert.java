@@ -0,0 +1,153 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Asynchronous assertions on the page of a {@link WebDriver}: each check runs on the given executor and returns a {@link CompletableFuture}, so the remote calls of several checks and drivers
+ * overlap instead of blocking one after the other:
+ *
+ * <pre>
+ * AsyncWebDriverAssert checkout = async(driver, executor);
+ *
+ * CompletableFuture.allOf(
+ *         checkout.currentUrl(StringCondition.startsWith("https://")),
+ *         checkout.title(StringCondition.equalTo("Checkout")),
+ *         async(otherDriver, executor).check(other -&gt; assertTitleEquals(other, "Cart"))).join();
+ * </pre>
+ *
+ * A future completes with <code>null</code> when its check passes, or exceptionally with the {@link AssertionError} (or any other exception) of the check. Cancelling a future interrupts its
+ * pending driver call, if any, and its result is discarded. Checks on the same driver may run at the same time, unless the executor runs them one by one.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see WebDriverAssert
+ *
+ * @since 1.0.0
+ *
+ */
+public final class AsyncWebDriverAssert {
+
+	private final WebDriver	driver;
+
+	private final Executor	executor;
+
+	/**
+	 * Creates the asynchronous assertions on the page of the <code>driver</code>.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 *
+	 * @param executor
+	 *            the <code>executor</code> where the checks run
+	 */
+	public AsyncWebDriverAssert(WebDriver driver, Executor executor) {
+		this.driver = driver;
+		this.executor = executor;
+	}
+
+	/**
+	 * Checks the <em>current url</em> against all <code>conditions</code>, read from the <code>driver</code> only once.
+	 *
+	 * @param conditions
+	 *            the <code>conditions</code> to be satisfied
+	 *
+	 * @return the future of the check, failed with the first unsatisfied condition
+	 */
+	public CompletableFuture<Void> currentUrl(StringCondition... conditions) {
+		return check(PageProperty.CURRENT_URL, conditions);
+	}
+
+	/**
+	 * Checks the <em>title</em> against all <code>conditions</code>, read from the <code>driver</code> only once.
+	 *
+	 * @param conditions
+	 *            the <code>conditions</code> to be satisfied
+	 *
+	 * @return the future of the check, failed with the first unsatisfied condition
+	 */
+	public CompletableFuture<Void> title(StringCondition... conditions) {
+		return check(PageProperty.TITLE, conditions);
+	}
+
+	/**
+	 * Runs any <code>assertion</code> on the <code>driver</code>, e.g. one of the {@link WebDriverAssert} methods.
+	 *
+	 * @param assertion
+	 *            the <code>assertion</code>, e.g. <code>driver -&gt; assertTitleEquals(driver, "Checkout")</code>
+	 *
+	 * @return the future of the <code>assertion</code>
+	 */
+	public CompletableFuture<Void> check(Consumer<? super WebDriver> assertion) {
+		return submit(() -> assertion.accept(driver));
+	}
+
+	private CompletableFuture<Void> check(PageProperty property, StringCondition... conditions) {
+		return submit(() -> {
+			long start = AssertionMetrics.start();
+			String actual = PageCache.read(driver, property);
+
+			for (StringCondition condition : conditions) {
+				AssertionError failure = condition.check(property.getDescription(), actual);
+
+				WebDriverAssert.report("AsyncWebDriverAssert", driver, start, failure);
+
+				if (failure != null)
+					throw failure;
+
+				// only the first check includes the read
+				start = AssertionMetrics.start();
+			}
+		});
+	}
+
+	private CompletableFuture<Void> submit(Runnable check) {
+		CancellableFuture future = new CancellableFuture();
+
+		future.task = new FutureTask<>(() -> {
+			try {
+				check.run();
+				future.complete(null);
+			} catch (Throwable e) {
+				future.completeExceptionally(e);
+			}
+		}, null);
+
+		try {
+			executor.execute(future.task);
+		} catch (RejectedExecutionException e) {
+			future.completeExceptionally(e);
+		}
+
+		return future;
+	}
+
+	/**
+	 * A future that cancels its task, interrupting the thread running it.
+	 */
+	private static final class CancellableFuture extends CompletableFuture<Void> {
+
+		private volatile FutureTask<Void>	task;
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			boolean cancelled = super.cancel(mayInterruptIfRunning);
+
+			if (cancelled)
+				task.cancel(true);
+
+			return cancelled;
+		}
+
+	}
+
+}
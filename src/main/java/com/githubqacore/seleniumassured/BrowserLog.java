@@ -0,0 +1,558 @@
+package com.githubqacore.seleniumassured;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.logging.Level;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntry;
+
+/**
+ * The browser log of a driver, read incrementally. The driver clears its log on every read, so the log of each driver is a single cursor which pulls only the new entries and keeps the most
+ * recent ones in a ring buffer, indexed by level:
+ *
+ * <pre>
+ * BrowserLog.of(driver).mark();
+ *
+ * driver.findElement(By.id("checkout")).click();
+ *
+ * assertNoBrowserErrors(driver);
+ * assertBrowserLogDoesNotMatch(driver, ".*TypeError.*");
+ * </pre>
+ *
+ * The checks only see the entries logged since the last {@link #mark()}. Each check remembers how far it has scanned and its first match, so repeating it on a chatty page only tests the entries
+ * logged since its last evaluation. The entries are also kept by level, in rings as large as the buffer, so a flood of INFO entries does not push the errors out of the checks at level
+ * WARNING or above. Entries pushed out before being checked are lost, and reported in the failure messages. A check that no entry is accepted fails when some of the entries it should have
+ * checked were lost, since one of them could have been accepted.
+ * <p>
+ * {@link WebDriverPoolRule} marks the log of the driver it acquires, if it has one, so each test sees only its own entries.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see WebDriverAssert
+ *
+ * @since 1.0.0
+ *
+ */
+public final class BrowserLog {
+
+	/**
+	 * Default number of entries kept by a log.
+	 */
+	public static final int							DEFAULT_CAPACITY	= 1024;
+
+	/**
+	 * How many checks are remembered, beyond which the least recently used is forgotten.
+	 */
+	private static final int						MAX_CHECKS			= 64;
+
+	/**
+	 * How many entries are listed in a failure message.
+	 */
+	private static final int						MAX_REPORTED		= 10;
+
+	private static final Map<WebDriver, BrowserLog>	LOGS				= Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * The levels by which the entries are indexed: SEVERE, WARNING, INFO and below INFO.
+	 */
+	private static final int[]						BANDS				= { Level.SEVERE.intValue(), Level.WARNING.intValue(), Level.INFO.intValue(), Integer.MIN_VALUE };
+
+	private final WeakReference<WebDriver>			driver;
+
+	private final int								capacity;
+
+	private final LogEntry[]						entries;
+
+	/**
+	 * The entries of each band and their sequence numbers, in rings as large as the buffer.
+	 */
+	private final LogEntry[][]						banded;
+
+	private final long[][]							sequences;
+
+	/**
+	 * How many entries each band has indexed, in total and at the mark.
+	 */
+	private final long[]							indexed				= new long[BANDS.length];
+
+	private final long[]							indexedAtMark		= new long[BANDS.length];
+
+	/**
+	 * The remembered checks, in access order.
+	 */
+	private final Map<Key, Check>					checks				= new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * The sequence number of the next entry.
+	 */
+	private long									sequence;
+
+	private long									mark;
+
+	private BrowserLog(WebDriver driver, int capacity) {
+		this.driver = new WeakReference<>(driver);
+		this.capacity = capacity;
+		this.entries = new LogEntry[capacity];
+		this.banded = new LogEntry[BANDS.length][capacity];
+		this.sequences = new long[BANDS.length][capacity];
+	}
+
+	/**
+	 * Returns the log of the <code>driver</code>, creating it with the default capacity.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> whose log will be read
+	 *
+	 * @return the log of the <code>driver</code>
+	 */
+	public static BrowserLog of(WebDriver driver) {
+		return of(driver, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Returns the log of the <code>driver</code>, creating it with the given <code>capacity</code>. The capacity of an existing log is not changed.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> whose log will be read
+	 *
+	 * @param capacity
+	 *            how many entries the log keeps
+	 *
+	 * @return the log of the <code>driver</code>
+	 */
+	public static BrowserLog of(WebDriver driver, int capacity) {
+		if (driver == null)
+			throw new IllegalArgumentException("The driver can not be null");
+
+		if (capacity < 1)
+			throw new IllegalArgumentException("Invalid capacity " + capacity);
+
+		return LOGS.computeIfAbsent(driver, key -> new BrowserLog(key, capacity));
+	}
+
+	/**
+	 * Returns the log of the <code>driver</code>, or <code>null</code> if it has none.
+	 *
+	 * @param driver
+	 *            the <code>driver</code>
+	 *
+	 * @return the log of the <code>driver</code>, if any
+	 */
+	static BrowserLog existing(WebDriver driver) {
+		return LOGS.get(driver);
+	}
+
+	/**
+	 * Reads the entries logged since the last read from the driver.
+	 *
+	 * @return how many entries were read
+	 */
+	public synchronized int pull() {
+		WebDriver driver = this.driver.get();
+
+		if (driver == null)
+			return 0;
+
+		int pulled = 0;
+
+		for (LogEntry entry : AssertionMetrics.readBrowserLog(driver)) {
+			append(entry);
+			pulled++;
+		}
+
+		return pulled;
+	}
+
+	/**
+	 * Pulls the new entries, and then marks the end of the log: the checks will only see the entries logged after it.
+	 */
+	public synchronized void mark() {
+		pull();
+		mark = sequence;
+		System.arraycopy(indexed, 0, indexedAtMark, 0, indexed.length);
+		checks.clear();
+	}
+
+	/**
+	 * Pulls the new entries, and then returns the kept ones logged since the mark.
+	 *
+	 * @return the entries, oldest first
+	 */
+	public synchronized List<LogEntry> getEntries() {
+		return getEntries(Level.ALL);
+	}
+
+	/**
+	 * Pulls the new entries, and then returns the kept ones logged since the mark at the <code>level</code> or above. At the INFO level or above, these are read from the rings of the levels, so they
+	 * may go further back than {@link #getEntries()}.
+	 *
+	 * @param level
+	 *            the minimum <code>level</code> of the entries
+	 *
+	 * @return the entries, oldest first
+	 */
+	public synchronized List<LogEntry> getEntries(Level level) {
+		pull();
+
+		return collect(level, null);
+	}
+
+	/**
+	 * Returns how many entries logged since the mark were pushed out of the buffer of all levels.
+	 *
+	 * @return how many entries were dropped
+	 */
+	public synchronized long getDropped() {
+		return Math.max(0, sequence - capacity - mark);
+	}
+
+	/**
+	 * Returns how many entries the log keeps.
+	 *
+	 * @return the capacity of the log
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Checks if no entry since the mark, at the <code>level</code> or above, satisfies the <code>condition</code>.
+	 *
+	 * @param level
+	 *            the minimum <code>level</code> of the checked entries
+	 *
+	 * @param condition
+	 *            the <code>condition</code> on the message, or <code>null</code> for any message
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	synchronized AssertionError checkNone(Level level, StringCondition condition) {
+		Check check = evaluate(level, condition);
+		LogEntry match = check.match;
+
+		if (match == null) {
+			if (check.missed == 0)
+				return null;
+
+			StringBuilder message = new StringBuilder("The browser log dropped ").append(check.missed).append(check.missed == 1 ? " entry" : " entries");
+
+			describe(message, level, null).append(check.missed == 1 ? " before it was checked" : " before they were checked");
+
+			if (condition != null)
+				message.append(" for an entry which ").append(condition);
+
+			return new AssertionError(message.toString());
+		}
+
+		List<LogEntry> found = collect(level, condition);
+
+		if (!found.contains(match))
+			found.add(0, match);
+
+		StringBuilder message = new StringBuilder("The browser log has ").append(found.size()).append(found.size() == 1 ? " entry" : " entries");
+
+		describe(message, level, condition).append(':');
+
+		for (int i = 0; i < found.size() && i < MAX_REPORTED; i++)
+			message.append("\n  ").append(format(found.get(i)));
+
+		if (found.size() > MAX_REPORTED)
+			message.append("\n  ... and ").append(found.size() - MAX_REPORTED).append(" more");
+
+		return new AssertionError(dropped(message, level).toString());
+	}
+
+	/**
+	 * Checks if an entry since the mark, at the <code>level</code> or above, satisfies the <code>condition</code>.
+	 *
+	 * @param level
+	 *            the minimum <code>level</code> of the checked entries
+	 *
+	 * @param condition
+	 *            the <code>condition</code> on the message
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	synchronized AssertionError checkAny(Level level, StringCondition condition) {
+		if (evaluate(level, condition).match != null)
+			return null;
+
+		int checked = collect(level, null).size();
+		StringBuilder message = describe(new StringBuilder("The browser log has no entry"), level, condition).append(", among ").append(checked)
+				.append(checked == 1 ? " entry" : " entries");
+
+		return new AssertionError(dropped(message, level).toString());
+	}
+
+	/**
+	 * Pulls the new entries, and then looks for the first one since the mark which is accepted, resuming the scan of the previous evaluation of the same check. The entries dropped before the check
+	 * scanned them are counted as missed.
+	 */
+	private Check evaluate(Level level, StringCondition condition) {
+		pull();
+
+		Key key = new Key(level, condition);
+		Check check = checks.get(key);
+
+		if (check == null) {
+			if (checks.size() == MAX_CHECKS)
+				checks.remove(checks.keySet().iterator().next());
+
+			check = new Check();
+			checks.put(key, check);
+		}
+
+		if (check.match == null) {
+			check.missed += missed(level, check);
+			check.match = find(level, condition, Math.max(check.scanned, mark));
+			check.scanned = sequence;
+			System.arraycopy(indexed, 0, check.indexed, 0, indexed.length);
+		}
+
+		return check;
+	}
+
+	/**
+	 * Returns how many entries since the mark, at the <code>level</code> or above, were dropped after the last scan of the <code>check</code>.
+	 */
+	private long missed(Level level, Check check) {
+		int bands = band(level) + 1;
+
+		if (bands == BANDS.length)
+			return Math.max(0, sequence - capacity - Math.max(check.scanned, mark));
+
+		long missed = 0;
+
+		for (int band = 0; band < bands; band++)
+			missed += Math.max(0, indexed[band] - capacity - Math.max(check.indexed[band], indexedAtMark[band]));
+
+		return missed;
+	}
+
+	/**
+	 * Finds the first accepted entry from the sequence number <code>from</code>, reading only the bands of the <code>level</code> or above.
+	 */
+	private LogEntry find(Level level, StringCondition condition, long from) {
+		int bands = band(level) + 1;
+
+		if (bands == BANDS.length) {
+			for (long i = Math.max(from, oldest()); i < sequence; i++) {
+				LogEntry entry = entries[slot(i)];
+
+				if (accepts(entry, level, condition))
+					return entry;
+			}
+
+			return null;
+		}
+
+		LogEntry found = null;
+		long foundAt = sequence;
+
+		for (int band = 0; band < bands; band++) {
+			for (long i = firstIndexed(band, from); i < indexed[band]; i++) {
+				long at = sequences[band][slot(i)];
+
+				if (at >= foundAt)
+					break;
+
+				LogEntry entry = banded[band][slot(i)];
+
+				if (accepts(entry, level, condition)) {
+					found = entry;
+					foundAt = at;
+					break;
+				}
+			}
+		}
+
+		return found;
+	}
+
+	/**
+	 * Returns the kept entries since the mark which are accepted, oldest first. At the INFO level or above, the rings of the levels are merged by sequence number.
+	 */
+	private List<LogEntry> collect(Level level, StringCondition condition) {
+		List<LogEntry> found = new ArrayList<>();
+		int bands = band(level) + 1;
+
+		if (bands == BANDS.length) {
+			for (long i = oldest(); i < sequence; i++) {
+				LogEntry entry = entries[slot(i)];
+
+				if (accepts(entry, level, condition))
+					found.add(entry);
+			}
+
+			return found;
+		}
+
+		long[] next = new long[bands];
+
+		for (int band = 0; band < bands; band++)
+			next[band] = firstIndexed(band, mark);
+
+		while (true) {
+			int oldest = -1;
+
+			for (int band = 0; band < bands; band++)
+				if (next[band] < indexed[band] && (oldest < 0 || sequences[band][slot(next[band])] < sequences[oldest][slot(next[oldest])]))
+					oldest = band;
+
+			if (oldest < 0)
+				return found;
+
+			LogEntry entry = banded[oldest][slot(next[oldest]++)];
+
+			if (accepts(entry, level, condition))
+				found.add(entry);
+		}
+	}
+
+	/**
+	 * Returns the position, in the ring of the <code>band</code>, of its first entry from the sequence number <code>from</code>, by binary search.
+	 */
+	private long firstIndexed(int band, long from) {
+		long[] ring = sequences[band];
+		long low = Math.max(0, indexed[band] - capacity);
+		long high = indexed[band];
+
+		while (low < high) {
+			long middle = (low + high) >>> 1;
+
+			if (ring[slot(middle)] < from)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+
+		return low;
+	}
+
+	private void append(LogEntry entry) {
+		int band = band(entry.getLevel());
+
+		banded[band][slot(indexed[band])] = entry;
+		sequences[band][slot(indexed[band]++)] = sequence;
+		entries[slot(sequence++)] = entry;
+	}
+
+	/**
+	 * Returns the sequence number of the oldest kept entry since the mark.
+	 */
+	private long oldest() {
+		return Math.max(mark, sequence - capacity);
+	}
+
+	private int slot(long position) {
+		return (int) (position % capacity);
+	}
+
+	private static int band(Level level) {
+		int value = level == null ? Level.INFO.intValue() : level.intValue();
+		int band = 0;
+
+		while (value < BANDS[band])
+			band++;
+
+		return band;
+	}
+
+	private static boolean accepts(LogEntry entry, Level level, StringCondition condition) {
+		Level actual = entry.getLevel() == null ? Level.INFO : entry.getLevel();
+
+		return actual.intValue() >= level.intValue() && (condition == null || condition.test(entry.getMessage()));
+	}
+
+	private static StringBuilder describe(StringBuilder message, Level level, StringCondition condition) {
+		if (level.intValue() > Level.ALL.intValue())
+			message.append(" at level ").append(level.getName()).append(" or above");
+
+		if (condition != null)
+			message.append(" which ").append(condition);
+
+		return message;
+	}
+
+	/**
+	 * Appends how many entries since the mark, at the <code>level</code> or above, were dropped, if any, since the check could not see them.
+	 */
+	private StringBuilder dropped(StringBuilder message, Level level) {
+		int bands = band(level) + 1;
+		long dropped = 0;
+
+		if (bands == BANDS.length)
+			dropped = getDropped();
+		else
+			for (int band = 0; band < bands; band++)
+				dropped += Math.max(0, indexed[band] - capacity - indexedAtMark[band]);
+
+		if (dropped > 0)
+			message.append(message.indexOf("\n") < 0 ? " (" : "\n  (").append(dropped).append(" older ").append(dropped == 1 ? "entry was" : "entries were").append(" dropped)");
+
+		return message;
+	}
+
+	private static String format(LogEntry entry) {
+		return "[" + (entry.getLevel() == null ? Level.INFO : entry.getLevel()).getName() + "] " + entry.getMessage();
+	}
+
+	/**
+	 * The key of a remembered check.
+	 */
+	private static final class Key {
+
+		private final Level				level;
+
+		private final StringCondition	condition;
+
+		Key(Level level, StringCondition condition) {
+			this.level = level;
+			this.condition = condition;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+
+			Key other = (Key) obj;
+
+			return level.intValue() == other.level.intValue() && Objects.equals(condition, other.condition);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * level.intValue() + Objects.hashCode(condition);
+		}
+
+	}
+
+	/**
+	 * The progress of a check since the mark: the sequence number up to which it has scanned, the number of entries each band had indexed then, how many entries were dropped before being scanned,
+	 * and its first match, after which there is nothing left to scan.
+	 */
+	private static final class Check {
+
+		private final long[]	indexed	= new long[BANDS.length];
+
+		private long			scanned;
+
+		private long			missed;
+
+		private LogEntry		match;
+
+	}
+
+}
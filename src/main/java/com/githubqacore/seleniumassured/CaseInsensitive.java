@@ -0,0 +1,219 @@
+package com.githubqacore.seleniumassured;
+
+/**
+ * Case-insensitive string comparisons that work in place, without copying or lower casing the compared strings. Two characters are considered equal ignoring case under the same rules as
+ * {@link String#regionMatches(boolean, int, String, int, int)}, so the comparisons do not depend on the default locale. ASCII characters take a fast path that skips the Unicode case tables.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @since 1.0.0
+ *
+ */
+final class CaseInsensitive {
+
+	/**
+	 * Tests if <code>value</code> equals to <code>other</code> ignoring case.
+	 *
+	 * @param value
+	 *            the value to be compared
+	 *
+	 * @param other
+	 *            the other value to be compared
+	 *
+	 * @return <code>true</code> if both are equal ignoring case. Otherwise, false.
+	 */
+	static boolean equals(String value, String other) {
+		if (value == null || other == null)
+			return value == other;
+
+		return value.length() == other.length() && regionMatches(value, 0, other);
+	}
+
+	/**
+	 * Tests if the substring of <code>value</code> beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 *
+	 * @param value
+	 *            the value to be checked
+	 *
+	 * @param prefix
+	 *            the <code>prefix</code>
+	 *
+	 * @param toffset
+	 *            where to begin looking in <code>value</code>
+	 *
+	 * @return <code>true</code> if <code>value</code> starts with <code>prefix</code> at <code>toffset</code>. Otherwise, false.
+	 */
+	static boolean startsWith(String value, String prefix, int toffset) {
+		if (toffset < 0 || toffset > value.length() - prefix.length())
+			return false;
+
+		return regionMatches(value, toffset, prefix);
+	}
+
+	/**
+	 * Tests if <code>value</code> ends with the specified <code>suffix</code> ignoring case.
+	 *
+	 * @param value
+	 *            the value to be checked
+	 *
+	 * @param suffix
+	 *            the <code>suffix</code>
+	 *
+	 * @return <code>true</code> if <code>value</code> ends with <code>suffix</code>. Otherwise, false.
+	 */
+	static boolean endsWith(String value, String suffix) {
+		return startsWith(value, suffix, value.length() - suffix.length());
+	}
+
+	/**
+	 * Tests if <code>value</code> contains the <code>sequence</code> ignoring case.
+	 *
+	 * @param value
+	 *            the value to be checked
+	 *
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 *
+	 * @return <code>true</code> if <code>value</code> contains <code>sequence</code>. Otherwise, false.
+	 */
+	static boolean contains(String value, String sequence) {
+		return indexOf(value, sequence, 0) >= 0;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of <code>sequence</code> in <code>value</code> ignoring case, starting at the specified index.
+	 *
+	 * @param value
+	 *            the value to be searched
+	 *
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 *
+	 * @param fromIndex
+	 *            the index to start the search from
+	 *
+	 * @return the index of the first occurrence, or <code>-1</code> if there is no such occurrence
+	 */
+	static int indexOf(String value, String sequence, int fromIndex) {
+		int length = sequence.length();
+		int last = value.length() - length;
+
+		if (fromIndex < 0)
+			fromIndex = 0;
+
+		if (length == 0)
+			return fromIndex <= value.length() ? fromIndex : -1;
+
+		char first = fold(sequence.charAt(0));
+
+		if (first < 128 && !hasNonAsciiFold(first))
+			return indexOfAscii(value, sequence, fromIndex, first);
+
+		for (int i = fromIndex; i <= last; i++) {
+			// cheap first character filter before comparing the whole region
+			if (fold(value.charAt(i)) != first)
+				continue;
+
+			if (regionMatches(value, i + 1, sequence, 1, length - 1))
+				return i;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Searches using {@link String#indexOf(int, int)} to find the candidates for the ASCII first character in both cases, which is as fast as a case-sensitive search.
+	 */
+	private static int indexOfAscii(String value, String sequence, int fromIndex, char first) {
+		int length = sequence.length();
+		int last = value.length() - length;
+		char upper = first >= 'a' && first <= 'z' ? (char) (first - ('a' - 'A')) : first;
+
+		int lowerIndex = value.indexOf(first, fromIndex);
+		int upperIndex = upper == first ? -1 : value.indexOf(upper, fromIndex);
+
+		while (lowerIndex >= 0 || upperIndex >= 0) {
+			int i = lowerIndex < 0 ? upperIndex : upperIndex < 0 ? lowerIndex : Math.min(lowerIndex, upperIndex);
+
+			if (i > last)
+				return -1;
+
+			if (regionMatches(value, i + 1, sequence, 1, length - 1))
+				return i;
+
+			if (i == lowerIndex)
+				lowerIndex = value.indexOf(first, i + 1);
+			else
+				upperIndex = value.indexOf(upper, i + 1);
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Tests if a folded ASCII character is also the folded form of a non-ASCII character (U+0130, U+0131, U+017F and U+212A).
+	 */
+	private static boolean hasNonAsciiFold(char folded) {
+		return folded == 'i' || folded == 'k' || folded == 's';
+	}
+
+	/**
+	 * Folds the case of a character, so two characters are equal ignoring case only if their folded forms are equal.
+	 *
+	 * @param c
+	 *            the character to be folded
+	 *
+	 * @return the folded character
+	 */
+	static char fold(char c) {
+		if (c < 128)
+			return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+
+		return Character.toLowerCase(Character.toUpperCase(c));
+	}
+
+	/**
+	 * Compares <code>other</code> with the region of <code>value</code> beginning at <code>toffset</code>. The caller checks the bounds.
+	 */
+	private static boolean regionMatches(String value, int toffset, String other) {
+		return regionMatches(value, toffset, other, 0, other.length());
+	}
+
+	/**
+	 * Compares <code>length</code> characters of both strings ignoring case. The caller checks the bounds.
+	 */
+	private static boolean regionMatches(String value, int toffset, String other, int ooffset, int length) {
+		for (int i = 0; i < length; i++) {
+			char c1 = value.charAt(toffset + i);
+			char c2 = other.charAt(ooffset + i);
+
+			if (c1 == c2)
+				continue;
+
+			if ((c1 | c2) < 128) {
+				// ASCII fast path: only letters differing in the case bit are equal
+				if ((c1 ^ c2) != 0x20 || (c1 | 0x20) < 'a' || (c1 | 0x20) > 'z')
+					return false;
+
+				continue;
+			}
+
+			if (fold(c1) != fold(c2))
+				return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Private constructor (static class)
+	 */
+	private CaseInsensitive() {
+
+	}
+
+}
@@ -0,0 +1,25 @@
+package com.githubqacore.seleniumassured;
+
+/**
+ * Evaluates the conditions of a {@link StringPropertyAssert} chain. The evaluator decides how the value is read and what happens when a condition is not satisfied.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @since 1.0.0
+ *
+ */
+interface ConditionEvaluator {
+
+	/**
+	 * Evaluates the <code>condition</code> against the value.
+	 *
+	 * @param condition
+	 *            the <code>condition</code> to be evaluated
+	 */
+	void evaluate(StringCondition condition);
+
+}
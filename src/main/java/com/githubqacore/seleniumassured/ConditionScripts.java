@@ -0,0 +1,147 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Translates {@link StringCondition}s to JavaScript, so they can be evaluated inside the browser. A condition is passed to the scripts as an array (see {@link #describe(StringCondition)}) and
+ * evaluated by the <code>test(condition, value)</code> function of {@link #FUNCTIONS}, which has the same semantics as {@link StringCondition#test(String)}.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @since 1.0.0
+ *
+ */
+final class ConditionScripts {
+
+	/**
+	 * Defines <code>fold(value)</code>, <code>read(property)</code> and <code>test(condition, value)</code>. Case folding is done character by character, as in {@link CaseInsensitive}, so the folded
+	 * strings keep their length. A lower case of several characters (only U+0130 has one) is cut to its first character, like {@link Character#toLowerCase(char)} maps it.
+	 */
+	static final String			FUNCTIONS	= ""
+			+ "function fold(value) {"
+			+ "  var folded = '';"
+			+ "  for (var i = 0; i < value.length; i++) {"
+			+ "    var c = value.charAt(i), upper = c.toUpperCase();"
+			+ "    if (upper.length !== 1) upper = c;"
+			+ "    folded += upper.toLowerCase().charAt(0);"
+			+ "  }"
+			+ "  return folded;"
+			+ "}"
+			+ "function read(property) {"
+			+ "  var d;"
+			+ "  try { d = window.top.document; } catch (e) { d = document; }"
+			+ "  return property === 'title' ? d.title : d.URL;"
+			+ "}"
+			+ "function test(c, v) {"
+			+ "  var operation = c[0], operand = c[1], toffset = c[2], ignoreCase = c[5], result;"
+			+ "  if (ignoreCase) { v = fold(v); operand = fold(operand); }"
+			+ "  if (operation === 'EQUALS') result = v === operand;"
+			+ "  else if (operation === 'IS_EMPTY') result = (c[6] ? v.replace(/^[\\x00-\\x20]+|[\\x00-\\x20]+$/g, '') : v).length === 0;"
+			+ "  else if (operation === 'STARTS_WITH') result = toffset >= 0 && toffset + operand.length <= v.length && v.substr(toffset, operand.length) === operand;"
+			+ "  else if (operation === 'ENDS_WITH') result = operand.length <= v.length && v.substr(v.length - operand.length) === operand;"
+			+ "  else if (operation === 'CONTAINS') result = v.indexOf(operand) >= 0;"
+			+ "  else if (operation === 'MATCHES') result = new RegExp('^(?:' + c[3] + ')$', c[4]).test(v);"
+			+ "  else throw new Error('Unknown operation ' + operation);"
+			+ "  return result !== c[7];"
+			+ "}";
+
+	/**
+	 * Defines <code>text(element)</code>, <code>displayed(element)</code>, <code>enabled(element)</code> and <code>attribute(element, name)</code>, which mirror the {@link org.openqa.selenium.WebElement}
+	 * methods closely, but not exactly: the <em>text</em> is the trimmed <code>innerText</code>, and an element is displayed unless it, or one of its ancestors, is not rendered, hidden or
+	 * transparent. Boolean attributes are read as <code>"true"</code> or <code>null</code>, as {@link org.openqa.selenium.WebElement#getAttribute(String)} does.
+	 */
+	static final String			ELEMENT_FUNCTIONS	= ""
+			+ "function text(e) {"
+			+ "  var t = e.innerText;"
+			+ "  if (t == null) t = e.textContent;"
+			+ "  return t == null ? '' : String(t).replace(/\\xa0/g, ' ').replace(/^\\s+|\\s+$/g, '');"
+			+ "}"
+			+ "function displayed(e) {"
+			+ "  if (e.tagName == 'INPUT' && e.type == 'hidden') return false;"
+			+ "  for (var a = e; a && a.nodeType == 1; a = a.parentNode) {"
+			+ "    var s = window.getComputedStyle(a, null);"
+			+ "    if (s.display == 'none' || s.opacity == '0' || (a == e && (s.visibility == 'hidden' || s.visibility == 'collapse'))) return false;"
+			+ "  }"
+			+ "  return true;"
+			+ "}"
+			+ "function enabled(e) {"
+			+ "  return typeof e.matches == 'function' ? !e.matches(':disabled') : !e.disabled;"
+			+ "}"
+			+ "function attribute(e, n) {"
+			+ "  var v = e[n];"
+			+ "  if (typeof v == 'boolean') return v ? 'true' : null;"
+			+ "  if (v == null || typeof v == 'object' || typeof v == 'function') v = e.getAttribute(n);"
+			+ "  return v == null ? null : String(v);"
+			+ "}";
+
+	/**
+	 * Java regular expression constructs without an equivalent in JavaScript: some escapes, inline flags, atomic groups, possessive quantifiers and character class operations.
+	 */
+	private static final Pattern	NOT_PORTABLE	= Pattern.compile("\\\\[AZzGQEpPhHvVRX]|\\(\\?[a-zA-Z-]|\\(\\?>|[*+?}]\\+|&&|\\[[^\\]]*\\[");
+
+	/**
+	 * Tests if the <code>condition</code> can be evaluated inside the browser with the same result. Regular expressions are only supported without flags and without Java specific constructs, and the other
+	 * conditions with a non-null operand. Even then, some constructs match differently in JavaScript, e.g. <code>\s</code> matches U+00A0 and <code>.</code> matches U+0085, so a regular expression
+	 * satisfied inside the browser must be tested again in Java.
+	 *
+	 * @param condition
+	 *            the <code>condition</code> to be evaluated
+	 *
+	 * @return <code>true</code> if the <code>condition</code> can be evaluated inside the browser. Otherwise, false.
+	 */
+	static boolean isScriptable(StringCondition condition) {
+		if (condition.getOperation() != StringCondition.Operation.MATCHES)
+			// the scripts never receive null, which some drivers can not convert
+			return condition.getOperation() == StringCondition.Operation.IS_EMPTY || condition.getOperand() != null;
+
+		Pattern pattern = condition.getPattern();
+
+		return pattern.flags() == 0 && !NOT_PORTABLE.matcher(pattern.pattern()).find();
+	}
+
+	/**
+	 * Describes the <code>condition</code> as the array expected by the <code>test</code> function: operation, operand, offset, regular expression, regular expression flags, ignore case, trim and
+	 * negated.
+	 *
+	 * @param condition
+	 *            a scriptable <code>condition</code>
+	 *
+	 * @return the description of the <code>condition</code>
+	 */
+	static List<Object> describe(StringCondition condition) {
+		Pattern pattern = condition.getPattern();
+
+		return Arrays.<Object> asList(condition.getOperation().name(), asString(condition.getOperand()), condition.getToffset(), pattern == null ? "" : pattern.pattern(), "", condition.isIgnoreCase(),
+				condition.isTrim(), condition.isNegated());
+	}
+
+	/**
+	 * Returns the name of the <code>property</code> expected by the <code>read</code> function.
+	 *
+	 * @param property
+	 *            the page <code>property</code>
+	 *
+	 * @return the name of the <code>property</code>
+	 */
+	static String name(PageProperty property) {
+		return property == PageProperty.TITLE ? "title" : "url";
+	}
+
+	private static String asString(String value) {
+		return value == null ? "" : value;
+	}
+
+	/**
+	 * Private constructor (static class)
+	 */
+	private ConditionScripts() {
+
+	}
+
+}
@@ -0,0 +1,265 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Assertions on a page that changes asynchronously, such as a single page application updating its <em>current url</em> or <em>title</em>. Each check polls the <code>driver</code> until the
+ * condition is satisfied or the timeout expires, and only fails in the latter case:
+ *
+ * <pre>
+ * EventualWebDriverAssert eventually = eventually(driver, 5, TimeUnit.SECONDS);
+ *
+ * eventually.title().isEqualTo("Checkout");
+ * eventually.currentUrl().startsWith("https://").contains("/checkout");
+ * </pre>
+ *
+ * The first poll is immediate, and the interval between polls starts short and doubles up to a maximum, so fast changes are seen quickly without flooding the <code>driver</code> with calls on slow
+ * ones. The polls and wall time used by each check are available in {@link #getReports()}. Instances are not thread-safe.
+ * <p>
+ * With {@link #inBrowser()}, the wait runs inside the browser instead: the condition is sent once with <code>executeAsyncScript</code>, which returns as soon as it holds or the timeout expires, so
+ * a wait costs a single round trip however long it takes. The script timeout of the <code>driver</code> must then be longer than the timeout of the assertions.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see WebDriverAssert#eventually(WebDriver, long, TimeUnit)
+ *
+ * @since 1.0.0
+ *
+ */
+public final class EventualWebDriverAssert {
+
+	/**
+	 * Default interval before the second poll, in milliseconds.
+	 */
+	public static final long		DEFAULT_INITIAL_INTERVAL	= 10;
+
+	/**
+	 * Default maximum interval between polls, in milliseconds.
+	 */
+	public static final long		DEFAULT_MAXIMUM_INTERVAL	= 500;
+
+	/**
+	 * Waits for <code>test(arguments[1], read(arguments[0]))</code> up to <code>arguments[2]</code> milliseconds and returns the last value read. The value is checked again on navigation events
+	 * (<code>popstate</code> and <code>hashchange</code>), on changes of the <code>&lt;title&gt;</code>, and every 50 milliseconds, because <code>history.pushState</code> fires no event.
+	 */
+	private static final String		WAIT_SCRIPT					= ConditionScripts.FUNCTIONS
+			+ "var callback = arguments[arguments.length - 1], property = arguments[0], condition = arguments[1];"
+			+ "var done = false, observer = null, interval = null, timer = null;"
+			+ "function finish(value) {"
+			+ "  if (done) return;"
+			+ "  done = true;"
+			+ "  window.removeEventListener('popstate', check);"
+			+ "  window.removeEventListener('hashchange', check);"
+			+ "  if (observer) observer.disconnect();"
+			+ "  clearInterval(interval);"
+			+ "  clearTimeout(timer);"
+			+ "  callback(value);"
+			+ "}"
+			+ "function check() {"
+			+ "  var value = read(property);"
+			+ "  if (test(condition, value)) finish(value);"
+			+ "}"
+			+ "var value = read(property);"
+			+ "if (test(condition, value)) { callback(value); return; }"
+			+ "window.addEventListener('popstate', check);"
+			+ "window.addEventListener('hashchange', check);"
+			+ "if (window.MutationObserver) {"
+			+ "  observer = new MutationObserver(check);"
+			+ "  observer.observe(document.head || document.documentElement, { subtree: true, childList: true, characterData: true });"
+			+ "}"
+			+ "interval = setInterval(check, 50);"
+			+ "timer = setTimeout(function () { finish(read(property)); }, arguments[2]);";
+
+	private final WebDriver			driver;
+
+	private final long				timeoutNanos;
+
+	private long					initialIntervalNanos		= TimeUnit.MILLISECONDS.toNanos(DEFAULT_INITIAL_INTERVAL);
+
+	private long					maximumIntervalNanos		= TimeUnit.MILLISECONDS.toNanos(DEFAULT_MAXIMUM_INTERVAL);
+
+	private boolean					inBrowser;
+
+	private final List<PollReport>	reports						= new ArrayList<>();
+
+	/**
+	 * Creates the eventual assertions on the page of the <code>driver</code>.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 *
+	 * @param timeout
+	 *            the maximum time to wait for each condition
+	 *
+	 * @param unit
+	 *            the unit of the <code>timeout</code>
+	 */
+	public EventualWebDriverAssert(WebDriver driver, long timeout, TimeUnit unit) {
+		if (timeout < 0)
+			throw new IllegalArgumentException("The timeout must not be negative: " + timeout);
+
+		this.driver = driver;
+		this.timeoutNanos = unit.toNanos(timeout);
+	}
+
+	/**
+	 * Changes the poll schedule: the interval before the second poll, doubled after each poll up to the maximum interval.
+	 *
+	 * @param initialInterval
+	 *            the interval before the second poll
+	 *
+	 * @param maximumInterval
+	 *            the maximum interval between polls
+	 *
+	 * @param unit
+	 *            the unit of both intervals
+	 *
+	 * @return this instance
+	 */
+	public EventualWebDriverAssert pollingEvery(long initialInterval, long maximumInterval, TimeUnit unit) {
+		if (initialInterval <= 0 || maximumInterval < initialInterval)
+			throw new IllegalArgumentException("Invalid poll intervals: " + initialInterval + " and " + maximumInterval);
+
+		this.initialIntervalNanos = unit.toNanos(initialInterval);
+		this.maximumIntervalNanos = unit.toNanos(maximumInterval);
+
+		return this;
+	}
+
+	/**
+	 * Runs the waits inside the browser, when the <code>driver</code> is a {@link JavascriptExecutor}. Regular expressions with flags or Java specific constructs, and drivers without script support,
+	 * still poll from the client.
+	 *
+	 * @return this instance
+	 */
+	public EventualWebDriverAssert inBrowser() {
+		this.inBrowser = true;
+
+		return this;
+	}
+
+	/**
+	 * Starts a chain of eventual assertions on the <em>current url</em>.
+	 *
+	 * @return the eventual assertions on the <em>current url</em>
+	 */
+	public StringPropertyAssert currentUrl() {
+		return new StringPropertyAssert(new PollingEvaluator(PageProperty.CURRENT_URL));
+	}
+
+	/**
+	 * Starts a chain of eventual assertions on the <em>title</em>.
+	 *
+	 * @return the eventual assertions on the <em>title</em>
+	 */
+	public StringPropertyAssert title() {
+		return new StringPropertyAssert(new PollingEvaluator(PageProperty.TITLE));
+	}
+
+	/**
+	 * Returns the reports of all the assertions checked by this instance, in order.
+	 *
+	 * @return the reports of all the assertions checked by this instance
+	 */
+	public List<PollReport> getReports() {
+		return Collections.unmodifiableList(reports);
+	}
+
+	/**
+	 * Polls the property until the condition is satisfied or the timeout expires.
+	 */
+	private final class PollingEvaluator implements ConditionEvaluator {
+
+		private final PageProperty property;
+
+		PollingEvaluator(PageProperty property) {
+			this.property = property;
+		}
+
+		@Override
+		public void evaluate(StringCondition condition) {
+			long start = System.nanoTime();
+			long deadline = start + timeoutNanos;
+			long interval = initialIntervalNanos;
+			int polls = 0;
+			boolean script = inBrowser && driver instanceof JavascriptExecutor && ConditionScripts.isScriptable(condition);
+
+			while (true) {
+				String value;
+
+				if (script) {
+					try {
+						value = waitInBrowser(condition, deadline);
+					} catch (UnsupportedCommandException e) {
+						script = false;
+						value = property.read(driver);
+					} catch (WebDriverException e) {
+						// e.g. the page navigated away during the wait, so it is read on the client and waited again
+						value = property.read(driver);
+					}
+				} else
+					value = property.read(driver);
+
+				polls++;
+
+				if (condition.test(value)) {
+					report(condition, polls, start, true);
+					WebDriverAssert.report("EventualWebDriverAssert", driver, start, null);
+					return;
+				}
+
+				long remaining = deadline - System.nanoTime();
+
+				if (remaining <= 0 || Thread.currentThread().isInterrupted()) {
+					report(condition, polls, start, false);
+
+					AssertionError last = condition.check(property.getDescription(), value);
+					AssertionError failure = new AssertionError(last.getMessage() + " after " + polls + (polls == 1 ? " poll in " : " polls in ")
+							+ TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+
+					failure.initCause(last);
+					WebDriverAssert.report("EventualWebDriverAssert", driver, start, failure);
+
+					throw failure;
+				}
+
+				try {
+					TimeUnit.NANOSECONDS.sleep(Math.min(interval, remaining));
+				} catch (InterruptedException e) {
+					// fails on the next iteration, keeping the interrupt status for the caller
+					Thread.currentThread().interrupt();
+				}
+
+				interval = Math.min(interval * 2, maximumIntervalNanos);
+			}
+		}
+
+		/**
+		 * Waits inside the browser until the condition is satisfied or the deadline passes, and returns the last value read.
+		 */
+		private String waitInBrowser(StringCondition condition, long deadline) {
+			long timeout = Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+			Object value = ((JavascriptExecutor) driver).executeAsyncScript(WAIT_SCRIPT, ConditionScripts.name(property), ConditionScripts.describe(condition), timeout);
+
+			return value == null ? null : value.toString();
+		}
+
+		private void report(StringCondition condition, int polls, long start, boolean satisfied) {
+			reports.add(new PollReport(property.getDescription() + " " + condition, polls, System.nanoTime() - start, satisfied));
+		}
+
+	}
+
+}
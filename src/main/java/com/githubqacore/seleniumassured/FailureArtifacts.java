@@ -0,0 +1,527 @@
+package com.githubqacore.seleniumassured;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Captures a screenshot and the page source when a {@link WebDriverAssert} assertion, or a check of one of its APIs, fails, and writes them to a directory in the background. The test thread only grabs the bytes from the
+ * driver, and hands them to a bounded queue served by a single writer thread:
+ *
+ * <pre>
+ * FailureArtifacts artifacts = FailureArtifacts.enable(Paths.get("target/failures"));
+ *
+ * // ... run the tests
+ *
+ * FailureArtifacts.disable();
+ * </pre>
+ *
+ * The writer stores each page source as <em>000042-assertTitleEquals.html</em>, each distinct screenshot once as <em>screenshot-&lt;sha-256&gt;.png</em>, and appends a line per failure to
+ * <em>failures.csv</em> with its id, assertion, thread, screenshot and page source files. Every failure gets a suppressed exception with its id, which test reports show next to the failure. A
+ * directory reused from a previous run keeps its artifacts: the ids continue after the last one of its index.
+ * <p>
+ * Under pressure, e.g. when a broken deploy fails thousands of tests, the pipeline sheds load instead of blocking the tests: when the queue is full, the failure is counted as shed and nothing is
+ * captured. Errors while capturing or writing never hide the assertion failure.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see WebDriverAssert
+ *
+ * @since 1.0.0
+ *
+ */
+public final class FailureArtifacts implements AutoCloseable {
+
+	/**
+	 * The default capacity of the queue of failures waiting to be written.
+	 */
+	public static final int					DEFAULT_CAPACITY	= 64;
+
+	/**
+	 * The name of the index file, with a line per written failure.
+	 */
+	public static final String				INDEX_FILE			= "failures.csv";
+
+	/**
+	 * Queued by {@link #close()} after the last failure, so the writer stops once it has written them. Interrupting the writer instead would close the channel it is writing to.
+	 */
+	private static final Artifact			STOP				= new Artifact(0, null, null, null, null);
+
+	private static volatile FailureArtifacts	current;
+
+	private final Path						directory;
+
+	private final BlockingQueue<Artifact>	queue;
+
+	private final Thread					writer;
+
+	private final AtomicLong				ids;
+
+	/**
+	 * The failures accepted by the queue and not yet written, guarded by <code>this</code>.
+	 */
+	private long							pending;
+
+	private volatile boolean				closed;
+
+	private final LongAdder					captured			= new LongAdder();
+
+	private final LongAdder					shed				= new LongAdder();
+
+	private final LongAdder					written				= new LongAdder();
+
+	private final LongAdder					duplicates			= new LongAdder();
+
+	private final LongAdder					errors				= new LongAdder();
+
+	/**
+	 * The digests of the screenshots already written, only used by the writer thread.
+	 */
+	private final Set<String>				screenshots			= new HashSet<>();
+
+	private FailureArtifacts(Path directory, int capacity) throws IOException {
+		if (capacity < 1)
+			throw new IllegalArgumentException("Invalid capacity " + capacity);
+
+		this.directory = Files.createDirectories(directory);
+		this.ids = new AtomicLong(lastId(this.directory.resolve(INDEX_FILE)));
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.writer = new Thread(this::write, "selenium-assured-failure-artifacts");
+		this.writer.setDaemon(true);
+		this.writer.start();
+	}
+
+	/**
+	 * Starts capturing the artifacts of failed assertions to the <code>directory</code>, with a queue of {@link #DEFAULT_CAPACITY} failures. The previous pipeline, if any, is closed.
+	 *
+	 * @param directory
+	 *            the <code>directory</code> where the artifacts are written, which is created if needed
+	 *
+	 * @return the pipeline
+	 *
+	 * @throws IOException
+	 *             if the <code>directory</code> can not be created, or its index can not be read
+	 */
+	public static FailureArtifacts enable(Path directory) throws IOException {
+		return enable(directory, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Starts capturing the artifacts of failed assertions to the <code>directory</code>. The previous pipeline, if any, is closed.
+	 *
+	 * @param directory
+	 *            the <code>directory</code> where the artifacts are written, which is created if needed
+	 *
+	 * @param capacity
+	 *            how many failures may wait to be written before the next ones are shed
+	 *
+	 * @return the pipeline
+	 *
+	 * @throws IOException
+	 *             if the <code>directory</code> can not be created, or its index can not be read
+	 */
+	public static synchronized FailureArtifacts enable(Path directory, int capacity) throws IOException {
+		FailureArtifacts artifacts = new FailureArtifacts(directory, capacity);
+
+		disable();
+		current = artifacts;
+
+		return artifacts;
+	}
+
+	/**
+	 * Stops capturing the artifacts of failed assertions, and closes the current pipeline, writing the queued failures.
+	 */
+	public static synchronized void disable() {
+		FailureArtifacts previous = current;
+
+		current = null;
+
+		if (previous != null)
+			previous.close();
+	}
+
+	/**
+	 * Returns the current pipeline.
+	 *
+	 * @return the current pipeline, or <code>null</code> if it is not enabled
+	 */
+	public static FailureArtifacts getCurrent() {
+		return current;
+	}
+
+	/**
+	 * Captures the artifacts of the <code>failure</code> of the <code>assertion</code> on the <code>driver</code>, if a pipeline is enabled.
+	 *
+	 * @param assertion
+	 *            the name of the assertion
+	 *
+	 * @param driver
+	 *            the <code>driver</code> which was checked, or <code>null</code> if there is none
+	 *
+	 * @param failure
+	 *            the <code>failure</code> of the assertion
+	 */
+	static void failed(String assertion, WebDriver driver, AssertionError failure) {
+		FailureArtifacts artifacts = current;
+
+		if (artifacts != null && driver != null)
+			artifacts.capture(assertion, driver, failure);
+	}
+
+	private void capture(String assertion, WebDriver driver, AssertionError failure) {
+		// checked before the driver calls, which are the expensive part
+		if (closed || queue.remainingCapacity() == 0) {
+			shed.increment();
+			return;
+		}
+
+		byte[] screenshot = null;
+		String source = null;
+
+		try {
+			if (driver instanceof TakesScreenshot)
+				screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+
+			source = driver.getPageSource();
+		} catch (RuntimeException e) {
+			errors.increment();
+		}
+
+		if (screenshot == null && source == null)
+			return;
+
+		long id = ids.incrementAndGet();
+		Artifact artifact = new Artifact(id, assertion, Thread.currentThread().getName(), screenshot, source);
+
+		synchronized (this) {
+			// nothing is queued once closed, so STOP is always the last one
+			if (closed || !queue.offer(artifact)) {
+				shed.increment();
+				return;
+			}
+
+			pending++;
+		}
+
+		captured.increment();
+		failure.addSuppressed(new ArtifactReference("Failure artifacts #" + id + " in " + directory.toAbsolutePath() + " (see " + INDEX_FILE + ")"));
+	}
+
+	/**
+	 * Waits until the queued failures are written.
+	 *
+	 * @param timeout
+	 *            the maximum time to wait
+	 *
+	 * @param unit
+	 *            the unit of the <code>timeout</code>
+	 *
+	 * @return <code>true</code> if all queued failures were written. Otherwise, false.
+	 *
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while waiting
+	 */
+	public synchronized boolean flush(long timeout, TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+		while (pending > 0) {
+			long remaining = deadline - System.nanoTime();
+
+			if (remaining <= 0)
+				return false;
+
+			TimeUnit.NANOSECONDS.timedWait(this, remaining);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Stops accepting failures, and waits for the queued ones to be written.
+	 */
+	@Override
+	public void close() {
+		boolean stop;
+
+		synchronized (this) {
+			stop = !closed;
+			closed = true;
+		}
+
+		boolean interrupted = false;
+
+		// nothing is queued once closed, so the writer takes STOP after the queued failures
+		while (stop) {
+			try {
+				queue.put(STOP);
+				stop = false;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+
+		while (writer.isAlive()) {
+			try {
+				writer.join();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+
+		if (interrupted)
+			Thread.currentThread().interrupt();
+	}
+
+	/**
+	 * Returns the <code>directory</code> where the artifacts are written.
+	 *
+	 * @return the <code>directory</code> where the artifacts are written
+	 */
+	public Path getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Returns how many failures were captured and queued.
+	 *
+	 * @return how many failures were captured
+	 */
+	public long getCaptured() {
+		return captured.sum();
+	}
+
+	/**
+	 * Returns how many failures were not captured because the queue was full.
+	 *
+	 * @return how many failures were shed
+	 */
+	public long getShed() {
+		return shed.sum();
+	}
+
+	/**
+	 * Returns how many failures were written.
+	 *
+	 * @return how many failures were written
+	 */
+	public long getWritten() {
+		return written.sum();
+	}
+
+	/**
+	 * Returns how many screenshots were not written because an identical one already was.
+	 *
+	 * @return how many screenshots were deduplicated
+	 */
+	public long getDuplicates() {
+		return duplicates.sum();
+	}
+
+	/**
+	 * Returns how many captures or writes failed.
+	 *
+	 * @return how many captures or writes failed
+	 */
+	public long getErrors() {
+		return errors.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "FailureArtifacts [directory=" + directory + ", captured=" + getCaptured() + ", shed=" + getShed() + ", written=" + getWritten() + ", duplicates=" + getDuplicates() + ", errors="
+				+ getErrors() + "]";
+	}
+
+	/**
+	 * The loop of the writer thread, which writes the queued failures until it takes {@link #STOP}.
+	 */
+	private void write() {
+		try (FileChannel index = FileChannel.open(directory.resolve(INDEX_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+			while (true) {
+				Artifact artifact;
+
+				try {
+					artifact = queue.take();
+				} catch (InterruptedException e) {
+					// only close stops the writer
+					continue;
+				}
+
+				if (artifact == STOP)
+					return;
+
+				try {
+					write(index, artifact);
+					written.increment();
+				} catch (IOException | RuntimeException e) {
+					errors.increment();
+				} finally {
+					synchronized (this) {
+						pending--;
+						notifyAll();
+					}
+				}
+			}
+		} catch (IOException e) {
+			errors.increment();
+
+			synchronized (this) {
+				// the queued failures, and STOP if any, are dropped
+				closed = true;
+				pending = 0;
+				queue.clear();
+				notifyAll();
+			}
+		}
+	}
+
+	private void write(FileChannel index, Artifact artifact) throws IOException {
+		String prefix = String.format("%06d-%s", artifact.id, artifact.assertion);
+		String screenshotFile = "";
+		String sourceFile = "";
+
+		if (artifact.screenshot != null) {
+			String digest = sha256(artifact.screenshot);
+
+			screenshotFile = "screenshot-" + digest + ".png";
+
+			if (screenshots.add(digest))
+				writeScreenshot(directory.resolve(screenshotFile), ByteBuffer.wrap(artifact.screenshot));
+			else
+				duplicates.increment();
+		}
+
+		if (artifact.source != null) {
+			sourceFile = prefix + ".html";
+
+			// the ids are unique in the directory, so this only replaces a file left without its index line
+			try (FileChannel channel = FileChannel.open(directory.resolve(sourceFile), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+				writeFully(channel, StandardCharsets.UTF_8.encode(artifact.source));
+			}
+		}
+
+		String line = artifact.id + "," + artifact.assertion + "," + artifact.thread.replace(',', ' ') + "," + screenshotFile + "," + sourceFile + System.lineSeparator();
+
+		writeFully(index, StandardCharsets.UTF_8.encode(line));
+	}
+
+	/**
+	 * Writes a new screenshot file, counting a screenshot left by a previous run as a duplicate.
+	 */
+	private void writeScreenshot(Path file, ByteBuffer content) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+			writeFully(channel, content);
+		} catch (FileAlreadyExistsException e) {
+			duplicates.increment();
+		}
+	}
+
+	/**
+	 * Returns the last id of the <code>index</code> left by a previous run, or <code>0</code> if there is none.
+	 */
+	private static long lastId(Path index) throws IOException {
+		if (!Files.exists(index))
+			return 0;
+
+		long last = 0;
+
+		try (Stream<String> lines = Files.lines(index, StandardCharsets.UTF_8)) {
+			for (String line : (Iterable<String>) lines::iterator) {
+				int comma = line.indexOf(',');
+
+				try {
+					last = Math.max(last, Long.parseLong(comma < 0 ? line : line.substring(0, comma)));
+				} catch (NumberFormatException e) {
+					// a line cut by a crash
+				}
+			}
+		}
+
+		return last;
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer content) throws IOException {
+		while (content.hasRemaining())
+			channel.write(content);
+	}
+
+	private static String sha256(byte[] content) {
+		MessageDigest digest;
+
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+
+		StringBuilder hex = new StringBuilder(64);
+
+		for (byte b : digest.digest(content))
+			hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+
+		return hex.toString();
+	}
+
+	/**
+	 * The bytes captured on a failure, waiting to be written.
+	 */
+	private static final class Artifact {
+
+		private final long		id;
+
+		private final String	assertion;
+
+		private final String	thread;
+
+		private final byte[]	screenshot;
+
+		private final String	source;
+
+		Artifact(long id, String assertion, String thread, byte[] screenshot, String source) {
+			this.id = id;
+			this.assertion = assertion;
+			this.thread = thread;
+			this.screenshot = screenshot;
+			this.source = source;
+		}
+
+	}
+
+	/**
+	 * Refers to the artifacts of a failure, as a suppressed exception of the failure. It has no stack trace, which would only point to the assertion again.
+	 */
+	private static final class ArtifactReference extends Throwable {
+
+		private static final long serialVersionUID = 1L;
+
+		ArtifactReference(String message) {
+			super(message, null, false, false);
+		}
+
+	}
+
+}
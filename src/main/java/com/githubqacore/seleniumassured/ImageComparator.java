@@ -0,0 +1,174 @@
+package com.githubqacore.seleniumassured;
+
+import java.awt.image.BufferedImage;
+import java.nio.IntBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the pixels of a screenshot with a baseline. The images are split in tiles of whole rows, which are contiguous in both buffers, and compared in parallel on the common
+ * {@link ForkJoinPool}. All tiles share the count of different pixels, so they stop as soon as it exceeds the limit.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see VisualBaselines
+ *
+ * @since 1.0.0
+ *
+ */
+final class ImageComparator {
+
+	/**
+	 * Tiles with fewer pixels are compared without splitting, which is about 64 rows of a 4K screenshot.
+	 */
+	static final int	TILE_PIXELS		= 1 << 18;
+
+	/**
+	 * The color of the different pixels in the diff image.
+	 */
+	private static final int	DIFF_COLOR		= 0xff0000;
+
+	/**
+	 * Counts the pixels which differ between the <code>baseline</code> and the <code>actual</code> image, both of the same size, stopping once the count exceeds the <code>limit</code>.
+	 *
+	 * @param baseline
+	 *            the pixels of the <code>baseline</code>, in ARGB, row by row
+	 *
+	 * @param actual
+	 *            the pixels of the <code>actual</code> image, in ARGB, row by row
+	 *
+	 * @param width
+	 *            the <code>width</code> of both images
+	 *
+	 * @param limit
+	 *            the maximum number of different pixels, above which the comparison stops
+	 *
+	 * @return the number of different pixels, which is only a lower bound when greater than the <code>limit</code>
+	 */
+	static long countDifferences(IntBuffer baseline, int[] actual, int width, long limit) {
+		AtomicLong differences = new AtomicLong();
+
+		ForkJoinPool.commonPool().invoke(new CompareTile(baseline, actual, width, 0, actual.length / width, limit, differences));
+
+		return differences.get();
+	}
+
+	/**
+	 * Creates the diff image: the <code>baseline</code> faded to gray, with the different pixels in red.
+	 *
+	 * @param baseline
+	 *            the pixels of the <code>baseline</code>, in ARGB, row by row
+	 *
+	 * @param actual
+	 *            the pixels of the <code>actual</code> image, in ARGB, row by row
+	 *
+	 * @param width
+	 *            the <code>width</code> of both images
+	 *
+	 * @param height
+	 *            the <code>height</code> of both images
+	 *
+	 * @return the diff image
+	 */
+	static BufferedImage diff(IntBuffer baseline, int[] actual, int width, int height) {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		int[] row = new int[width];
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0, i = y * width; x < width; x++, i++) {
+				int pixel = baseline.get(i);
+
+				row[x] = pixel == actual[i] ? fade(pixel) : DIFF_COLOR;
+			}
+
+			image.setRGB(0, y, width, 1, row, 0, width);
+		}
+
+		return image;
+	}
+
+	/**
+	 * Converts a pixel to a light gray of the same luminance, so the differences stand out.
+	 */
+	private static int fade(int pixel) {
+		int luminance = (((pixel >> 16) & 0xff) * 77 + ((pixel >> 8) & 0xff) * 150 + (pixel & 0xff) * 29) >> 8;
+		int gray = 160 + (luminance * 95 >> 8);
+
+		return gray << 16 | gray << 8 | gray;
+	}
+
+	/**
+	 * Compares the rows from <code>startRow</code> (inclusive) to <code>endRow</code> (exclusive).
+	 */
+	private static final class CompareTile extends RecursiveAction {
+
+		private static final long	serialVersionUID	= 1L;
+
+		private final IntBuffer		baseline;
+
+		private final int[]			actual;
+
+		private final int			width;
+
+		private final int			startRow;
+
+		private final int			endRow;
+
+		private final long			limit;
+
+		private final AtomicLong	differences;
+
+		CompareTile(IntBuffer baseline, int[] actual, int width, int startRow, int endRow, long limit, AtomicLong differences) {
+			this.baseline = baseline;
+			this.actual = actual;
+			this.width = width;
+			this.startRow = startRow;
+			this.endRow = endRow;
+			this.limit = limit;
+			this.differences = differences;
+		}
+
+		@Override
+		protected void compute() {
+			int rows = endRow - startRow;
+
+			if (rows > 1 && (long) rows * width > TILE_PIXELS) {
+				int middle = startRow + rows / 2;
+
+				invokeAll(new CompareTile(baseline, actual, width, startRow, middle, limit, differences),
+						new CompareTile(baseline, actual, width, middle, endRow, limit, differences));
+
+				return;
+			}
+
+			for (int y = startRow; y < endRow; y++) {
+				// stops early once any tile exceeded the limit
+				if (differences.get() > limit)
+					return;
+
+				int different = 0;
+
+				for (int i = y * width, end = i + width; i < end; i++)
+					if (baseline.get(i) != actual[i])
+						different++;
+
+				if (different > 0)
+					differences.addAndGet(different);
+			}
+		}
+
+	}
+
+	/**
+	 * Private constructor (static class)
+	 */
+	private ImageComparator() {
+
+	}
+
+}
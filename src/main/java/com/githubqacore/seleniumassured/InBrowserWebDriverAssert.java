@@ -0,0 +1,317 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.ComparisonFailure;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Assertions on a page evaluated inside the browser. The checks on the <em>current url</em>, the <em>title</em> and the <em>text</em> of elements are recorded, and {@link #assertAll()} sends the
+ * whole batch to the browser as a single script, which evaluates every check and returns only the failures with their actual values:
+ *
+ * <pre>
+ * InBrowserWebDriverAssert audit = inBrowser(driver);
+ *
+ * audit.currentUrl().startsWith("https://").doesNotContain("/debug");
+ * audit.title().isEqualTo("Checkout");
+ * audit.text(".cart .price").matches("\\$\\d+\\.\\d{2}");
+ * audit.text("h1").isEqualToIgnoreCase("your cart");
+ *
+ * audit.assertAll();
+ * </pre>
+ *
+ * A batch of any size costs one remote call, and the response only grows with the failures and the regular expression checks. JavaScript regular expressions differ from Java's in subtle ways,
+ * e.g. <code>\s</code> matches more spaces, so the script returns the values of every {@link StringCondition#matches(java.util.regex.Pattern)} check to be checked locally, as it does for the
+ * conditions that can not be evaluated inside the browser with the same result. When the
+ * <code>driver</code> is not a {@link JavascriptExecutor}, or if the script fails, every check is evaluated locally, reading the values through the <code>driver</code>.
+ * <p>
+ * A batch ends on {@link #assertAll()}, so the next checks are a new batch. Instances are not thread safe.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see WebDriverAssert#inBrowser(WebDriver)
+ *
+ * @since 1.0.0
+ *
+ */
+public final class InBrowserWebDriverAssert {
+
+	/**
+	 * Evaluates the checks (<code>arguments[0]</code>), each one an array of kind (<code>url</code>, <code>title</code> or <code>text</code>), target (a CSS selector or an element) and condition (or
+	 * <code>false</code> to return the values). Returns an array of failures: check index, element index and actual value, or only the check index when the selector matches no element.
+	 */
+	private static final String		AUDIT_SCRIPT	= ConditionScripts.FUNCTIONS + ConditionScripts.ELEMENT_FUNCTIONS
+			+ "var checks = arguments[0], failures = [];"
+			+ "for (var i = 0; i < checks.length; i++) {"
+			+ "  var check = checks[i], values = [];"
+			+ "  if (check[0] === 'text') {"
+			+ "    var elements = typeof check[1] === 'string' ? document.querySelectorAll(check[1]) : [check[1]];"
+			+ "    if (elements.length === 0) { failures.push([i]); continue; }"
+			+ "    for (var j = 0; j < elements.length; j++) values.push(text(elements[j]));"
+			+ "  } else {"
+			+ "    values.push(read(check[0]));"
+			+ "  }"
+			+ "  for (var j = 0; j < values.length; j++)"
+			+ "    if (check[2] === false || !test(check[2], values[j])) failures.push([i, j, values[j]]);"
+			+ "}"
+			+ "return failures;";
+
+	private final WebDriver			driver;
+
+	private final List<Check>		checks			= new ArrayList<>();
+
+	/**
+	 * Creates the assertions on the page of the <code>driver</code>.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 */
+	public InBrowserWebDriverAssert(WebDriver driver) {
+		this.driver = driver;
+	}
+
+	/**
+	 * Starts a chain of checks on the <em>current url</em>.
+	 *
+	 * @return the chain of checks on the <em>current url</em>
+	 */
+	public StringPropertyAssert currentUrl() {
+		return property(PageProperty.CURRENT_URL);
+	}
+
+	/**
+	 * Starts a chain of checks on the <em>title</em>.
+	 *
+	 * @return the chain of checks on the <em>title</em>
+	 */
+	public StringPropertyAssert title() {
+		return property(PageProperty.TITLE);
+	}
+
+	/**
+	 * Starts a chain of checks on the <em>text</em> of every element matched by the <code>cssSelector</code>. The checks fail if the <code>cssSelector</code> matches no element.
+	 *
+	 * @param cssSelector
+	 *            the CSS selector of the elements
+	 *
+	 * @return the chain of checks on the <em>text</em>
+	 */
+	public StringPropertyAssert text(String cssSelector) {
+		if (cssSelector == null || cssSelector.isEmpty())
+			throw new IllegalArgumentException("Invalid selector <" + cssSelector + ">");
+
+		return new StringPropertyAssert(condition -> checks.add(new Check(null, cssSelector, "text of <" + cssSelector + ">", condition)));
+	}
+
+	/**
+	 * Starts a chain of checks on the <em>text</em> of the <code>element</code>.
+	 *
+	 * @param element
+	 *            the <code>element</code> to be checked
+	 *
+	 * @return the chain of checks on the <em>text</em>
+	 */
+	public StringPropertyAssert text(WebElement element) {
+		if (element == null)
+			throw new IllegalArgumentException("The element is null");
+
+		return new StringPropertyAssert(condition -> checks.add(new Check(null, element, "text of the element", condition)));
+	}
+
+	/**
+	 * Evaluates the recorded checks, then starts a new batch.
+	 *
+	 * @throws AssertionError
+	 *             with all failures, if any check fails
+	 */
+	public void assertAll() {
+		List<Check> batch = new ArrayList<>(checks);
+
+		checks.clear();
+
+		if (batch.isEmpty())
+			return;
+
+		long start = AssertionMetrics.start();
+		List<AssertionError> failures = driver instanceof JavascriptExecutor ? evaluateInBrowser(batch) : null;
+
+		if (failures == null)
+			failures = evaluate(batch);
+
+		if (failures.isEmpty()) {
+			WebDriverAssert.report("InBrowserWebDriverAssert", driver, start, null);
+			return;
+		}
+
+		StringBuilder message = new StringBuilder();
+
+		message.append(failures.size()).append(failures.size() == 1 ? " in browser assertion failed:" : " in browser assertions failed:");
+
+		for (int i = 0; i < failures.size(); i++)
+			message.append('\n').append(i + 1).append(") ").append(failures.get(i).getMessage());
+
+		AssertionError error = new AssertionError(message.toString());
+
+		for (AssertionError failure : failures)
+			error.addSuppressed(failure);
+
+		WebDriverAssert.report("InBrowserWebDriverAssert", driver, start, error);
+
+		throw error;
+	}
+
+	private StringPropertyAssert property(PageProperty property) {
+		return new StringPropertyAssert(condition -> checks.add(new Check(property, null, property.getDescription(), condition)));
+	}
+
+	/**
+	 * Evaluates the <code>batch</code> by a single script.
+	 *
+	 * @return the failures, or <code>null</code> if the script failed
+	 */
+	private List<AssertionError> evaluateInBrowser(List<Check> batch) {
+		List<Object> payload = new ArrayList<>(batch.size());
+
+		for (Check check : batch)
+			payload.add(check.describe());
+
+		Object result;
+
+		try {
+			result = ((JavascriptExecutor) driver).executeScript(AUDIT_SCRIPT, payload);
+		} catch (WebDriverException e) {
+			return null;
+		}
+
+		if (!(result instanceof List))
+			return null;
+
+		List<AssertionError> failures = new ArrayList<>();
+
+		for (Object value : (List<?>) result) {
+			if (!(value instanceof List) || ((List<?>) value).isEmpty())
+				return null;
+
+			List<?> row = (List<?>) value;
+			Check check = batch.get(((Number) row.get(0)).intValue());
+			AssertionError failure = row.size() < 3 ? check.noElement() : check.evaluate(((Number) row.get(1)).intValue(), asString(row.get(2)));
+
+			if (failure != null)
+				failures.add(failure);
+		}
+
+		return failures;
+	}
+
+	/**
+	 * Evaluates the <code>batch</code> locally, reading the values of each property or target through the <code>driver</code> only once.
+	 */
+	private List<AssertionError> evaluate(List<Check> batch) {
+		List<AssertionError> failures = new ArrayList<>();
+		Map<Object, List<String>> values = new HashMap<>();
+
+		for (Check check : batch) {
+			List<String> checked = values.computeIfAbsent(check.key(), key -> check.read(driver));
+
+			if (checked.isEmpty())
+				failures.add(check.noElement());
+
+			for (int i = 0; i < checked.size(); i++) {
+				AssertionError failure = check.evaluate(i, checked.get(i));
+
+				if (failure != null)
+					failures.add(failure);
+			}
+		}
+
+		return failures;
+	}
+
+	private static String asString(Object value) {
+		return value == null ? null : value.toString();
+	}
+
+	/**
+	 * A recorded check: a <code>condition</code> on a page <code>property</code>, or on the text of the elements of the <code>target</code> when there is no <code>property</code>.
+	 */
+	private static final class Check {
+
+		private final PageProperty		property;
+
+		private final Object			target;
+
+		private final String			subject;
+
+		private final StringCondition	condition;
+
+		Check(PageProperty property, Object target, String subject, StringCondition condition) {
+			this.property = property;
+			this.target = target;
+			this.subject = subject;
+			this.condition = condition;
+		}
+
+		/**
+		 * Describes this check as expected by the script. The regular expressions and the conditions which are not scriptable are sent as <code>false</code>, so the script returns their values: a
+		 * regular expression which passed in JavaScript could still fail in Java, and the script only returns the failures.
+		 */
+		List<Object> describe() {
+			boolean scripted = condition.getOperation() != StringCondition.Operation.MATCHES && ConditionScripts.isScriptable(condition);
+
+			return Arrays.<Object> asList(property == null ? "text" : ConditionScripts.name(property), property == null ? target : "",
+					scripted ? ConditionScripts.describe(condition) : false);
+		}
+
+		Object key() {
+			return property != null ? property : target;
+		}
+
+		List<String> read(WebDriver driver) {
+			if (property != null)
+				return Collections.singletonList(PageCache.read(driver, property));
+
+			List<WebElement> elements = target instanceof WebElement ? Collections.singletonList((WebElement) target) : driver.findElements(By.cssSelector((String) target));
+			List<String> values = new ArrayList<>(elements.size());
+
+			for (WebElement element : elements)
+				values.add(element.getText());
+
+			return values;
+		}
+
+		AssertionError noElement() {
+			return new AssertionError("The selector <" + target + "> matches no element, expected a text that " + condition);
+		}
+
+		AssertionError evaluate(int element, String actual) {
+			if (property != null)
+				return condition.check(subject, actual);
+
+			String elementSubject = target instanceof WebElement ? subject : subject + " [" + element + "]";
+			AssertionError failure = condition.check(elementSubject, actual);
+
+			if (failure instanceof ComparisonFailure) {
+				ComparisonFailure comparison = (ComparisonFailure) failure;
+
+				return new ComparisonFailure("The " + elementSubject, comparison.getExpected(), comparison.getActual());
+			}
+
+			return failure;
+		}
+
+	}
+
+}
@@ -0,0 +1,154 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread safe histogram of latencies in nanoseconds, with a fixed memory footprint. Each power of two is divided in 8 buckets, so any recorded value is reported with an error below 12.5%.
+ * Recording is lock free and does not allocate.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @since 1.0.0
+ *
+ */
+final class LatencyHistogram {
+
+	private static final int		SUB_BUCKET_BITS	= 3;
+
+	private static final int		SUB_BUCKETS		= 1 << SUB_BUCKET_BITS;
+
+	private static final int		BUCKETS			= (Long.SIZE - SUB_BUCKET_BITS) << SUB_BUCKET_BITS;
+
+	private final AtomicLongArray	counts			= new AtomicLongArray(BUCKETS);
+
+	private final LongAdder			count			= new LongAdder();
+
+	private final LongAdder			total			= new LongAdder();
+
+	private final AtomicLong		max				= new AtomicLong();
+
+	/**
+	 * Records a latency.
+	 *
+	 * @param nanos
+	 *            the latency, in nanoseconds. Negative values are recorded as zero.
+	 */
+	void record(long nanos) {
+		if (nanos < 0)
+			nanos = 0;
+
+		counts.incrementAndGet(index(nanos));
+		count.increment();
+		total.add(nanos);
+
+		long current;
+
+		while (nanos > (current = max.get()) && !max.compareAndSet(current, nanos))
+			;
+	}
+
+	/**
+	 * Returns a copy of the histogram, which is not changed by later records.
+	 *
+	 * @return a copy of the histogram
+	 */
+	LatencyHistogram snapshot() {
+		LatencyHistogram snapshot = new LatencyHistogram();
+
+		for (int i = 0; i < BUCKETS; i++)
+			snapshot.counts.set(i, counts.get(i));
+
+		snapshot.count.add(count.sum());
+		snapshot.total.add(total.sum());
+		snapshot.max.set(max.get());
+
+		return snapshot;
+	}
+
+	/**
+	 * Returns how many latencies were recorded.
+	 *
+	 * @return how many latencies were recorded
+	 */
+	long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Returns the sum of all recorded latencies.
+	 *
+	 * @return the sum of all recorded latencies, in nanoseconds
+	 */
+	long getTotal() {
+		return total.sum();
+	}
+
+	/**
+	 * Returns the highest recorded latency.
+	 *
+	 * @return the highest recorded latency, in nanoseconds
+	 */
+	long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Returns the latency below or equal to which the given <code>percentile</code> of the recorded latencies fall.
+	 *
+	 * @param percentile
+	 *            the <code>percentile</code>, from 0 to 100
+	 *
+	 * @return the latency of the <code>percentile</code>, in nanoseconds, or zero if nothing was recorded
+	 */
+	long getPercentile(double percentile) {
+		long recorded = 0;
+
+		for (int i = 0; i < BUCKETS; i++)
+			recorded += counts.get(i);
+
+		long rank = Math.max(1, (long) Math.ceil(recorded * Math.min(100, Math.max(0, percentile)) / 100));
+		long seen = 0;
+
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts.get(i);
+
+			if (seen >= rank)
+				return Math.min(highestValue(i), getMax());
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Returns the index of the bucket of a non-negative value: values below 8 have their own bucket, and the others are bucketed by their highest 4 bits.
+	 */
+	private static int index(long value) {
+		if (value < SUB_BUCKETS)
+			return (int) value;
+
+		int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+		return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) | subBucket;
+	}
+
+	/**
+	 * Returns the highest value of the bucket at <code>index</code>.
+	 */
+	private static long highestValue(int index) {
+		if (index < SUB_BUCKETS)
+			return index;
+
+		int shift = (index >>> SUB_BUCKET_BITS) - 1;
+		long lowest = (long) (SUB_BUCKETS | (index & (SUB_BUCKETS - 1))) << shift;
+
+		return lowest + (1L << shift) - 1;
+	}
+
+}
@@ -0,0 +1,368 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A precompiled set of literals searched all at once by an Aho-Corasick automaton, so testing whether a value contains any of them is a single linear scan of the value, whatever the number
+ * of literals. It is immutable and can be shared by threads:
+ *
+ * <pre>
+ * LiteralMatcher forbidden = LiteralMatcher.of("/admin", "/debug", "/internal");
+ *
+ * assertCurrentUrlContainsNone(driver, forbidden);
+ * </pre>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see RegexMatcher
+ * @see WebDriverAssert
+ *
+ * @since 1.0.0
+ *
+ */
+public final class LiteralMatcher {
+
+	private static final int	ABSENT	= -1;
+
+	private final String[]		literals;
+
+	private final boolean		ignoreCase;
+
+	/**
+	 * The sorted characters of the transitions of each state.
+	 */
+	private final char[][]		labels;
+
+	/**
+	 * The targets of the transitions of each state, in the order of {@link #labels}.
+	 */
+	private final int[][]		targets;
+
+	/**
+	 * The transitions of the root for ASCII characters, where most scans spend their time.
+	 */
+	private final int[]			rootAscii;
+
+	private final int[]			failure;
+
+	/**
+	 * The lowest index of the literals ending at each state, or {@link #ABSENT}.
+	 */
+	private final int[]			output;
+
+	/**
+	 * The state where each literal ends.
+	 */
+	private final int[]			ends;
+
+	/**
+	 * The states but the root in breadth first order, so the failure of a state comes before it.
+	 */
+	private final int[]			order;
+
+	private LiteralMatcher(String[] literals, boolean ignoreCase) {
+		this.literals = literals;
+		this.ignoreCase = ignoreCase;
+
+		List<Map<Character, Integer>> trie = new ArrayList<>();
+		List<Integer> outputs = new ArrayList<>();
+
+		trie.add(new TreeMap<>());
+		outputs.add(ABSENT);
+		ends = new int[literals.length];
+
+		for (int i = 0; i < literals.length; i++) {
+			int state = 0;
+
+			for (int j = 0; j < literals[i].length(); j++) {
+				Integer next = trie.get(state).get(fold(literals[i].charAt(j)));
+
+				if (next == null) {
+					next = trie.size();
+					trie.get(state).put(fold(literals[i].charAt(j)), next);
+					trie.add(new TreeMap<>());
+					outputs.add(ABSENT);
+				}
+
+				state = next;
+			}
+
+			if (outputs.get(state) == ABSENT)
+				outputs.set(state, i);
+
+			ends[i] = state;
+		}
+
+		int states = trie.size();
+
+		labels = new char[states][];
+		targets = new int[states][];
+		failure = new int[states];
+		output = new int[states];
+
+		for (int state = 0; state < states; state++) {
+			Map<Character, Integer> transitions = trie.get(state);
+
+			labels[state] = new char[transitions.size()];
+			targets[state] = new int[transitions.size()];
+			output[state] = outputs.get(state);
+
+			int k = 0;
+
+			for (Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+				labels[state][k] = transition.getKey();
+				targets[state][k++] = transition.getValue();
+			}
+		}
+
+		rootAscii = new int[128];
+		Arrays.fill(rootAscii, ABSENT);
+
+		for (int k = 0; k < labels[0].length; k++)
+			if (labels[0][k] < 128)
+				rootAscii[labels[0][k]] = targets[0][k];
+
+		// breadth first, so the failure of a state is computed before its children
+		int[] queue = new int[states];
+		int head = 0;
+		int tail = 0;
+
+		for (int child : targets[0])
+			queue[tail++] = child;
+
+		while (head < tail) {
+			int state = queue[head++];
+
+			for (int k = 0; k < labels[state].length; k++) {
+				int child = targets[state][k];
+				int fallback = failure[state];
+				int next;
+
+				while ((next = transition(fallback, labels[state][k])) == ABSENT && fallback != 0)
+					fallback = failure[fallback];
+
+				failure[child] = next == ABSENT || next == child ? 0 : next;
+
+				int inherited = output[failure[child]];
+
+				if (inherited != ABSENT && (output[child] == ABSENT || inherited < output[child]))
+					output[child] = inherited;
+
+				queue[tail++] = child;
+			}
+		}
+
+		order = Arrays.copyOf(queue, tail);
+	}
+
+	/**
+	 * Creates the matcher of the <code>literals</code>.
+	 *
+	 * @param literals
+	 *            the <code>literals</code> to search for
+	 *
+	 * @return the matcher of the <code>literals</code>
+	 */
+	public static LiteralMatcher of(String... literals) {
+		return new LiteralMatcher(literals.clone(), false);
+	}
+
+	/**
+	 * Creates the matcher of the <code>literals</code>.
+	 *
+	 * @param literals
+	 *            the <code>literals</code> to search for
+	 *
+	 * @return the matcher of the <code>literals</code>
+	 */
+	public static LiteralMatcher of(Collection<String> literals) {
+		return new LiteralMatcher(literals.toArray(new String[literals.size()]), false);
+	}
+
+	/**
+	 * Creates the matcher of the <code>literals</code> ignoring case.
+	 *
+	 * @param literals
+	 *            the <code>literals</code> to search for
+	 *
+	 * @return the matcher of the <code>literals</code>
+	 */
+	public static LiteralMatcher ofIgnoreCase(String... literals) {
+		return new LiteralMatcher(literals.clone(), true);
+	}
+
+	/**
+	 * Creates the matcher of the <code>literals</code> ignoring case.
+	 *
+	 * @param literals
+	 *            the <code>literals</code> to search for
+	 *
+	 * @return the matcher of the <code>literals</code>
+	 */
+	public static LiteralMatcher ofIgnoreCase(Collection<String> literals) {
+		return new LiteralMatcher(literals.toArray(new String[literals.size()]), true);
+	}
+
+	/**
+	 * Searches the literals in <code>value</code> in a single scan, stopping at the first occurrence.
+	 *
+	 * @param value
+	 *            the <code>value</code> to be searched
+	 *
+	 * @return the index of the literal whose occurrence ends first in <code>value</code> (the lowest index if several end at the same position), or <code>-1</code> if <code>value</code> contains
+	 *         none of them
+	 */
+	public int find(String value) {
+		int state = 0;
+
+		if (output[0] != ABSENT)
+			return output[0];
+
+		for (int i = 0; i < value.length(); i++) {
+			char c = fold(value.charAt(i));
+			int next;
+
+			while ((next = transition(state, c)) == ABSENT && state != 0)
+				state = failure[state];
+
+			state = next == ABSENT ? 0 : next;
+
+			if (output[state] != ABSENT)
+				return output[state];
+		}
+
+		return ABSENT;
+	}
+
+	/**
+	 * Searches all literals in <code>value</code> in a single scan. The states reached by the scan are marked, and the marks are then propagated along the failures, deepest states first, as every
+	 * literal ending at the failure of a state also ends wherever the state is reached.
+	 *
+	 * @param value
+	 *            the <code>value</code> to be searched
+	 *
+	 * @return for each literal, in the given order, <code>true</code> if <code>value</code> contains it. Otherwise, false.
+	 */
+	boolean[] findAll(String value) {
+		boolean[] reached = new boolean[failure.length];
+		int state = 0;
+
+		reached[0] = true;
+
+		for (int i = 0; i < value.length(); i++) {
+			char c = fold(value.charAt(i));
+			int next;
+
+			while ((next = transition(state, c)) == ABSENT && state != 0)
+				state = failure[state];
+
+			state = next == ABSENT ? 0 : next;
+			reached[state] = true;
+		}
+
+		for (int k = order.length - 1; k >= 0; k--)
+			if (reached[order[k]])
+				reached[failure[order[k]]] = true;
+
+		boolean[] found = new boolean[literals.length];
+
+		for (int i = 0; i < literals.length; i++)
+			found[i] = reached[ends[i]];
+
+		return found;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the literal at <code>index</code> in <code>value</code>.
+	 *
+	 * @param value
+	 *            the <code>value</code> to be searched
+	 *
+	 * @param index
+	 *            the <code>index</code> of the literal
+	 *
+	 * @return the index of the first occurrence, or <code>-1</code> if there is none
+	 */
+	int indexOf(String value, int index) {
+		return ignoreCase ? CaseInsensitive.indexOf(value, literals[index], 0) : value.indexOf(literals[index]);
+	}
+
+	/**
+	 * Returns the literal at <code>index</code>.
+	 *
+	 * @param index
+	 *            the <code>index</code> of the literal, in the given order
+	 *
+	 * @return the literal at <code>index</code>
+	 */
+	public String get(int index) {
+		return literals[index];
+	}
+
+	/**
+	 * Returns how many literals are searched.
+	 *
+	 * @return how many literals are searched
+	 */
+	public int size() {
+		return literals.length;
+	}
+
+	/**
+	 * Tests if the literals are compared ignoring case.
+	 *
+	 * @return <code>true</code> if the literals are compared ignoring case. Otherwise, false.
+	 */
+	public boolean isIgnoreCase() {
+		return ignoreCase;
+	}
+
+	@Override
+	public String toString() {
+		return describe(literals) + (ignoreCase ? " ignoring case" : "");
+	}
+
+	/**
+	 * Describes the first patterns of a matcher, e.g. <em>[/admin, /debug, ... (298 more)]</em>.
+	 *
+	 * @param patterns
+	 *            the <code>patterns</code> of the matcher
+	 *
+	 * @return the description of the <code>patterns</code>
+	 */
+	static String describe(String[] patterns) {
+		int shown = Math.min(patterns.length, 10);
+		StringBuilder description = new StringBuilder("[");
+
+		for (int i = 0; i < shown; i++)
+			description.append(i == 0 ? "" : ", ").append(patterns[i]);
+
+		if (shown < patterns.length)
+			description.append(", ... (").append(patterns.length - shown).append(" more)");
+
+		return description.append(']').toString();
+	}
+
+	private char fold(char c) {
+		return ignoreCase ? CaseInsensitive.fold(c) : c;
+	}
+
+	private int transition(int state, char c) {
+		if (state == 0 && c < 128)
+			return rootAscii[c];
+
+		int index = Arrays.binarySearch(labels[state], c);
+
+		return index < 0 ? ABSENT : targets[state][index];
+	}
+
+}
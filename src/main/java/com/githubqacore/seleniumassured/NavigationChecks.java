@@ -0,0 +1,134 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.Locale;
+
+/**
+ * The budget checks on {@link NavigationTiming}s behind the assertion methods. As in {@link StringChecks}, each check returns <code>null</code> when it passes.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see NavigationMetric
+ *
+ * @since 1.0.0
+ *
+ */
+final class NavigationChecks {
+
+	/**
+	 * Checks if the <code>metric</code> of the <code>timing</code> is within the <code>budget</code>.
+	 *
+	 * @param metric
+	 *            the checked <code>metric</code>
+	 *
+	 * @param timing
+	 *            the <code>timing</code> of the navigation
+	 *
+	 * @param budget
+	 *            the maximum value, in milliseconds for times
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError within(NavigationMetric metric, NavigationTiming timing, double budget) {
+		double value = metric.of(timing);
+		boolean lowerBound = metric.isLowerBound(timing);
+
+		if (value >= 0 && value <= budget && !lowerBound)
+			return null;
+
+		StringBuilder message = new StringBuilder("The ").append(metric.getDescription()).append(" of <").append(timing.getUrl()).append("> ");
+
+		if (value < 0)
+			return new AssertionError(message.append("is unknown, the navigation did not reach it").toString());
+
+		if (!lowerBound)
+			return new AssertionError(message.append("is ").append(format(metric, value)).append(", above the budget of ").append(format(metric, budget)).toString());
+
+		// the page may have loaded more resources than the buffer kept
+		if (value <= budget)
+			return new AssertionError(message.append("is unknown, the Resource Timing buffer was full at ").append(format(metric, value)).toString());
+
+		return new AssertionError(message.append("is at least ").append(format(metric, value)).append(", above the budget of ").append(format(metric, budget)).append(" (the Resource Timing buffer was full)")
+				.toString());
+	}
+
+	/**
+	 * Checks if the <code>percentile</code> of the <code>metric</code> over the <code>timings</code> is within the <code>budget</code>.
+	 *
+	 * @param metric
+	 *            the checked <code>metric</code>
+	 *
+	 * @param timings
+	 *            the <code>timings</code> of the navigations
+	 *
+	 * @param percentile
+	 *            the <code>percentile</code>, from 0 to 100
+	 *
+	 * @param budget
+	 *            the maximum value, in milliseconds for times
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError within(NavigationMetric metric, NavigationTimings timings, double percentile, double budget) {
+		double[] sorted = timings.sorted(metric, budget);
+		double value = NavigationTimings.percentile(sorted, percentile);
+
+		if (value <= budget)
+			return null;
+
+		String url = timings.getUrl();
+		StringBuilder message = new StringBuilder("The p").append(format(percentile)).append(' ').append(metric.getDescription()).append(" over ").append(sorted.length)
+				.append(sorted.length == 1 ? " navigation" : " navigations");
+
+		if (url != null)
+			message.append(" to <").append(url).append('>');
+
+		if (value == Double.POSITIVE_INFINITY) {
+			int unreached = 0;
+
+			for (int i = sorted.length - 1; i >= 0 && sorted[i] == Double.POSITIVE_INFINITY; i--)
+				unreached++;
+
+			return new AssertionError(message.append(" is unknown, ").append(unreached).append(unreached == 1 ? " navigation" : " navigations")
+					.append(metric.isTime() ? " did not reach it" : " filled the Resource Timing buffer").toString());
+		}
+
+		message.append(" is ").append(format(metric, value)).append(", above the budget of ").append(format(metric, budget)).append(" (min ").append(format(metric, sorted[0])).append(", max ")
+				.append(format(metric, sorted[sorted.length - 1]));
+
+		int lowerBounds = timings.lowerBounds(metric);
+
+		if (lowerBounds > 0)
+			message.append("; ").append(lowerBounds).append(lowerBounds == 1 ? " navigation" : " navigations").append(" filled the Resource Timing buffer, a lower bound");
+
+		return new AssertionError(message.append(')').toString());
+	}
+
+	private static String format(NavigationMetric metric, double value) {
+		if (value == Double.POSITIVE_INFINITY)
+			return "unknown";
+
+		return metric.isTime() ? format(value) + " ms" : format(value);
+	}
+
+	/**
+	 * Formats the <code>value</code> without decimals when it is whole, e.g. <em>95</em> or <em>812.4</em>.
+	 */
+	private static String format(double value) {
+		if (value == Math.rint(value))
+			return Long.toString((long) value);
+
+		return String.format(Locale.ROOT, "%.1f", value);
+	}
+
+	/**
+	 * Private constructor (static class)
+	 */
+	private NavigationChecks() {
+
+	}
+
+}
@@ -0,0 +1,87 @@
+package com.githubqacore.seleniumassured;
+
+/**
+ * The metrics of a {@link NavigationTiming} which have a budget.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see NavigationChecks
+ *
+ * @since 1.0.0
+ *
+ */
+enum NavigationMetric {
+
+	TIME_TO_FIRST_BYTE("time to first byte", true),
+
+	DOM_CONTENT_LOADED("DOM content loaded time", true),
+
+	PAGE_LOAD("page load time", true),
+
+	RESOURCE_COUNT("resource count", false);
+
+	private final String	description;
+
+	private final boolean	time;
+
+	private NavigationMetric(String description, boolean time) {
+		this.description = description;
+		this.time = time;
+	}
+
+	/**
+	 * Returns the description used in the failure messages, e.g. <em>page load time</em>.
+	 *
+	 * @return the description of the metric
+	 */
+	String getDescription() {
+		return description;
+	}
+
+	/**
+	 * Tests if the metric is a time, in milliseconds, instead of a count.
+	 *
+	 * @return <code>true</code> if the metric is a time. Otherwise, false.
+	 */
+	boolean isTime() {
+		return time;
+	}
+
+	/**
+	 * Tests if the value of the metric in the <code>timing</code> is a lower bound, as the resource count of a page which filled its Resource Timing buffer.
+	 *
+	 * @param timing
+	 *            the <code>timing</code> of a navigation
+	 *
+	 * @return <code>true</code> if the value is a lower bound. Otherwise, false.
+	 */
+	boolean isLowerBound(NavigationTiming timing) {
+		return this == RESOURCE_COUNT && timing.isResourceCountLowerBound();
+	}
+
+	/**
+	 * Returns the value of the metric in the <code>timing</code>.
+	 *
+	 * @param timing
+	 *            the <code>timing</code> of a navigation
+	 *
+	 * @return the value of the metric, or a negative value if the navigation did not reach it
+	 */
+	double of(NavigationTiming timing) {
+		switch (this) {
+		case TIME_TO_FIRST_BYTE:
+			return timing.getTimeToFirstByte();
+		case DOM_CONTENT_LOADED:
+			return timing.getDomContentLoaded();
+		case PAGE_LOAD:
+			return timing.getPageLoad();
+		default:
+			return timing.getResourceCount();
+		}
+	}
+
+}
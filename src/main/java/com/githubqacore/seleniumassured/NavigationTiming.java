@@ -0,0 +1,166 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.List;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * The Navigation Timing of the current page of a browser, read in a single script call: the time to first byte, the DOM content loaded and page load times, in milliseconds since the
+ * navigation started, and the number of loaded resources.
+ * <p>
+ * The script reads the Navigation Timing Level 2 entry when the browser has it, and <em>performance.timing</em> otherwise. Browsers without Resource Timing report the number of elements which
+ * load a resource (scripts, stylesheets, images, frames and media), which misses the resources fetched by scripts.
+ * <p>
+ * The Resource Timing buffer of a page keeps {@value #RESOURCE_TIMING_BUFFER_SIZE} entries by default, and drops the next ones. It is reset by each navigation, before any script of the test
+ * can enlarge it, so a page which fills it reports {@value #RESOURCE_TIMING_BUFFER_SIZE} resources, a lower bound of the loaded ones, see {@link #isResourceCountLowerBound()}.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see NavigationTimings
+ *
+ * @since 1.0.0
+ *
+ */
+public final class NavigationTiming {
+
+	/**
+	 * The default size of the Resource Timing buffer.
+	 */
+	public static final int		RESOURCE_TIMING_BUFFER_SIZE	= 250;
+
+	private static final String	READ_SCRIPT					= "var p = window.performance;\n"
+			+ "if (!p || !p.timing && !p.getEntriesByType) return null;\n"
+			+ "var n = p.getEntriesByType ? p.getEntriesByType('navigation')[0] : null;\n"
+			+ "var times;\n"
+			+ "if (n) {\n"
+			+ "  var since = function (v) { return v > 0 ? v : -1; };\n"
+			+ "  times = [since(n.responseStart), since(n.domContentLoadedEventEnd), since(n.loadEventEnd)];\n"
+			+ "} else {\n"
+			+ "  var t = p.timing;\n"
+			+ "  var since = function (v) { return v > 0 ? v - t.navigationStart : -1; };\n"
+			+ "  times = [since(t.responseStart), since(t.domContentLoadedEventEnd), since(t.loadEventEnd)];\n"
+			+ "}\n"
+			+ "var resources = p.getEntriesByType ? p.getEntriesByType('resource').length : document.querySelectorAll("
+			+ "'script[src], link[rel=stylesheet][href], img[src], iframe[src], video[src], audio[src], source[src], embed[src], object[data]').length;\n"
+			+ "var full = !!p.getEntriesByType && resources >= " + RESOURCE_TIMING_BUFFER_SIZE + ";\n"
+			+ "return [location.href, times[0], times[1], times[2], resources, full];";
+
+	private final String		url;
+
+	private final double		timeToFirstByte;
+
+	private final double		domContentLoaded;
+
+	private final double		pageLoad;
+
+	private final int			resourceCount;
+
+	private final boolean		resourceCountLowerBound;
+
+	NavigationTiming(String url, double timeToFirstByte, double domContentLoaded, double pageLoad, int resourceCount, boolean resourceCountLowerBound) {
+		this.url = url;
+		this.timeToFirstByte = timeToFirstByte;
+		this.domContentLoaded = domContentLoaded;
+		this.pageLoad = pageLoad;
+		this.resourceCount = resourceCount;
+		this.resourceCountLowerBound = resourceCountLowerBound;
+	}
+
+	/**
+	 * Reads the Navigation Timing of the current page of the <code>driver</code>.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> where will be read, which must execute scripts
+	 *
+	 * @return the timing of the current page
+	 *
+	 * @throws UnsupportedOperationException
+	 *             if the browser does not support Navigation Timing
+	 */
+	public static NavigationTiming capture(WebDriver driver) {
+		if (!(driver instanceof JavascriptExecutor))
+			throw new IllegalArgumentException("The driver " + driver.getClass().getName() + " does not execute scripts");
+
+		Object result = AssertionMetrics.timed(() -> ((JavascriptExecutor) driver).executeScript(READ_SCRIPT));
+
+		if (!(result instanceof List))
+			throw new UnsupportedOperationException("The browser does not support Navigation Timing");
+
+		List<?> values = (List<?>) result;
+
+		return new NavigationTiming(String.valueOf(values.get(0)), number(values.get(1)), number(values.get(2)), number(values.get(3)), (int) number(values.get(4)),
+				values.size() > 5 && Boolean.TRUE.equals(values.get(5)));
+	}
+
+	private static double number(Object value) {
+		return value instanceof Number ? ((Number) value).doubleValue() : -1;
+	}
+
+	/**
+	 * Returns the url of the page.
+	 *
+	 * @return the url of the page
+	 */
+	public String getUrl() {
+		return url;
+	}
+
+	/**
+	 * Returns the time from the start of the navigation to the first byte of the response.
+	 *
+	 * @return the time to first byte, in milliseconds, or <code>-1</code> if the response did not start
+	 */
+	public double getTimeToFirstByte() {
+		return timeToFirstByte;
+	}
+
+	/**
+	 * Returns the time from the start of the navigation to the end of the <em>DOMContentLoaded</em> event.
+	 *
+	 * @return the DOM content loaded time, in milliseconds, or <code>-1</code> if the event did not end
+	 */
+	public double getDomContentLoaded() {
+		return domContentLoaded;
+	}
+
+	/**
+	 * Returns the time from the start of the navigation to the end of the <em>load</em> event.
+	 *
+	 * @return the page load time, in milliseconds, or <code>-1</code> if the event did not end
+	 */
+	public double getPageLoad() {
+		return pageLoad;
+	}
+
+	/**
+	 * Returns the number of resources loaded by the page, which is a lower bound when the Resource Timing buffer was full.
+	 *
+	 * @return the number of resources loaded by the page
+	 *
+	 * @see #isResourceCountLowerBound()
+	 */
+	public int getResourceCount() {
+		return resourceCount;
+	}
+
+	/**
+	 * Tests if the page filled its Resource Timing buffer, which dropped the next resources, so the page may have loaded more resources than {@link #getResourceCount()}.
+	 *
+	 * @return <code>true</code> if the resource count is a lower bound. Otherwise, false.
+	 */
+	public boolean isResourceCountLowerBound() {
+		return resourceCountLowerBound;
+	}
+
+	@Override
+	public String toString() {
+		return "NavigationTiming [url=" + url + ", timeToFirstByte=" + timeToFirstByte + ", domContentLoaded=" + domContentLoaded + ", pageLoad=" + pageLoad + ", resourceCount=" + resourceCount
+				+ (resourceCountLowerBound ? "+" : "") + "]";
+	}
+
+}
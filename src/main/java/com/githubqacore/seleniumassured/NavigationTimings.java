@@ -0,0 +1,171 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * The {@link NavigationTiming}s of repeated navigations, whose percentiles are checked against a budget, so a single slow navigation does not fail the build:
+ *
+ * <pre>
+ * NavigationTimings timings = NavigationTimings.sample(driver, "https://shop.example.com/", 20);
+ *
+ * assertPageLoadWithin(timings, 95, 2, TimeUnit.SECONDS);
+ * </pre>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see NavigationTiming
+ *
+ * @since 1.0.0
+ *
+ */
+public final class NavigationTimings {
+
+	private final List<NavigationTiming> samples;
+
+	private NavigationTimings(List<NavigationTiming> samples) {
+		if (samples.isEmpty())
+			throw new IllegalArgumentException("There must be at least one sample");
+
+		this.samples = Collections.unmodifiableList(samples);
+	}
+
+	/**
+	 * Navigates to the <code>url</code> the given number of times, capturing the timing of each navigation. The browser may serve the next navigations from its cache, like it does for the users.
+	 * Each navigation resets the Resource Timing buffer before the test can enlarge it, so the resource count of a page which fills it is a lower bound, see {@link NavigationTiming}.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> which navigates
+	 *
+	 * @param url
+	 *            the <code>url</code> to navigate to
+	 *
+	 * @param navigations
+	 *            how many <code>navigations</code> are sampled
+	 *
+	 * @return the timings of the navigations
+	 */
+	public static NavigationTimings sample(WebDriver driver, String url, int navigations) {
+		if (navigations < 1)
+			throw new IllegalArgumentException("Invalid number of navigations " + navigations);
+
+		List<NavigationTiming> samples = new ArrayList<>(navigations);
+
+		for (int i = 0; i < navigations; i++) {
+			driver.get(url);
+			samples.add(NavigationTiming.capture(driver));
+		}
+
+		return new NavigationTimings(samples);
+	}
+
+	/**
+	 * Creates the timings of navigations captured elsewhere, e.g. by several tests.
+	 *
+	 * @param samples
+	 *            the timings captured by {@link NavigationTiming#capture(WebDriver)}
+	 *
+	 * @return the timings of the navigations
+	 */
+	public static NavigationTimings of(Collection<NavigationTiming> samples) {
+		return new NavigationTimings(new ArrayList<>(samples));
+	}
+
+	/**
+	 * Returns the timings of the navigations, in the order they were captured.
+	 *
+	 * @return the timings of the navigations
+	 */
+	public List<NavigationTiming> getSamples() {
+		return samples;
+	}
+
+	/**
+	 * Returns the values of the <code>metric</code>, sorted. Navigations which did not reach it, or whose value is a lower bound within the <code>budget</code>, sort last, as infinity.
+	 *
+	 * @param metric
+	 *            the <code>metric</code>
+	 *
+	 * @param budget
+	 *            the <code>budget</code> checked
+	 *
+	 * @return the sorted values
+	 */
+	double[] sorted(NavigationMetric metric, double budget) {
+		double[] values = new double[samples.size()];
+
+		for (int i = 0; i < values.length; i++) {
+			NavigationTiming sample = samples.get(i);
+			double value = metric.of(sample);
+
+			values[i] = value < 0 || value <= budget && metric.isLowerBound(sample) ? Double.POSITIVE_INFINITY : value;
+		}
+
+		Arrays.sort(values);
+
+		return values;
+	}
+
+	/**
+	 * Returns the value of the <code>percentile</code> in the <code>sorted</code> values, by the nearest rank: the smallest value greater than or equal to that percentage of the values.
+	 *
+	 * @param sorted
+	 *            the <code>sorted</code> values
+	 *
+	 * @param percentile
+	 *            the <code>percentile</code>, from 0 to 100
+	 *
+	 * @return the value of the <code>percentile</code>
+	 */
+	static double percentile(double[] sorted, double percentile) {
+		if (!(percentile >= 0 && percentile <= 100))
+			throw new IllegalArgumentException("Invalid percentile " + percentile);
+
+		int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+
+		return sorted[Math.max(rank, 1) - 1];
+	}
+
+	/**
+	 * Returns how many navigations have a value of the <code>metric</code> which is a lower bound.
+	 *
+	 * @param metric
+	 *            the <code>metric</code>
+	 *
+	 * @return the number of navigations
+	 */
+	int lowerBounds(NavigationMetric metric) {
+		int count = 0;
+
+		for (NavigationTiming sample : samples)
+			if (metric.isLowerBound(sample))
+				count++;
+
+		return count;
+	}
+
+	/**
+	 * Returns the url of all navigations, or <code>null</code> if they differ.
+	 *
+	 * @return the url of all navigations
+	 */
+	String getUrl() {
+		String url = samples.get(0).getUrl();
+
+		for (NavigationTiming sample : samples)
+			if (!url.equals(sample.getUrl()))
+				return null;
+
+		return url;
+	}
+
+}
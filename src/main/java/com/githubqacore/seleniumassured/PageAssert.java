@@ -0,0 +1,102 @@
+package com.githubqacore.seleniumassured;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Entry point of the fluent assertions on a page. Each property chain reads its value once, on the first condition checked:
+ *
+ * <pre>
+ * assertThat(driver).currentUrl().startsWith("https://").contains("/checkout");
+ * assertThat(driver).title().isNotEmpty().endsWithIgnoreCase("- store");
+ * </pre>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see WebDriverAssert#assertThat(WebDriver)
+ *
+ * @since 1.0.0
+ *
+ */
+public final class PageAssert {
+
+	private final WebDriver		driver;
+
+	private final PageSnapshot	snapshot;
+
+	PageAssert(WebDriver driver) {
+		this.driver = driver;
+		this.snapshot = null;
+	}
+
+	PageAssert(PageSnapshot snapshot) {
+		this.driver = null;
+		this.snapshot = snapshot;
+	}
+
+	/**
+	 * Starts a chain of assertions on the <em>current url</em>.
+	 *
+	 * @return the assertions on the <em>current url</em>
+	 */
+	public StringPropertyAssert currentUrl() {
+		return property(PageProperty.CURRENT_URL);
+	}
+
+	/**
+	 * Starts a chain of assertions on the <em>title</em>.
+	 *
+	 * @return the assertions on the <em>title</em>
+	 */
+	public StringPropertyAssert title() {
+		return property(PageProperty.TITLE);
+	}
+
+	private StringPropertyAssert property(PageProperty property) {
+		return new StringPropertyAssert(new ReadOnceEvaluator(property, driver, snapshot));
+	}
+
+	/**
+	 * Reads the property on the first evaluated condition and throws the failure of any unsatisfied condition.
+	 */
+	private static final class ReadOnceEvaluator implements ConditionEvaluator {
+
+		private final PageProperty	property;
+
+		private final WebDriver		driver;
+
+		private final PageSnapshot	snapshot;
+
+		private String				value;
+
+		private boolean				read;
+
+		ReadOnceEvaluator(PageProperty property, WebDriver driver, PageSnapshot snapshot) {
+			this.property = property;
+			this.driver = driver;
+			this.snapshot = snapshot;
+		}
+
+		@Override
+		public void evaluate(StringCondition condition) {
+			long start = AssertionMetrics.start();
+
+			if (!read) {
+				value = snapshot != null ? property.read(snapshot) : PageCache.read(driver, property);
+				read = true;
+			}
+
+			AssertionError failure = condition.check(property.getDescription(), value);
+
+			WebDriverAssert.report("PageAssert", driver, start, failure);
+
+			if (failure != null)
+				throw failure;
+		}
+
+	}
+
+}
@@ -0,0 +1,397 @@
+package com.githubqacore.seleniumassured;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.AbstractWebDriverEventListener;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+
+/**
+ * An optional cache of the <em>current url</em> and <em>title</em> of an {@link EventFiringWebDriver}, so many assertions on the same page state cost a single remote call per property:
+ *
+ * <pre>
+ * EventFiringWebDriver driver = new EventFiringWebDriver(remoteDriver);
+ *
+ * PageCache.enable(driver);
+ *
+ * assertCurrentUrlStartsWith(driver, "https://");
+ * assertCurrentUrlContains(driver, "/checkout"); // no remote call
+ * </pre>
+ *
+ * The cached values belong to a <em>navigation epoch</em>, which ends on every event that may change the page: navigation, click, change of value, script execution, alert handling and driver
+ * exceptions. The {@link EventFiringWebDriver} fires no event when switching windows, so call {@link #invalidate()} after it. Cached values also expire after a time to live, a safety valve for
+ * pages that change by themselves (e.g. redirects made by scripts).
+ * <p>
+ * The {@link WebDriverAssert} methods and the fluent, soft, parallel and asynchronous assertions read through the cache. The eventual assertions never do, because they wait for the page to
+ * change.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see WebDriverAssert
+ *
+ * @since 1.0.0
+ *
+ */
+public final class PageCache extends AbstractWebDriverEventListener {
+
+	/**
+	 * Default time to live of the cached values, in milliseconds.
+	 */
+	public static final long						DEFAULT_TIME_TO_LIVE	= 1000;
+
+	private static final Map<WebDriver, PageCache>	CACHES					= Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * How many caches are enabled, so the reads skip the lookup when there is none.
+	 */
+	private static volatile int						enabled;
+
+	/**
+	 * Changes whenever a cache is enabled or disabled, which invalidates the lookups remembered by the threads.
+	 */
+	private static volatile int						version;
+
+	/**
+	 * The last lookup of each thread, so a thread asserting on its own driver does not take the lock of the shared map.
+	 */
+	private static final ThreadLocal<Lookup>		LOOKUP					= ThreadLocal.withInitial(Lookup::new);
+
+	private final long								timeToLiveNanos;
+
+	private final String[]							values					= new String[PageProperty.values().length];
+
+	private final long[]							readAt					= new long[PageProperty.values().length];
+
+	private long									epoch;
+
+	private long									hits;
+
+	private long									misses;
+
+	private PageCache(long timeToLiveNanos) {
+		this.timeToLiveNanos = timeToLiveNanos;
+	}
+
+	/**
+	 * Enables the cache of the <code>driver</code> with the default time to live.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> whose values will be cached
+	 *
+	 * @return the cache of the <code>driver</code>
+	 */
+	public static PageCache enable(EventFiringWebDriver driver) {
+		return enable(driver, DEFAULT_TIME_TO_LIVE, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Enables the cache of the <code>driver</code>, replacing its current cache.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> whose values will be cached
+	 *
+	 * @param timeToLive
+	 *            the maximum age of a cached value
+	 *
+	 * @param unit
+	 *            the unit of the <code>timeToLive</code>
+	 *
+	 * @return the cache of the <code>driver</code>
+	 */
+	public static PageCache enable(EventFiringWebDriver driver, long timeToLive, TimeUnit unit) {
+		if (timeToLive < 0)
+			throw new IllegalArgumentException("The time to live must not be negative: " + timeToLive);
+
+		PageCache cache = new PageCache(unit.toNanos(timeToLive));
+
+		synchronized (CACHES) {
+			PageCache previous = CACHES.put(driver, cache);
+
+			if (previous != null)
+				driver.unregister(previous);
+
+			enabled = CACHES.size();
+			version++;
+		}
+
+		driver.register(cache);
+
+		return cache;
+	}
+
+	/**
+	 * Disables the cache of the <code>driver</code>, if any.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> whose values will not be cached anymore
+	 */
+	public static void disable(EventFiringWebDriver driver) {
+		PageCache previous;
+
+		synchronized (CACHES) {
+			previous = CACHES.remove(driver);
+			enabled = CACHES.size();
+			version++;
+		}
+
+		if (previous != null)
+			driver.unregister(previous);
+	}
+
+	/**
+	 * Ends the current navigation epoch, so the next reads go to the driver.
+	 */
+	public synchronized void invalidate() {
+		epoch++;
+
+		for (int i = 0; i < values.length; i++)
+			values[i] = null;
+	}
+
+	/**
+	 * Returns the current navigation epoch, incremented on every event that may change the page.
+	 *
+	 * @return the current navigation epoch
+	 */
+	public synchronized long getEpoch() {
+		return epoch;
+	}
+
+	/**
+	 * Returns how many reads were answered by the cache.
+	 *
+	 * @return how many reads were answered by the cache
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns how many reads went to the driver.
+	 *
+	 * @return how many reads went to the driver
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Reads the <code>property</code> through the cache of the <code>driver</code>, if it has one.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> where will be read
+	 *
+	 * @param property
+	 *            the <code>property</code> to be read
+	 *
+	 * @return the value of the <code>property</code>
+	 */
+	static String read(WebDriver driver, PageProperty property) {
+		PageCache cache = of(driver);
+
+		if (cache == null)
+			return property.read(driver);
+
+		String value = cache.get(property);
+
+		if (value != null)
+			return value;
+
+		long current = cache.getEpoch();
+
+		value = property.read(driver);
+		cache.put(property, value, current);
+
+		return value;
+	}
+
+	/**
+	 * Returns the cache of the <code>driver</code>.
+	 *
+	 * @param driver
+	 *            the <code>driver</code>
+	 *
+	 * @return the cache of the <code>driver</code>, or <code>null</code> if it has none
+	 */
+	static PageCache of(WebDriver driver) {
+		if (enabled == 0)
+			return null;
+
+		Lookup lookup = LOOKUP.get();
+		int current = version;
+
+		if (lookup.version != current || lookup.driver == null || lookup.driver.get() != driver) {
+			lookup.cache = CACHES.get(driver);
+			lookup.driver = new WeakReference<>(driver);
+			lookup.version = current;
+		}
+
+		return lookup.cache;
+	}
+
+	/**
+	 * Returns the cached value of the <code>property</code>, counting a hit, or <code>null</code> counting a miss.
+	 *
+	 * @param property
+	 *            the <code>property</code> to be read
+	 *
+	 * @return the cached value, or <code>null</code> if there is none or it expired
+	 */
+	synchronized String get(PageProperty property) {
+		int index = property.ordinal();
+		String value = values[index];
+
+		if (value != null && System.nanoTime() - readAt[index] > timeToLiveNanos)
+			values[index] = value = null;
+
+		if (value == null)
+			misses++;
+		else
+			hits++;
+
+		return value;
+	}
+
+	/**
+	 * Caches the <code>value</code> read from the driver, unless the navigation epoch ended while it was read.
+	 *
+	 * @param property
+	 *            the read <code>property</code>
+	 *
+	 * @param value
+	 *            the read <code>value</code>
+	 *
+	 * @param readEpoch
+	 *            the navigation epoch when the read started
+	 */
+	synchronized void put(PageProperty property, String value, long readEpoch) {
+		if (readEpoch != epoch)
+			return;
+
+		values[property.ordinal()] = value;
+		readAt[property.ordinal()] = System.nanoTime();
+	}
+
+	@Override
+	public void beforeNavigateTo(String url, WebDriver driver) {
+		invalidate();
+	}
+
+	@Override
+	public void afterNavigateTo(String url, WebDriver driver) {
+		invalidate();
+	}
+
+	@Override
+	public void beforeNavigateBack(WebDriver driver) {
+		invalidate();
+	}
+
+	@Override
+	public void afterNavigateBack(WebDriver driver) {
+		invalidate();
+	}
+
+	@Override
+	public void beforeNavigateForward(WebDriver driver) {
+		invalidate();
+	}
+
+	@Override
+	public void afterNavigateForward(WebDriver driver) {
+		invalidate();
+	}
+
+	@Override
+	public void beforeNavigateRefresh(WebDriver driver) {
+		invalidate();
+	}
+
+	@Override
+	public void afterNavigateRefresh(WebDriver driver) {
+		invalidate();
+	}
+
+	@Override
+	public void beforeClickOn(WebElement element, WebDriver driver) {
+		invalidate();
+	}
+
+	@Override
+	public void afterClickOn(WebElement element, WebDriver driver) {
+		invalidate();
+	}
+
+	@Override
+	public void beforeChangeValueOf(WebElement element, WebDriver driver, CharSequence[] keysToSend) {
+		invalidate();
+	}
+
+	@Override
+	public void afterChangeValueOf(WebElement element, WebDriver driver, CharSequence[] keysToSend) {
+		invalidate();
+	}
+
+	@Override
+	public void beforeScript(String script, WebDriver driver) {
+		invalidate();
+	}
+
+	@Override
+	public void afterScript(String script, WebDriver driver) {
+		invalidate();
+	}
+
+	@Override
+	public void beforeAlertAccept(WebDriver driver) {
+		invalidate();
+	}
+
+	@Override
+	public void afterAlertAccept(WebDriver driver) {
+		invalidate();
+	}
+
+	@Override
+	public void beforeAlertDismiss(WebDriver driver) {
+		invalidate();
+	}
+
+	@Override
+	public void afterAlertDismiss(WebDriver driver) {
+		invalidate();
+	}
+
+	@Override
+	public void onException(Throwable throwable, WebDriver driver) {
+		invalidate();
+	}
+
+	@Override
+	public String toString() {
+		return "PageCache [epoch=" + getEpoch() + ", hits=" + getHits() + ", misses=" + getMisses() + "]";
+	}
+
+	/**
+	 * The cache found for a driver, which is weakly referenced like in the shared map.
+	 */
+	private static final class Lookup {
+
+		private WeakReference<WebDriver>	driver;
+
+		private PageCache					cache;
+
+		private int							version;
+
+	}
+
+}
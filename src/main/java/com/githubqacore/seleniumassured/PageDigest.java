@@ -0,0 +1,406 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+/**
+ * A digest of the DOM of a page, or of the subtree of a CSS selector, computed inside the browser so only the digest is transferred. It is compared with a later digest to check whether an
+ * action changed the page:
+ *
+ * <pre>
+ * PageDigest before = PageDigest.capture(driver, "#cart");
+ *
+ * driver.findElement(By.id("refresh")).click();
+ *
+ * assertPageUnchanged(driver, before);
+ * </pre>
+ *
+ * The digest is a 64-bit structural hash of the elements, with their attributes and the state of form controls, and of the text. Besides the digest of the root, the digests of its element
+ * subtrees are captured down to a given depth, so a failure can name the subtrees which changed. When the <code>driver</code> is not a {@link JavascriptExecutor}, or if the script fails, the
+ * digest is a hash of the page source, or of the <code>outerHTML</code> of the subtree, without the subtree digests. The two kinds of hash can not be compared, so once a structural digest is
+ * captured, a failure of the script when checking it is thrown instead of falling back.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see WebDriverAssert#assertPageUnchanged(WebDriver, PageDigest)
+ * @see WebDriverAssert#assertPageChanged(WebDriver, PageDigest)
+ *
+ * @since 1.0.0
+ *
+ */
+public final class PageDigest {
+
+	/**
+	 * The default depth of the captured subtree digests below the root.
+	 */
+	public static final int				DEFAULT_DEPTH		= 3;
+
+	/**
+	 * The maximum number of captured subtree digests, in document order, which bounds the size of the response.
+	 */
+	static final int					MAX_SUBTREES		= 256;
+
+	/**
+	 * How many changed subtrees are named in the failure messages.
+	 */
+	private static final int			REPORTED_CHANGES	= 5;
+
+	/**
+	 * Hashes the root (the element of the selector <code>arguments[0]</code>, or the document element) with two 32-bit lanes, FNV-1a and a Murmur-like mix, feeding each node its children
+	 * digests. Returns <code>null</code> if the selector matches no element, or the digest of the root and the <code>[path, digest]</code> of the element subtrees down to the depth
+	 * <code>arguments[1]</code>, at most <code>arguments[2]</code> of them.
+	 */
+	private static final String			DIGEST_SCRIPT		= ""
+			+ "var selector = arguments[0], maxDepth = arguments[1], maxSubtrees = arguments[2], subtrees = [];"
+			+ "var root = selector ? document.querySelector(selector) : document.documentElement;"
+			+ "if (!root) return null;"
+			+ "var imul = Math.imul || function (a, b) {"
+			+ "  var ah = (a >>> 16) & 0xffff, al = a & 0xffff;"
+			+ "  return (al * b + (((ah * b) & 0xffff) << 16)) | 0;"
+			+ "};"
+			+ "function feed(h, c) {"
+			+ "  h[0] = imul(h[0] ^ c, 16777619);"
+			+ "  var b = imul(h[1] ^ c, 1540483477);"
+			+ "  h[1] = b ^ (b >>> 15);"
+			+ "}"
+			+ "function feedString(h, s) {"
+			+ "  for (var i = 0; i < s.length; i++) feed(h, s.charCodeAt(i));"
+			+ "  feed(h, 0x10000);"
+			+ "}"
+			+ "function hex(v) {"
+			+ "  return ('0000000' + (v >>> 0).toString(16)).slice(-8);"
+			+ "}"
+			+ "function digest(node, path, depth) {"
+			+ "  var h = [-2128831035, 1540483477], entry = -1;"
+			+ "  if (path !== null && subtrees.length < maxSubtrees) entry = subtrees.push([path, '']) - 1;"
+			+ "  feed(h, 0x10001 + node.nodeType);"
+			+ "  if (node.nodeType !== 1) {"
+			+ "    feedString(h, node.data);"
+			+ "    return h;"
+			+ "  }"
+			+ "  feedString(h, node.nodeName);"
+			+ "  for (var i = 0; i < node.attributes.length; i++) {"
+			+ "    feedString(h, node.attributes[i].name);"
+			+ "    feedString(h, node.attributes[i].value);"
+			+ "  }"
+			+ "  if (/^(input|select|textarea)$/i.test(node.nodeName)) {"
+			+ "    feedString(h, String(node.value));"
+			+ "    feed(h, node.checked ? 0x10020 : 0x10021);"
+			+ "  }"
+			+ "  for (var i = 0, index = 0; i < node.childNodes.length; i++) {"
+			+ "    var child = node.childNodes[i], childPath = null;"
+			+ "    if (child.nodeType !== 1 && child.nodeType !== 3 && child.nodeType !== 4) continue;"
+			+ "    if (child.nodeType === 1) {"
+			+ "      index++;"
+			+ "      if (depth < maxDepth) childPath = path + ' > ' + child.nodeName.toLowerCase() + (child.id ? '#' + child.id : '') + ':nth-child(' + index + ')';"
+			+ "    }"
+			+ "    var d = digest(child, childPath, depth + 1);"
+			+ "    feed(h, d[0]);"
+			+ "    feed(h, d[1]);"
+			+ "  }"
+			+ "  if (entry >= 0) subtrees[entry][1] = hex(h[0]) + hex(h[1]);"
+			+ "  return h;"
+			+ "}"
+			+ "var h = digest(root, selector || 'html', 0);"
+			+ "return [hex(h[0]) + hex(h[1]), subtrees];";
+
+	private static final long			FNV_OFFSET_BASIS	= 0xcbf29ce484222325L;
+
+	private static final long			FNV_PRIME			= 0x100000001b3L;
+
+	private final String				selector;
+
+	private final int					depth;
+
+	private final String				digest;
+
+	private final Map<String, String>	subtrees;
+
+	private final boolean				structural;
+
+	private PageDigest(String selector, int depth, String digest, Map<String, String> subtrees, boolean structural) {
+		this.selector = selector;
+		this.depth = depth;
+		this.digest = digest;
+		this.subtrees = subtrees;
+		this.structural = structural;
+	}
+
+	/**
+	 * Captures the digest of the whole page, with the subtree digests down to the {@link #DEFAULT_DEPTH}.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> where will be captured
+	 *
+	 * @return the digest of the page
+	 */
+	public static PageDigest capture(WebDriver driver) {
+		return capture(driver, null, DEFAULT_DEPTH);
+	}
+
+	/**
+	 * Captures the digest of the subtree of the first element matched by the <code>cssSelector</code>, with the subtree digests down to the {@link #DEFAULT_DEPTH}.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> where will be captured
+	 *
+	 * @param cssSelector
+	 *            the CSS selector of the root of the subtree, or <code>null</code> for the whole page
+	 *
+	 * @return the digest of the subtree, which is absent if the <code>cssSelector</code> matches no element
+	 */
+	public static PageDigest capture(WebDriver driver, String cssSelector) {
+		return capture(driver, cssSelector, DEFAULT_DEPTH);
+	}
+
+	/**
+	 * Captures the digest of the subtree of the first element matched by the <code>cssSelector</code>, with the subtree digests down to <code>depth</code>.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> where will be captured
+	 *
+	 * @param cssSelector
+	 *            the CSS selector of the root of the subtree, or <code>null</code> for the whole page
+	 *
+	 * @param depth
+	 *            the <code>depth</code> of the subtree digests below the root, or <code>0</code> to capture only the digest of the root
+	 *
+	 * @return the digest of the subtree, which is absent if the <code>cssSelector</code> matches no element
+	 */
+	public static PageDigest capture(WebDriver driver, String cssSelector, int depth) {
+		if (cssSelector != null && cssSelector.isEmpty())
+			throw new IllegalArgumentException("Invalid selector <" + cssSelector + ">");
+
+		if (depth < 0)
+			throw new IllegalArgumentException("Invalid depth " + depth);
+
+		return capture(driver, cssSelector, depth, true, true);
+	}
+
+	/**
+	 * Captures the digest of the same root as <code>previous</code>, in the same way, so both can be compared. The capture is timed as a single driver call when there is a listener, see
+	 * {@link AssertionMetrics}.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> where will be captured
+	 *
+	 * @param previous
+	 *            the <code>previous</code> digest
+	 *
+	 * @return the current digest
+	 *
+	 * @throws WebDriverException
+	 *             if the <code>previous</code> digest is structural and the script fails, e.g. on an open alert
+	 */
+	static PageDigest recapture(WebDriver driver, PageDigest previous) {
+		return AssertionMetrics.timed(() -> capture(driver, previous.selector, previous.depth, previous.structural, !previous.structural));
+	}
+
+	private static PageDigest capture(WebDriver driver, String cssSelector, int depth, boolean structural, boolean fallback) {
+		if (structural && !fallback && !(driver instanceof JavascriptExecutor))
+			throw new IllegalArgumentException("The driver " + driver.getClass().getName() + " does not execute scripts, the digest can not be compared");
+
+		if (structural && driver instanceof JavascriptExecutor) {
+			Object result;
+
+			try {
+				result = ((JavascriptExecutor) driver).executeScript(DIGEST_SCRIPT, cssSelector == null ? "" : cssSelector, depth, depth == 0 ? 1 : MAX_SUBTREES);
+			} catch (WebDriverException e) {
+				if (!fallback)
+					throw e;
+
+				result = Boolean.FALSE;
+			}
+
+			if (result == null)
+				return new PageDigest(cssSelector, depth, null, Collections.<String, String> emptyMap(), true);
+
+			if (result instanceof List && ((List<?>) result).size() == 2 && ((List<?>) result).get(1) instanceof List) {
+				Map<String, String> subtrees = new LinkedHashMap<>();
+
+				for (Object subtree : (List<?>) ((List<?>) result).get(1))
+					subtrees.put(String.valueOf(((List<?>) subtree).get(0)), String.valueOf(((List<?>) subtree).get(1)));
+
+				return new PageDigest(cssSelector, depth, String.valueOf(((List<?>) result).get(0)), Collections.unmodifiableMap(subtrees), true);
+			}
+
+			if (!fallback)
+				throw new WebDriverException("The digest script returned <" + result + ">");
+		}
+
+		String source;
+
+		if (cssSelector == null) {
+			source = driver.getPageSource();
+		} else {
+			List<WebElement> elements = driver.findElements(By.cssSelector(cssSelector));
+
+			source = elements.isEmpty() ? null : elements.get(0).getAttribute("outerHTML");
+		}
+
+		return new PageDigest(cssSelector, depth, source == null ? null : hash(source), Collections.<String, String> emptyMap(), false);
+	}
+
+	/**
+	 * Returns the CSS selector of the root.
+	 *
+	 * @return the CSS selector of the root, or <code>null</code> for the whole page
+	 */
+	public String getSelector() {
+		return selector;
+	}
+
+	/**
+	 * Returns the digest of the root, as 16 hexadecimal digits.
+	 *
+	 * @return the digest of the root, or <code>null</code> if the selector matched no element
+	 */
+	public String getDigest() {
+		return digest;
+	}
+
+	/**
+	 * Returns the digests of the element subtrees of the root, by their path from the root (e.g. <em>html &gt; body:nth-child(2) &gt; div#cart:nth-child(1)</em>), in document order. The root is
+	 * the first of them.
+	 *
+	 * @return the digests of the subtrees, empty if they were not captured
+	 */
+	public Map<String, String> getSubtrees() {
+		return subtrees;
+	}
+
+	/**
+	 * Checks if the <code>current</code> digest equals to the <code>previous</code> one.
+	 *
+	 * @param previous
+	 *            the <code>previous</code> digest
+	 *
+	 * @param current
+	 *            the <code>current</code> digest
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure, naming the changed subtrees.
+	 */
+	static AssertionError unchanged(PageDigest previous, PageDigest current) {
+		if (equals(previous.digest, current.digest))
+			return null;
+
+		String subject = previous.describe();
+
+		if (previous.digest == null)
+			return new AssertionError("The " + subject + " was added");
+
+		if (current.digest == null)
+			return new AssertionError("The " + subject + " was removed");
+
+		List<String> changes = changes(previous.subtrees, current.subtrees);
+
+		if (changes.isEmpty())
+			return new AssertionError("The " + subject + " changed from digest <" + previous.digest + "> to <" + current.digest + ">");
+
+		StringBuilder message = new StringBuilder("The ").append(subject).append(" changed:");
+
+		for (int i = 0; i < Math.min(changes.size(), REPORTED_CHANGES); i++)
+			message.append("\n  ").append(changes.get(i));
+
+		if (changes.size() > REPORTED_CHANGES)
+			message.append("\n  ... (").append(changes.size() - REPORTED_CHANGES).append(" more)");
+
+		return new AssertionError(message.toString());
+	}
+
+	/**
+	 * Checks if the <code>current</code> digest differs from the <code>previous</code> one.
+	 *
+	 * @param previous
+	 *            the <code>previous</code> digest
+	 *
+	 * @param current
+	 *            the <code>current</code> digest
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError changed(PageDigest previous, PageDigest current) {
+		if (!equals(previous.digest, current.digest))
+			return null;
+
+		if (previous.digest == null)
+			return new AssertionError("The " + previous.describe() + " is still absent");
+
+		return new AssertionError("The " + previous.describe() + " did not change, its digest is still <" + previous.digest + ">");
+	}
+
+	/**
+	 * Lists the deepest subtrees which differ, in document order: the ones without a differing subtree of their own.
+	 */
+	private static List<String> changes(Map<String, String> previous, Map<String, String> current) {
+		Map<String, String> differences = new LinkedHashMap<>();
+
+		for (Map.Entry<String, String> subtree : previous.entrySet()) {
+			String digest = current.get(subtree.getKey());
+
+			if (digest == null)
+				differences.put(subtree.getKey(), "was removed");
+			else if (!digest.equals(subtree.getValue()))
+				differences.put(subtree.getKey(), "changed");
+		}
+
+		for (String path : current.keySet())
+			if (!previous.containsKey(path))
+				differences.put(path, "was added");
+
+		List<String> changes = new ArrayList<>();
+
+		for (Map.Entry<String, String> difference : differences.entrySet()) {
+			String prefix = difference.getKey() + " > ";
+			boolean deepest = true;
+
+			for (String path : differences.keySet())
+				if (path.startsWith(prefix))
+					deepest = false;
+
+			if (deepest)
+				changes.add(difference.getKey() + " " + difference.getValue());
+		}
+
+		return changes;
+	}
+
+	private String describe() {
+		return selector == null ? "page" : "subtree <" + selector + ">";
+	}
+
+	/**
+	 * Hashes the <code>value</code> by 64-bit FNV-1a, when the digest can not be computed inside the browser.
+	 */
+	private static String hash(String value) {
+		long hash = FNV_OFFSET_BASIS;
+
+		for (int i = 0; i < value.length(); i++)
+			hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+
+		return String.format("%016x", hash);
+	}
+
+	private static boolean equals(String value, String other) {
+		return value == null ? other == null : value.equals(other);
+	}
+
+	@Override
+	public String toString() {
+		return "PageDigest [selector=" + selector + ", digest=" + digest + ", subtrees=" + subtrees.size() + "]";
+	}
+
+}
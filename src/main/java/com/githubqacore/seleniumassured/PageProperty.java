@@ -0,0 +1,82 @@
+package com.githubqacore.seleniumassured;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * A string property of a page checked by the assertions.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @since 1.0.0
+ *
+ */
+enum PageProperty {
+
+	CURRENT_URL("current url") {
+
+		@Override
+		String read(WebDriver driver) {
+			return driver.getCurrentUrl();
+		}
+
+		@Override
+		String read(PageSnapshot snapshot) {
+			return snapshot.getCurrentUrl();
+		}
+
+	},
+
+	TITLE("title") {
+
+		@Override
+		String read(WebDriver driver) {
+			return driver.getTitle();
+		}
+
+		@Override
+		String read(PageSnapshot snapshot) {
+			return snapshot.getTitle();
+		}
+
+	};
+
+	private final String description;
+
+	private PageProperty(String description) {
+		this.description = description;
+	}
+
+	/**
+	 * Reads the property from the <code>driver</code>.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> where will be read
+	 *
+	 * @return the value of the property
+	 */
+	abstract String read(WebDriver driver);
+
+	/**
+	 * Reads the property from the <code>snapshot</code>.
+	 *
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be read
+	 *
+	 * @return the value of the property
+	 */
+	abstract String read(PageSnapshot snapshot);
+
+	/**
+	 * Returns the description of the property used in failure messages, e.g. <em>current url</em>.
+	 *
+	 * @return the description of the property
+	 */
+	String getDescription() {
+		return description;
+	}
+
+}
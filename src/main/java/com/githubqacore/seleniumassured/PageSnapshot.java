@@ -0,0 +1,117 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.List;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * The <em>current url</em>, <em>title</em> and <em>ready state</em> of a page, captured in a single round trip to the browser. Checking several conditions against a snapshot costs one remote
+ * call instead of one per condition:
+ *
+ * <pre>
+ * PageSnapshot snapshot = PageSnapshot.capture(driver);
+ *
+ * assertCurrentUrlStartsWith(snapshot, "https://");
+ * assertCurrentUrlMatches(snapshot, "https://[^/]+/checkout/\\d+");
+ * assertTitleEquals(snapshot, "Checkout");
+ * </pre>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see WebDriverAssert
+ *
+ * @since 1.0.0
+ *
+ */
+public final class PageSnapshot {
+
+	/**
+	 * Reads the values of the top-level browsing context, the same one read by {@link WebDriver#getCurrentUrl()} and {@link WebDriver#getTitle()}. Returns <code>null</code> when the top-level
+	 * document can not be accessed (e.g. from a cross-origin frame).
+	 */
+	private static final String	CAPTURE_SCRIPT	= "try { var d = window.top.document; return [d.URL, d.title, d.readyState]; } catch (e) { return null; }";
+
+	private final String		currentUrl;
+
+	private final String		title;
+
+	private final String		readyState;
+
+	PageSnapshot(String currentUrl, String title, String readyState) {
+		this.currentUrl = currentUrl;
+		this.title = title;
+		this.readyState = readyState;
+	}
+
+	/**
+	 * Captures the snapshot of the current page. When the <code>driver</code> is a {@link JavascriptExecutor}, all values are read by a single script. Otherwise, or if the script fails, they are
+	 * read through {@link WebDriver#getCurrentUrl()} and {@link WebDriver#getTitle()}, and the <em>ready state</em> is not available.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> where will be captured
+	 *
+	 * @return the snapshot of the current page
+	 */
+	public static PageSnapshot capture(WebDriver driver) {
+		if (driver instanceof JavascriptExecutor) {
+			Object result;
+
+			try {
+				result = ((JavascriptExecutor) driver).executeScript(CAPTURE_SCRIPT);
+			} catch (WebDriverException e) {
+				result = null;
+			}
+
+			if (result instanceof List && ((List<?>) result).size() == 3) {
+				List<?> values = (List<?>) result;
+
+				return new PageSnapshot(asString(values.get(0)), asString(values.get(1)), asString(values.get(2)));
+			}
+		}
+
+		return new PageSnapshot(driver.getCurrentUrl(), driver.getTitle(), null);
+	}
+
+	/**
+	 * Returns the captured <em>current url</em>.
+	 *
+	 * @return the captured <em>current url</em>
+	 */
+	public String getCurrentUrl() {
+		return currentUrl;
+	}
+
+	/**
+	 * Returns the captured <em>title</em>.
+	 *
+	 * @return the captured <em>title</em>
+	 */
+	public String getTitle() {
+		return title;
+	}
+
+	/**
+	 * Returns the captured <code>document.readyState</code>.
+	 *
+	 * @return the captured <em>ready state</em>, or <code>null</code> if it could not be read by a script
+	 */
+	public String getReadyState() {
+		return readyState;
+	}
+
+	@Override
+	public String toString() {
+		return "PageSnapshot [currentUrl=" + currentUrl + ", title=" + title + ", readyState=" + readyState + "]";
+	}
+
+	private static String asString(Object value) {
+		return value == null ? null : value.toString();
+	}
+
+}
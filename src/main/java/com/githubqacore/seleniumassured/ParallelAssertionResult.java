@@ -0,0 +1,112 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * The combined result of an assertion run against many drivers by {@link ParallelWebDriverAssert}.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see ParallelWebDriverAssert
+ *
+ * @since 1.0.0
+ *
+ */
+public final class ParallelAssertionResult {
+
+	private final List<WebDriver>			drivers;
+
+	private final Map<WebDriver, Throwable>	failures;
+
+	private final long						elapsedNanos;
+
+	ParallelAssertionResult(List<WebDriver> drivers, Map<WebDriver, Throwable> failures, long elapsedNanos) {
+		this.drivers = Collections.unmodifiableList(drivers);
+		this.failures = Collections.unmodifiableMap(failures);
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * Returns all checked drivers, in the given order.
+	 *
+	 * @return all checked drivers
+	 */
+	public List<WebDriver> getDrivers() {
+		return drivers;
+	}
+
+	/**
+	 * Returns the failure of each failed session, in the order of the drivers. Sessions not finished before the timeout fail with a {@link java.util.concurrent.TimeoutException}.
+	 *
+	 * @return the failure of each failed session
+	 */
+	public Map<WebDriver, Throwable> getFailures() {
+		return failures;
+	}
+
+	/**
+	 * Tests if the assertion passed on all sessions.
+	 *
+	 * @return <code>true</code> if the assertion passed on all sessions. Otherwise, false.
+	 */
+	public boolean isPassed() {
+		return failures.isEmpty();
+	}
+
+	/**
+	 * Returns the wall time spent checking all sessions.
+	 *
+	 * @param unit
+	 *            the unit of the returned time
+	 *
+	 * @return the wall time spent checking all sessions
+	 */
+	public long getElapsed(TimeUnit unit) {
+		return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Throws a single {@link AssertionError} describing every failed session, with their failures as suppressed exceptions.
+	 */
+	public void assertPassed() {
+		if (failures.isEmpty())
+			return;
+
+		StringBuilder message = new StringBuilder();
+		int number = 0;
+
+		message.append(failures.size()).append(" of ").append(drivers.size()).append(drivers.size() == 1 ? " session failed:" : " sessions failed:");
+
+		for (Map.Entry<WebDriver, Throwable> failure : failures.entrySet())
+			message.append('\n').append(++number).append(") ").append(failure.getKey()).append(": ").append(describe(failure.getValue()));
+
+		AssertionError error = new AssertionError(message.toString());
+
+		for (Throwable failure : failures.values())
+			error.addSuppressed(failure);
+
+		throw error;
+	}
+
+	@Override
+	public String toString() {
+		return (drivers.size() - failures.size()) + " of " + drivers.size() + " sessions passed in " + getElapsed(TimeUnit.MILLISECONDS) + " ms";
+	}
+
+	/**
+	 * Describes an assertion failure by its message, and any other exception with its type.
+	 */
+	private static String describe(Throwable failure) {
+		return failure instanceof AssertionError ? failure.getMessage() : failure.toString();
+	}
+
+}
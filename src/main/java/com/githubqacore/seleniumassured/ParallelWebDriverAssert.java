@@ -0,0 +1,235 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Runs the same assertion against many drivers at the same time, e.g. a matrix of browsers and locales, so checking all sessions takes as long as the slowest one instead of the sum of all:
+ *
+ * <pre>
+ * ParallelAssertionResult result = inParallel(drivers, 30, TimeUnit.SECONDS).check(driver -&gt; assertTitleEquals(driver, "Checkout"));
+ *
+ * result.assertPassed();
+ * </pre>
+ *
+ * The assertions run on at most {@link #DEFAULT_PARALLELISM} threads (see {@link #parallelism(int)}), or on the executor given to {@link #using(ExecutorService)}. The timeout is global: the
+ * assertions not finished when it expires are interrupted and reported as failed with a {@link TimeoutException}.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see WebDriverAssert
+ * @see ParallelAssertionResult
+ *
+ * @since 1.0.0
+ *
+ */
+public final class ParallelWebDriverAssert {
+
+	/**
+	 * Default maximum number of assertions running at the same time.
+	 */
+	public static final int							DEFAULT_PARALLELISM	= 16;
+
+	private static final AtomicInteger				THREAD_NUMBER		= new AtomicInteger();
+
+	private static final ThreadFactory				THREAD_FACTORY		= ParallelWebDriverAssert::newThread;
+
+	private final List<WebDriver>					drivers;
+
+	private final long								timeoutNanos;
+
+	private int										parallelism			= DEFAULT_PARALLELISM;
+
+	private ExecutorService							executor;
+
+	/**
+	 * Creates the parallel assertions on the pages of the <code>drivers</code>.
+	 *
+	 * @param drivers
+	 *            the <code>drivers</code> where will be checked
+	 *
+	 * @param timeout
+	 *            the maximum time to wait for the assertions of all <code>drivers</code>
+	 *
+	 * @param unit
+	 *            the unit of the <code>timeout</code>
+	 *
+	 * @throws IllegalArgumentException
+	 *             if a driver appears more than once, since a driver can not run two assertions at the same time
+	 */
+	public ParallelWebDriverAssert(Collection<? extends WebDriver> drivers, long timeout, TimeUnit unit) {
+		if (timeout < 0)
+			throw new IllegalArgumentException("The timeout must not be negative: " + timeout);
+
+		Set<WebDriver> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		for (WebDriver driver : drivers)
+			if (!distinct.add(driver))
+				throw new IllegalArgumentException("The driver " + driver + " appears more than once");
+
+		this.drivers = new ArrayList<>(drivers);
+		this.timeoutNanos = unit.toNanos(timeout);
+	}
+
+	/**
+	 * Changes the maximum number of assertions running at the same time. Ignored when an executor is given to {@link #using(ExecutorService)}.
+	 *
+	 * @param parallelism
+	 *            the maximum number of assertions running at the same time
+	 *
+	 * @return this instance
+	 */
+	public ParallelWebDriverAssert parallelism(int parallelism) {
+		if (parallelism <= 0)
+			throw new IllegalArgumentException("The parallelism must be positive: " + parallelism);
+
+		this.parallelism = parallelism;
+
+		return this;
+	}
+
+	/**
+	 * Runs the assertions on the given <code>executor</code>, which bounds the parallelism and is not shut down.
+	 *
+	 * @param executor
+	 *            the <code>executor</code> where the assertions run
+	 *
+	 * @return this instance
+	 */
+	public ParallelWebDriverAssert using(ExecutorService executor) {
+		this.executor = executor;
+
+		return this;
+	}
+
+	/**
+	 * Runs the <code>assertion</code> against every driver. Any exception thrown by the <code>assertion</code> fails its session, not only an {@link AssertionError}.
+	 *
+	 * @param assertion
+	 *            the <code>assertion</code>, e.g. <code>driver -&gt; assertTitleEquals(driver, "Checkout")</code>
+	 *
+	 * @return the combined result of all sessions
+	 */
+	public ParallelAssertionResult check(Consumer<? super WebDriver> assertion) {
+		List<Callable<Void>> tasks = new ArrayList<>(drivers.size());
+
+		for (WebDriver driver : drivers)
+			tasks.add(() -> {
+				assertion.accept(driver);
+
+				return null;
+			});
+
+		ExecutorService current = executor != null ? executor : Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, drivers.size())), THREAD_FACTORY);
+		Map<WebDriver, Throwable> failures = new LinkedHashMap<>();
+		long start = System.nanoTime();
+
+		try {
+			List<Future<Void>> futures = current.invokeAll(tasks, timeoutNanos, TimeUnit.NANOSECONDS);
+
+			for (int i = 0; i < futures.size(); i++) {
+				Throwable failure = failure(futures.get(i));
+
+				if (failure != null)
+					failures.put(drivers.get(i), failure);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+
+			for (WebDriver driver : drivers)
+				failures.put(driver, e);
+		} finally {
+			if (current != executor)
+				current.shutdownNow();
+		}
+
+		return new ParallelAssertionResult(drivers, failures, System.nanoTime() - start);
+	}
+
+	/**
+	 * Checks the <em>current url</em> of every driver against the <code>condition</code>.
+	 *
+	 * @param condition
+	 *            the <code>condition</code> to be satisfied
+	 *
+	 * @return the combined result of all sessions
+	 */
+	public ParallelAssertionResult currentUrl(StringCondition condition) {
+		return check(PageProperty.CURRENT_URL, condition);
+	}
+
+	/**
+	 * Checks the <em>title</em> of every driver against the <code>condition</code>.
+	 *
+	 * @param condition
+	 *            the <code>condition</code> to be satisfied
+	 *
+	 * @return the combined result of all sessions
+	 */
+	public ParallelAssertionResult title(StringCondition condition) {
+		return check(PageProperty.TITLE, condition);
+	}
+
+	private ParallelAssertionResult check(PageProperty property, StringCondition condition) {
+		return check(driver -> {
+			long start = AssertionMetrics.start();
+			String actual = PageCache.read(driver, property);
+			AssertionError failure = condition.check(property.getDescription(), actual);
+
+			WebDriverAssert.report("ParallelWebDriverAssert", driver, start, failure);
+
+			if (failure != null)
+				throw failure;
+		});
+	}
+
+	/**
+	 * Creates the daemon threads of the default executors, so a hanging driver call never keeps the JVM alive.
+	 */
+	private static Thread newThread(Runnable runnable) {
+		Thread thread = new Thread(runnable, "selenium-assured-parallel-" + THREAD_NUMBER.incrementAndGet());
+
+		thread.setDaemon(true);
+
+		return thread;
+	}
+
+	/**
+	 * Returns the failure of a finished or cancelled assertion, or <code>null</code> if it passed.
+	 */
+	private Throwable failure(Future<Void> future) throws InterruptedException {
+		if (future.isCancelled())
+			return new TimeoutException("The assertion did not finish in " + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms");
+
+		try {
+			future.get();
+
+			return null;
+		} catch (ExecutionException e) {
+			return e.getCause();
+		}
+	}
+
+}
@@ -0,0 +1,100 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A shared, thread-safe and size-bounded cache of compiled {@link Pattern}s. When the cache is full, the least recently used pattern is evicted. Each thread also keeps the patterns it used last
+ * in a small direct-mapped table, checked before the shared cache, so threads repeating their regexes in parallel take no lock.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see Pattern
+ *
+ * @since 1.0.0
+ *
+ */
+final class PatternCache {
+
+	/**
+	 * Maximum number of compiled patterns kept by the cache.
+	 */
+	static final int								MAXIMUM_SIZE	= 512;
+
+	/**
+	 * Number of patterns kept by each thread, a power of two.
+	 */
+	static final int								RECENT_SIZE		= 16;
+
+	private static final ThreadLocal<Pattern[]>		RECENT			= ThreadLocal.withInitial(() -> new Pattern[RECENT_SIZE]);
+
+	private static final Map<String, Pattern>		CACHE			= new LinkedHashMap<String, Pattern>(64, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+			return size() > MAXIMUM_SIZE;
+		}
+
+	};
+
+	/**
+	 * Returns the compiled {@link Pattern} of the given <code>regex</code>, compiling and caching it on the first use.
+	 *
+	 * @param regex
+	 *            the regular expression to be compiled
+	 *
+	 * @return the compiled <code>regex</code>
+	 */
+	static Pattern compile(String regex) {
+		Pattern[] recent = RECENT.get();
+		int slot = regex.hashCode() & (RECENT_SIZE - 1);
+		Pattern pattern = recent[slot];
+
+		if (pattern != null && pattern.pattern().equals(regex))
+			return pattern;
+
+		synchronized (CACHE) {
+			pattern = CACHE.get(regex);
+		}
+
+		if (pattern == null) {
+			// compiled outside the lock, so a slow regex does not block the other threads
+			Pattern compiled = Pattern.compile(regex);
+
+			synchronized (CACHE) {
+				pattern = CACHE.putIfAbsent(regex, compiled);
+			}
+
+			if (pattern == null)
+				pattern = compiled;
+		}
+
+		return recent[slot] = pattern;
+	}
+
+	/**
+	 * Returns the number of compiled patterns currently cached.
+	 *
+	 * @return the number of compiled patterns currently cached
+	 */
+	static int size() {
+		synchronized (CACHE) {
+			return CACHE.size();
+		}
+	}
+
+	/**
+	 * Private constructor (static class)
+	 */
+	private PatternCache() {
+
+	}
+
+}
@@ -0,0 +1,80 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How many polls and how much wall time an eventual assertion used.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see EventualWebDriverAssert
+ *
+ * @since 1.0.0
+ *
+ */
+public final class PollReport {
+
+	private final String	description;
+
+	private final int		polls;
+
+	private final long		elapsedNanos;
+
+	private final boolean	satisfied;
+
+	PollReport(String description, int polls, long elapsedNanos, boolean satisfied) {
+		this.description = description;
+		this.polls = polls;
+		this.elapsedNanos = elapsedNanos;
+		this.satisfied = satisfied;
+	}
+
+	/**
+	 * Returns the description of the assertion, e.g. <em>title equals to &lt;Checkout&gt;</em>.
+	 *
+	 * @return the description of the assertion
+	 */
+	public String getDescription() {
+		return description;
+	}
+
+	/**
+	 * Returns how many times the condition was evaluated.
+	 *
+	 * @return how many times the condition was evaluated
+	 */
+	public int getPolls() {
+		return polls;
+	}
+
+	/**
+	 * Returns the wall time spent by the assertion, including the waits between polls.
+	 *
+	 * @param unit
+	 *            the unit of the returned time
+	 *
+	 * @return the wall time spent by the assertion
+	 */
+	public long getElapsed(TimeUnit unit) {
+		return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Tests if the condition was satisfied before the timeout.
+	 *
+	 * @return <code>true</code> if the condition was satisfied before the timeout. Otherwise, false.
+	 */
+	public boolean isSatisfied() {
+		return satisfied;
+	}
+
+	@Override
+	public String toString() {
+		return description + (satisfied ? " satisfied" : " not satisfied") + " after " + polls + (polls == 1 ? " poll in " : " polls in ") + getElapsed(TimeUnit.MILLISECONDS) + " ms";
+	}
+
+}
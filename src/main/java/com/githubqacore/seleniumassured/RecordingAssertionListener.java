@@ -0,0 +1,133 @@
+package com.githubqacore.seleniumassured;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link AssertionListener} recording, per assertion method, the driver calls and their latencies, the time spent checking the values and how many times the assertion passed and failed.
+ * The metrics can be read with {@link #getStatistics()} or exported to a CSV file, e.g. at shutdown with {@link #exportOnShutdown(Path)}.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see AssertionMetrics
+ *
+ * @since 1.0.0
+ *
+ */
+public class RecordingAssertionListener implements AssertionListener {
+
+	private final Map<String, Metrics>	metrics	= new ConcurrentHashMap<>();
+
+	@Override
+	public void onDriverCall(String assertion, long nanos) {
+		metrics(assertion).driverCalls.record(nanos);
+	}
+
+	@Override
+	public void onEvaluation(String assertion, long nanos, boolean passed) {
+		Metrics current = metrics(assertion);
+
+		current.evaluations.record(nanos);
+		(passed ? current.passed : current.failed).increment();
+	}
+
+	/**
+	 * Returns the statistics of each assertion method recorded so far, sorted by name.
+	 *
+	 * @return the statistics of each assertion method
+	 */
+	public List<AssertionStatistics> getStatistics() {
+		List<AssertionStatistics> statistics = new ArrayList<>(metrics.size());
+
+		metrics.forEach((assertion, current) -> statistics.add(new AssertionStatistics(assertion, current.driverCalls.snapshot(), current.evaluations.snapshot(), current.passed.sum(), current.failed.sum())));
+		statistics.sort(Comparator.comparing(AssertionStatistics::getAssertion));
+
+		return statistics;
+	}
+
+	/**
+	 * Writes the statistics to a CSV <code>file</code>, with one line per assertion method and latencies in nanoseconds.
+	 *
+	 * @param file
+	 *            the <code>file</code> to be written, replaced if it exists
+	 *
+	 * @throws IOException
+	 *             if the <code>file</code> can not be written
+	 */
+	public void export(Path file) throws IOException {
+		Path parent = file.toAbsolutePath().getParent();
+
+		if (parent != null)
+			Files.createDirectories(parent);
+
+		try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			writer.write("assertion,passed,failed,driver_calls,driver_call_total_ns,driver_call_p50_ns,driver_call_p99_ns,driver_call_max_ns,evaluation_total_ns,evaluation_p50_ns,evaluation_p99_ns");
+			writer.newLine();
+
+			for (AssertionStatistics statistics : getStatistics()) {
+				writer.write(statistics.getAssertion() + ',' + statistics.getPassed() + ',' + statistics.getFailed() + ',' + statistics.getDriverCalls() + ','
+						+ statistics.getDriverCallTime(TimeUnit.NANOSECONDS) + ',' + statistics.getDriverCallLatency(50, TimeUnit.NANOSECONDS) + ','
+						+ statistics.getDriverCallLatency(99, TimeUnit.NANOSECONDS) + ',' + statistics.getDriverCallLatency(100, TimeUnit.NANOSECONDS) + ','
+						+ statistics.getEvaluationTime(TimeUnit.NANOSECONDS) + ',' + statistics.getEvaluationLatency(50, TimeUnit.NANOSECONDS) + ','
+						+ statistics.getEvaluationLatency(99, TimeUnit.NANOSECONDS));
+				writer.newLine();
+			}
+		}
+	}
+
+	/**
+	 * Exports the statistics to a CSV <code>file</code> when the JVM shuts down.
+	 *
+	 * @param file
+	 *            the <code>file</code> to be written
+	 *
+	 * @see #export(Path)
+	 */
+	public void exportOnShutdown(Path file) {
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			try {
+				export(file);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}, "selenium-assured-metrics-export"));
+	}
+
+	private Metrics metrics(String assertion) {
+		Metrics current = metrics.get(assertion);
+
+		// get first, so the common case takes no lock
+		return current != null ? current : metrics.computeIfAbsent(assertion, key -> new Metrics());
+	}
+
+	/**
+	 * The metrics of one assertion method.
+	 */
+	private static final class Metrics {
+
+		private final LatencyHistogram	driverCalls	= new LatencyHistogram();
+
+		private final LatencyHistogram	evaluations	= new LatencyHistogram();
+
+		private final LongAdder			passed		= new LongAdder();
+
+		private final LongAdder			failed		= new LongAdder();
+
+	}
+
+}
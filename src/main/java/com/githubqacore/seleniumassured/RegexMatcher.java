@@ -0,0 +1,188 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.Collection;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * A precompiled set of regular expressions combined in a single alternation, so testing whether a value matches any of them is one match of the value instead of one per expression. It is
+ * immutable and can be shared by threads:
+ *
+ * <pre>
+ * RegexMatcher routes = RegexMatcher.of("/checkout/\\d+", "/cart", "/orders/[a-z0-9-]+");
+ *
+ * assertTitleMatchesNone(driver, RegexMatcher.of("(?i).*error.*", "Not Found"));
+ * </pre>
+ *
+ * As in {@link WebDriverAssert#assertCurrentUrlMatches(org.openqa.selenium.WebDriver, String)}, an expression must match the whole value. Expressions with back references, which the alternation would renumber, are
+ * matched on their own.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see LiteralMatcher
+ * @see WebDriverAssert
+ *
+ * @since 1.0.0
+ *
+ */
+public final class RegexMatcher {
+
+	private static final int	ABSENT	= -1;
+
+	private final String[]		regexes;
+
+	private final Pattern[]		patterns;
+
+	/**
+	 * The alternation of the expressions without back references, each in its own capturing group, or <code>null</code> if there is none.
+	 */
+	private final Pattern		combined;
+
+	/**
+	 * The group of each expression in {@link #combined}, or {@link #ABSENT} if it is matched on its own.
+	 */
+	private final int[]			groups;
+
+	private RegexMatcher(String[] regexes) {
+		this.regexes = regexes;
+		this.patterns = new Pattern[regexes.length];
+		this.groups = new int[regexes.length];
+
+		StringBuilder alternation = new StringBuilder();
+		int group = 1;
+
+		for (int i = 0; i < regexes.length; i++) {
+			patterns[i] = PatternCache.compile(regexes[i]);
+
+			if (hasBackReference(regexes[i])) {
+				groups[i] = ABSENT;
+				continue;
+			}
+
+			alternation.append(alternation.length() == 0 ? "(" : "|(").append(regexes[i]).append(')');
+			groups[i] = group;
+			group += 1 + patterns[i].matcher("").groupCount();
+		}
+
+		Pattern alternationPattern = null;
+
+		if (alternation.length() > 0) {
+			try {
+				alternationPattern = Pattern.compile(alternation.toString());
+			} catch (PatternSyntaxException e) {
+				// e.g. the same named group in two expressions: match each one on its own
+				for (int i = 0; i < groups.length; i++)
+					groups[i] = ABSENT;
+			}
+		}
+
+		this.combined = alternationPattern;
+	}
+
+	/**
+	 * Creates the matcher of the <code>regexes</code>.
+	 *
+	 * @param regexes
+	 *            the regular expressions
+	 *
+	 * @return the matcher of the <code>regexes</code>
+	 *
+	 * @throws PatternSyntaxException
+	 *             if an expression is invalid
+	 */
+	public static RegexMatcher of(String... regexes) {
+		return new RegexMatcher(regexes.clone());
+	}
+
+	/**
+	 * Creates the matcher of the <code>regexes</code>.
+	 *
+	 * @param regexes
+	 *            the regular expressions
+	 *
+	 * @return the matcher of the <code>regexes</code>
+	 *
+	 * @throws PatternSyntaxException
+	 *             if an expression is invalid
+	 */
+	public static RegexMatcher of(Collection<String> regexes) {
+		return new RegexMatcher(regexes.toArray(new String[regexes.size()]));
+	}
+
+	/**
+	 * Matches the whole <code>value</code> against the expressions.
+	 *
+	 * @param value
+	 *            the <code>value</code> to be matched
+	 *
+	 * @return the lowest index of the expressions matching the whole <code>value</code>, or <code>-1</code> if none matches
+	 */
+	public int find(String value) {
+		int found = ABSENT;
+
+		if (combined != null) {
+			Matcher matcher = combined.matcher(value);
+
+			// the alternatives are tried in order, so the first group that matched is the lowest index
+			if (matcher.matches())
+				for (int i = 0; i < groups.length && found == ABSENT; i++)
+					if (groups[i] != ABSENT && matcher.start(groups[i]) >= 0)
+						found = i;
+		}
+
+		for (int i = 0; i < (found == ABSENT ? groups.length : found); i++)
+			if (groups[i] == ABSENT && patterns[i].matcher(value).matches())
+				return i;
+
+		return found;
+	}
+
+	/**
+	 * Returns the regular expression at <code>index</code>.
+	 *
+	 * @param index
+	 *            the <code>index</code> of the expression, in the given order
+	 *
+	 * @return the regular expression at <code>index</code>
+	 */
+	public String get(int index) {
+		return regexes[index];
+	}
+
+	/**
+	 * Returns how many expressions are matched.
+	 *
+	 * @return how many expressions are matched
+	 */
+	public int size() {
+		return regexes.length;
+	}
+
+	@Override
+	public String toString() {
+		return LiteralMatcher.describe(regexes);
+	}
+
+	/**
+	 * Tests if <code>regex</code> has a numbered or named back reference, outside of escapes.
+	 */
+	private static boolean hasBackReference(String regex) {
+		for (int i = 0; i < regex.length() - 1; i++) {
+			if (regex.charAt(i) != '\\')
+				continue;
+
+			char next = regex.charAt(++i);
+
+			if ((next >= '1' && next <= '9') || next == 'k')
+				return true;
+		}
+
+		return false;
+	}
+
+}
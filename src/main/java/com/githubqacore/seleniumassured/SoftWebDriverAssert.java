@@ -0,0 +1,158 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Soft assertions on a page: failed checks are recorded instead of thrown, and {@link #assertAll()} throws a single {@link AssertionError} with all of them. Within a batch, each property is
+ * read from the <code>driver</code> only once, and every check of the batch is evaluated against that value:
+ *
+ * <pre>
+ * SoftWebDriverAssert softly = new SoftWebDriverAssert(driver);
+ *
+ * softly.currentUrl().startsWith("https://").contains("/checkout");
+ * softly.title().isEqualTo("Checkout");
+ *
+ * softly.assertAll();
+ * </pre>
+ *
+ * A batch ends on {@link #assertAll()}, so the next checks read the properties again. Instances are confined to the thread that created them and must not be shared.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see WebDriverAssert
+ *
+ * @since 1.0.0
+ *
+ */
+public final class SoftWebDriverAssert {
+
+	private final WebDriver					driver;
+
+	private final Thread					owner;
+
+	private final Map<PageProperty, String>	values	= new EnumMap<>(PageProperty.class);
+
+	private List<AssertionError>			failures;
+
+	/**
+	 * Creates the soft assertions on the page of the <code>driver</code>.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 */
+	public SoftWebDriverAssert(WebDriver driver) {
+		this.driver = driver;
+		this.owner = Thread.currentThread();
+	}
+
+	/**
+	 * Starts a chain of soft assertions on the <em>current url</em>.
+	 *
+	 * @return the soft assertions on the <em>current url</em>
+	 */
+	public StringPropertyAssert currentUrl() {
+		return new StringPropertyAssert(new SoftEvaluator(PageProperty.CURRENT_URL));
+	}
+
+	/**
+	 * Starts a chain of soft assertions on the <em>title</em>.
+	 *
+	 * @return the soft assertions on the <em>title</em>
+	 */
+	public StringPropertyAssert title() {
+		return new StringPropertyAssert(new SoftEvaluator(PageProperty.TITLE));
+	}
+
+	/**
+	 * Returns the failures recorded in the current batch.
+	 *
+	 * @return the failures recorded in the current batch
+	 */
+	public List<AssertionError> getFailures() {
+		return failures == null ? Collections.<AssertionError> emptyList() : Collections.unmodifiableList(new ArrayList<>(failures));
+	}
+
+	/**
+	 * Ends the current batch and throws an {@link AssertionError} describing all the failed checks of it, if any. Each failure is also added to it as a suppressed exception.
+	 */
+	public void assertAll() {
+		checkOwner();
+
+		List<AssertionError> batch = failures;
+
+		failures = null;
+		values.clear();
+
+		if (batch == null)
+			return;
+
+		StringBuilder message = new StringBuilder();
+
+		message.append(batch.size()).append(batch.size() == 1 ? " soft assertion failed:" : " soft assertions failed:");
+
+		for (int i = 0; i < batch.size(); i++)
+			message.append('\n').append(i + 1).append(") ").append(batch.get(i).getMessage());
+
+		AssertionError error = new AssertionError(message.toString());
+
+		for (AssertionError failure : batch)
+			error.addSuppressed(failure);
+
+		throw error;
+	}
+
+	private void checkOwner() {
+		if (Thread.currentThread() != owner)
+			throw new IllegalStateException("Soft assertions are confined to the thread " + owner.getName());
+	}
+
+	/**
+	 * Reads the property once per batch and records the failure of any unsatisfied condition.
+	 */
+	private final class SoftEvaluator implements ConditionEvaluator {
+
+		private final PageProperty property;
+
+		SoftEvaluator(PageProperty property) {
+			this.property = property;
+		}
+
+		@Override
+		public void evaluate(StringCondition condition) {
+			checkOwner();
+
+			long start = AssertionMetrics.start();
+			String value = values.get(property);
+
+			if (value == null && !values.containsKey(property)) {
+				value = PageCache.read(driver, property);
+				values.put(property, value);
+			}
+
+			AssertionError failure = condition.check(property.getDescription(), value);
+
+			// captured now, while the page shows the failure
+			WebDriverAssert.report("SoftWebDriverAssert", driver, start, failure);
+
+			if (failure == null)
+				return;
+
+			if (failures == null)
+				failures = new ArrayList<>();
+
+			failures.add(failure);
+		}
+
+	}
+
+}
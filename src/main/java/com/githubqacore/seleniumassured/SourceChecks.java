@@ -0,0 +1,235 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The checks on large values, such as the page source, behind the assertion methods. As in {@link StringChecks}, each check returns <code>null</code> when it passes, but the failure messages
+ * never include the whole value: they show its length and a window of {@link SourceSearch#WINDOW} characters around the offending or the closest match.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see SourceSearch
+ *
+ * @since 1.0.0
+ *
+ */
+final class SourceChecks {
+
+	/**
+	 * Checks if <code>actual</code> contains the <code>sequence</code>. The failure shows the first occurrence of the longest prefix of the <code>sequence</code>.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> value
+	 *
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 *
+	 * @param ignoreCase
+	 *            if <code>true</code>, ignore case when comparing characters
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError contains(String subject, String actual, String sequence, boolean ignoreCase) {
+		if (SourceSearch.indexOf(actual, sequence, ignoreCase) >= 0)
+			return null;
+
+		long closest = SourceSearch.closestMatch(actual, sequence, ignoreCase);
+		StringBuilder message = describe(subject, actual).append(" does not contain <").append(SourceSearch.abbreviate(sequence)).append('>').append(ignoringCase(ignoreCase));
+
+		if (closest < 0)
+			return new AssertionError(message.append(", not even its first character").toString());
+
+		int length = (int) (closest >>> 32);
+		int index = (int) closest;
+
+		message.append(", the closest match is its first ").append(length).append(length == 1 ? " character" : " characters").append(" at index ").append(index).append(": ");
+
+		return new AssertionError(message.append(SourceSearch.window(actual, index, index + length)).toString());
+	}
+
+	/**
+	 * Checks if <code>actual</code> does not contain the <code>sequence</code>. The failure shows its first occurrence.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> value
+	 *
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 *
+	 * @param ignoreCase
+	 *            if <code>true</code>, ignore case when comparing characters
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError doesNotContain(String subject, String actual, String sequence, boolean ignoreCase) {
+		int index = SourceSearch.indexOf(actual, sequence, ignoreCase);
+
+		if (index < 0)
+			return null;
+
+		return found(subject, actual, SourceSearch.abbreviate(sequence), index, index + sequence.length(), ignoreCase);
+	}
+
+	/**
+	 * Checks if <code>actual</code> contains a match of the <code>pattern</code>.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> value
+	 *
+	 * @param pattern
+	 *            the compiled regular expression to search for
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError matches(String subject, String actual, Pattern pattern) {
+		if (pattern.matcher(actual).find())
+			return null;
+
+		return new AssertionError(describe(subject, actual).append(" has no match of <").append(SourceSearch.abbreviate(pattern.pattern())).append('>').toString());
+	}
+
+	/**
+	 * Checks if <code>actual</code> contains no match of the <code>pattern</code>. The failure shows the first match.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> value
+	 *
+	 * @param pattern
+	 *            the compiled regular expression to search for
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError doesNotMatch(String subject, String actual, Pattern pattern) {
+		Matcher matcher = pattern.matcher(actual);
+
+		if (!matcher.find())
+			return null;
+
+		return new AssertionError(describe(subject, actual).append(" has a match of <").append(SourceSearch.abbreviate(pattern.pattern())).append("> at index ").append(matcher.start()).append(": ")
+				.append(SourceSearch.window(actual, matcher.start(), matcher.end())).toString());
+	}
+
+	/**
+	 * Checks if <code>actual</code> contains all literals of the <code>matcher</code>, in a single scan. The failure names the missing literals.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> value
+	 *
+	 * @param matcher
+	 *            the <code>matcher</code> of the literals to search for
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError containsAll(String subject, String actual, LiteralMatcher matcher) {
+		boolean[] found = matcher.findAll(actual);
+		List<String> missing = null;
+
+		for (int i = 0; i < found.length; i++) {
+			if (found[i])
+				continue;
+
+			if (missing == null)
+				missing = new ArrayList<>();
+
+			missing.add(SourceSearch.abbreviate(matcher.get(i)));
+		}
+
+		if (missing == null)
+			return null;
+
+		return new AssertionError(describe(subject, actual).append(" does not contain ").append(missing.size()).append(" of ").append(found.length).append(" literals: ")
+				.append(LiteralMatcher.describe(missing.toArray(new String[missing.size()]))).append(ignoringCase(matcher.isIgnoreCase())).toString());
+	}
+
+	/**
+	 * Checks if <code>actual</code> contains any of the literals of the <code>matcher</code>, in a single scan.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> value
+	 *
+	 * @param matcher
+	 *            the <code>matcher</code> of the literals to search for
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError containsAny(String subject, String actual, LiteralMatcher matcher) {
+		if (matcher.find(actual) >= 0)
+			return null;
+
+		return new AssertionError(describe(subject, actual).append(" contains none of ").append(matcher).toString());
+	}
+
+	/**
+	 * Checks if <code>actual</code> contains none of the literals of the <code>matcher</code>, in a single scan. The failure shows the first occurrence of the literal found.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> value
+	 *
+	 * @param matcher
+	 *            the <code>matcher</code> of the literals to search for
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError containsNone(String subject, String actual, LiteralMatcher matcher) {
+		int found = matcher.find(actual);
+
+		if (found < 0)
+			return null;
+
+		int index = matcher.indexOf(actual, found);
+
+		return found(subject, actual, SourceSearch.abbreviate(matcher.get(found)), index, index + matcher.get(found).length(), matcher.isIgnoreCase());
+	}
+
+	private static AssertionError found(String subject, String actual, String sequence, int start, int end, boolean ignoreCase) {
+		return new AssertionError(describe(subject, actual).append(" contains <").append(sequence).append('>').append(ignoringCase(ignoreCase)).append(" at index ").append(start).append(": ")
+				.append(SourceSearch.window(actual, start, end)).toString());
+	}
+
+	/**
+	 * Describes the checked value by its length, e.g. <em>The page source (5242880 characters)</em>.
+	 */
+	private static StringBuilder describe(String subject, String actual) {
+		return new StringBuilder("The ").append(subject).append(" (").append(actual.length()).append(" characters)");
+	}
+
+	private static String ignoringCase(boolean ignoreCase) {
+		return ignoreCase ? " ignoring case" : "";
+	}
+
+	/**
+	 * Private constructor (static class)
+	 */
+	private SourceChecks() {
+
+	}
+
+}
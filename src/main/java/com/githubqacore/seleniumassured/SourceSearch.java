@@ -0,0 +1,189 @@
+package com.githubqacore.seleniumassured;
+
+/**
+ * Substring search on large values, such as the page source of a single page application, which works in place: the value is never copied nor lower cased. Case-sensitive searches use
+ * {@link String#indexOf(String)}, which the JIT compiles to vectorized code. Searches ignoring case use Boyer-Moore-Horspool on folded characters (see {@link CaseInsensitive#fold(char)}), which
+ * skips up to the length of the needle on each mismatch.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see SourceChecks
+ *
+ * @since 1.0.0
+ *
+ */
+final class SourceSearch {
+
+	/**
+	 * Needles shorter than this skip too little to pay for the shift table, so they are searched by {@link CaseInsensitive#indexOf(String, String, int)}.
+	 */
+	private static final int	MIN_SKIP_LENGTH	= 4;
+
+	/**
+	 * The shift table is indexed by the low byte of the folded characters. Characters sharing it share the smallest shift, which is still safe.
+	 */
+	private static final int	TABLE_SIZE		= 256;
+
+	/**
+	 * How many characters of the value are shown on each side of a match in the failure messages.
+	 */
+	static final int			WINDOW			= 40;
+
+	/**
+	 * Returns the index of the first occurrence of <code>needle</code> in <code>value</code>.
+	 *
+	 * @param value
+	 *            the value to be searched
+	 *
+	 * @param needle
+	 *            the <code>needle</code> to search for
+	 *
+	 * @param ignoreCase
+	 *            if <code>true</code>, ignore case when comparing characters
+	 *
+	 * @return the index of the first occurrence, or <code>-1</code> if there is no such occurrence
+	 */
+	static int indexOf(String value, String needle, boolean ignoreCase) {
+		if (!ignoreCase)
+			return value.indexOf(needle);
+
+		int length = needle.length();
+
+		if (length < MIN_SKIP_LENGTH)
+			return CaseInsensitive.indexOf(value, needle, 0);
+
+		int[] shift = new int[TABLE_SIZE];
+
+		for (int i = 0; i < TABLE_SIZE; i++)
+			shift[i] = length;
+
+		for (int i = 0; i < length - 1; i++)
+			shift[CaseInsensitive.fold(needle.charAt(i)) & (TABLE_SIZE - 1)] = length - 1 - i;
+
+		char last = CaseInsensitive.fold(needle.charAt(length - 1));
+
+		for (int end = length - 1; end < value.length();) {
+			char c = CaseInsensitive.fold(value.charAt(end));
+
+			// String#regionMatches ignores case under the same rules as the folding
+			if (c == last && value.regionMatches(true, end - length + 1, needle, 0, length - 1))
+				return end - length + 1;
+
+			end += shift[c & (TABLE_SIZE - 1)];
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns the index of the closest match of <code>needle</code> in <code>value</code>: the first occurrence of its longest prefix. Prefixes are searched by bisection of their length, so it costs
+	 * a logarithmic number of searches.
+	 *
+	 * @param value
+	 *            the value to be searched
+	 *
+	 * @param needle
+	 *            the <code>needle</code> which is not in <code>value</code>
+	 *
+	 * @param ignoreCase
+	 *            if <code>true</code>, ignore case when comparing characters
+	 *
+	 * @return the length of the longest prefix in the high 32 bits and its index in the low 32 bits, or <code>-1</code> if not even the first character is in <code>value</code>
+	 */
+	static long closestMatch(String value, String needle, boolean ignoreCase) {
+		int low = 0;
+		int high = needle.length() - 1;
+		int index = -1;
+
+		while (low < high) {
+			int length = (low + high + 1) >>> 1;
+			int found = indexOf(value, needle.substring(0, length), ignoreCase);
+
+			if (found >= 0) {
+				low = length;
+				index = found;
+			} else {
+				high = length - 1;
+			}
+		}
+
+		return index < 0 ? -1 : (long) low << 32 | index;
+	}
+
+	/**
+	 * Describes the region of <code>value</code> between <code>start</code> and <code>end</code> with up to {@link #WINDOW} characters on each side, e.g. <em>...&lt;h1&gt;[Your Cart]&lt;/h1&gt;...</em>.
+	 * Line breaks and tabs are escaped, so the message keeps a single line.
+	 *
+	 * @param value
+	 *            the value where the region is
+	 *
+	 * @param start
+	 *            the <code>start</code> index of the region, inclusive
+	 *
+	 * @param end
+	 *            the <code>end</code> index of the region, exclusive
+	 *
+	 * @return the description of the region
+	 */
+	static String window(String value, int start, int end) {
+		String region = abbreviate(value, start, end);
+		StringBuilder window = new StringBuilder(2 * WINDOW + region.length() + 8);
+		int from = Math.max(0, start - WINDOW);
+		int to = Math.min(value.length(), end + WINDOW);
+
+		window.append(from > 0 ? "..." : "");
+		appendEscaped(window, value, from, start);
+		window.append('[');
+		appendEscaped(window, region, 0, region.length());
+		window.append(']');
+		appendEscaped(window, value, end, to);
+
+		return window.append(to < value.length() ? "..." : "").toString();
+	}
+
+	/**
+	 * Abbreviates <code>value</code> to its first and last {@link #WINDOW} characters, e.g. for long needles.
+	 *
+	 * @param value
+	 *            the value to be abbreviated
+	 *
+	 * @return the abbreviated value
+	 */
+	static String abbreviate(String value) {
+		return abbreviate(value, 0, value.length());
+	}
+
+	private static String abbreviate(String value, int start, int end) {
+		if (end - start <= 2 * WINDOW)
+			return value.substring(start, end);
+
+		return value.substring(start, start + WINDOW) + "..." + value.substring(end - WINDOW, end);
+	}
+
+	private static void appendEscaped(StringBuilder builder, String value, int start, int end) {
+		for (int i = start; i < end; i++) {
+			char c = value.charAt(i);
+
+			if (c == '\n')
+				builder.append("\\n");
+			else if (c == '\r')
+				builder.append("\\r");
+			else if (c == '\t')
+				builder.append("\\t");
+			else
+				builder.append(c);
+		}
+	}
+
+	/**
+	 * Private constructor (static class)
+	 */
+	private SourceSearch() {
+
+	}
+
+}
@@ -0,0 +1,452 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.regex.Pattern;
+
+import org.junit.ComparisonFailure;
+
+/**
+ * The string checks behind the assertion methods. Each check returns <code>null</code> when it passes, so a passing check allocates nothing, and only builds the {@link AssertionError} (and its
+ * message) when it fails.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see AssertionError
+ *
+ * @since 1.0.0
+ *
+ */
+final class StringChecks {
+
+	/**
+	 * Checks if <code>actual</code> equals to <code>expected</code>.
+	 *
+	 * @param actual
+	 *            the <code>actual</code> value
+	 *
+	 * @param expected
+	 *            <code>expected</code> value
+	 *
+	 * @param ignoreCase
+	 *            if <code>true</code>, the case is ignored. Otherwise, false.
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError equalTo(String actual, String expected, boolean ignoreCase) {
+		if (testEquals(actual, expected, ignoreCase))
+			return null;
+
+		return new ComparisonFailure(ignoreCase ? "Ignoring case" : "", expected, actual);
+	}
+
+	/**
+	 * Checks if <code>actual</code> not equals to <code>unexpected</code>.
+	 *
+	 * @param actual
+	 *            the <code>actual</code> value
+	 *
+	 * @param unexpected
+	 *            <code>unexpected</code> value
+	 *
+	 * @param ignoreCase
+	 *            if <code>true</code>, the case is ignored. Otherwise, false.
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError notEqualTo(String actual, String unexpected, boolean ignoreCase) {
+		if (!testEquals(actual, unexpected, ignoreCase))
+			return null;
+
+		return new AssertionError("Values should be different" + ignoringCase(ignoreCase) + ". Actual: " + actual);
+	}
+
+	/**
+	 * Checks if <code>actual</code> is empty.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> value
+	 *
+	 * @param trim
+	 *            if <code>true</code>, all leading and trailing whitespace are ignored. Otherwise, false.
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError isEmpty(String subject, String actual, boolean trim) {
+		if (testEmpty(actual, trim))
+			return null;
+
+		return new AssertionError("The " + subject + " <" + actual + "> is not empty");
+	}
+
+	/**
+	 * Checks if <code>actual</code> is not empty.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> value
+	 *
+	 * @param trim
+	 *            if <code>true</code>, all leading and trailing whitespace are ignored. Otherwise, false.
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError isNotEmpty(String subject, String actual, boolean trim) {
+		if (!testEmpty(actual, trim))
+			return null;
+
+		return new AssertionError("The " + subject + " <" + actual + "> is empty");
+	}
+
+	/**
+	 * Checks if the substring of <code>actual</code> beginning at the specified index starts with the specified <code>prefix</code>.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> value
+	 *
+	 * @param prefix
+	 *            the <code>prefix</code>
+	 *
+	 * @param toffset
+	 *            where to begin looking in <code>actual</code>
+	 *
+	 * @param ignoreCase
+	 *            if <code>true</code>, the case is ignored. Otherwise, false.
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError startsWith(String subject, String actual, String prefix, int toffset, boolean ignoreCase) {
+		if (testStartsWith(actual, prefix, toffset, ignoreCase))
+			return null;
+
+		return new AssertionError("The " + subject + " <" + actual + "> doesn't start with <" + prefix + "> at index " + toffset + ignoringCase(ignoreCase));
+	}
+
+	/**
+	 * Checks if the substring of <code>actual</code> beginning at the specified index does not start with the specified <code>prefix</code>.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> value
+	 *
+	 * @param prefix
+	 *            the <code>prefix</code>
+	 *
+	 * @param toffset
+	 *            where to begin looking in <code>actual</code>
+	 *
+	 * @param ignoreCase
+	 *            if <code>true</code>, the case is ignored. Otherwise, false.
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError doesNotStartWith(String subject, String actual, String prefix, int toffset, boolean ignoreCase) {
+		if (!testStartsWith(actual, prefix, toffset, ignoreCase))
+			return null;
+
+		return new AssertionError("The " + subject + " <" + actual + "> starts with <" + prefix + "> at index " + toffset + ignoringCase(ignoreCase));
+	}
+
+	/**
+	 * Checks if <code>actual</code> ends with the specified <code>suffix</code>.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> value
+	 *
+	 * @param suffix
+	 *            the <code>suffix</code>
+	 *
+	 * @param ignoreCase
+	 *            if <code>true</code>, the case is ignored. Otherwise, false.
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError endsWith(String subject, String actual, String suffix, boolean ignoreCase) {
+		if (testEndsWith(actual, suffix, ignoreCase))
+			return null;
+
+		return new AssertionError("The " + subject + " <" + actual + "> doesn't end with <" + suffix + ">" + ignoringCase(ignoreCase));
+	}
+
+	/**
+	 * Checks if <code>actual</code> does not end with the specified <code>suffix</code>.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> value
+	 *
+	 * @param suffix
+	 *            the <code>suffix</code>
+	 *
+	 * @param ignoreCase
+	 *            if <code>true</code>, the case is ignored. Otherwise, false.
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError doesNotEndWith(String subject, String actual, String suffix, boolean ignoreCase) {
+		if (!testEndsWith(actual, suffix, ignoreCase))
+			return null;
+
+		return new AssertionError("The " + subject + " <" + actual + "> ends with <" + suffix + ">" + ignoringCase(ignoreCase));
+	}
+
+	/**
+	 * Checks if <code>actual</code> contains the <code>sequence</code>.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> value
+	 *
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 *
+	 * @param ignoreCase
+	 *            if <code>true</code>, the case is ignored. Otherwise, false.
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError contains(String subject, String actual, String sequence, boolean ignoreCase) {
+		if (testContains(actual, sequence, ignoreCase))
+			return null;
+
+		return new AssertionError("The " + subject + " <" + actual + "> does not contain <" + sequence + ">" + ignoringCase(ignoreCase));
+	}
+
+	/**
+	 * Checks if <code>actual</code> does not contain the <code>sequence</code>.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> value
+	 *
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 *
+	 * @param ignoreCase
+	 *            if <code>true</code>, the case is ignored. Otherwise, false.
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError doesNotContain(String subject, String actual, String sequence, boolean ignoreCase) {
+		if (!testContains(actual, sequence, ignoreCase))
+			return null;
+
+		return new AssertionError("The " + subject + " <" + actual + "> contains <" + sequence + ">" + ignoringCase(ignoreCase));
+	}
+
+	/**
+	 * Checks if <code>actual</code> matches the given <code>pattern</code>.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> value
+	 *
+	 * @param pattern
+	 *            the compiled regular expression to which <code>actual</code> is to be matched
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError matches(String subject, String actual, Pattern pattern) {
+		if (testMatches(actual, pattern))
+			return null;
+
+		return new AssertionError("The " + subject + " <" + actual + "> does not match <" + pattern + ">");
+	}
+
+	/**
+	 * Checks if <code>actual</code> does not match the given <code>pattern</code>.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> value
+	 *
+	 * @param pattern
+	 *            the compiled regular expression to which <code>actual</code> is to be matched
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError doesNotMatch(String subject, String actual, Pattern pattern) {
+		if (!testMatches(actual, pattern))
+			return null;
+
+		return new AssertionError("The " + subject + " <" + actual + "> matches <" + pattern + ">");
+	}
+
+	/**
+	 * Checks if <code>actual</code> contains any of the literals of the <code>matcher</code>.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> value
+	 *
+	 * @param matcher
+	 *            the <code>matcher</code> of the literals to search for
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError containsAny(String subject, String actual, LiteralMatcher matcher) {
+		if (matcher.find(actual) >= 0)
+			return null;
+
+		return new AssertionError("The " + subject + " <" + actual + "> contains none of " + matcher);
+	}
+
+	/**
+	 * Checks if <code>actual</code> contains none of the literals of the <code>matcher</code>.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> value
+	 *
+	 * @param matcher
+	 *            the <code>matcher</code> of the literals to search for
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError containsNone(String subject, String actual, LiteralMatcher matcher) {
+		int found = matcher.find(actual);
+
+		if (found < 0)
+			return null;
+
+		return new AssertionError("The " + subject + " <" + actual + "> contains <" + matcher.get(found) + "> at index " + matcher.indexOf(actual, found) + ignoringCase(matcher.isIgnoreCase()));
+	}
+
+	/**
+	 * Checks if <code>actual</code> matches any of the regular expressions of the <code>matcher</code>.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> value
+	 *
+	 * @param matcher
+	 *            the <code>matcher</code> of the regular expressions
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError matchesAny(String subject, String actual, RegexMatcher matcher) {
+		if (matcher.find(actual) >= 0)
+			return null;
+
+		return new AssertionError("The " + subject + " <" + actual + "> matches none of " + matcher);
+	}
+
+	/**
+	 * Checks if <code>actual</code> matches none of the regular expressions of the <code>matcher</code>.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> value
+	 *
+	 * @param matcher
+	 *            the <code>matcher</code> of the regular expressions
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError matchesNone(String subject, String actual, RegexMatcher matcher) {
+		int found = matcher.find(actual);
+
+		if (found < 0)
+			return null;
+
+		return new AssertionError("The " + subject + " <" + actual + "> matches <" + matcher.get(found) + ">");
+	}
+
+	/**
+	 * Tests if <code>actual</code> equals to <code>expected</code>, optionally ignoring case.
+	 */
+	static boolean testEquals(String actual, String expected, boolean ignoreCase) {
+		if (ignoreCase)
+			return CaseInsensitive.equals(actual, expected);
+
+		return expected == null ? actual == null : expected.equals(actual);
+	}
+
+	/**
+	 * Tests if <code>actual</code> starts with <code>prefix</code> at <code>toffset</code>, optionally ignoring case.
+	 */
+	static boolean testStartsWith(String actual, String prefix, int toffset, boolean ignoreCase) {
+		return ignoreCase ? CaseInsensitive.startsWith(actual, prefix, toffset) : actual.startsWith(prefix, toffset);
+	}
+
+	/**
+	 * Tests if <code>actual</code> ends with <code>suffix</code>, optionally ignoring case.
+	 */
+	static boolean testEndsWith(String actual, String suffix, boolean ignoreCase) {
+		return ignoreCase ? CaseInsensitive.endsWith(actual, suffix) : actual.endsWith(suffix);
+	}
+
+	/**
+	 * Tests if <code>actual</code> contains <code>sequence</code>, optionally ignoring case.
+	 */
+	static boolean testContains(String actual, String sequence, boolean ignoreCase) {
+		return ignoreCase ? CaseInsensitive.contains(actual, sequence) : actual.contains(sequence);
+	}
+
+	/**
+	 * Tests if the whole <code>actual</code> matches <code>pattern</code>.
+	 */
+	static boolean testMatches(String actual, Pattern pattern) {
+		return pattern.matcher(actual).matches();
+	}
+
+	/**
+	 * Tests if <code>actual</code> is empty without trimming a copy of it.
+	 */
+	static boolean testEmpty(String actual, boolean trim) {
+		if (!trim)
+			return actual.isEmpty();
+
+		// same whitespace definition as String.trim()
+		for (int i = 0; i < actual.length(); i++)
+			if (actual.charAt(i) > ' ')
+				return false;
+
+		return true;
+	}
+
+	private static String ignoringCase(boolean ignoreCase) {
+		return ignoreCase ? " ignoring case" : "";
+	}
+
+	/**
+	 * Private constructor (static class)
+	 */
+	private StringChecks() {
+
+	}
+
+}
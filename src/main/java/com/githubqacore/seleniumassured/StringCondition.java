@@ -0,0 +1,402 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * An immutable condition on a string value, with the same checks as the {@link WebDriverAssert} methods: equals, is empty, starts with (at an index), ends with, contains and matches, each of them
+ * optionally ignoring case, and their negations.
+ *
+ * <pre>
+ * StringCondition secure = StringCondition.startsWith("https://");
+ * StringCondition notCart = StringCondition.containsIgnoreCase("/cart").negate();
+ * </pre>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see WebDriverAssert
+ *
+ * @since 1.0.0
+ *
+ */
+public final class StringCondition {
+
+	/**
+	 * The kind of check of a condition.
+	 */
+	enum Operation {
+		EQUALS, IS_EMPTY, STARTS_WITH, ENDS_WITH, CONTAINS, MATCHES
+	}
+
+	private final Operation	operation;
+
+	private final String	operand;
+
+	private final int		toffset;
+
+	private final Pattern	pattern;
+
+	private final boolean	ignoreCase;
+
+	private final boolean	trim;
+
+	private final boolean	negated;
+
+	private StringCondition(Operation operation, String operand, int toffset, Pattern pattern, boolean ignoreCase, boolean trim, boolean negated) {
+		this.operation = operation;
+		this.operand = operand;
+		this.toffset = toffset;
+		this.pattern = pattern;
+		this.ignoreCase = ignoreCase;
+		this.trim = trim;
+		this.negated = negated;
+	}
+
+	/**
+	 * Condition that the value equals to <code>expected</code>.
+	 *
+	 * @param expected
+	 *            <code>expected</code> value
+	 *
+	 * @return the condition
+	 */
+	public static StringCondition equalTo(String expected) {
+		return new StringCondition(Operation.EQUALS, expected, 0, null, false, false, false);
+	}
+
+	/**
+	 * Condition that the value equals to <code>expected</code> ignoring case.
+	 *
+	 * @param expected
+	 *            <code>expected</code> value
+	 *
+	 * @return the condition
+	 */
+	public static StringCondition equalToIgnoreCase(String expected) {
+		return new StringCondition(Operation.EQUALS, expected, 0, null, true, false, false);
+	}
+
+	/**
+	 * Condition that the value is empty.
+	 *
+	 * @param trim
+	 *            if <code>true</code>, all leading and trailing whitespace are ignored. Otherwise, false.
+	 *
+	 * @return the condition
+	 */
+	public static StringCondition isEmpty(boolean trim) {
+		return new StringCondition(Operation.IS_EMPTY, null, 0, null, false, trim, false);
+	}
+
+	/**
+	 * Condition that the value is empty.
+	 *
+	 * @return the condition
+	 */
+	public static StringCondition isEmpty() {
+		return isEmpty(false);
+	}
+
+	/**
+	 * Condition that the substring of the value beginning at the specified index starts with the specified <code>prefix</code>.
+	 *
+	 * @param prefix
+	 *            the <code>prefix</code>
+	 *
+	 * @param toffset
+	 *            where to begin looking in the value
+	 *
+	 * @return the condition
+	 */
+	public static StringCondition startsWith(String prefix, int toffset) {
+		return new StringCondition(Operation.STARTS_WITH, prefix, toffset, null, false, false, false);
+	}
+
+	/**
+	 * Condition that the value starts with the specified <code>prefix</code>.
+	 *
+	 * @param prefix
+	 *            the <code>prefix</code>
+	 *
+	 * @return the condition
+	 */
+	public static StringCondition startsWith(String prefix) {
+		return startsWith(prefix, 0);
+	}
+
+	/**
+	 * Condition that the substring of the value beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 *
+	 * @param prefix
+	 *            the <code>prefix</code>
+	 *
+	 * @param toffset
+	 *            where to begin looking in the value
+	 *
+	 * @return the condition
+	 */
+	public static StringCondition startsWithIgnoreCase(String prefix, int toffset) {
+		return new StringCondition(Operation.STARTS_WITH, prefix, toffset, null, true, false, false);
+	}
+
+	/**
+	 * Condition that the value starts with the specified <code>prefix</code> ignoring case.
+	 *
+	 * @param prefix
+	 *            the <code>prefix</code>
+	 *
+	 * @return the condition
+	 */
+	public static StringCondition startsWithIgnoreCase(String prefix) {
+		return startsWithIgnoreCase(prefix, 0);
+	}
+
+	/**
+	 * Condition that the value ends with the specified <code>suffix</code>.
+	 *
+	 * @param suffix
+	 *            the <code>suffix</code>
+	 *
+	 * @return the condition
+	 */
+	public static StringCondition endsWith(String suffix) {
+		return new StringCondition(Operation.ENDS_WITH, suffix, 0, null, false, false, false);
+	}
+
+	/**
+	 * Condition that the value ends with the specified <code>suffix</code> ignoring case.
+	 *
+	 * @param suffix
+	 *            the <code>suffix</code>
+	 *
+	 * @return the condition
+	 */
+	public static StringCondition endsWithIgnoreCase(String suffix) {
+		return new StringCondition(Operation.ENDS_WITH, suffix, 0, null, true, false, false);
+	}
+
+	/**
+	 * Condition that the value contains the <code>sequence</code>.
+	 *
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 *
+	 * @return the condition
+	 */
+	public static StringCondition contains(String sequence) {
+		return new StringCondition(Operation.CONTAINS, sequence, 0, null, false, false, false);
+	}
+
+	/**
+	 * Condition that the value contains the <code>sequence</code> ignoring case.
+	 *
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 *
+	 * @return the condition
+	 */
+	public static StringCondition containsIgnoreCase(String sequence) {
+		return new StringCondition(Operation.CONTAINS, sequence, 0, null, true, false, false);
+	}
+
+	/**
+	 * Condition that the value matches the given <code>pattern</code>.
+	 *
+	 * @param pattern
+	 *            the compiled regular expression to which the value is to be matched
+	 *
+	 * @return the condition
+	 */
+	public static StringCondition matches(Pattern pattern) {
+		return new StringCondition(Operation.MATCHES, null, 0, pattern, false, false, false);
+	}
+
+	/**
+	 * Condition that the value matches the given <code>regex</code>.
+	 *
+	 * @param regex
+	 *            the regular expression to which the value is to be matched
+	 *
+	 * @return the condition
+	 */
+	public static StringCondition matches(String regex) {
+		return matches(PatternCache.compile(regex));
+	}
+
+	/**
+	 * Returns the negation of this condition.
+	 *
+	 * @return a condition satisfied only when this one is not
+	 */
+	public StringCondition negate() {
+		return new StringCondition(operation, operand, toffset, pattern, ignoreCase, trim, !negated);
+	}
+
+	/**
+	 * Tests if <code>actual</code> satisfies this condition.
+	 *
+	 * @param actual
+	 *            the value to be tested
+	 *
+	 * @return <code>true</code> if <code>actual</code> satisfies this condition. Otherwise, false.
+	 */
+	public boolean test(String actual) {
+		return negated != evaluate(actual);
+	}
+
+	/**
+	 * Checks if <code>actual</code> satisfies this condition.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the value to be checked
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	AssertionError check(String subject, String actual) {
+		switch (operation) {
+			case EQUALS:
+				return negated ? StringChecks.notEqualTo(actual, operand, ignoreCase) : StringChecks.equalTo(actual, operand, ignoreCase);
+
+			case IS_EMPTY:
+				return negated ? StringChecks.isNotEmpty(subject, actual, trim) : StringChecks.isEmpty(subject, actual, trim);
+
+			case STARTS_WITH:
+				return negated ? StringChecks.doesNotStartWith(subject, actual, operand, toffset, ignoreCase) : StringChecks.startsWith(subject, actual, operand, toffset, ignoreCase);
+
+			case ENDS_WITH:
+				return negated ? StringChecks.doesNotEndWith(subject, actual, operand, ignoreCase) : StringChecks.endsWith(subject, actual, operand, ignoreCase);
+
+			case CONTAINS:
+				return negated ? StringChecks.doesNotContain(subject, actual, operand, ignoreCase) : StringChecks.contains(subject, actual, operand, ignoreCase);
+
+			case MATCHES:
+				return negated ? StringChecks.doesNotMatch(subject, actual, pattern) : StringChecks.matches(subject, actual, pattern);
+
+			default:
+				throw new IllegalStateException("Unknown operation " + operation);
+		}
+	}
+
+	Operation getOperation() {
+		return operation;
+	}
+
+	String getOperand() {
+		return operand;
+	}
+
+	int getToffset() {
+		return toffset;
+	}
+
+	Pattern getPattern() {
+		return pattern;
+	}
+
+	boolean isIgnoreCase() {
+		return ignoreCase;
+	}
+
+	boolean isTrim() {
+		return trim;
+	}
+
+	boolean isNegated() {
+		return negated;
+	}
+
+	/**
+	 * Two conditions are equal when they make the same check, patterns being compared by their expression and flags, so conditions can key the incremental checks of a {@link BrowserLog}.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+
+		if (!(obj instanceof StringCondition))
+			return false;
+
+		StringCondition other = (StringCondition) obj;
+
+		return operation == other.operation && toffset == other.toffset && ignoreCase == other.ignoreCase && trim == other.trim && negated == other.negated
+				&& Objects.equals(operand, other.operand) && (pattern == null ? other.pattern == null
+						: other.pattern != null && pattern.pattern().equals(other.pattern.pattern()) && pattern.flags() == other.pattern.flags());
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(operation, operand, toffset, pattern == null ? null : pattern.pattern(), ignoreCase, trim, negated);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder description = new StringBuilder(negated ? "not " : "");
+
+		switch (operation) {
+			case EQUALS:
+				description.append("equals to <").append(operand).append('>');
+				break;
+
+			case IS_EMPTY:
+				description.append(trim ? "empty after trim" : "empty");
+				break;
+
+			case STARTS_WITH:
+				description.append("starts with <").append(operand).append("> at index ").append(toffset);
+				break;
+
+			case ENDS_WITH:
+				description.append("ends with <").append(operand).append('>');
+				break;
+
+			case CONTAINS:
+				description.append("contains <").append(operand).append('>');
+				break;
+
+			case MATCHES:
+				description.append("matches <").append(pattern).append('>');
+				break;
+		}
+
+		if (ignoreCase)
+			description.append(" ignoring case");
+
+		return description.toString();
+	}
+
+	/**
+	 * Tests the operation, ignoring the negation.
+	 */
+	private boolean evaluate(String actual) {
+		switch (operation) {
+			case EQUALS:
+				return StringChecks.testEquals(actual, operand, ignoreCase);
+
+			case IS_EMPTY:
+				return StringChecks.testEmpty(actual, trim);
+
+			case STARTS_WITH:
+				return StringChecks.testStartsWith(actual, operand, toffset, ignoreCase);
+
+			case ENDS_WITH:
+				return StringChecks.testEndsWith(actual, operand, ignoreCase);
+
+			case CONTAINS:
+				return StringChecks.testContains(actual, operand, ignoreCase);
+
+			case MATCHES:
+				return StringChecks.testMatches(actual, pattern);
+
+			default:
+				throw new IllegalStateException("Unknown operation " + operation);
+		}
+	}
+
+}
@@ -0,0 +1,389 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.regex.Pattern;
+
+/**
+ * Fluent assertions on a string property of a page, such as the <em>current url</em> or the <em>title</em>. The property is read lazily, only once per chain, and every condition of the chain is
+ * checked against that value:
+ *
+ * <pre>
+ * assertThat(driver).currentUrl().startsWith("https://").contains("/checkout").matches(".*\\d+");
+ * assertThat(driver).title().isNotEmpty().endsWithIgnoreCase("- store");
+ * </pre>
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see WebDriverAssert#assertThat(org.openqa.selenium.WebDriver)
+ *
+ * @since 1.0.0
+ *
+ */
+public final class StringPropertyAssert {
+
+	private final ConditionEvaluator evaluator;
+
+	StringPropertyAssert(ConditionEvaluator evaluator) {
+		this.evaluator = evaluator;
+	}
+
+	/**
+	 * Tests if the value equals to <code>expected</code>.
+	 *
+	 * @param expected
+	 *            <code>expected</code> value
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert isEqualTo(String expected) {
+		return satisfies(StringCondition.equalTo(expected));
+	}
+
+	/**
+	 * Tests if the value equals to <code>expected</code> ignoring case.
+	 *
+	 * @param expected
+	 *            <code>expected</code> value
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert isEqualToIgnoreCase(String expected) {
+		return satisfies(StringCondition.equalToIgnoreCase(expected));
+	}
+
+	/**
+	 * Tests if the value not equals to <code>unexpected</code>.
+	 *
+	 * @param unexpected
+	 *            <code>unexpected</code> value
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert isNotEqualTo(String unexpected) {
+		return satisfies(StringCondition.equalTo(unexpected).negate());
+	}
+
+	/**
+	 * Tests if the value not equals to <code>unexpected</code> ignoring case.
+	 *
+	 * @param unexpected
+	 *            <code>unexpected</code> value
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert isNotEqualToIgnoreCase(String unexpected) {
+		return satisfies(StringCondition.equalToIgnoreCase(unexpected).negate());
+	}
+
+	/**
+	 * Tests if the value is empty.
+	 *
+	 * @param trim
+	 *            if <code>true</code>, all leading and trailing whitespace are ignored. Otherwise, false.
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert isEmpty(boolean trim) {
+		return satisfies(StringCondition.isEmpty(trim));
+	}
+
+	/**
+	 * Tests if the value is empty.
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert isEmpty() {
+		return satisfies(StringCondition.isEmpty());
+	}
+
+	/**
+	 * Tests if the value is not empty.
+	 *
+	 * @param trim
+	 *            if <code>true</code>, all leading and trailing whitespace are ignored. Otherwise, false.
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert isNotEmpty(boolean trim) {
+		return satisfies(StringCondition.isEmpty(trim).negate());
+	}
+
+	/**
+	 * Tests if the value is not empty.
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert isNotEmpty() {
+		return satisfies(StringCondition.isEmpty().negate());
+	}
+
+	/**
+	 * Tests if the substring of the value beginning at the specified index starts with the specified <code>prefix</code>.
+	 *
+	 * @param prefix
+	 *            the <code>prefix</code>
+	 *
+	 * @param toffset
+	 *            where to begin looking in the value
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert startsWith(String prefix, int toffset) {
+		return satisfies(StringCondition.startsWith(prefix, toffset));
+	}
+
+	/**
+	 * Tests if the value starts with the specified <code>prefix</code>.
+	 *
+	 * @param prefix
+	 *            the <code>prefix</code>
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert startsWith(String prefix) {
+		return satisfies(StringCondition.startsWith(prefix));
+	}
+
+	/**
+	 * Tests if the substring of the value beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 *
+	 * @param prefix
+	 *            the <code>prefix</code>
+	 *
+	 * @param toffset
+	 *            where to begin looking in the value
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert startsWithIgnoreCase(String prefix, int toffset) {
+		return satisfies(StringCondition.startsWithIgnoreCase(prefix, toffset));
+	}
+
+	/**
+	 * Tests if the value starts with the specified <code>prefix</code> ignoring case.
+	 *
+	 * @param prefix
+	 *            the <code>prefix</code>
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert startsWithIgnoreCase(String prefix) {
+		return satisfies(StringCondition.startsWithIgnoreCase(prefix));
+	}
+
+	/**
+	 * Tests if the substring of the value beginning at the specified index does not start with the specified <code>prefix</code>.
+	 *
+	 * @param prefix
+	 *            the <code>prefix</code>
+	 *
+	 * @param toffset
+	 *            where to begin looking in the value
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert doesNotStartWith(String prefix, int toffset) {
+		return satisfies(StringCondition.startsWith(prefix, toffset).negate());
+	}
+
+	/**
+	 * Tests if the value does not start with the specified <code>prefix</code>.
+	 *
+	 * @param prefix
+	 *            the <code>prefix</code>
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert doesNotStartWith(String prefix) {
+		return satisfies(StringCondition.startsWith(prefix).negate());
+	}
+
+	/**
+	 * Tests if the substring of the value beginning at the specified index does not start with the specified <code>prefix</code> ignoring case.
+	 *
+	 * @param prefix
+	 *            the <code>prefix</code>
+	 *
+	 * @param toffset
+	 *            where to begin looking in the value
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert doesNotStartWithIgnoreCase(String prefix, int toffset) {
+		return satisfies(StringCondition.startsWithIgnoreCase(prefix, toffset).negate());
+	}
+
+	/**
+	 * Tests if the value does not start with the specified <code>prefix</code> ignoring case.
+	 *
+	 * @param prefix
+	 *            the <code>prefix</code>
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert doesNotStartWithIgnoreCase(String prefix) {
+		return satisfies(StringCondition.startsWithIgnoreCase(prefix).negate());
+	}
+
+	/**
+	 * Tests if the value ends with the specified <code>suffix</code>.
+	 *
+	 * @param suffix
+	 *            the <code>suffix</code>
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert endsWith(String suffix) {
+		return satisfies(StringCondition.endsWith(suffix));
+	}
+
+	/**
+	 * Tests if the value ends with the specified <code>suffix</code> ignoring case.
+	 *
+	 * @param suffix
+	 *            the <code>suffix</code>
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert endsWithIgnoreCase(String suffix) {
+		return satisfies(StringCondition.endsWithIgnoreCase(suffix));
+	}
+
+	/**
+	 * Tests if the value does not end with the specified <code>suffix</code>.
+	 *
+	 * @param suffix
+	 *            the <code>suffix</code>
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert doesNotEndWith(String suffix) {
+		return satisfies(StringCondition.endsWith(suffix).negate());
+	}
+
+	/**
+	 * Tests if the value does not end with the specified <code>suffix</code> ignoring case.
+	 *
+	 * @param suffix
+	 *            the <code>suffix</code>
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert doesNotEndWithIgnoreCase(String suffix) {
+		return satisfies(StringCondition.endsWithIgnoreCase(suffix).negate());
+	}
+
+	/**
+	 * Tests if the value contains the <code>sequence</code>.
+	 *
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert contains(String sequence) {
+		return satisfies(StringCondition.contains(sequence));
+	}
+
+	/**
+	 * Tests if the value contains the <code>sequence</code> ignoring case.
+	 *
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert containsIgnoreCase(String sequence) {
+		return satisfies(StringCondition.containsIgnoreCase(sequence));
+	}
+
+	/**
+	 * Tests if the value does not contain the <code>sequence</code>.
+	 *
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert doesNotContain(String sequence) {
+		return satisfies(StringCondition.contains(sequence).negate());
+	}
+
+	/**
+	 * Tests if the value does not contain the <code>sequence</code> ignoring case.
+	 *
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert doesNotContainIgnoreCase(String sequence) {
+		return satisfies(StringCondition.containsIgnoreCase(sequence).negate());
+	}
+
+	/**
+	 * Tests if the value matches the given <code>regex</code>.
+	 *
+	 * @param regex
+	 *            the regular expression to which the value is to be matched
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert matches(String regex) {
+		return satisfies(StringCondition.matches(regex));
+	}
+
+	/**
+	 * Tests if the value matches the given <code>pattern</code>.
+	 *
+	 * @param pattern
+	 *            the compiled regular expression to which the value is to be matched
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert matches(Pattern pattern) {
+		return satisfies(StringCondition.matches(pattern));
+	}
+
+	/**
+	 * Tests if the value does not match the given <code>regex</code>.
+	 *
+	 * @param regex
+	 *            the regular expression to which the value is to be matched
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert doesNotMatch(String regex) {
+		return satisfies(StringCondition.matches(regex).negate());
+	}
+
+	/**
+	 * Tests if the value does not match the given <code>pattern</code>.
+	 *
+	 * @param pattern
+	 *            the compiled regular expression to which the value is to be matched
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert doesNotMatch(Pattern pattern) {
+		return satisfies(StringCondition.matches(pattern).negate());
+	}
+
+	/**
+	 * Tests if the value satisfies the <code>condition</code>.
+	 *
+	 * @param condition
+	 *            the <code>condition</code> to be satisfied
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public StringPropertyAssert satisfies(StringCondition condition) {
+		evaluator.evaluate(condition);
+
+		return this;
+	}
+
+}
@@ -0,0 +1,192 @@
+package com.githubqacore.seleniumassured;
+
+/**
+ * The checks on url components behind the assertion methods. As in {@link StringChecks}, each check returns <code>null</code> when it passes, and the components are located by the
+ * {@link UrlScanner}, so a passing check allocates nothing.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see UrlScanner
+ *
+ * @since 1.0.0
+ *
+ */
+final class UrlChecks {
+
+	/**
+	 * Checks if the host of <code>actual</code> equals to <code>expected</code> ignoring case, as hosts are case insensitive.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> url
+	 *
+	 * @param expected
+	 *            <code>expected</code> host
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError hostEquals(String subject, String actual, String expected) {
+		long host = UrlScanner.host(actual);
+
+		if (host != UrlScanner.ABSENT && regionEqualsIgnoreCase(actual, host, expected))
+			return null;
+
+		return new AssertionError("The " + subject + " <" + actual + "> has " + (host == UrlScanner.ABSENT ? "no host" : "host <" + substring(actual, host) + ">") + " instead of <" + expected + ">");
+	}
+
+	/**
+	 * Checks if the path of <code>actual</code> equals to <code>expected</code>, both percent-encoded.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> url
+	 *
+	 * @param expected
+	 *            <code>expected</code> path
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError pathEquals(String subject, String actual, String expected) {
+		long path = UrlScanner.path(actual);
+
+		if (UrlScanner.end(path) - UrlScanner.start(path) == expected.length() && actual.startsWith(expected, UrlScanner.start(path)))
+			return null;
+
+		return new AssertionError("The " + subject + " <" + actual + "> has path <" + substring(actual, path) + "> instead of <" + expected + ">");
+	}
+
+	/**
+	 * Checks if the path of <code>actual</code> starts with <code>prefix</code>, both percent-encoded.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> url
+	 *
+	 * @param prefix
+	 *            the <code>prefix</code>
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError pathStartsWith(String subject, String actual, String prefix) {
+		long path = UrlScanner.path(actual);
+
+		if (UrlScanner.end(path) - UrlScanner.start(path) >= prefix.length() && actual.startsWith(prefix, UrlScanner.start(path)))
+			return null;
+
+		return new AssertionError("The " + subject + " <" + actual + "> has path <" + substring(actual, path) + "> which doesn't start with <" + prefix + ">");
+	}
+
+	/**
+	 * Checks if <code>actual</code> has a query parameter named <code>name</code>.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> url
+	 *
+	 * @param name
+	 *            the decoded <code>name</code> of the parameter
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError hasQueryParameter(String subject, String actual, String name) {
+		if (UrlScanner.queryParameter(actual, name) != UrlScanner.ABSENT)
+			return null;
+
+		return new AssertionError("The " + subject + " <" + actual + "> has no query parameter <" + name + ">");
+	}
+
+	/**
+	 * Checks if the first query parameter of <code>actual</code> named <code>name</code> equals to <code>expected</code> once decoded.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> url
+	 *
+	 * @param name
+	 *            the decoded <code>name</code> of the parameter
+	 *
+	 * @param expected
+	 *            <code>expected</code> decoded value
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError queryParameterEquals(String subject, String actual, String name, String expected) {
+		long value = UrlScanner.queryParameter(actual, name);
+
+		if (value != UrlScanner.ABSENT && UrlScanner.decodedEquals(actual, UrlScanner.start(value), UrlScanner.end(value), expected))
+			return null;
+
+		return new AssertionError("The " + subject + " <" + actual + "> has " + (value == UrlScanner.ABSENT ? "no query parameter <" + name + ">" : "query parameter <" + name + "> with value <" + substring(actual, value) + ">") + " instead of <" + expected + ">");
+	}
+
+	/**
+	 * Checks if <code>actual</code> has a fragment, which may be empty.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> url
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError hasFragment(String subject, String actual) {
+		if (UrlScanner.fragment(actual) != UrlScanner.ABSENT)
+			return null;
+
+		return new AssertionError("The " + subject + " <" + actual + "> has no fragment");
+	}
+
+	/**
+	 * Checks if the fragment of <code>actual</code> equals to <code>expected</code>, both percent-encoded.
+	 *
+	 * @param subject
+	 *            the name of the checked value, used in the failure message
+	 *
+	 * @param actual
+	 *            the <code>actual</code> url
+	 *
+	 * @param expected
+	 *            <code>expected</code> fragment, without the <code>#</code>
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 */
+	static AssertionError fragmentEquals(String subject, String actual, String expected) {
+		long fragment = UrlScanner.fragment(actual);
+
+		if (fragment != UrlScanner.ABSENT && UrlScanner.end(fragment) - UrlScanner.start(fragment) == expected.length() && actual.startsWith(expected, UrlScanner.start(fragment)))
+			return null;
+
+		return new AssertionError("The " + subject + " <" + actual + "> has " + (fragment == UrlScanner.ABSENT ? "no fragment" : "fragment <" + substring(actual, fragment) + ">") + " instead of <" + expected + ">");
+	}
+
+	private static boolean regionEqualsIgnoreCase(String actual, long span, String expected) {
+		return UrlScanner.end(span) - UrlScanner.start(span) == expected.length() && CaseInsensitive.startsWith(actual, expected, UrlScanner.start(span));
+	}
+
+	private static String substring(String actual, long span) {
+		return actual.substring(UrlScanner.start(span), UrlScanner.end(span));
+	}
+
+	/**
+	 * Private constructor (static class)
+	 */
+	private UrlChecks() {
+
+	}
+
+}
@@ -0,0 +1,325 @@
+package com.githubqacore.seleniumassured;
+
+/**
+ * Finds the boundaries of the components of a url (RFC 3986) by scanning its characters, without building substrings or {@link java.net.URI} objects. A component is returned as a
+ * <em>span</em>: its start and end indexes packed in a <code>long</code> (see {@link #start(long)} and {@link #end(long)}), or {@link #ABSENT} if the url has no such component.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see UrlChecks
+ *
+ * @since 1.0.0
+ *
+ */
+final class UrlScanner {
+
+	/**
+	 * The span of an absent component.
+	 */
+	static final long ABSENT = -1;
+
+	/**
+	 * Returns the span of the host, including the brackets of an IPv6 address.
+	 *
+	 * @param url
+	 *            the <code>url</code> to be scanned
+	 *
+	 * @return the span of the host, or {@link #ABSENT} if the <code>url</code> has no authority
+	 */
+	static long host(String url) {
+		int authority = hierarchyStart(url);
+
+		if (!url.startsWith("//", authority))
+			return ABSENT;
+
+		authority += 2;
+
+		int end = authorityEnd(url, authority);
+		int start = authority;
+
+		// skip the user info, which ends at the last '@' of the authority
+		for (int i = authority; i < end; i++)
+			if (url.charAt(i) == '@')
+				start = i + 1;
+
+		if (start < end && url.charAt(start) == '[') {
+			int close = indexOf(url, ']', start, end);
+
+			return close < 0 ? span(start, end) : span(start, close + 1);
+		}
+
+		int colon = indexOf(url, ':', start, end);
+
+		return span(start, colon < 0 ? end : colon);
+	}
+
+	/**
+	 * Returns the span of the path, which may be empty.
+	 *
+	 * @param url
+	 *            the <code>url</code> to be scanned
+	 *
+	 * @return the span of the path
+	 */
+	static long path(String url) {
+		int start = hierarchyStart(url);
+
+		if (url.startsWith("//", start))
+			start = authorityEnd(url, start + 2);
+
+		int end = start;
+
+		while (end < url.length() && url.charAt(end) != '?' && url.charAt(end) != '#')
+			end++;
+
+		return span(start, end);
+	}
+
+	/**
+	 * Returns the span of the query, without the <code>?</code>.
+	 *
+	 * @param url
+	 *            the <code>url</code> to be scanned
+	 *
+	 * @return the span of the query, or {@link #ABSENT} if the <code>url</code> has no query
+	 */
+	static long query(String url) {
+		for (int i = 0; i < url.length(); i++) {
+			char c = url.charAt(i);
+
+			if (c == '#')
+				return ABSENT;
+
+			if (c == '?') {
+				int hash = url.indexOf('#', i + 1);
+
+				return span(i + 1, hash < 0 ? url.length() : hash);
+			}
+		}
+
+		return ABSENT;
+	}
+
+	/**
+	 * Returns the span of the fragment, without the <code>#</code>.
+	 *
+	 * @param url
+	 *            the <code>url</code> to be scanned
+	 *
+	 * @return the span of the fragment, or {@link #ABSENT} if the <code>url</code> has no fragment
+	 */
+	static long fragment(String url) {
+		int hash = url.indexOf('#');
+
+		return hash < 0 ? ABSENT : span(hash + 1, url.length());
+	}
+
+	/**
+	 * Returns the span of the raw (still encoded) value of the first query parameter named <code>name</code>. Names are compared after decoding them as
+	 * <code>application/x-www-form-urlencoded</code>.
+	 *
+	 * @param url
+	 *            the <code>url</code> to be scanned
+	 *
+	 * @param name
+	 *            the decoded <code>name</code> of the parameter
+	 *
+	 * @return the span of the value, empty for a parameter without <code>=</code>, or {@link #ABSENT} if there is no such parameter
+	 */
+	static long queryParameter(String url, String name) {
+		long query = query(url);
+
+		if (query == ABSENT)
+			return ABSENT;
+
+		int end = end(query);
+
+		for (int start = start(query); start <= end;) {
+			int ampersand = indexOf(url, '&', start, end);
+			int parameterEnd = ampersand < 0 ? end : ampersand;
+			int equals = indexOf(url, '=', start, parameterEnd);
+			int nameEnd = equals < 0 ? parameterEnd : equals;
+
+			if (nameEnd > start && decodedEquals(url, start, nameEnd, name))
+				return equals < 0 ? span(parameterEnd, parameterEnd) : span(equals + 1, parameterEnd);
+
+			start = parameterEnd + 1;
+		}
+
+		return ABSENT;
+	}
+
+	/**
+	 * Tests if the region of <code>url</code> equals to <code>value</code> once decoded as <code>application/x-www-form-urlencoded</code> UTF-8 (<code>+</code> is a space), decoding one code point
+	 * at a time instead of a copy.
+	 *
+	 * @param url
+	 *            the <code>url</code> with the region
+	 *
+	 * @param start
+	 *            the start of the region, inclusive
+	 *
+	 * @param end
+	 *            the end of the region, exclusive
+	 *
+	 * @param value
+	 *            the decoded <code>value</code>
+	 *
+	 * @return <code>true</code> if the decoded region equals to <code>value</code>. Otherwise, false.
+	 */
+	static boolean decodedEquals(String url, int start, int end, String value) {
+		int i = start;
+		int j = 0;
+
+		while (i < end && j < value.length()) {
+			long decoded = decodeAt(url, i, end);
+
+			if (decoded < 0)
+				return false;
+
+			int codePoint = (int) (decoded >>> 32);
+
+			if (codePoint != value.codePointAt(j))
+				return false;
+
+			i = (int) decoded;
+			j += Character.charCount(codePoint);
+		}
+
+		return i == end && j == value.length();
+	}
+
+	/**
+	 * Returns the start of a span, inclusive.
+	 *
+	 * @param span
+	 *            a present span
+	 *
+	 * @return the start of the span
+	 */
+	static int start(long span) {
+		return (int) (span >>> 32);
+	}
+
+	/**
+	 * Returns the end of a span, exclusive.
+	 *
+	 * @param span
+	 *            a present span
+	 *
+	 * @return the end of the span
+	 */
+	static int end(long span) {
+		return (int) span;
+	}
+
+	private static long span(int start, int end) {
+		return (long) start << 32 | end;
+	}
+
+	/**
+	 * Returns the index after <code>scheme:</code>, or 0 if the <code>url</code> has no scheme.
+	 */
+	private static int hierarchyStart(String url) {
+		for (int i = 0; i < url.length(); i++) {
+			char c = url.charAt(i);
+
+			if (c == ':')
+				return i > 0 ? i + 1 : 0;
+
+			boolean letter = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+
+			if (!letter && (i == 0 || !((c >= '0' && c <= '9') || c == '+' || c == '-' || c == '.')))
+				return 0;
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Returns the end of the authority starting at <code>start</code>.
+	 */
+	private static int authorityEnd(String url, int start) {
+		int end = start;
+
+		while (end < url.length() && url.charAt(end) != '/' && url.charAt(end) != '?' && url.charAt(end) != '#')
+			end++;
+
+		return end;
+	}
+
+	private static int indexOf(String url, char c, int start, int end) {
+		for (int i = start; i < end; i++)
+			if (url.charAt(i) == c)
+				return i;
+
+		return -1;
+	}
+
+	/**
+	 * Decodes the code point at index <code>i</code>, returning it packed with the index after it, or <code>-1</code> if it is not a valid encoding.
+	 */
+	private static long decodeAt(String url, int i, int end) {
+		char c = url.charAt(i);
+
+		if (c == '+')
+			return (long) ' ' << 32 | (i + 1);
+
+		if (c != '%') {
+			int codePoint = url.codePointAt(i);
+
+			return (long) codePoint << 32 | (i + Character.charCount(codePoint));
+		}
+
+		int lead = hexByte(url, i, end);
+
+		if (lead < 0x80)
+			return lead < 0 ? -1 : (long) lead << 32 | (i + 3);
+
+		// the number of continuation bytes of an UTF-8 sequence
+		int count = lead >= 0xF8 ? -1 : lead >= 0xF0 ? 3 : lead >= 0xE0 ? 2 : lead >= 0xC0 ? 1 : -1;
+
+		if (count < 0)
+			return -1;
+
+		int codePoint = lead & (0x3F >> count);
+
+		i += 3;
+
+		for (int k = 0; k < count; k++, i += 3) {
+			int continuation = hexByte(url, i, end);
+
+			if (continuation < 0 || (continuation & 0xC0) != 0x80)
+				return -1;
+
+			codePoint = codePoint << 6 | (continuation & 0x3F);
+		}
+
+		return codePoint > Character.MAX_CODE_POINT ? -1 : (long) codePoint << 32 | i;
+	}
+
+	/**
+	 * Decodes the <code>%XX</code> byte at index <code>i</code>, or returns <code>-1</code> if there is none.
+	 */
+	private static int hexByte(String url, int i, int end) {
+		if (i + 3 > end || url.charAt(i) != '%')
+			return -1;
+
+		int high = Character.digit(url.charAt(i + 1), 16);
+		int low = Character.digit(url.charAt(i + 2), 16);
+
+		return high < 0 || low < 0 ? -1 : high << 4 | low;
+	}
+
+	/**
+	 * Private constructor (static class)
+	 */
+	private UrlScanner() {
+
+	}
+
+}
@@ -0,0 +1,280 @@
+package com.githubqacore.seleniumassured;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import javax.imageio.ImageIO;
+
+/**
+ * The baselines of {@link WebDriverAssert#assertScreenshotMatchesBaseline(org.openqa.selenium.WebDriver, String, double)}. Each baseline is a PNG file named after it in the baseline directory,
+ * <em>src/test/resources/baselines</em> by default, which is recorded from the screenshot the first time the assertion runs.
+ * <p>
+ * Decoding a 4K PNG takes longer than comparing it, so each baseline is decoded once into a raw pixel file in the work directory, <em>target/baselines</em> by default, which is memory-mapped by
+ * the next comparisons. The raw file is decoded again whenever the PNG changes. The work directory also gets the actual screenshot and a diff image of each failure, which are only written when the
+ * assertion fails.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see WebDriverAssert
+ *
+ * @since 1.0.0
+ *
+ */
+public final class VisualBaselines {
+
+	/**
+	 * The system property with the path of the baseline directory.
+	 */
+	public static final String		DIRECTORY_PROPERTY		= "seleniumassured.baselines.dir";
+
+	/**
+	 * The system property with the path of the work directory, where the raw pixels of the baselines and the images of the failures are written.
+	 */
+	public static final String		WORK_DIRECTORY_PROPERTY	= "seleniumassured.baselines.work.dir";
+
+	private static final Pattern	NAME					= Pattern.compile("[A-Za-z0-9._-]+");
+
+	/**
+	 * Identifies the raw pixel files, and their layout: a header of {@link #HEADER} bytes followed by the pixels in ARGB, row by row, in the native byte order.
+	 */
+	private static final int		MAGIC					= 0x53415058;
+
+	/**
+	 * The header of the raw pixel files: the magic, the width, the height, a padding, and the last modified time and size of the PNG they were decoded from.
+	 */
+	private static final int		HEADER					= 32;
+
+	private static volatile Path	directory				= Paths.get(System.getProperty(DIRECTORY_PROPERTY, "src/test/resources/baselines"));
+
+	private static volatile Path	workDirectory			= Paths.get(System.getProperty(WORK_DIRECTORY_PROPERTY, "target/baselines"));
+
+	/**
+	 * Sets the baseline directory.
+	 *
+	 * @param directory
+	 *            the baseline <code>directory</code>, which is created when the first baseline is recorded
+	 */
+	public static void setDirectory(Path directory) {
+		if (directory == null)
+			throw new IllegalArgumentException("The directory can not be null");
+
+		VisualBaselines.directory = directory;
+	}
+
+	/**
+	 * Returns the baseline directory.
+	 *
+	 * @return the baseline directory
+	 */
+	public static Path getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Sets the work directory, where the raw pixels of the baselines and the images of the failures are written.
+	 *
+	 * @param workDirectory
+	 *            the work directory, which is created when needed
+	 */
+	public static void setWorkDirectory(Path workDirectory) {
+		if (workDirectory == null)
+			throw new IllegalArgumentException("The work directory can not be null");
+
+		VisualBaselines.workDirectory = workDirectory;
+	}
+
+	/**
+	 * Returns the work directory.
+	 *
+	 * @return the work directory
+	 */
+	public static Path getWorkDirectory() {
+		return workDirectory;
+	}
+
+	/**
+	 * Checks if the <code>screenshot</code> matches the baseline <code>name</code>, recording the baseline when it does not exist.
+	 *
+	 * @param name
+	 *            the <code>name</code> of the baseline, made of letters, digits, '.', '_' and '-'
+	 *
+	 * @param screenshot
+	 *            the <code>screenshot</code>, as PNG
+	 *
+	 * @param tolerance
+	 *            the fraction of the pixels which may differ, from <code>0</code> to <code>1</code>
+	 *
+	 * @return <code>null</code> if the check passes. Otherwise, the failure.
+	 *
+	 * @throws UncheckedIOException
+	 *             if the baseline or the screenshot can not be read or written
+	 */
+	static AssertionError check(String name, byte[] screenshot, double tolerance) {
+		if (name == null || !NAME.matcher(name).matches())
+			throw new IllegalArgumentException("Invalid baseline name <" + name + ">");
+
+		if (!(tolerance >= 0 && tolerance <= 1))
+			throw new IllegalArgumentException("Invalid tolerance " + tolerance);
+
+		try {
+			Path png = directory.resolve(name + ".png");
+
+			if (!Files.exists(png)) {
+				Files.createDirectories(directory);
+				Files.write(png, screenshot);
+
+				return new AssertionError("The baseline <" + name + "> did not exist, it was recorded from the current screenshot in " + png.toAbsolutePath());
+			}
+
+			BufferedImage image = decode(screenshot);
+			int width = image.getWidth();
+			int height = image.getHeight();
+			IntBuffer baseline = baseline(name, png);
+			int baselineWidth = baseline.get(1);
+			int baselineHeight = baseline.get(2);
+
+			if (width != baselineWidth || height != baselineHeight)
+				return new AssertionError("The screenshot is " + width + "x" + height + ", but the baseline <" + name + "> is " + baselineWidth + "x" + baselineHeight + ", see "
+						+ writeActual(name, screenshot));
+
+			int[] actual = pixels(image);
+			IntBuffer pixels = pixels(baseline);
+			long total = (long) width * height;
+			long limit = (long) Math.floor(tolerance * total);
+
+			if (ImageComparator.countDifferences(pixels, actual, width, limit) <= limit)
+				return null;
+
+			// the comparison stopped early, so the failure counts them all
+			long differences = ImageComparator.countDifferences(pixels, actual, width, Long.MAX_VALUE);
+			Path diff = workDirectory.resolve(name + "-diff.png");
+
+			writeActual(name, screenshot);
+			ImageIO.write(ImageComparator.diff(pixels, actual, width, height), "png", diff.toFile());
+
+			return new AssertionError("The screenshot differs from the baseline <" + name + "> in " + percent((double) differences / total) + " of the pixels (" + differences + " of " + total
+					+ "), above the tolerance of " + percent(tolerance) + ", see " + diff.toAbsolutePath());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Returns the raw pixel file of the baseline, memory-mapped, decoding the <code>png</code> when the file does not exist or is stale. The first ints of the buffer are the header.
+	 */
+	private static IntBuffer baseline(String name, Path png) throws IOException {
+		Path raw = workDirectory.resolve(name + ".pixels");
+		long modified = Files.getLastModifiedTime(png).toMillis();
+		long size = Files.size(png);
+
+		try (FileChannel channel = FileChannel.open(raw, StandardOpenOption.READ)) {
+			ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.nativeOrder());
+
+			if (channel.size() >= HEADER && mapped.getInt(0) == MAGIC && mapped.getLong(16) == modified && mapped.getLong(24) == size
+					&& channel.size() == HEADER + 4L * mapped.getInt(4) * mapped.getInt(8))
+				return mapped.asIntBuffer();
+		} catch (NoSuchFileException e) {
+			// decoded below
+		}
+
+		BufferedImage image = ImageIO.read(png.toFile());
+
+		if (image == null)
+			throw new IOException("The baseline " + png.toAbsolutePath() + " is not an image");
+
+		int[] pixels = pixels(image);
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER + 4 * pixels.length).order(ByteOrder.nativeOrder());
+
+		buffer.putInt(MAGIC).putInt(image.getWidth()).putInt(image.getHeight()).putInt(0).putLong(modified).putLong(size);
+		buffer.asIntBuffer().put(pixels);
+		buffer.rewind();
+
+		// written aside and moved, so concurrent comparisons never map a partial file
+		Path temporary = Files.createTempFile(Files.createDirectories(workDirectory), name, ".tmp");
+
+		try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+			while (buffer.hasRemaining())
+				channel.write(buffer);
+		}
+
+		Files.move(temporary, raw, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		buffer.clear();
+
+		return buffer.asIntBuffer();
+	}
+
+	/**
+	 * Returns the pixels after the header of a raw pixel file.
+	 */
+	private static IntBuffer pixels(IntBuffer baseline) {
+		baseline.position(HEADER / 4);
+
+		return baseline.slice();
+	}
+
+	private static BufferedImage decode(byte[] screenshot) throws IOException {
+		BufferedImage image = ImageIO.read(new ByteArrayInputStream(screenshot));
+
+		if (image == null)
+			throw new IOException("The screenshot is not an image");
+
+		return image;
+	}
+
+	/**
+	 * Returns the pixels of the <code>image</code> in ARGB, row by row. Decoded PNGs are usually stored as bytes, so they are converted by drawing them, which is much faster than
+	 * {@link BufferedImage#getRGB(int, int)}.
+	 */
+	private static int[] pixels(BufferedImage image) {
+		BufferedImage argb = image;
+
+		if (image.getType() != BufferedImage.TYPE_INT_ARGB) {
+			argb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+
+			Graphics2D graphics = argb.createGraphics();
+
+			graphics.drawImage(image, 0, 0, null);
+			graphics.dispose();
+		}
+
+		return ((DataBufferInt) argb.getRaster().getDataBuffer()).getData();
+	}
+
+	private static Path writeActual(String name, byte[] screenshot) throws IOException {
+		Path actual = Files.createDirectories(workDirectory).resolve(name + "-actual.png");
+
+		return Files.write(actual, screenshot).toAbsolutePath();
+	}
+
+	private static String percent(double fraction) {
+		return String.format(Locale.ROOT, "%.2f%%", fraction * 100);
+	}
+
+	/**
+	 * Private constructor (static class)
+	 */
+	private VisualBaselines() {
+
+	}
+
+}
@@ -1,11 +1,14 @@
 package com.githubqacore.seleniumassured;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertFalse;
-import static org.junit.Assert.assertNotEquals;
-import static org.junit.Assert.assertTrue;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.regex.Pattern;
 
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 
 /**
  * A set of assertion methods useful for writing {@link WebDriver} tests. Only failed assertions are recorded. These methods can be used directly: <code>WebDriverAssert.assertTitleEquals(...)</code>, however, they read better if they are referenced through static import:
@@ -29,6 +32,12 @@ import org.openqa.selenium.WebDriver;
  */
 public final class WebDriverAssert {
 
+	private static final String	CURRENT_URL	= PageProperty.CURRENT_URL.getDescription();
+
+	private static final String	TITLE		= PageProperty.TITLE.getDescription();
+
+	private static final String	PAGE_SOURCE	= "page source";
+
 	/**
 	 * Tests if <em>current url</em> equals to <code>expected</code> <em>current url</em>.
 	 * 
@@ -39,7 +48,33 @@ public final class WebDriverAssert {
 	 *            <code>expected</code> current url
 	 */
 	public static void assertCurrentUrlEquals(WebDriver driver, String expected) {
-		assertEquals(expected, driver.getCurrentUrl());
+		verify("assertCurrentUrlEquals", driver, StringChecks.equalTo(currentUrl(driver), expected, false));
+	}
+
+	/**
+	 * Tests if <em>current url</em> equals to <code>expected</code> <em>current url</em>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param expected
+	 *            <code>expected</code> current url
+	 */
+	public static void assertCurrentUrlEquals(PageSnapshot snapshot, String expected) {
+		verify("assertCurrentUrlEquals", StringChecks.equalTo(currentUrl(snapshot), expected, false));
+	}
+
+	/**
+	 * Tests if <em>current url</em> equals to <code>expected</code> <em>current url</em>.
+	 * 
+	 * @param expected
+	 *            <code>expected</code> current url
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlEquals(String expected) {
+		assertCurrentUrlEquals(WebDriverContext.getDriver(), expected);
 	}
 
 	/**
@@ -52,7 +87,33 @@ public final class WebDriverAssert {
 	 *            <code>expected</code> current url
 	 */
 	public static void assertCurrentUrlEqualsIgnoreCase(WebDriver driver, String expected) {
-		assertEquals(expected.toLowerCase(), driver.getCurrentUrl().toLowerCase());
+		verify("assertCurrentUrlEqualsIgnoreCase", driver, StringChecks.equalTo(currentUrl(driver), expected, true));
+	}
+
+	/**
+	 * Tests if <em>current url</em> equals to <code>expected</code> <em>current url</em> ignoring case.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param expected
+	 *            <code>expected</code> current url
+	 */
+	public static void assertCurrentUrlEqualsIgnoreCase(PageSnapshot snapshot, String expected) {
+		verify("assertCurrentUrlEqualsIgnoreCase", StringChecks.equalTo(currentUrl(snapshot), expected, true));
+	}
+
+	/**
+	 * Tests if <em>current url</em> equals to <code>expected</code> <em>current url</em> ignoring case.
+	 * 
+	 * @param expected
+	 *            <code>expected</code> current url
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlEqualsIgnoreCase(String expected) {
+		assertCurrentUrlEqualsIgnoreCase(WebDriverContext.getDriver(), expected);
 	}
 
 	/**
@@ -65,7 +126,33 @@ public final class WebDriverAssert {
 	 *            <code>unexpected</code> current url
 	 */
 	public static void assertCurrentUrlNotEquals(WebDriver driver, String unexpected) {
-		assertNotEquals(unexpected, driver.getCurrentUrl());
+		verify("assertCurrentUrlNotEquals", driver, StringChecks.notEqualTo(currentUrl(driver), unexpected, false));
+	}
+
+	/**
+	 * Tests if <em>current url</em> not equals to <code>unexpected</code> <em>current url</em>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param unexpected
+	 *            <code>unexpected</code> current url
+	 */
+	public static void assertCurrentUrlNotEquals(PageSnapshot snapshot, String unexpected) {
+		verify("assertCurrentUrlNotEquals", StringChecks.notEqualTo(currentUrl(snapshot), unexpected, false));
+	}
+
+	/**
+	 * Tests if <em>current url</em> not equals to <code>unexpected</code> <em>current url</em>.
+	 * 
+	 * @param unexpected
+	 *            <code>unexpected</code> current url
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlNotEquals(String unexpected) {
+		assertCurrentUrlNotEquals(WebDriverContext.getDriver(), unexpected);
 	}
 
 	/**
@@ -78,7 +165,33 @@ public final class WebDriverAssert {
 	 *            <code>unexpected</code> current url
 	 */
 	public static void assertCurrentUrlNotEqualsIgnoreCase(WebDriver driver, String unexpected) {
-		assertNotEquals(unexpected.toLowerCase(), driver.getCurrentUrl().toLowerCase());
+		verify("assertCurrentUrlNotEqualsIgnoreCase", driver, StringChecks.notEqualTo(currentUrl(driver), unexpected, true));
+	}
+
+	/**
+	 * Tests if <em>current url</em> not equals to <code>unexpected</code> <em>current url</em> ignoring case.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param unexpected
+	 *            <code>unexpected</code> current url
+	 */
+	public static void assertCurrentUrlNotEqualsIgnoreCase(PageSnapshot snapshot, String unexpected) {
+		verify("assertCurrentUrlNotEqualsIgnoreCase", StringChecks.notEqualTo(currentUrl(snapshot), unexpected, true));
+	}
+
+	/**
+	 * Tests if <em>current url</em> not equals to <code>unexpected</code> <em>current url</em> ignoring case.
+	 * 
+	 * @param unexpected
+	 *            <code>unexpected</code> current url
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlNotEqualsIgnoreCase(String unexpected) {
+		assertCurrentUrlNotEqualsIgnoreCase(WebDriverContext.getDriver(), unexpected);
 	}
 
 	/**
@@ -91,12 +204,33 @@ public final class WebDriverAssert {
 	 *            if <code>true</code>, all leading and trailing whitespace removed. Otherwise, false.
 	 */
 	public static void assertCurrentUrlIsEmpty(WebDriver driver, boolean trim) {
-		String currentUrl = driver.getCurrentUrl();
+		verify("assertCurrentUrlIsEmpty", driver, StringChecks.isEmpty(CURRENT_URL, currentUrl(driver), trim));
+	}
 
-		if (trim)
-			currentUrl = currentUrl.trim();
+	/**
+	 * Tests if <em>current url</em> is empty.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param trim
+	 *            if <code>true</code>, all leading and trailing whitespace removed. Otherwise, false.
+	 */
+	public static void assertCurrentUrlIsEmpty(PageSnapshot snapshot, boolean trim) {
+		verify("assertCurrentUrlIsEmpty", StringChecks.isEmpty(CURRENT_URL, currentUrl(snapshot), trim));
+	}
 
-		assertTrue("The current url is empty", currentUrl.isEmpty());
+	/**
+	 * Tests if <em>current url</em> is empty.
+	 * 
+	 * @param trim
+	 *            if <code>true</code>, all leading and trailing whitespace removed. Otherwise, false.
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlIsEmpty(boolean trim) {
+		assertCurrentUrlIsEmpty(WebDriverContext.getDriver(), trim);
 	}
 
 	/**
@@ -109,6 +243,26 @@ public final class WebDriverAssert {
 		assertCurrentUrlIsEmpty(driver, false);
 	}
 
+	/**
+	 * Tests if <em>current url</em> is empty.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 */
+	public static void assertCurrentUrlIsEmpty(PageSnapshot snapshot) {
+		assertCurrentUrlIsEmpty(snapshot, false);
+	}
+
+	/**
+	 * Tests if <em>current url</em> is empty.
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlIsEmpty() {
+		assertCurrentUrlIsEmpty(WebDriverContext.getDriver());
+	}
+
 	/**
 	 * Tests if <em>current url</em> is not empty.
 	 * 
@@ -119,12 +273,33 @@ public final class WebDriverAssert {
 	 *            if <code>true</code>, all leading and trailing whitespace removed. Otherwise, false.
 	 */
 	public static void assertCurrentUrlIsNotEmpty(WebDriver driver, boolean trim) {
-		String currentUrl = driver.getCurrentUrl();
+		verify("assertCurrentUrlIsNotEmpty", driver, StringChecks.isNotEmpty(CURRENT_URL, currentUrl(driver), trim));
+	}
 
-		if (trim)
-			currentUrl = currentUrl.trim();
+	/**
+	 * Tests if <em>current url</em> is not empty.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param trim
+	 *            if <code>true</code>, all leading and trailing whitespace removed. Otherwise, false.
+	 */
+	public static void assertCurrentUrlIsNotEmpty(PageSnapshot snapshot, boolean trim) {
+		verify("assertCurrentUrlIsNotEmpty", StringChecks.isNotEmpty(CURRENT_URL, currentUrl(snapshot), trim));
+	}
 
-		assertFalse("The current url <" + currentUrl + "> is not empty", currentUrl.isEmpty());
+	/**
+	 * Tests if <em>current url</em> is not empty.
+	 * 
+	 * @param trim
+	 *            if <code>true</code>, all leading and trailing whitespace removed. Otherwise, false.
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlIsNotEmpty(boolean trim) {
+		assertCurrentUrlIsNotEmpty(WebDriverContext.getDriver(), trim);
 	}
 
 	/**
@@ -137,6 +312,26 @@ public final class WebDriverAssert {
 		assertCurrentUrlIsNotEmpty(driver, false);
 	}
 
+	/**
+	 * Tests if <em>current url</em> is not empty.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 */
+	public static void assertCurrentUrlIsNotEmpty(PageSnapshot snapshot) {
+		assertCurrentUrlIsNotEmpty(snapshot, false);
+	}
+
+	/**
+	 * Tests if <em>current url</em> is not empty.
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlIsNotEmpty() {
+		assertCurrentUrlIsNotEmpty(WebDriverContext.getDriver());
+	}
+
 	/**
 	 * Tests if the substring of <em>current url</em> beginning at the specified index starts with the specified <code>prefix</code>.
 	 * 
@@ -150,9 +345,39 @@ public final class WebDriverAssert {
 	 *            where to begin looking in this string
 	 */
 	public static void assertCurrentUrlStartsWith(WebDriver driver, String prefix, int toffset) {
-		String currentUrl = driver.getCurrentUrl();
+		verify("assertCurrentUrlStartsWith", driver, StringChecks.startsWith(CURRENT_URL, currentUrl(driver), prefix, toffset, false));
+	}
+
+	/**
+	 * Tests if the substring of <em>current url</em> beginning at the specified index starts with the specified <code>prefix</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>current url</em> <code>prefix</code>
+	 * 
+	 * @param toffset
+	 *            where to begin looking in this string
+	 */
+	public static void assertCurrentUrlStartsWith(PageSnapshot snapshot, String prefix, int toffset) {
+		verify("assertCurrentUrlStartsWith", StringChecks.startsWith(CURRENT_URL, currentUrl(snapshot), prefix, toffset, false));
+	}
 
-		assertTrue("The current url <" + currentUrl + "> doesn't start with <" + prefix + "> at index " + toffset, currentUrl.startsWith(prefix, toffset));
+	/**
+	 * Tests if the substring of <em>current url</em> beginning at the specified index starts with the specified <code>prefix</code>.
+	 * 
+	 * @param prefix
+	 *            the <em>current url</em> <code>prefix</code>
+	 * 
+	 * @param toffset
+	 *            where to begin looking in this string
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlStartsWith(String prefix, int toffset) {
+		assertCurrentUrlStartsWith(WebDriverContext.getDriver(), prefix, toffset);
 	}
 
 	/**
@@ -168,6 +393,32 @@ public final class WebDriverAssert {
 		assertCurrentUrlStartsWith(driver, prefix, 0);
 	}
 
+	/**
+	 * Tests if the substring of <em>current url</em> beginning at the specified index starts with the specified <code>prefix</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>current url</em> <code>prefix</code>
+	 */
+	public static void assertCurrentUrlStartsWith(PageSnapshot snapshot, String prefix) {
+		assertCurrentUrlStartsWith(snapshot, prefix, 0);
+	}
+
+	/**
+	 * Tests if the substring of <em>current url</em> beginning at the specified index starts with the specified <code>prefix</code>.
+	 * 
+	 * @param prefix
+	 *            the <em>current url</em> <code>prefix</code>
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlStartsWith(String prefix) {
+		assertCurrentUrlStartsWith(WebDriverContext.getDriver(), prefix);
+	}
+
 	/**
 	 * Tests if the substring of <em>current url</em> beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
 	 * 
@@ -181,10 +432,39 @@ public final class WebDriverAssert {
 	 *            where to begin looking in this string
 	 */
 	public static void assertCurrentUrlStartsWithIgnoreCase(WebDriver driver, String prefix, int toffset) {
-		String currentUrl = driver.getCurrentUrl().toLowerCase();
-		prefix = prefix.toLowerCase();
+		verify("assertCurrentUrlStartsWithIgnoreCase", driver, StringChecks.startsWith(CURRENT_URL, currentUrl(driver), prefix, toffset, true));
+	}
+
+	/**
+	 * Tests if the substring of <em>current url</em> beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>current url</em> <code>prefix</code>
+	 * 
+	 * @param toffset
+	 *            where to begin looking in this string
+	 */
+	public static void assertCurrentUrlStartsWithIgnoreCase(PageSnapshot snapshot, String prefix, int toffset) {
+		verify("assertCurrentUrlStartsWithIgnoreCase", StringChecks.startsWith(CURRENT_URL, currentUrl(snapshot), prefix, toffset, true));
+	}
 
-		assertTrue("The current url <" + currentUrl + "> doesn't start with <" + prefix + "> at index " + toffset, currentUrl.startsWith(prefix, toffset));
+	/**
+	 * Tests if the substring of <em>current url</em> beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * 
+	 * @param prefix
+	 *            the <em>current url</em> <code>prefix</code>
+	 * 
+	 * @param toffset
+	 *            where to begin looking in this string
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlStartsWithIgnoreCase(String prefix, int toffset) {
+		assertCurrentUrlStartsWithIgnoreCase(WebDriverContext.getDriver(), prefix, toffset);
 	}
 
 	/**
@@ -200,6 +480,32 @@ public final class WebDriverAssert {
 		assertCurrentUrlStartsWithIgnoreCase(driver, prefix, 0);
 	}
 
+	/**
+	 * Tests if the substring of <em>current url</em> beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>current url</em> <code>prefix</code>
+	 */
+	public static void assertCurrentUrlStartsWithIgnoreCase(PageSnapshot snapshot, String prefix) {
+		assertCurrentUrlStartsWithIgnoreCase(snapshot, prefix, 0);
+	}
+
+	/**
+	 * Tests if the substring of <em>current url</em> beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * 
+	 * @param prefix
+	 *            the <em>current url</em> <code>prefix</code>
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlStartsWithIgnoreCase(String prefix) {
+		assertCurrentUrlStartsWithIgnoreCase(WebDriverContext.getDriver(), prefix);
+	}
+
 	/**
 	 * Tests if the substring of <em>current url</em> does not beginning at the specified index starts with the specified <code>prefix</code>.
 	 * 
@@ -213,45 +519,43 @@ public final class WebDriverAssert {
 	 *            where to begin looking in this string
 	 */
 	public static void assertCurrentUrlDoesNotStartWith(WebDriver driver, String prefix, int toffset) {
-		String currentUrl = driver.getCurrentUrl();
-
-		assertFalse("The current url <" + currentUrl + "> starts with <" + prefix + "> at index " + toffset, currentUrl.startsWith(prefix, toffset));
+		verify("assertCurrentUrlDoesNotStartWith", driver, StringChecks.doesNotStartWith(CURRENT_URL, currentUrl(driver), prefix, toffset, false));
 	}
 
 	/**
 	 * Tests if the substring of <em>current url</em> does not beginning at the specified index starts with the specified <code>prefix</code>.
 	 * 
-	 * @param driver
-	 *            the <code>driver</code> where will be checked
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
 	 * 
 	 * @param prefix
 	 *            the <em>current url</em> <code>prefix</code>
+	 * 
+	 * @param toffset
+	 *            where to begin looking in this string
 	 */
-	public static void assertCurrentUrlDoesNotStartWith(WebDriver driver, String prefix) {
-		assertCurrentUrlDoesNotStartWith(driver, prefix, 0);
+	public static void assertCurrentUrlDoesNotStartWith(PageSnapshot snapshot, String prefix, int toffset) {
+		verify("assertCurrentUrlDoesNotStartWith", StringChecks.doesNotStartWith(CURRENT_URL, currentUrl(snapshot), prefix, toffset, false));
 	}
 
 	/**
-	 * Tests if the substring of <em>current url</em> does not beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
-	 * 
-	 * @param driver
-	 *            the <code>driver</code> where will be checked
+	 * Tests if the substring of <em>current url</em> does not beginning at the specified index starts with the specified <code>prefix</code>.
 	 * 
 	 * @param prefix
 	 *            the <em>current url</em> <code>prefix</code>
 	 * 
 	 * @param toffset
 	 *            where to begin looking in this string
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
 	 */
-	public static void assertCurrentUrlDoesNotStartWithIgnoreCase(WebDriver driver, String prefix, int toffset) {
-		String currentUrl = driver.getCurrentUrl().toLowerCase();
-		prefix = prefix.toLowerCase();
-
-		assertFalse("The current url <" + currentUrl + "> starts with <" + prefix + "> at index " + toffset, currentUrl.startsWith(prefix, toffset));
+	public static void assertCurrentUrlDoesNotStartWith(String prefix, int toffset) {
+		assertCurrentUrlDoesNotStartWith(WebDriverContext.getDriver(), prefix, toffset);
 	}
 
 	/**
-	 * Tests if the substring of <em>current url</em> does not beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * Tests if the substring of <em>current url</em> does not beginning at the specified index starts with the specified <code>prefix</code>.
 	 * 
 	 * @param driver
 	 *            the <code>driver</code> where will be checked
@@ -259,74 +563,2288 @@ public final class WebDriverAssert {
 	 * @param prefix
 	 *            the <em>current url</em> <code>prefix</code>
 	 */
-	public static void assertCurrentUrlDoesNotStartWithIgnoreCase(WebDriver driver, String prefix) {
+	public static void assertCurrentUrlDoesNotStartWith(WebDriver driver, String prefix) {
 		assertCurrentUrlDoesNotStartWith(driver, prefix, 0);
 	}
 
 	/**
-	 * Tests if <em>current url</em> ends with the specified <code>suffix</code>.
+	 * Tests if the substring of <em>current url</em> does not beginning at the specified index starts with the specified <code>prefix</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>current url</em> <code>prefix</code>
+	 */
+	public static void assertCurrentUrlDoesNotStartWith(PageSnapshot snapshot, String prefix) {
+		assertCurrentUrlDoesNotStartWith(snapshot, prefix, 0);
+	}
+
+	/**
+	 * Tests if the substring of <em>current url</em> does not beginning at the specified index starts with the specified <code>prefix</code>.
+	 * 
+	 * @param prefix
+	 *            the <em>current url</em> <code>prefix</code>
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlDoesNotStartWith(String prefix) {
+		assertCurrentUrlDoesNotStartWith(WebDriverContext.getDriver(), prefix);
+	}
+
+	/**
+	 * Tests if the substring of <em>current url</em> does not beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
 	 * 
 	 * @param driver
 	 *            the <code>driver</code> where will be checked
 	 * 
-	 * @param suffix
-	 *            the <em>current url</em> <code>suffix</code>
+	 * @param prefix
+	 *            the <em>current url</em> <code>prefix</code>
+	 * 
+	 * @param toffset
+	 *            where to begin looking in this string
+	 */
+	public static void assertCurrentUrlDoesNotStartWithIgnoreCase(WebDriver driver, String prefix, int toffset) {
+		verify("assertCurrentUrlDoesNotStartWithIgnoreCase", driver, StringChecks.doesNotStartWith(CURRENT_URL, currentUrl(driver), prefix, toffset, true));
+	}
+
+	/**
+	 * Tests if the substring of <em>current url</em> does not beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>current url</em> <code>prefix</code>
+	 * 
+	 * @param toffset
+	 *            where to begin looking in this string
+	 */
+	public static void assertCurrentUrlDoesNotStartWithIgnoreCase(PageSnapshot snapshot, String prefix, int toffset) {
+		verify("assertCurrentUrlDoesNotStartWithIgnoreCase", StringChecks.doesNotStartWith(CURRENT_URL, currentUrl(snapshot), prefix, toffset, true));
+	}
+
+	/**
+	 * Tests if the substring of <em>current url</em> does not beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * 
+	 * @param prefix
+	 *            the <em>current url</em> <code>prefix</code>
+	 * 
+	 * @param toffset
+	 *            where to begin looking in this string
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlDoesNotStartWithIgnoreCase(String prefix, int toffset) {
+		assertCurrentUrlDoesNotStartWithIgnoreCase(WebDriverContext.getDriver(), prefix, toffset);
+	}
+
+	/**
+	 * Tests if the substring of <em>current url</em> does not beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>current url</em> <code>prefix</code>
+	 */
+	public static void assertCurrentUrlDoesNotStartWithIgnoreCase(WebDriver driver, String prefix) {
+		assertCurrentUrlDoesNotStartWithIgnoreCase(driver, prefix, 0);
+	}
+
+	/**
+	 * Tests if the substring of <em>current url</em> does not beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>current url</em> <code>prefix</code>
+	 */
+	public static void assertCurrentUrlDoesNotStartWithIgnoreCase(PageSnapshot snapshot, String prefix) {
+		assertCurrentUrlDoesNotStartWithIgnoreCase(snapshot, prefix, 0);
+	}
+
+	/**
+	 * Tests if the substring of <em>current url</em> does not beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * 
+	 * @param prefix
+	 *            the <em>current url</em> <code>prefix</code>
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlDoesNotStartWithIgnoreCase(String prefix) {
+		assertCurrentUrlDoesNotStartWithIgnoreCase(WebDriverContext.getDriver(), prefix);
+	}
+
+	/**
+	 * Tests if <em>current url</em> ends with the specified <code>suffix</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param suffix
+	 *            the <em>current url</em> <code>suffix</code>
+	 */
+	public static void assertCurrentUrlEndsWith(WebDriver driver, String suffix) {
+		verify("assertCurrentUrlEndsWith", driver, StringChecks.endsWith(CURRENT_URL, currentUrl(driver), suffix, false));
+	}
+
+	/**
+	 * Tests if <em>current url</em> ends with the specified <code>suffix</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param suffix
+	 *            the <em>current url</em> <code>suffix</code>
+	 */
+	public static void assertCurrentUrlEndsWith(PageSnapshot snapshot, String suffix) {
+		verify("assertCurrentUrlEndsWith", StringChecks.endsWith(CURRENT_URL, currentUrl(snapshot), suffix, false));
+	}
+
+	/**
+	 * Tests if <em>current url</em> ends with the specified <code>suffix</code>.
+	 * 
+	 * @param suffix
+	 *            the <em>current url</em> <code>suffix</code>
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlEndsWith(String suffix) {
+		assertCurrentUrlEndsWith(WebDriverContext.getDriver(), suffix);
+	}
+
+	/**
+	 * Tests if <em>current url</em> ends with the specified <code>suffix</code> ignoring case.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param suffix
+	 *            the <em>current url</em> <code>suffix</code>
+	 */
+	public static void assertCurrentUrlEndsWithIgnoreCase(WebDriver driver, String suffix) {
+		verify("assertCurrentUrlEndsWithIgnoreCase", driver, StringChecks.endsWith(CURRENT_URL, currentUrl(driver), suffix, true));
+	}
+
+	/**
+	 * Tests if <em>current url</em> ends with the specified <code>suffix</code> ignoring case.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param suffix
+	 *            the <em>current url</em> <code>suffix</code>
+	 */
+	public static void assertCurrentUrlEndsWithIgnoreCase(PageSnapshot snapshot, String suffix) {
+		verify("assertCurrentUrlEndsWithIgnoreCase", StringChecks.endsWith(CURRENT_URL, currentUrl(snapshot), suffix, true));
+	}
+
+	/**
+	 * Tests if <em>current url</em> ends with the specified <code>suffix</code> ignoring case.
+	 * 
+	 * @param suffix
+	 *            the <em>current url</em> <code>suffix</code>
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlEndsWithIgnoreCase(String suffix) {
+		assertCurrentUrlEndsWithIgnoreCase(WebDriverContext.getDriver(), suffix);
+	}
+
+	/**
+	 * Tests if <em>current url</em> does not end with the specified <code>suffix</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param suffix
+	 *            the <em>current url</em> <code>suffix</code>
+	 */
+	public static void assertCurrentUrlDoesNotEndWith(WebDriver driver, String suffix) {
+		verify("assertCurrentUrlDoesNotEndWith", driver, StringChecks.doesNotEndWith(CURRENT_URL, currentUrl(driver), suffix, false));
+	}
+
+	/**
+	 * Tests if <em>current url</em> does not end with the specified <code>suffix</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param suffix
+	 *            the <em>current url</em> <code>suffix</code>
+	 */
+	public static void assertCurrentUrlDoesNotEndWith(PageSnapshot snapshot, String suffix) {
+		verify("assertCurrentUrlDoesNotEndWith", StringChecks.doesNotEndWith(CURRENT_URL, currentUrl(snapshot), suffix, false));
+	}
+
+	/**
+	 * Tests if <em>current url</em> does not end with the specified <code>suffix</code>.
+	 * 
+	 * @param suffix
+	 *            the <em>current url</em> <code>suffix</code>
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlDoesNotEndWith(String suffix) {
+		assertCurrentUrlDoesNotEndWith(WebDriverContext.getDriver(), suffix);
+	}
+
+	/**
+	 * Tests if <em>current url</em> does not end with the specified <code>suffix</code> ignoring case.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param suffix
+	 *            the <em>current url</em> <code>suffix</code>
+	 */
+	public static void assertCurrentUrlDoesNotEndWithIgnoreCase(WebDriver driver, String suffix) {
+		verify("assertCurrentUrlDoesNotEndWithIgnoreCase", driver, StringChecks.doesNotEndWith(CURRENT_URL, currentUrl(driver), suffix, true));
+	}
+
+	/**
+	 * Tests if <em>current url</em> does not end with the specified <code>suffix</code> ignoring case.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param suffix
+	 *            the <em>current url</em> <code>suffix</code>
+	 */
+	public static void assertCurrentUrlDoesNotEndWithIgnoreCase(PageSnapshot snapshot, String suffix) {
+		verify("assertCurrentUrlDoesNotEndWithIgnoreCase", StringChecks.doesNotEndWith(CURRENT_URL, currentUrl(snapshot), suffix, true));
+	}
+
+	/**
+	 * Tests if <em>current url</em> does not end with the specified <code>suffix</code> ignoring case.
+	 * 
+	 * @param suffix
+	 *            the <em>current url</em> <code>suffix</code>
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlDoesNotEndWithIgnoreCase(String suffix) {
+		assertCurrentUrlDoesNotEndWithIgnoreCase(WebDriverContext.getDriver(), suffix);
+	}
+
+	/**
+	 * Tests if <em>current url</em> contains the <code>sequence</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 */
+	public static void assertCurrentUrlContains(WebDriver driver, String sequence) {
+		verify("assertCurrentUrlContains", driver, StringChecks.contains(CURRENT_URL, currentUrl(driver), sequence, false));
+	}
+
+	/**
+	 * Tests if <em>current url</em> contains the <code>sequence</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 */
+	public static void assertCurrentUrlContains(PageSnapshot snapshot, String sequence) {
+		verify("assertCurrentUrlContains", StringChecks.contains(CURRENT_URL, currentUrl(snapshot), sequence, false));
+	}
+
+	/**
+	 * Tests if <em>current url</em> contains the <code>sequence</code>.
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlContains(String sequence) {
+		assertCurrentUrlContains(WebDriverContext.getDriver(), sequence);
+	}
+
+	/**
+	 * Tests if <em>current url</em> contains the <code>sequence</code> ignoring case.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 */
+	public static void assertCurrentUrlContainsIgnoreCase(WebDriver driver, String sequence) {
+		verify("assertCurrentUrlContainsIgnoreCase", driver, StringChecks.contains(CURRENT_URL, currentUrl(driver), sequence, true));
+	}
+
+	/**
+	 * Tests if <em>current url</em> contains the <code>sequence</code> ignoring case.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 */
+	public static void assertCurrentUrlContainsIgnoreCase(PageSnapshot snapshot, String sequence) {
+		verify("assertCurrentUrlContainsIgnoreCase", StringChecks.contains(CURRENT_URL, currentUrl(snapshot), sequence, true));
+	}
+
+	/**
+	 * Tests if <em>current url</em> contains the <code>sequence</code> ignoring case.
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlContainsIgnoreCase(String sequence) {
+		assertCurrentUrlContainsIgnoreCase(WebDriverContext.getDriver(), sequence);
+	}
+
+	/**
+	 * Tests if <em>current url</em> does not contain the <code>sequence</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 */
+	public static void assertCurrentUrlDoesNotContain(WebDriver driver, String sequence) {
+		verify("assertCurrentUrlDoesNotContain", driver, StringChecks.doesNotContain(CURRENT_URL, currentUrl(driver), sequence, false));
+	}
+
+	/**
+	 * Tests if <em>current url</em> does not contain the <code>sequence</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 */
+	public static void assertCurrentUrlDoesNotContain(PageSnapshot snapshot, String sequence) {
+		verify("assertCurrentUrlDoesNotContain", StringChecks.doesNotContain(CURRENT_URL, currentUrl(snapshot), sequence, false));
+	}
+
+	/**
+	 * Tests if <em>current url</em> does not contain the <code>sequence</code>.
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlDoesNotContain(String sequence) {
+		assertCurrentUrlDoesNotContain(WebDriverContext.getDriver(), sequence);
+	}
+
+	/**
+	 * Tests if <em>current url</em> does not contain the <code>sequence</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 */
+	public static void assertCurrentUrlDoesNotContainIgnoreCase(WebDriver driver, String sequence) {
+		verify("assertCurrentUrlDoesNotContainIgnoreCase", driver, StringChecks.doesNotContain(CURRENT_URL, currentUrl(driver), sequence, true));
+	}
+
+	/**
+	 * Tests if <em>current url</em> does not contain the <code>sequence</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 */
+	public static void assertCurrentUrlDoesNotContainIgnoreCase(PageSnapshot snapshot, String sequence) {
+		verify("assertCurrentUrlDoesNotContainIgnoreCase", StringChecks.doesNotContain(CURRENT_URL, currentUrl(snapshot), sequence, true));
+	}
+
+	/**
+	 * Tests if <em>current url</em> does not contain the <code>sequence</code>.
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlDoesNotContainIgnoreCase(String sequence) {
+		assertCurrentUrlDoesNotContainIgnoreCase(WebDriverContext.getDriver(), sequence);
+	}
+
+	/**
+	 * Tests if <em>current url</em> matches the given <code>regex</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param regex
+	 *            the regular expression to which this string is to be matched
+	 */
+	public static void assertCurrentUrlMatches(WebDriver driver, String regex) {
+		assertCurrentUrlMatches(driver, PatternCache.compile(regex));
+	}
+
+	/**
+	 * Tests if <em>current url</em> matches the given <code>regex</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param regex
+	 *            the regular expression to which this string is to be matched
+	 */
+	public static void assertCurrentUrlMatches(PageSnapshot snapshot, String regex) {
+		assertCurrentUrlMatches(snapshot, PatternCache.compile(regex));
+	}
+
+	/**
+	 * Tests if <em>current url</em> matches the given <code>regex</code>.
+	 * 
+	 * @param regex
+	 *            the regular expression to which this string is to be matched
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlMatches(String regex) {
+		assertCurrentUrlMatches(WebDriverContext.getDriver(), regex);
+	}
+
+	/**
+	 * Tests if <em>current url</em> matches the given <code>pattern</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param pattern
+	 *            the compiled regular expression to which this string is to be matched
+	 */
+	public static void assertCurrentUrlMatches(WebDriver driver, Pattern pattern) {
+		verify("assertCurrentUrlMatches", driver, StringChecks.matches(CURRENT_URL, currentUrl(driver), pattern));
+	}
+
+	/**
+	 * Tests if <em>current url</em> matches the given <code>pattern</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param pattern
+	 *            the compiled regular expression to which this string is to be matched
+	 */
+	public static void assertCurrentUrlMatches(PageSnapshot snapshot, Pattern pattern) {
+		verify("assertCurrentUrlMatches", StringChecks.matches(CURRENT_URL, currentUrl(snapshot), pattern));
+	}
+
+	/**
+	 * Tests if <em>current url</em> matches the given <code>pattern</code>.
+	 * 
+	 * @param pattern
+	 *            the compiled regular expression to which this string is to be matched
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlMatches(Pattern pattern) {
+		assertCurrentUrlMatches(WebDriverContext.getDriver(), pattern);
+	}
+
+	/**
+	 * Tests if <em>current url</em> does not match the given <code>regex</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param regex
+	 *            the regular expression to which this string is to be matched
+	 */
+	public static void assertCurrentUrlDoesNotMatch(WebDriver driver, String regex) {
+		assertCurrentUrlDoesNotMatch(driver, PatternCache.compile(regex));
+	}
+
+	/**
+	 * Tests if <em>current url</em> does not match the given <code>regex</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param regex
+	 *            the regular expression to which this string is to be matched
+	 */
+	public static void assertCurrentUrlDoesNotMatch(PageSnapshot snapshot, String regex) {
+		assertCurrentUrlDoesNotMatch(snapshot, PatternCache.compile(regex));
+	}
+
+	/**
+	 * Tests if <em>current url</em> does not match the given <code>regex</code>.
+	 * 
+	 * @param regex
+	 *            the regular expression to which this string is to be matched
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlDoesNotMatch(String regex) {
+		assertCurrentUrlDoesNotMatch(WebDriverContext.getDriver(), regex);
+	}
+
+	/**
+	 * Tests if <em>current url</em> does not match the given <code>pattern</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param pattern
+	 *            the compiled regular expression to which this string is to be matched
+	 */
+	public static void assertCurrentUrlDoesNotMatch(WebDriver driver, Pattern pattern) {
+		verify("assertCurrentUrlDoesNotMatch", driver, StringChecks.doesNotMatch(CURRENT_URL, currentUrl(driver), pattern));
+	}
+
+	/**
+	 * Tests if <em>current url</em> does not match the given <code>pattern</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param pattern
+	 *            the compiled regular expression to which this string is to be matched
+	 */
+	public static void assertCurrentUrlDoesNotMatch(PageSnapshot snapshot, Pattern pattern) {
+		verify("assertCurrentUrlDoesNotMatch", StringChecks.doesNotMatch(CURRENT_URL, currentUrl(snapshot), pattern));
+	}
+
+	/**
+	 * Tests if <em>current url</em> does not match the given <code>pattern</code>.
+	 * 
+	 * @param pattern
+	 *            the compiled regular expression to which this string is to be matched
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlDoesNotMatch(Pattern pattern) {
+		assertCurrentUrlDoesNotMatch(WebDriverContext.getDriver(), pattern);
+	}
+
+	/**
+	 * Tests if <em>current url</em> contains any of the literals of the <code>matcher</code>, in a single scan.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param matcher
+	 *            the <code>matcher</code> of the literals to search for
+	 */
+	public static void assertCurrentUrlContainsAny(WebDriver driver, LiteralMatcher matcher) {
+		verify("assertCurrentUrlContainsAny", driver, StringChecks.containsAny(CURRENT_URL, currentUrl(driver), matcher));
+	}
+
+	/**
+	 * Tests if <em>current url</em> contains any of the literals of the <code>matcher</code>, in a single scan.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param matcher
+	 *            the <code>matcher</code> of the literals to search for
+	 */
+	public static void assertCurrentUrlContainsAny(PageSnapshot snapshot, LiteralMatcher matcher) {
+		verify("assertCurrentUrlContainsAny", StringChecks.containsAny(CURRENT_URL, currentUrl(snapshot), matcher));
+	}
+
+	/**
+	 * Tests if <em>current url</em> contains any of the literals of the <code>matcher</code>, in a single scan.
+	 * 
+	 * @param matcher
+	 *            the <code>matcher</code> of the literals to search for
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlContainsAny(LiteralMatcher matcher) {
+		assertCurrentUrlContainsAny(WebDriverContext.getDriver(), matcher);
+	}
+
+	/**
+	 * Tests if <em>current url</em> contains none of the literals of the <code>matcher</code>, in a single scan. The failure names the literal found.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param matcher
+	 *            the <code>matcher</code> of the literals to search for
+	 */
+	public static void assertCurrentUrlContainsNone(WebDriver driver, LiteralMatcher matcher) {
+		verify("assertCurrentUrlContainsNone", driver, StringChecks.containsNone(CURRENT_URL, currentUrl(driver), matcher));
+	}
+
+	/**
+	 * Tests if <em>current url</em> contains none of the literals of the <code>matcher</code>, in a single scan. The failure names the literal found.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param matcher
+	 *            the <code>matcher</code> of the literals to search for
+	 */
+	public static void assertCurrentUrlContainsNone(PageSnapshot snapshot, LiteralMatcher matcher) {
+		verify("assertCurrentUrlContainsNone", StringChecks.containsNone(CURRENT_URL, currentUrl(snapshot), matcher));
+	}
+
+	/**
+	 * Tests if <em>current url</em> contains none of the literals of the <code>matcher</code>, in a single scan. The failure names the literal found.
+	 * 
+	 * @param matcher
+	 *            the <code>matcher</code> of the literals to search for
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlContainsNone(LiteralMatcher matcher) {
+		assertCurrentUrlContainsNone(WebDriverContext.getDriver(), matcher);
+	}
+
+	/**
+	 * Tests if <em>current url</em> matches any of the regular expressions of the <code>matcher</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param matcher
+	 *            the <code>matcher</code> of the regular expressions
+	 */
+	public static void assertCurrentUrlMatchesAny(WebDriver driver, RegexMatcher matcher) {
+		verify("assertCurrentUrlMatchesAny", driver, StringChecks.matchesAny(CURRENT_URL, currentUrl(driver), matcher));
+	}
+
+	/**
+	 * Tests if <em>current url</em> matches any of the regular expressions of the <code>matcher</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param matcher
+	 *            the <code>matcher</code> of the regular expressions
+	 */
+	public static void assertCurrentUrlMatchesAny(PageSnapshot snapshot, RegexMatcher matcher) {
+		verify("assertCurrentUrlMatchesAny", StringChecks.matchesAny(CURRENT_URL, currentUrl(snapshot), matcher));
+	}
+
+	/**
+	 * Tests if <em>current url</em> matches any of the regular expressions of the <code>matcher</code>.
+	 * 
+	 * @param matcher
+	 *            the <code>matcher</code> of the regular expressions
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlMatchesAny(RegexMatcher matcher) {
+		assertCurrentUrlMatchesAny(WebDriverContext.getDriver(), matcher);
+	}
+
+	/**
+	 * Tests if <em>current url</em> matches none of the regular expressions of the <code>matcher</code>. The failure names the expression matched.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param matcher
+	 *            the <code>matcher</code> of the regular expressions
+	 */
+	public static void assertCurrentUrlMatchesNone(WebDriver driver, RegexMatcher matcher) {
+		verify("assertCurrentUrlMatchesNone", driver, StringChecks.matchesNone(CURRENT_URL, currentUrl(driver), matcher));
+	}
+
+	/**
+	 * Tests if <em>current url</em> matches none of the regular expressions of the <code>matcher</code>. The failure names the expression matched.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param matcher
+	 *            the <code>matcher</code> of the regular expressions
+	 */
+	public static void assertCurrentUrlMatchesNone(PageSnapshot snapshot, RegexMatcher matcher) {
+		verify("assertCurrentUrlMatchesNone", StringChecks.matchesNone(CURRENT_URL, currentUrl(snapshot), matcher));
+	}
+
+	/**
+	 * Tests if <em>current url</em> matches none of the regular expressions of the <code>matcher</code>. The failure names the expression matched.
+	 * 
+	 * @param matcher
+	 *            the <code>matcher</code> of the regular expressions
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlMatchesNone(RegexMatcher matcher) {
+		assertCurrentUrlMatchesNone(WebDriverContext.getDriver(), matcher);
+	}
+
+	/**
+	 * Tests if the host of the <em>current url</em> equals to <code>expected</code> host ignoring case, as hosts are case insensitive.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param expected
+	 *            <code>expected</code> host, e.g. <em>www.example.com</em>
+	 */
+	public static void assertCurrentUrlHostEquals(WebDriver driver, String expected) {
+		verify("assertCurrentUrlHostEquals", driver, UrlChecks.hostEquals(CURRENT_URL, currentUrl(driver), expected));
+	}
+
+	/**
+	 * Tests if the host of the <em>current url</em> equals to <code>expected</code> host ignoring case, as hosts are case insensitive.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param expected
+	 *            <code>expected</code> host, e.g. <em>www.example.com</em>
+	 */
+	public static void assertCurrentUrlHostEquals(PageSnapshot snapshot, String expected) {
+		verify("assertCurrentUrlHostEquals", UrlChecks.hostEquals(CURRENT_URL, currentUrl(snapshot), expected));
+	}
+
+	/**
+	 * Tests if the host of the <em>current url</em> equals to <code>expected</code> host ignoring case, as hosts are case insensitive.
+	 * 
+	 * @param expected
+	 *            <code>expected</code> host, e.g. <em>www.example.com</em>
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlHostEquals(String expected) {
+		assertCurrentUrlHostEquals(WebDriverContext.getDriver(), expected);
+	}
+
+	/**
+	 * Tests if the path of the <em>current url</em> equals to <code>expected</code> path, both percent-encoded.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param expected
+	 *            <code>expected</code> path, e.g. <em>/checkout/42</em>
+	 */
+	public static void assertCurrentUrlPathEquals(WebDriver driver, String expected) {
+		verify("assertCurrentUrlPathEquals", driver, UrlChecks.pathEquals(CURRENT_URL, currentUrl(driver), expected));
+	}
+
+	/**
+	 * Tests if the path of the <em>current url</em> equals to <code>expected</code> path, both percent-encoded.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param expected
+	 *            <code>expected</code> path, e.g. <em>/checkout/42</em>
+	 */
+	public static void assertCurrentUrlPathEquals(PageSnapshot snapshot, String expected) {
+		verify("assertCurrentUrlPathEquals", UrlChecks.pathEquals(CURRENT_URL, currentUrl(snapshot), expected));
+	}
+
+	/**
+	 * Tests if the path of the <em>current url</em> equals to <code>expected</code> path, both percent-encoded.
+	 * 
+	 * @param expected
+	 *            <code>expected</code> path, e.g. <em>/checkout/42</em>
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlPathEquals(String expected) {
+		assertCurrentUrlPathEquals(WebDriverContext.getDriver(), expected);
+	}
+
+	/**
+	 * Tests if the path of the <em>current url</em> starts with the specified <code>prefix</code>, both percent-encoded.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <code>prefix</code>, e.g. <em>/checkout/</em>
+	 */
+	public static void assertCurrentUrlPathStartsWith(WebDriver driver, String prefix) {
+		verify("assertCurrentUrlPathStartsWith", driver, UrlChecks.pathStartsWith(CURRENT_URL, currentUrl(driver), prefix));
+	}
+
+	/**
+	 * Tests if the path of the <em>current url</em> starts with the specified <code>prefix</code>, both percent-encoded.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <code>prefix</code>, e.g. <em>/checkout/</em>
+	 */
+	public static void assertCurrentUrlPathStartsWith(PageSnapshot snapshot, String prefix) {
+		verify("assertCurrentUrlPathStartsWith", UrlChecks.pathStartsWith(CURRENT_URL, currentUrl(snapshot), prefix));
+	}
+
+	/**
+	 * Tests if the path of the <em>current url</em> starts with the specified <code>prefix</code>, both percent-encoded.
+	 * 
+	 * @param prefix
+	 *            the <code>prefix</code>, e.g. <em>/checkout/</em>
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlPathStartsWith(String prefix) {
+		assertCurrentUrlPathStartsWith(WebDriverContext.getDriver(), prefix);
+	}
+
+	/**
+	 * Tests if the <em>current url</em> has a query parameter named <code>name</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param name
+	 *            the decoded <code>name</code> of the parameter
+	 */
+	public static void assertCurrentUrlHasQueryParam(WebDriver driver, String name) {
+		verify("assertCurrentUrlHasQueryParam", driver, UrlChecks.hasQueryParameter(CURRENT_URL, currentUrl(driver), name));
+	}
+
+	/**
+	 * Tests if the <em>current url</em> has a query parameter named <code>name</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param name
+	 *            the decoded <code>name</code> of the parameter
+	 */
+	public static void assertCurrentUrlHasQueryParam(PageSnapshot snapshot, String name) {
+		verify("assertCurrentUrlHasQueryParam", UrlChecks.hasQueryParameter(CURRENT_URL, currentUrl(snapshot), name));
+	}
+
+	/**
+	 * Tests if the <em>current url</em> has a query parameter named <code>name</code>.
+	 * 
+	 * @param name
+	 *            the decoded <code>name</code> of the parameter
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlHasQueryParam(String name) {
+		assertCurrentUrlHasQueryParam(WebDriverContext.getDriver(), name);
+	}
+
+	/**
+	 * Tests if the first query parameter of the <em>current url</em> named <code>name</code> equals to <code>expected</code> once decoded (<code>%20</code> and <code>+</code> are spaces).
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param name
+	 *            the decoded <code>name</code> of the parameter
+	 * 
+	 * @param expected
+	 *            <code>expected</code> decoded value
+	 */
+	public static void assertCurrentUrlQueryParamEquals(WebDriver driver, String name, String expected) {
+		verify("assertCurrentUrlQueryParamEquals", driver, UrlChecks.queryParameterEquals(CURRENT_URL, currentUrl(driver), name, expected));
+	}
+
+	/**
+	 * Tests if the first query parameter of the <em>current url</em> named <code>name</code> equals to <code>expected</code> once decoded (<code>%20</code> and <code>+</code> are spaces).
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param name
+	 *            the decoded <code>name</code> of the parameter
+	 * 
+	 * @param expected
+	 *            <code>expected</code> decoded value
+	 */
+	public static void assertCurrentUrlQueryParamEquals(PageSnapshot snapshot, String name, String expected) {
+		verify("assertCurrentUrlQueryParamEquals", UrlChecks.queryParameterEquals(CURRENT_URL, currentUrl(snapshot), name, expected));
+	}
+
+	/**
+	 * Tests if the first query parameter of the <em>current url</em> named <code>name</code> equals to <code>expected</code> once decoded (<code>%20</code> and <code>+</code> are spaces).
+	 * 
+	 * @param name
+	 *            the decoded <code>name</code> of the parameter
+	 * 
+	 * @param expected
+	 *            <code>expected</code> decoded value
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlQueryParamEquals(String name, String expected) {
+		assertCurrentUrlQueryParamEquals(WebDriverContext.getDriver(), name, expected);
+	}
+
+	/**
+	 * Tests if the <em>current url</em> has a fragment.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 */
+	public static void assertCurrentUrlHasFragment(WebDriver driver) {
+		verify("assertCurrentUrlHasFragment", driver, UrlChecks.hasFragment(CURRENT_URL, currentUrl(driver)));
+	}
+
+	/**
+	 * Tests if the <em>current url</em> has a fragment.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 */
+	public static void assertCurrentUrlHasFragment(PageSnapshot snapshot) {
+		verify("assertCurrentUrlHasFragment", UrlChecks.hasFragment(CURRENT_URL, currentUrl(snapshot)));
+	}
+
+	/**
+	 * Tests if the <em>current url</em> has a fragment.
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlHasFragment() {
+		assertCurrentUrlHasFragment(WebDriverContext.getDriver());
+	}
+
+	/**
+	 * Tests if the fragment of the <em>current url</em> equals to <code>expected</code> fragment, both percent-encoded.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param expected
+	 *            <code>expected</code> fragment, without the <code>#</code>
+	 */
+	public static void assertCurrentUrlFragmentEquals(WebDriver driver, String expected) {
+		verify("assertCurrentUrlFragmentEquals", driver, UrlChecks.fragmentEquals(CURRENT_URL, currentUrl(driver), expected));
+	}
+
+	/**
+	 * Tests if the fragment of the <em>current url</em> equals to <code>expected</code> fragment, both percent-encoded.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param expected
+	 *            <code>expected</code> fragment, without the <code>#</code>
+	 */
+	public static void assertCurrentUrlFragmentEquals(PageSnapshot snapshot, String expected) {
+		verify("assertCurrentUrlFragmentEquals", UrlChecks.fragmentEquals(CURRENT_URL, currentUrl(snapshot), expected));
+	}
+
+	/**
+	 * Tests if the fragment of the <em>current url</em> equals to <code>expected</code> fragment, both percent-encoded.
+	 * 
+	 * @param expected
+	 *            <code>expected</code> fragment, without the <code>#</code>
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertCurrentUrlFragmentEquals(String expected) {
+		assertCurrentUrlFragmentEquals(WebDriverContext.getDriver(), expected);
+	}
+
+	/**
+	 * Tests if <em>title</em> equals to <code>expected</code> <em>title</em>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param expected
+	 *            <code>expected</code> title
+	 */
+	public static void assertTitleEquals(WebDriver driver, String expected) {
+		verify("assertTitleEquals", driver, StringChecks.equalTo(title(driver), expected, false));
+	}
+
+	/**
+	 * Tests if <em>title</em> equals to <code>expected</code> <em>title</em>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param expected
+	 *            <code>expected</code> title
+	 */
+	public static void assertTitleEquals(PageSnapshot snapshot, String expected) {
+		verify("assertTitleEquals", StringChecks.equalTo(title(snapshot), expected, false));
+	}
+
+	/**
+	 * Tests if <em>title</em> equals to <code>expected</code> <em>title</em>.
+	 * 
+	 * @param expected
+	 *            <code>expected</code> title
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleEquals(String expected) {
+		assertTitleEquals(WebDriverContext.getDriver(), expected);
+	}
+
+	/**
+	 * Tests if <em>title</em> equals to <code>expected</code> <em>title</em> ignoring case.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param expected
+	 *            <code>expected</code> title
+	 */
+	public static void assertTitleEqualsIgnoreCase(WebDriver driver, String expected) {
+		verify("assertTitleEqualsIgnoreCase", driver, StringChecks.equalTo(title(driver), expected, true));
+	}
+
+	/**
+	 * Tests if <em>title</em> equals to <code>expected</code> <em>title</em> ignoring case.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param expected
+	 *            <code>expected</code> title
+	 */
+	public static void assertTitleEqualsIgnoreCase(PageSnapshot snapshot, String expected) {
+		verify("assertTitleEqualsIgnoreCase", StringChecks.equalTo(title(snapshot), expected, true));
+	}
+
+	/**
+	 * Tests if <em>title</em> equals to <code>expected</code> <em>title</em> ignoring case.
+	 * 
+	 * @param expected
+	 *            <code>expected</code> title
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleEqualsIgnoreCase(String expected) {
+		assertTitleEqualsIgnoreCase(WebDriverContext.getDriver(), expected);
+	}
+
+	/**
+	 * Tests if <em>title</em> not equals to <code>unexpected</code> <em>title</em>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param unexpected
+	 *            <code>unexpected</code> title
+	 */
+	public static void assertTitleNotEquals(WebDriver driver, String unexpected) {
+		verify("assertTitleNotEquals", driver, StringChecks.notEqualTo(title(driver), unexpected, false));
+	}
+
+	/**
+	 * Tests if <em>title</em> not equals to <code>unexpected</code> <em>title</em>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param unexpected
+	 *            <code>unexpected</code> title
+	 */
+	public static void assertTitleNotEquals(PageSnapshot snapshot, String unexpected) {
+		verify("assertTitleNotEquals", StringChecks.notEqualTo(title(snapshot), unexpected, false));
+	}
+
+	/**
+	 * Tests if <em>title</em> not equals to <code>unexpected</code> <em>title</em>.
+	 * 
+	 * @param unexpected
+	 *            <code>unexpected</code> title
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleNotEquals(String unexpected) {
+		assertTitleNotEquals(WebDriverContext.getDriver(), unexpected);
+	}
+
+	/**
+	 * Tests if <em>title</em> not equals to <code>unexpected</code> <em>title</em>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param unexpected
+	 *            <code>unexpected</code> title
+	 */
+	public static void assertTitleNotEqualsIgnoreCase(WebDriver driver, String unexpected) {
+		verify("assertTitleNotEqualsIgnoreCase", driver, StringChecks.notEqualTo(title(driver), unexpected, true));
+	}
+
+	/**
+	 * Tests if <em>title</em> not equals to <code>unexpected</code> <em>title</em>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param unexpected
+	 *            <code>unexpected</code> title
+	 */
+	public static void assertTitleNotEqualsIgnoreCase(PageSnapshot snapshot, String unexpected) {
+		verify("assertTitleNotEqualsIgnoreCase", StringChecks.notEqualTo(title(snapshot), unexpected, true));
+	}
+
+	/**
+	 * Tests if <em>title</em> not equals to <code>unexpected</code> <em>title</em>.
+	 * 
+	 * @param unexpected
+	 *            <code>unexpected</code> title
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleNotEqualsIgnoreCase(String unexpected) {
+		assertTitleNotEqualsIgnoreCase(WebDriverContext.getDriver(), unexpected);
+	}
+
+	/**
+	 * Tests if <em>title</em> is empty.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param trim
+	 *            if <code>true</code>, all leading and trailing whitespace removed. Otherwise, false.
+	 */
+	public static void assertTitleIsEmpty(WebDriver driver, boolean trim) {
+		verify("assertTitleIsEmpty", driver, StringChecks.isEmpty(TITLE, title(driver), trim));
+	}
+
+	/**
+	 * Tests if <em>title</em> is empty.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param trim
+	 *            if <code>true</code>, all leading and trailing whitespace removed. Otherwise, false.
+	 */
+	public static void assertTitleIsEmpty(PageSnapshot snapshot, boolean trim) {
+		verify("assertTitleIsEmpty", StringChecks.isEmpty(TITLE, title(snapshot), trim));
+	}
+
+	/**
+	 * Tests if <em>title</em> is empty.
+	 * 
+	 * @param trim
+	 *            if <code>true</code>, all leading and trailing whitespace removed. Otherwise, false.
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleIsEmpty(boolean trim) {
+		assertTitleIsEmpty(WebDriverContext.getDriver(), trim);
+	}
+
+	/**
+	 * Tests if <em>title</em> is empty.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 */
+	public static void assertTitleIsEmpty(WebDriver driver) {
+		assertTitleIsEmpty(driver, false);
+	}
+
+	/**
+	 * Tests if <em>title</em> is empty.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 */
+	public static void assertTitleIsEmpty(PageSnapshot snapshot) {
+		assertTitleIsEmpty(snapshot, false);
+	}
+
+	/**
+	 * Tests if <em>title</em> is empty.
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleIsEmpty() {
+		assertTitleIsEmpty(WebDriverContext.getDriver());
+	}
+
+	/**
+	 * Tests if <em>title</em> is not empty.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param trim
+	 *            if <code>true</code>, all leading and trailing whitespace removed. Otherwise, false.
+	 */
+	public static void assertTitleIsNotEmpty(WebDriver driver, boolean trim) {
+		verify("assertTitleIsNotEmpty", driver, StringChecks.isNotEmpty(TITLE, title(driver), trim));
+	}
+
+	/**
+	 * Tests if <em>title</em> is not empty.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param trim
+	 *            if <code>true</code>, all leading and trailing whitespace removed. Otherwise, false.
+	 */
+	public static void assertTitleIsNotEmpty(PageSnapshot snapshot, boolean trim) {
+		verify("assertTitleIsNotEmpty", StringChecks.isNotEmpty(TITLE, title(snapshot), trim));
+	}
+
+	/**
+	 * Tests if <em>title</em> is not empty.
+	 * 
+	 * @param trim
+	 *            if <code>true</code>, all leading and trailing whitespace removed. Otherwise, false.
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleIsNotEmpty(boolean trim) {
+		assertTitleIsNotEmpty(WebDriverContext.getDriver(), trim);
+	}
+
+	/**
+	 * Tests if <em>title</em> is not empty.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 */
+	public static void assertTitleIsNotEmpty(WebDriver driver) {
+		assertTitleIsNotEmpty(driver, false);
+	}
+
+	/**
+	 * Tests if <em>title</em> is not empty.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 */
+	public static void assertTitleIsNotEmpty(PageSnapshot snapshot) {
+		assertTitleIsNotEmpty(snapshot, false);
+	}
+
+	/**
+	 * Tests if <em>title</em> is not empty.
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleIsNotEmpty() {
+		assertTitleIsNotEmpty(WebDriverContext.getDriver());
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> beginning at the specified index starts with the specified <code>prefix</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 * 
+	 * @param toffset
+	 *            where to begin looking in this string
+	 */
+	public static void assertTitleStartsWith(WebDriver driver, String prefix, int toffset) {
+		verify("assertTitleStartsWith", driver, StringChecks.startsWith(TITLE, title(driver), prefix, toffset, false));
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> beginning at the specified index starts with the specified <code>prefix</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 * 
+	 * @param toffset
+	 *            where to begin looking in this string
+	 */
+	public static void assertTitleStartsWith(PageSnapshot snapshot, String prefix, int toffset) {
+		verify("assertTitleStartsWith", StringChecks.startsWith(TITLE, title(snapshot), prefix, toffset, false));
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> beginning at the specified index starts with the specified <code>prefix</code>.
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 * 
+	 * @param toffset
+	 *            where to begin looking in this string
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleStartsWith(String prefix, int toffset) {
+		assertTitleStartsWith(WebDriverContext.getDriver(), prefix, toffset);
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> beginning at the specified index starts with the specified <code>prefix</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 */
+	public static void assertTitleStartsWith(WebDriver driver, String prefix) {
+		assertTitleStartsWith(driver, prefix, 0);
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> beginning at the specified index starts with the specified <code>prefix</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 */
+	public static void assertTitleStartsWith(PageSnapshot snapshot, String prefix) {
+		assertTitleStartsWith(snapshot, prefix, 0);
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> beginning at the specified index starts with the specified <code>prefix</code>.
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleStartsWith(String prefix) {
+		assertTitleStartsWith(WebDriverContext.getDriver(), prefix);
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 * 
+	 * @param toffset
+	 *            where to begin looking in this string
+	 */
+	public static void assertTitleStartsWithIgnoreCase(WebDriver driver, String prefix, int toffset) {
+		verify("assertTitleStartsWithIgnoreCase", driver, StringChecks.startsWith(TITLE, title(driver), prefix, toffset, true));
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 * 
+	 * @param toffset
+	 *            where to begin looking in this string
+	 */
+	public static void assertTitleStartsWithIgnoreCase(PageSnapshot snapshot, String prefix, int toffset) {
+		verify("assertTitleStartsWithIgnoreCase", StringChecks.startsWith(TITLE, title(snapshot), prefix, toffset, true));
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 * 
+	 * @param toffset
+	 *            where to begin looking in this string
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleStartsWithIgnoreCase(String prefix, int toffset) {
+		assertTitleStartsWithIgnoreCase(WebDriverContext.getDriver(), prefix, toffset);
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 */
+	public static void assertTitleStartsWithIgnoreCase(WebDriver driver, String prefix) {
+		assertTitleStartsWithIgnoreCase(driver, prefix, 0);
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 */
+	public static void assertTitleStartsWithIgnoreCase(PageSnapshot snapshot, String prefix) {
+		assertTitleStartsWithIgnoreCase(snapshot, prefix, 0);
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleStartsWithIgnoreCase(String prefix) {
+		assertTitleStartsWithIgnoreCase(WebDriverContext.getDriver(), prefix);
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> does not beginning at the specified index starts with the specified <code>prefix</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 * 
+	 * @param toffset
+	 *            where to begin looking in this string
+	 */
+	public static void assertTitleDoesNotStartWith(WebDriver driver, String prefix, int toffset) {
+		verify("assertTitleDoesNotStartWith", driver, StringChecks.doesNotStartWith(TITLE, title(driver), prefix, toffset, false));
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> does not beginning at the specified index starts with the specified <code>prefix</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 * 
+	 * @param toffset
+	 *            where to begin looking in this string
+	 */
+	public static void assertTitleDoesNotStartWith(PageSnapshot snapshot, String prefix, int toffset) {
+		verify("assertTitleDoesNotStartWith", StringChecks.doesNotStartWith(TITLE, title(snapshot), prefix, toffset, false));
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> does not beginning at the specified index starts with the specified <code>prefix</code>.
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 * 
+	 * @param toffset
+	 *            where to begin looking in this string
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleDoesNotStartWith(String prefix, int toffset) {
+		assertTitleDoesNotStartWith(WebDriverContext.getDriver(), prefix, toffset);
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> does not beginning at the specified index starts with the specified <code>prefix</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 */
+	public static void assertTitleDoesNotStartWith(WebDriver driver, String prefix) {
+		assertTitleDoesNotStartWith(driver, prefix, 0);
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> does not beginning at the specified index starts with the specified <code>prefix</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 */
+	public static void assertTitleDoesNotStartWith(PageSnapshot snapshot, String prefix) {
+		assertTitleDoesNotStartWith(snapshot, prefix, 0);
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> does not beginning at the specified index starts with the specified <code>prefix</code>.
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleDoesNotStartWith(String prefix) {
+		assertTitleDoesNotStartWith(WebDriverContext.getDriver(), prefix);
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> does not beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 * 
+	 * @param toffset
+	 *            where to begin looking in this string
+	 */
+	public static void assertTitleDoesNotStartWithIgnoreCase(WebDriver driver, String prefix, int toffset) {
+		verify("assertTitleDoesNotStartWithIgnoreCase", driver, StringChecks.doesNotStartWith(TITLE, title(driver), prefix, toffset, true));
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> does not beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 * 
+	 * @param toffset
+	 *            where to begin looking in this string
+	 */
+	public static void assertTitleDoesNotStartWithIgnoreCase(PageSnapshot snapshot, String prefix, int toffset) {
+		verify("assertTitleDoesNotStartWithIgnoreCase", StringChecks.doesNotStartWith(TITLE, title(snapshot), prefix, toffset, true));
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> does not beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 * 
+	 * @param toffset
+	 *            where to begin looking in this string
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleDoesNotStartWithIgnoreCase(String prefix, int toffset) {
+		assertTitleDoesNotStartWithIgnoreCase(WebDriverContext.getDriver(), prefix, toffset);
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> does not beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 */
+	public static void assertTitleDoesNotStartWithIgnoreCase(WebDriver driver, String prefix) {
+		assertTitleDoesNotStartWithIgnoreCase(driver, prefix, 0);
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> does not beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 */
+	public static void assertTitleDoesNotStartWithIgnoreCase(PageSnapshot snapshot, String prefix) {
+		assertTitleDoesNotStartWithIgnoreCase(snapshot, prefix, 0);
+	}
+
+	/**
+	 * Tests if the substring of <em>title</em> does not beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * 
+	 * @param prefix
+	 *            the <em>title</em> <code>prefix</code>
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleDoesNotStartWithIgnoreCase(String prefix) {
+		assertTitleDoesNotStartWithIgnoreCase(WebDriverContext.getDriver(), prefix);
+	}
+
+	/**
+	 * Tests if <em>title</em> ends with the specified <code>suffix</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param suffix
+	 *            the <em>title</em> <code>suffix</code>
+	 */
+	public static void assertTitleEndsWith(WebDriver driver, String suffix) {
+		verify("assertTitleEndsWith", driver, StringChecks.endsWith(TITLE, title(driver), suffix, false));
+	}
+
+	/**
+	 * Tests if <em>title</em> ends with the specified <code>suffix</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param suffix
+	 *            the <em>title</em> <code>suffix</code>
+	 */
+	public static void assertTitleEndsWith(PageSnapshot snapshot, String suffix) {
+		verify("assertTitleEndsWith", StringChecks.endsWith(TITLE, title(snapshot), suffix, false));
+	}
+
+	/**
+	 * Tests if <em>title</em> ends with the specified <code>suffix</code>.
+	 * 
+	 * @param suffix
+	 *            the <em>title</em> <code>suffix</code>
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleEndsWith(String suffix) {
+		assertTitleEndsWith(WebDriverContext.getDriver(), suffix);
+	}
+
+	/**
+	 * Tests if <em>title</em> ends with the specified <code>suffix</code> ignoring case.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param suffix
+	 *            the <em>title</em> <code>suffix</code>
+	 */
+	public static void assertTitleEndsWithIgnoreCase(WebDriver driver, String suffix) {
+		verify("assertTitleEndsWithIgnoreCase", driver, StringChecks.endsWith(TITLE, title(driver), suffix, true));
+	}
+
+	/**
+	 * Tests if <em>title</em> ends with the specified <code>suffix</code> ignoring case.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param suffix
+	 *            the <em>title</em> <code>suffix</code>
+	 */
+	public static void assertTitleEndsWithIgnoreCase(PageSnapshot snapshot, String suffix) {
+		verify("assertTitleEndsWithIgnoreCase", StringChecks.endsWith(TITLE, title(snapshot), suffix, true));
+	}
+
+	/**
+	 * Tests if <em>title</em> ends with the specified <code>suffix</code> ignoring case.
+	 * 
+	 * @param suffix
+	 *            the <em>title</em> <code>suffix</code>
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleEndsWithIgnoreCase(String suffix) {
+		assertTitleEndsWithIgnoreCase(WebDriverContext.getDriver(), suffix);
+	}
+
+	/**
+	 * Tests if <em>title</em> does not end with the specified <code>suffix</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param suffix
+	 *            the <em>title</em> <code>suffix</code>
+	 */
+	public static void assertTitleDoesNotEndWith(WebDriver driver, String suffix) {
+		verify("assertTitleDoesNotEndWith", driver, StringChecks.doesNotEndWith(TITLE, title(driver), suffix, false));
+	}
+
+	/**
+	 * Tests if <em>title</em> does not end with the specified <code>suffix</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param suffix
+	 *            the <em>title</em> <code>suffix</code>
+	 */
+	public static void assertTitleDoesNotEndWith(PageSnapshot snapshot, String suffix) {
+		verify("assertTitleDoesNotEndWith", StringChecks.doesNotEndWith(TITLE, title(snapshot), suffix, false));
+	}
+
+	/**
+	 * Tests if <em>title</em> does not end with the specified <code>suffix</code>.
+	 * 
+	 * @param suffix
+	 *            the <em>title</em> <code>suffix</code>
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleDoesNotEndWith(String suffix) {
+		assertTitleDoesNotEndWith(WebDriverContext.getDriver(), suffix);
+	}
+
+	/**
+	 * Tests if <em>title</em> does not end with the specified <code>suffix</code> ignoring case.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param suffix
+	 *            the <em>title</em> <code>suffix</code>
+	 */
+	public static void assertTitleDoesNotEndWithIgnoreCase(WebDriver driver, String suffix) {
+		verify("assertTitleDoesNotEndWithIgnoreCase", driver, StringChecks.doesNotEndWith(TITLE, title(driver), suffix, true));
+	}
+
+	/**
+	 * Tests if <em>title</em> does not end with the specified <code>suffix</code> ignoring case.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param suffix
+	 *            the <em>title</em> <code>suffix</code>
+	 */
+	public static void assertTitleDoesNotEndWithIgnoreCase(PageSnapshot snapshot, String suffix) {
+		verify("assertTitleDoesNotEndWithIgnoreCase", StringChecks.doesNotEndWith(TITLE, title(snapshot), suffix, true));
+	}
+
+	/**
+	 * Tests if <em>title</em> does not end with the specified <code>suffix</code> ignoring case.
+	 * 
+	 * @param suffix
+	 *            the <em>title</em> <code>suffix</code>
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleDoesNotEndWithIgnoreCase(String suffix) {
+		assertTitleDoesNotEndWithIgnoreCase(WebDriverContext.getDriver(), suffix);
+	}
+
+	/**
+	 * Tests if <em>title</em> contains the <code>sequence</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 */
+	public static void assertTitleContains(WebDriver driver, String sequence) {
+		verify("assertTitleContains", driver, StringChecks.contains(TITLE, title(driver), sequence, false));
+	}
+
+	/**
+	 * Tests if <em>title</em> contains the <code>sequence</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 */
+	public static void assertTitleContains(PageSnapshot snapshot, String sequence) {
+		verify("assertTitleContains", StringChecks.contains(TITLE, title(snapshot), sequence, false));
+	}
+
+	/**
+	 * Tests if <em>title</em> contains the <code>sequence</code>.
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleContains(String sequence) {
+		assertTitleContains(WebDriverContext.getDriver(), sequence);
+	}
+
+	/**
+	 * Tests if <em>title</em> contains the <code>sequence</code> ignoring case.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 */
+	public static void assertTitleContainsIgnoreCase(WebDriver driver, String sequence) {
+		verify("assertTitleContainsIgnoreCase", driver, StringChecks.contains(TITLE, title(driver), sequence, true));
+	}
+
+	/**
+	 * Tests if <em>title</em> contains the <code>sequence</code> ignoring case.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 */
+	public static void assertTitleContainsIgnoreCase(PageSnapshot snapshot, String sequence) {
+		verify("assertTitleContainsIgnoreCase", StringChecks.contains(TITLE, title(snapshot), sequence, true));
+	}
+
+	/**
+	 * Tests if <em>title</em> contains the <code>sequence</code> ignoring case.
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleContainsIgnoreCase(String sequence) {
+		assertTitleContainsIgnoreCase(WebDriverContext.getDriver(), sequence);
+	}
+
+	/**
+	 * Tests if <em>title</em> does not contain the <code>sequence</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 */
+	public static void assertTitleDoesNotContain(WebDriver driver, String sequence) {
+		verify("assertTitleDoesNotContain", driver, StringChecks.doesNotContain(TITLE, title(driver), sequence, false));
+	}
+
+	/**
+	 * Tests if <em>title</em> does not contain the <code>sequence</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 */
+	public static void assertTitleDoesNotContain(PageSnapshot snapshot, String sequence) {
+		verify("assertTitleDoesNotContain", StringChecks.doesNotContain(TITLE, title(snapshot), sequence, false));
+	}
+
+	/**
+	 * Tests if <em>title</em> does not contain the <code>sequence</code>.
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleDoesNotContain(String sequence) {
+		assertTitleDoesNotContain(WebDriverContext.getDriver(), sequence);
+	}
+
+	/**
+	 * Tests if <em>title</em> does not contain the <code>sequence</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 */
+	public static void assertTitleDoesNotContainIgnoreCase(WebDriver driver, String sequence) {
+		verify("assertTitleDoesNotContainIgnoreCase", driver, StringChecks.doesNotContain(TITLE, title(driver), sequence, true));
+	}
+
+	/**
+	 * Tests if <em>title</em> does not contain the <code>sequence</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 */
+	public static void assertTitleDoesNotContainIgnoreCase(PageSnapshot snapshot, String sequence) {
+		verify("assertTitleDoesNotContainIgnoreCase", StringChecks.doesNotContain(TITLE, title(snapshot), sequence, true));
+	}
+
+	/**
+	 * Tests if <em>title</em> does not contain the <code>sequence</code>.
+	 * 
+	 * @param sequence
+	 *            the <code>sequence</code> to search for
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleDoesNotContainIgnoreCase(String sequence) {
+		assertTitleDoesNotContainIgnoreCase(WebDriverContext.getDriver(), sequence);
+	}
+
+	/**
+	 * Tests if <em>title</em> matches the given <code>regex</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param regex
+	 *            the regular expression to which this string is to be matched
+	 */
+	public static void assertTitleMatches(WebDriver driver, String regex) {
+		assertTitleMatches(driver, PatternCache.compile(regex));
+	}
+
+	/**
+	 * Tests if <em>title</em> matches the given <code>regex</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param regex
+	 *            the regular expression to which this string is to be matched
+	 */
+	public static void assertTitleMatches(PageSnapshot snapshot, String regex) {
+		assertTitleMatches(snapshot, PatternCache.compile(regex));
+	}
+
+	/**
+	 * Tests if <em>title</em> matches the given <code>regex</code>.
+	 * 
+	 * @param regex
+	 *            the regular expression to which this string is to be matched
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleMatches(String regex) {
+		assertTitleMatches(WebDriverContext.getDriver(), regex);
+	}
+
+	/**
+	 * Tests if <em>title</em> matches the given <code>pattern</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param pattern
+	 *            the compiled regular expression to which this string is to be matched
+	 */
+	public static void assertTitleMatches(WebDriver driver, Pattern pattern) {
+		verify("assertTitleMatches", driver, StringChecks.matches(TITLE, title(driver), pattern));
+	}
+
+	/**
+	 * Tests if <em>title</em> matches the given <code>pattern</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param pattern
+	 *            the compiled regular expression to which this string is to be matched
+	 */
+	public static void assertTitleMatches(PageSnapshot snapshot, Pattern pattern) {
+		verify("assertTitleMatches", StringChecks.matches(TITLE, title(snapshot), pattern));
+	}
+
+	/**
+	 * Tests if <em>title</em> matches the given <code>pattern</code>.
+	 * 
+	 * @param pattern
+	 *            the compiled regular expression to which this string is to be matched
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleMatches(Pattern pattern) {
+		assertTitleMatches(WebDriverContext.getDriver(), pattern);
+	}
+
+	/**
+	 * Tests if <em>title</em> does not match the given <code>regex</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param regex
+	 *            the regular expression to which this string is to be matched
+	 */
+	public static void assertTitleDoesNotMatch(WebDriver driver, String regex) {
+		assertTitleDoesNotMatch(driver, PatternCache.compile(regex));
+	}
+
+	/**
+	 * Tests if <em>title</em> does not match the given <code>regex</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param regex
+	 *            the regular expression to which this string is to be matched
+	 */
+	public static void assertTitleDoesNotMatch(PageSnapshot snapshot, String regex) {
+		assertTitleDoesNotMatch(snapshot, PatternCache.compile(regex));
+	}
+
+	/**
+	 * Tests if <em>title</em> does not match the given <code>regex</code>.
+	 * 
+	 * @param regex
+	 *            the regular expression to which this string is to be matched
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleDoesNotMatch(String regex) {
+		assertTitleDoesNotMatch(WebDriverContext.getDriver(), regex);
+	}
+
+	/**
+	 * Tests if <em>title</em> does not match the given <code>pattern</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param pattern
+	 *            the compiled regular expression to which this string is to be matched
+	 */
+	public static void assertTitleDoesNotMatch(WebDriver driver, Pattern pattern) {
+		verify("assertTitleDoesNotMatch", driver, StringChecks.doesNotMatch(TITLE, title(driver), pattern));
+	}
+
+	/**
+	 * Tests if <em>title</em> does not match the given <code>pattern</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param pattern
+	 *            the compiled regular expression to which this string is to be matched
+	 */
+	public static void assertTitleDoesNotMatch(PageSnapshot snapshot, Pattern pattern) {
+		verify("assertTitleDoesNotMatch", StringChecks.doesNotMatch(TITLE, title(snapshot), pattern));
+	}
+
+	/**
+	 * Tests if <em>title</em> does not match the given <code>pattern</code>.
+	 * 
+	 * @param pattern
+	 *            the compiled regular expression to which this string is to be matched
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleDoesNotMatch(Pattern pattern) {
+		assertTitleDoesNotMatch(WebDriverContext.getDriver(), pattern);
+	}
+
+	/**
+	 * Tests if <em>title</em> contains any of the literals of the <code>matcher</code>, in a single scan.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param matcher
+	 *            the <code>matcher</code> of the literals to search for
+	 */
+	public static void assertTitleContainsAny(WebDriver driver, LiteralMatcher matcher) {
+		verify("assertTitleContainsAny", driver, StringChecks.containsAny(TITLE, title(driver), matcher));
+	}
+
+	/**
+	 * Tests if <em>title</em> contains any of the literals of the <code>matcher</code>, in a single scan.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param matcher
+	 *            the <code>matcher</code> of the literals to search for
+	 */
+	public static void assertTitleContainsAny(PageSnapshot snapshot, LiteralMatcher matcher) {
+		verify("assertTitleContainsAny", StringChecks.containsAny(TITLE, title(snapshot), matcher));
+	}
+
+	/**
+	 * Tests if <em>title</em> contains any of the literals of the <code>matcher</code>, in a single scan.
+	 * 
+	 * @param matcher
+	 *            the <code>matcher</code> of the literals to search for
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleContainsAny(LiteralMatcher matcher) {
+		assertTitleContainsAny(WebDriverContext.getDriver(), matcher);
+	}
+
+	/**
+	 * Tests if <em>title</em> contains none of the literals of the <code>matcher</code>, in a single scan. The failure names the literal found.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param matcher
+	 *            the <code>matcher</code> of the literals to search for
+	 */
+	public static void assertTitleContainsNone(WebDriver driver, LiteralMatcher matcher) {
+		verify("assertTitleContainsNone", driver, StringChecks.containsNone(TITLE, title(driver), matcher));
+	}
+
+	/**
+	 * Tests if <em>title</em> contains none of the literals of the <code>matcher</code>, in a single scan. The failure names the literal found.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param matcher
+	 *            the <code>matcher</code> of the literals to search for
+	 */
+	public static void assertTitleContainsNone(PageSnapshot snapshot, LiteralMatcher matcher) {
+		verify("assertTitleContainsNone", StringChecks.containsNone(TITLE, title(snapshot), matcher));
+	}
+
+	/**
+	 * Tests if <em>title</em> contains none of the literals of the <code>matcher</code>, in a single scan. The failure names the literal found.
+	 * 
+	 * @param matcher
+	 *            the <code>matcher</code> of the literals to search for
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
+	 */
+	public static void assertTitleContainsNone(LiteralMatcher matcher) {
+		assertTitleContainsNone(WebDriverContext.getDriver(), matcher);
+	}
+
+	/**
+	 * Tests if <em>title</em> matches any of the regular expressions of the <code>matcher</code>.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param matcher
+	 *            the <code>matcher</code> of the regular expressions
+	 */
+	public static void assertTitleMatchesAny(WebDriver driver, RegexMatcher matcher) {
+		verify("assertTitleMatchesAny", driver, StringChecks.matchesAny(TITLE, title(driver), matcher));
+	}
+
+	/**
+	 * Tests if <em>title</em> matches any of the regular expressions of the <code>matcher</code>.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @param matcher
+	 *            the <code>matcher</code> of the regular expressions
+	 */
+	public static void assertTitleMatchesAny(PageSnapshot snapshot, RegexMatcher matcher) {
+		verify("assertTitleMatchesAny", StringChecks.matchesAny(TITLE, title(snapshot), matcher));
+	}
+
+	/**
+	 * Tests if <em>title</em> matches any of the regular expressions of the <code>matcher</code>.
+	 * 
+	 * @param matcher
+	 *            the <code>matcher</code> of the regular expressions
+	 * 
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
 	 */
-	public static void assertCurrentUrlEndsWith(WebDriver driver, String suffix) {
-		String currentUrl = driver.getCurrentUrl();
-
-		assertTrue("The current url <" + currentUrl + "> doesn't end with <" + suffix + ">", currentUrl.endsWith(suffix));
+	public static void assertTitleMatchesAny(RegexMatcher matcher) {
+		assertTitleMatchesAny(WebDriverContext.getDriver(), matcher);
 	}
 
 	/**
-	 * Tests if <em>current url</em> ends with the specified <code>suffix</code> ignoring case.
+	 * Tests if <em>title</em> matches none of the regular expressions of the <code>matcher</code>. The failure names the expression matched.
 	 * 
 	 * @param driver
 	 *            the <code>driver</code> where will be checked
 	 * 
-	 * @param suffix
-	 *            the <em>current url</em> <code>suffix</code>
+	 * @param matcher
+	 *            the <code>matcher</code> of the regular expressions
 	 */
-	public static void assertCurrentUrlEndsWithIgnoreCase(WebDriver driver, String suffix) {
-		String currentUrl = driver.getCurrentUrl().toLowerCase();
-		suffix = suffix.toLowerCase();
-
-		assertTrue("The current url <" + currentUrl + "> doesn't end with <" + suffix + ">", currentUrl.endsWith(suffix));
+	public static void assertTitleMatchesNone(WebDriver driver, RegexMatcher matcher) {
+		verify("assertTitleMatchesNone", driver, StringChecks.matchesNone(TITLE, title(driver), matcher));
 	}
 
 	/**
-	 * Tests if <em>current url</em> does not end with the specified <code>suffix</code>.
+	 * Tests if <em>title</em> matches none of the regular expressions of the <code>matcher</code>. The failure names the expression matched.
 	 * 
-	 * @param driver
-	 *            the <code>driver</code> where will be checked
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
 	 * 
-	 * @param suffix
-	 *            the <em>current url</em> <code>suffix</code>
+	 * @param matcher
+	 *            the <code>matcher</code> of the regular expressions
 	 */
-	public static void assertCurrentUrlDoesNotEndWith(WebDriver driver, String suffix) {
-		String currentUrl = driver.getCurrentUrl();
-
-		assertFalse("The current url <" + currentUrl + "> ends with <" + suffix + ">", currentUrl.endsWith(suffix));
+	public static void assertTitleMatchesNone(PageSnapshot snapshot, RegexMatcher matcher) {
+		verify("assertTitleMatchesNone", StringChecks.matchesNone(TITLE, title(snapshot), matcher));
 	}
 
 	/**
-	 * Tests if <em>current url</em> does not end with the specified <code>suffix</code> ignoring case.
+	 * Tests if <em>title</em> matches none of the regular expressions of the <code>matcher</code>. The failure names the expression matched.
 	 * 
-	 * @param driver
-	 *            the <code>driver</code> where will be checked
+	 * @param matcher
+	 *            the <code>matcher</code> of the regular expressions
 	 * 
-	 * @param suffix
-	 *            the <em>current url</em> <code>suffix</code>
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread, see {@link WebDriverContext#bind(WebDriver)}
 	 */
-	public static void assertCurrentUrlDoesNotEndWithIgnoreCase(WebDriver driver, String suffix) {
-		String currentUrl = driver.getCurrentUrl().toLowerCase();
-		suffix = suffix.toLowerCase();
-
-		assertFalse("The current url <" + currentUrl + "> ends with <" + suffix + ">", currentUrl.endsWith(suffix));
+	public static void assertTitleMatchesNone(RegexMatcher matcher) {
+		assertTitleMatchesNone(WebDriverContext.getDriver(), matcher);
 	}
 
 	/**
-	 * Tests if <em>current url</em> contains the <code>sequence</code>.
+	 * Tests if the <em>page source</em> contains the <code>sequence</code>. The source is searched in place, and the failure shows a window around the closest match instead of the whole source.
 	 * 
 	 * @param driver
 	 *            the <code>driver</code> where will be checked
@@ -334,14 +2852,12 @@ public final class WebDriverAssert {
 	 * @param sequence
 	 *            the <code>sequence</code> to search for
 	 */
-	public static void assertCurrentUrlContains(WebDriver driver, String sequence) {
-		String currentUrl = driver.getCurrentUrl();
-
-		assertTrue("The current url <" + currentUrl + "> does not contain <" + sequence + ">", currentUrl.contains(sequence));
+	public static void assertPageSourceContains(WebDriver driver, String sequence) {
+		verify("assertPageSourceContains", driver, SourceChecks.contains(PAGE_SOURCE, pageSource(driver), sequence, false));
 	}
 
 	/**
-	 * Tests if <em>current url</em> contains the <code>sequence</code> ignoring case.
+	 * Tests if the <em>page source</em> contains the <code>sequence</code> ignoring case, without lower casing a copy of the source.
 	 * 
 	 * @param driver
 	 *            the <code>driver</code> where will be checked
@@ -349,15 +2865,12 @@ public final class WebDriverAssert {
 	 * @param sequence
 	 *            the <code>sequence</code> to search for
 	 */
-	public static void assertCurrentUrlContainsIgnoreCase(WebDriver driver, String sequence) {
-		String currentUrl = driver.getCurrentUrl().toLowerCase();
-		sequence = sequence.toLowerCase();
-
-		assertTrue("The current url <" + currentUrl + "> does not contain <" + sequence + ">", currentUrl.contains(sequence));
+	public static void assertPageSourceContainsIgnoreCase(WebDriver driver, String sequence) {
+		verify("assertPageSourceContainsIgnoreCase", driver, SourceChecks.contains(PAGE_SOURCE, pageSource(driver), sequence, true));
 	}
 
 	/**
-	 * Tests if <em>current url</em> does not contain the <code>sequence</code>.
+	 * Tests if the <em>page source</em> does not contain the <code>sequence</code>. The failure shows a window around its first occurrence.
 	 * 
 	 * @param driver
 	 *            the <code>driver</code> where will be checked
@@ -365,14 +2878,12 @@ public final class WebDriverAssert {
 	 * @param sequence
 	 *            the <code>sequence</code> to search for
 	 */
-	public static void assertCurrentUrlDoesNotContain(WebDriver driver, String sequence) {
-		String currentUrl = driver.getCurrentUrl();
-
-		assertFalse("The current url <" + currentUrl + "> contains <" + sequence + ">", currentUrl.contains(sequence));
+	public static void assertPageSourceDoesNotContain(WebDriver driver, String sequence) {
+		verify("assertPageSourceDoesNotContain", driver, SourceChecks.doesNotContain(PAGE_SOURCE, pageSource(driver), sequence, false));
 	}
 
 	/**
-	 * Tests if <em>current url</em> does not contain the <code>sequence</code>.
+	 * Tests if the <em>page source</em> does not contain the <code>sequence</code> ignoring case.
 	 * 
 	 * @param driver
 	 *            the <code>driver</code> where will be checked
@@ -380,429 +2891,567 @@ public final class WebDriverAssert {
 	 * @param sequence
 	 *            the <code>sequence</code> to search for
 	 */
-	public static void assertCurrentUrlDoesNotContainIgnoreCase(WebDriver driver, String sequence) {
-		String currentUrl = driver.getCurrentUrl().toLowerCase();
-		sequence = sequence.toLowerCase();
-
-		assertFalse("The current url <" + currentUrl + "> contains <" + sequence + ">", currentUrl.contains(sequence));
+	public static void assertPageSourceDoesNotContainIgnoreCase(WebDriver driver, String sequence) {
+		verify("assertPageSourceDoesNotContainIgnoreCase", driver, SourceChecks.doesNotContain(PAGE_SOURCE, pageSource(driver), sequence, true));
 	}
 
 	/**
-	 * Tests if <em>current url</em> matches the given <code>regex</code>.
+	 * Tests if the <em>page source</em> contains a match of the given <code>regex</code>. Unlike the other <em>matches</em> assertions, the match may be anywhere in the source.
 	 * 
 	 * @param driver
 	 *            the <code>driver</code> where will be checked
 	 * 
 	 * @param regex
-	 *            the regular expression to which this string is to be matched
+	 *            the regular expression to search for
 	 */
-	public static void assertCurrentUrlMatches(WebDriver driver, String regex) {
-		String currentUrl = driver.getCurrentUrl();
-
-		assertTrue("The current url <" + currentUrl + "> does not match <" + regex + ">", currentUrl.matches(regex));
+	public static void assertPageSourceMatches(WebDriver driver, String regex) {
+		verify("assertPageSourceMatches", driver, SourceChecks.matches(PAGE_SOURCE, pageSource(driver), PatternCache.compile(regex)));
 	}
 
 	/**
-	 * Tests if <em>current url</em> does not match the given <code>regex</code>.
+	 * Tests if the <em>page source</em> contains a match of the given <code>pattern</code>. Unlike the other <em>matches</em> assertions, the match may be anywhere in the source.
 	 * 
 	 * @param driver
 	 *            the <code>driver</code> where will be checked
 	 * 
-	 * @param regex
-	 *            the regular expression to which this string is to be matched
+	 * @param pattern
+	 *            the compiled regular expression to search for
 	 */
-	public static void assertCurrentUrlDoesNotMatch(WebDriver driver, String regex) {
-		String currentUrl = driver.getCurrentUrl();
-
-		assertFalse("The current url <" + currentUrl + "> matches <" + regex + ">", currentUrl.matches(regex));
+	public static void assertPageSourceMatches(WebDriver driver, Pattern pattern) {
+		verify("assertPageSourceMatches", driver, SourceChecks.matches(PAGE_SOURCE, pageSource(driver), pattern));
 	}
 
 	/**
-	 * Tests if <em>title</em> equals to <code>expected</code> <em>title</em>.
+	 * Tests if the <em>page source</em> contains no match of the given <code>regex</code>. The failure shows a window around the first match.
 	 * 
 	 * @param driver
 	 *            the <code>driver</code> where will be checked
 	 * 
-	 * @param expected
-	 *            <code>expected</code> title
+	 * @param regex
+	 *            the regular expression to search for
 	 */
-	public static void assertTitleEquals(WebDriver driver, String expected) {
-		assertEquals(expected, driver.getTitle());
+	public static void assertPageSourceDoesNotMatch(WebDriver driver, String regex) {
+		verify("assertPageSourceDoesNotMatch", driver, SourceChecks.doesNotMatch(PAGE_SOURCE, pageSource(driver), PatternCache.compile(regex)));
 	}
 
 	/**
-	 * Tests if <em>title</em> equals to <code>expected</code> <em>title</em> ignoring case.
+	 * Tests if the <em>page source</em> contains no match of the given <code>pattern</code>. The failure shows a window around the first match.
 	 * 
 	 * @param driver
 	 *            the <code>driver</code> where will be checked
 	 * 
-	 * @param expected
-	 *            <code>expected</code> title
+	 * @param pattern
+	 *            the compiled regular expression to search for
 	 */
-	public static void assertTitleEqualsIgnoreCase(WebDriver driver, String expected) {
-		assertEquals(expected.toLowerCase(), driver.getTitle().toLowerCase());
+	public static void assertPageSourceDoesNotMatch(WebDriver driver, Pattern pattern) {
+		verify("assertPageSourceDoesNotMatch", driver, SourceChecks.doesNotMatch(PAGE_SOURCE, pageSource(driver), pattern));
 	}
 
 	/**
-	 * Tests if <em>title</em> not equals to <code>unexpected</code> <em>title</em>.
+	 * Tests if the <em>page source</em> contains all literals of the <code>matcher</code>, in a single scan. The failure names the missing literals.
 	 * 
 	 * @param driver
 	 *            the <code>driver</code> where will be checked
 	 * 
-	 * @param unexpected
-	 *            <code>unexpected</code> title
+	 * @param matcher
+	 *            the <code>matcher</code> of the literals to search for
 	 */
-	public static void assertTitleNotEquals(WebDriver driver, String unexpected) {
-		assertNotEquals(unexpected, driver.getTitle());
+	public static void assertPageSourceContainsAll(WebDriver driver, LiteralMatcher matcher) {
+		verify("assertPageSourceContainsAll", driver, SourceChecks.containsAll(PAGE_SOURCE, pageSource(driver), matcher));
 	}
 
 	/**
-	 * Tests if <em>title</em> not equals to <code>unexpected</code> <em>title</em>.
+	 * Tests if the <em>page source</em> contains any of the literals of the <code>matcher</code>, in a single scan.
 	 * 
 	 * @param driver
 	 *            the <code>driver</code> where will be checked
 	 * 
-	 * @param unexpected
-	 *            <code>unexpected</code> title
+	 * @param matcher
+	 *            the <code>matcher</code> of the literals to search for
 	 */
-	public static void assertTitleNotEqualsIgnoreCase(WebDriver driver, String unexpected) {
-		assertNotEquals(unexpected.toLowerCase(), driver.getTitle().toLowerCase());
+	public static void assertPageSourceContainsAny(WebDriver driver, LiteralMatcher matcher) {
+		verify("assertPageSourceContainsAny", driver, SourceChecks.containsAny(PAGE_SOURCE, pageSource(driver), matcher));
 	}
 
 	/**
-	 * Tests if <em>title</em> is empty.
+	 * Tests if the <em>page source</em> contains none of the literals of the <code>matcher</code>, in a single scan. The failure shows a window around the literal found.
 	 * 
 	 * @param driver
 	 *            the <code>driver</code> where will be checked
 	 * 
-	 * @param trim
-	 *            if <code>true</code>, all leading and trailing whitespace removed. Otherwise, false.
+	 * @param matcher
+	 *            the <code>matcher</code> of the literals to search for
 	 */
-	public static void assertTitleIsEmpty(WebDriver driver, boolean trim) {
-		String title = driver.getTitle();
-
-		if (trim)
-			title = title.trim();
-
-		assertTrue("The title is empty", title.isEmpty());
+	public static void assertPageSourceContainsNone(WebDriver driver, LiteralMatcher matcher) {
+		verify("assertPageSourceContainsNone", driver, SourceChecks.containsNone(PAGE_SOURCE, pageSource(driver), matcher));
 	}
 
 	/**
-	 * Tests if <em>title</em> is empty.
+	 * Tests if the page, or the subtree, of the <code>digest</code> is unchanged since it was captured. The new digest is computed inside the browser, and the failure names the changed subtrees.
 	 * 
 	 * @param driver
 	 *            the <code>driver</code> where will be checked
+	 * 
+	 * @param digest
+	 *            the <code>digest</code> captured before, see {@link PageDigest#capture(WebDriver, String)}
+	 * 
+	 * @throws org.openqa.selenium.WebDriverException
+	 *             if the <code>digest</code> was computed inside the browser and the script now fails, e.g. on an open alert
 	 */
-	public static void assertTitleIsEmpty(WebDriver driver) {
-		assertTitleIsEmpty(driver, false);
+	public static void assertPageUnchanged(WebDriver driver, PageDigest digest) {
+		verify("assertPageUnchanged", driver, PageDigest.unchanged(digest, PageDigest.recapture(driver, digest)));
 	}
 
 	/**
-	 * Tests if <em>title</em> is not empty.
+	 * Tests if the page, or the subtree, of the <code>digest</code> has changed since it was captured.
 	 * 
 	 * @param driver
 	 *            the <code>driver</code> where will be checked
 	 * 
-	 * @param trim
-	 *            if <code>true</code>, all leading and trailing whitespace removed. Otherwise, false.
+	 * @param digest
+	 *            the <code>digest</code> captured before, see {@link PageDigest#capture(WebDriver, String)}
+	 * 
+	 * @throws org.openqa.selenium.WebDriverException
+	 *             if the <code>digest</code> was computed inside the browser and the script now fails, e.g. on an open alert
 	 */
-	public static void assertTitleIsNotEmpty(WebDriver driver, boolean trim) {
-		String title = driver.getTitle();
-
-		if (trim)
-			title = title.trim();
-
-		assertFalse("The title <" + title + "> is not empty", title.isEmpty());
+	public static void assertPageChanged(WebDriver driver, PageDigest digest) {
+		verify("assertPageChanged", driver, PageDigest.changed(digest, PageDigest.recapture(driver, digest)));
 	}
 
 	/**
-	 * Tests if <em>title</em> is not empty.
+	 * Tests if the screenshot of the <code>driver</code> matches the baseline <code>name</code>, see {@link VisualBaselines}. The baseline is recorded from the screenshot, and the assertion fails,
+	 * when it does not exist yet.
 	 * 
 	 * @param driver
-	 *            the <code>driver</code> where will be checked
+	 *            the <code>driver</code> where will be checked, which must take screenshots
+	 * 
+	 * @param name
+	 *            the <code>name</code> of the baseline, made of letters, digits, '.', '_' and '-'
+	 * 
+	 * @param tolerance
+	 *            the fraction of the pixels which may differ, from <code>0</code> to <code>1</code>, e.g. <code>0.001</code> for 0.1%
 	 */
-	public static void assertTitleIsNotEmpty(WebDriver driver) {
-		assertTitleIsNotEmpty(driver, false);
+	public static void assertScreenshotMatchesBaseline(WebDriver driver, String name, double tolerance) {
+		verify("assertScreenshotMatchesBaseline", driver, VisualBaselines.check(name, AssertionMetrics.readScreenshot(driver), tolerance));
 	}
 
 	/**
-	 * Tests if the substring of <em>title</em> beginning at the specified index starts with the specified <code>prefix</code>.
+	 * Tests if the time to first byte of the current page of the <code>driver</code> is within the <code>budget</code>, see {@link NavigationTiming}.
 	 * 
 	 * @param driver
-	 *            the <code>driver</code> where will be checked
+	 *            the <code>driver</code> where will be checked, which must execute scripts
 	 * 
-	 * @param prefix
-	 *            the <em>title</em> <code>prefix</code>
+	 * @param budget
+	 *            the maximum time to first byte
 	 * 
-	 * @param toffset
-	 *            where to begin looking in this string
+	 * @param unit
+	 *            the unit of the <code>budget</code>
 	 */
-	public static void assertTitleStartsWith(WebDriver driver, String prefix, int toffset) {
-		String title = driver.getTitle();
+	public static void assertTimeToFirstByteWithin(WebDriver driver, long budget, TimeUnit unit) {
+		verify("assertTimeToFirstByteWithin", driver, NavigationChecks.within(NavigationMetric.TIME_TO_FIRST_BYTE, NavigationTiming.capture(driver), millis(budget, unit)));
+	}
 
-		assertTrue("The title <" + title + "> doesn't start with <" + prefix + "> at index " + toffset, title.startsWith(prefix, toffset));
+	/**
+	 * Tests if the <code>percentile</code> of the time to first byte over the <code>timings</code> is within the <code>budget</code>.
+	 * 
+	 * @param timings
+	 *            the <code>timings</code> of repeated navigations, see {@link NavigationTimings#sample(WebDriver, String, int)}
+	 * 
+	 * @param percentile
+	 *            the <code>percentile</code>, from 0 to 100, e.g. <code>95</code>
+	 * 
+	 * @param budget
+	 *            the maximum time to first byte
+	 * 
+	 * @param unit
+	 *            the unit of the <code>budget</code>
+	 */
+	public static void assertTimeToFirstByteWithin(NavigationTimings timings, double percentile, long budget, TimeUnit unit) {
+		verify("assertTimeToFirstByteWithin", NavigationChecks.within(NavigationMetric.TIME_TO_FIRST_BYTE, AssertionMetrics.read(timings), percentile, millis(budget, unit)));
 	}
 
 	/**
-	 * Tests if the substring of <em>title</em> beginning at the specified index starts with the specified <code>prefix</code>.
+	 * Tests if the DOM content loaded time of the current page of the <code>driver</code> is within the <code>budget</code>, see {@link NavigationTiming}.
 	 * 
 	 * @param driver
-	 *            the <code>driver</code> where will be checked
+	 *            the <code>driver</code> where will be checked, which must execute scripts
 	 * 
-	 * @param prefix
-	 *            the <em>title</em> <code>prefix</code>
+	 * @param budget
+	 *            the maximum DOM content loaded time
+	 * 
+	 * @param unit
+	 *            the unit of the <code>budget</code>
 	 */
-	public static void assertTitleStartsWith(WebDriver driver, String prefix) {
-		assertTitleStartsWith(driver, prefix, 0);
+	public static void assertDomContentLoadedWithin(WebDriver driver, long budget, TimeUnit unit) {
+		verify("assertDomContentLoadedWithin", driver, NavigationChecks.within(NavigationMetric.DOM_CONTENT_LOADED, NavigationTiming.capture(driver), millis(budget, unit)));
 	}
 
 	/**
-	 * Tests if the substring of <em>title</em> beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * Tests if the <code>percentile</code> of the DOM content loaded time over the <code>timings</code> is within the <code>budget</code>.
+	 * 
+	 * @param timings
+	 *            the <code>timings</code> of repeated navigations, see {@link NavigationTimings#sample(WebDriver, String, int)}
+	 * 
+	 * @param percentile
+	 *            the <code>percentile</code>, from 0 to 100, e.g. <code>95</code>
+	 * 
+	 * @param budget
+	 *            the maximum DOM content loaded time
+	 * 
+	 * @param unit
+	 *            the unit of the <code>budget</code>
+	 */
+	public static void assertDomContentLoadedWithin(NavigationTimings timings, double percentile, long budget, TimeUnit unit) {
+		verify("assertDomContentLoadedWithin", NavigationChecks.within(NavigationMetric.DOM_CONTENT_LOADED, AssertionMetrics.read(timings), percentile, millis(budget, unit)));
+	}
+
+	/**
+	 * Tests if the page load time of the current page of the <code>driver</code> is within the <code>budget</code>, see {@link NavigationTiming}.
 	 * 
 	 * @param driver
-	 *            the <code>driver</code> where will be checked
+	 *            the <code>driver</code> where will be checked, which must execute scripts
 	 * 
-	 * @param prefix
-	 *            the <em>title</em> <code>prefix</code>
+	 * @param budget
+	 *            the maximum page load time
 	 * 
-	 * @param toffset
-	 *            where to begin looking in this string
+	 * @param unit
+	 *            the unit of the <code>budget</code>
 	 */
-	public static void assertTitleStartsWithIgnoreCase(WebDriver driver, String prefix, int toffset) {
-		String title = driver.getTitle().toLowerCase();
-		prefix = prefix.toLowerCase();
+	public static void assertPageLoadWithin(WebDriver driver, long budget, TimeUnit unit) {
+		verify("assertPageLoadWithin", driver, NavigationChecks.within(NavigationMetric.PAGE_LOAD, NavigationTiming.capture(driver), millis(budget, unit)));
+	}
 
-		assertTrue("The title <" + title + "> doesn't start with <" + prefix + "> at index " + toffset, title.startsWith(prefix, toffset));
+	/**
+	 * Tests if the <code>percentile</code> of the page load time over the <code>timings</code> is within the <code>budget</code>.
+	 * 
+	 * @param timings
+	 *            the <code>timings</code> of repeated navigations, see {@link NavigationTimings#sample(WebDriver, String, int)}
+	 * 
+	 * @param percentile
+	 *            the <code>percentile</code>, from 0 to 100, e.g. <code>95</code>
+	 * 
+	 * @param budget
+	 *            the maximum page load time
+	 * 
+	 * @param unit
+	 *            the unit of the <code>budget</code>
+	 */
+	public static void assertPageLoadWithin(NavigationTimings timings, double percentile, long budget, TimeUnit unit) {
+		verify("assertPageLoadWithin", NavigationChecks.within(NavigationMetric.PAGE_LOAD, AssertionMetrics.read(timings), percentile, millis(budget, unit)));
 	}
 
 	/**
-	 * Tests if the substring of <em>title</em> beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * Tests if the current page of the <code>driver</code> loaded at most <code>budget</code> resources, see {@link NavigationTiming}. A page which filled its Resource Timing buffer only
+	 * passes when it is known to be within the <code>budget</code>, so a <code>budget</code> of {@link NavigationTiming#RESOURCE_TIMING_BUFFER_SIZE} or more fails on it.
 	 * 
 	 * @param driver
-	 *            the <code>driver</code> where will be checked
+	 *            the <code>driver</code> where will be checked, which must execute scripts
 	 * 
-	 * @param prefix
-	 *            the <em>title</em> <code>prefix</code>
+	 * @param budget
+	 *            the maximum number of resources
 	 */
-	public static void assertTitleStartsWithIgnoreCase(WebDriver driver, String prefix) {
-		assertTitleStartsWithIgnoreCase(driver, prefix, 0);
+	public static void assertResourceCountAtMost(WebDriver driver, int budget) {
+		verify("assertResourceCountAtMost", driver, NavigationChecks.within(NavigationMetric.RESOURCE_COUNT, NavigationTiming.capture(driver), budget));
 	}
 
 	/**
-	 * Tests if the substring of <em>title</em> does not beginning at the specified index starts with the specified <code>prefix</code>.
+	 * Tests if the <code>percentile</code> of the number of resources loaded over the <code>timings</code> is at most <code>budget</code>. The navigations which filled the Resource Timing
+	 * buffer, see {@link NavigationTiming#isResourceCountLowerBound()}, count as above the <code>budget</code> unless their lower bound is already above it.
 	 * 
-	 * @param driver
-	 *            the <code>driver</code> where will be checked
+	 * @param timings
+	 *            the <code>timings</code> of repeated navigations, see {@link NavigationTimings#sample(WebDriver, String, int)}
 	 * 
-	 * @param prefix
-	 *            the <em>title</em> <code>prefix</code>
+	 * @param percentile
+	 *            the <code>percentile</code>, from 0 to 100, e.g. <code>95</code>
 	 * 
-	 * @param toffset
-	 *            where to begin looking in this string
+	 * @param budget
+	 *            the maximum number of resources
 	 */
-	public static void assertTitleDoesNotStartWith(WebDriver driver, String prefix, int toffset) {
-		String title = driver.getTitle();
+	public static void assertResourceCountAtMost(NavigationTimings timings, double percentile, int budget) {
+		verify("assertResourceCountAtMost", NavigationChecks.within(NavigationMetric.RESOURCE_COUNT, AssertionMetrics.read(timings), percentile, budget));
+	}
 
-		assertFalse("The title <" + title + "> starts with <" + prefix + "> at index " + toffset, title.startsWith(prefix, toffset));
+	/**
+	 * Tests if the browser log of the <code>driver</code> has no entry at level SEVERE since its mark, e.g. no JavaScript error, see {@link BrowserLog}.
+	 * 
+	 * @param driver
+	 *            the <code>driver</code> where will be checked, which must support the browser log
+	 */
+	public static void assertNoBrowserErrors(WebDriver driver) {
+		verify("assertNoBrowserErrors", driver, BrowserLog.of(driver).checkNone(Level.SEVERE, null));
 	}
 
 	/**
-	 * Tests if the substring of <em>title</em> does not beginning at the specified index starts with the specified <code>prefix</code>.
+	 * Tests if the browser log of the <code>driver</code> has an entry since its mark which contains <code>sequence</code>, see {@link BrowserLog}.
 	 * 
 	 * @param driver
-	 *            the <code>driver</code> where will be checked
+	 *            the <code>driver</code> where will be checked, which must support the browser log
 	 * 
-	 * @param prefix
-	 *            the <em>title</em> <code>prefix</code>
+	 * @param sequence
+	 *            the expected sequence
 	 */
-	public static void assertTitleDoesNotStartWith(WebDriver driver, String prefix) {
-		assertTitleDoesNotStartWith(driver, prefix, 0);
+	public static void assertBrowserLogContains(WebDriver driver, String sequence) {
+		verify("assertBrowserLogContains", driver, BrowserLog.of(driver).checkAny(Level.ALL, StringCondition.contains(sequence)));
 	}
 
 	/**
-	 * Tests if the substring of <em>title</em> does not beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * Tests if the browser log of the <code>driver</code> has an entry since its mark, at the <code>level</code> or above, whose message satisfies the <code>condition</code>, see
+	 * {@link BrowserLog}.
 	 * 
 	 * @param driver
-	 *            the <code>driver</code> where will be checked
+	 *            the <code>driver</code> where will be checked, which must support the browser log
 	 * 
-	 * @param prefix
-	 *            the <em>title</em> <code>prefix</code>
+	 * @param level
+	 *            the minimum <code>level</code> of the entry, e.g. {@link Level#WARNING}
 	 * 
-	 * @param toffset
-	 *            where to begin looking in this string
+	 * @param condition
+	 *            the <code>condition</code> on the message of the entry
 	 */
-	public static void assertTitleDoesNotStartWithIgnoreCase(WebDriver driver, String prefix, int toffset) {
-		String title = driver.getTitle().toLowerCase();
-		prefix = prefix.toLowerCase();
-
-		assertFalse("The title <" + title + "> starts with <" + prefix + "> at index " + toffset, title.startsWith(prefix, toffset));
+	public static void assertBrowserLogContains(WebDriver driver, Level level, StringCondition condition) {
+		verify("assertBrowserLogContains", driver, BrowserLog.of(driver).checkAny(level, condition));
 	}
 
 	/**
-	 * Tests if the substring of <em>title</em> does not beginning at the specified index starts with the specified <code>prefix</code> ignoring case.
+	 * Tests if the browser log of the <code>driver</code> has no entry since its mark whose whole message matches the <code>regex</code>, see {@link BrowserLog}.
 	 * 
 	 * @param driver
-	 *            the <code>driver</code> where will be checked
+	 *            the <code>driver</code> where will be checked, which must support the browser log
 	 * 
-	 * @param prefix
-	 *            the <em>title</em> <code>prefix</code>
+	 * @param regex
+	 *            the regular expression, e.g. <code>.*TypeError.*</code>
 	 */
-	public static void assertTitleDoesNotStartWithIgnoreCase(WebDriver driver, String prefix) {
-		assertTitleDoesNotStartWith(driver, prefix, 0);
+	public static void assertBrowserLogDoesNotMatch(WebDriver driver, String regex) {
+		verify("assertBrowserLogDoesNotMatch", driver, BrowserLog.of(driver).checkNone(Level.ALL, StringCondition.matches(regex)));
 	}
 
 	/**
-	 * Tests if <em>title</em> ends with the specified <code>suffix</code>.
+	 * Tests if the browser log of the <code>driver</code> has no entry since its mark whose whole message matches the <code>pattern</code>, see {@link BrowserLog}.
 	 * 
 	 * @param driver
-	 *            the <code>driver</code> where will be checked
+	 *            the <code>driver</code> where will be checked, which must support the browser log
 	 * 
-	 * @param suffix
-	 *            the <em>title</em> <code>suffix</code>
+	 * @param pattern
+	 *            the compiled <code>pattern</code>
 	 */
-	public static void assertTitleEndsWith(WebDriver driver, String suffix) {
-		String title = driver.getTitle();
-
-		assertTrue("The title <" + title + "> doesn't end with <" + suffix + ">", title.endsWith(suffix));
+	public static void assertBrowserLogDoesNotMatch(WebDriver driver, Pattern pattern) {
+		verify("assertBrowserLogDoesNotMatch", driver, BrowserLog.of(driver).checkNone(Level.ALL, StringCondition.matches(pattern)));
 	}
 
 	/**
-	 * Tests if <em>title</em> ends with the specified <code>suffix</code> ignoring case.
+	 * Starts fluent assertions on the page of the <code>driver</code>. Each property chain reads its value from the <code>driver</code> only once:
+	 * 
+	 * <pre>
+	 * assertThat(driver).currentUrl().startsWith("https://").contains("/checkout");
+	 * </pre>
 	 * 
 	 * @param driver
 	 *            the <code>driver</code> where will be checked
 	 * 
-	 * @param suffix
-	 *            the <em>title</em> <code>suffix</code>
+	 * @return the fluent assertions on the page
 	 */
-	public static void assertTitleEndsWithIgnoreCase(WebDriver driver, String suffix) {
-		String title = driver.getTitle().toLowerCase();
-		suffix = suffix.toLowerCase();
+	public static PageAssert assertThat(WebDriver driver) {
+		return new PageAssert(driver);
+	}
 
-		assertTrue("The title <" + title + "> doesn't end with <" + suffix + ">", title.endsWith(suffix));
+	/**
+	 * Starts fluent assertions on a page snapshot.
+	 * 
+	 * @param snapshot
+	 *            the <code>snapshot</code> where will be checked
+	 * 
+	 * @return the fluent assertions on the page
+	 */
+	public static PageAssert assertThat(PageSnapshot snapshot) {
+		return new PageAssert(snapshot);
 	}
 
 	/**
-	 * Tests if <em>title</em> does not end with the specified <code>suffix</code>.
+	 * Starts assertions on the <code>elements</code> of the page of the <code>driver</code>. The checks apply to every element and are evaluated by {@link WebElementAssert#assertAll()}, which
+	 * reads all the needed properties in a single round trip:
+	 * 
+	 * <pre>
+	 * WebElementAssert items = assertThat(driver, driver.findElements(By.cssSelector(".cart li a")));
+	 * 
+	 * items.text().startsWith("Item");
+	 * items.isDisplayed().isEnabled().assertAll();
+	 * </pre>
 	 * 
 	 * @param driver
-	 *            the <code>driver</code> where will be checked
+	 *            the <code>driver</code> where the <code>elements</code> were found
 	 * 
-	 * @param suffix
-	 *            the <em>title</em> <code>suffix</code>
+	 * @param elements
+	 *            the <code>elements</code> to be checked
+	 * 
+	 * @return the assertions on the elements
 	 */
-	public static void assertTitleDoesNotEndWith(WebDriver driver, String suffix) {
-		String title = driver.getTitle();
-
-		assertFalse("The title <" + title + "> ends with <" + suffix + ">", title.endsWith(suffix));
+	public static WebElementAssert assertThat(WebDriver driver, List<? extends WebElement> elements) {
+		return new WebElementAssert(driver, elements);
 	}
 
 	/**
-	 * Tests if <em>title</em> does not end with the specified <code>suffix</code> ignoring case.
+	 * Starts eventual assertions on the page of the <code>driver</code>, which poll the <code>driver</code> until each condition is satisfied or the <code>timeout</code> expires:
+	 * 
+	 * <pre>
+	 * eventually(driver, 5, TimeUnit.SECONDS).title().isEqualTo("Checkout");
+	 * </pre>
 	 * 
 	 * @param driver
 	 *            the <code>driver</code> where will be checked
 	 * 
-	 * @param suffix
-	 *            the <em>title</em> <code>suffix</code>
+	 * @param timeout
+	 *            the maximum time to wait for each condition
+	 * 
+	 * @param unit
+	 *            the unit of the <code>timeout</code>
+	 * 
+	 * @return the eventual assertions on the page
 	 */
-	public static void assertTitleDoesNotEndWithIgnoreCase(WebDriver driver, String suffix) {
-		String title = driver.getTitle().toLowerCase();
-		suffix = suffix.toLowerCase();
+	public static EventualWebDriverAssert eventually(WebDriver driver, long timeout, TimeUnit unit) {
+		return new EventualWebDriverAssert(driver, timeout, unit);
+	}
+
+	private static String currentUrl(WebDriver driver) {
+		return AssertionMetrics.read(driver, PageProperty.CURRENT_URL);
+	}
+
+	private static String currentUrl(PageSnapshot snapshot) {
+		return AssertionMetrics.read(snapshot, PageProperty.CURRENT_URL);
+	}
+
+	private static String title(WebDriver driver) {
+		return AssertionMetrics.read(driver, PageProperty.TITLE);
+	}
+
+	private static String title(PageSnapshot snapshot) {
+		return AssertionMetrics.read(snapshot, PageProperty.TITLE);
+	}
 
-		assertFalse("The title <" + title + "> ends with <" + suffix + ">", title.endsWith(suffix));
+	private static double millis(long budget, TimeUnit unit) {
+		return unit.toNanos(budget) / 1e6;
+	}
+
+	private static String pageSource(WebDriver driver) {
+		return AssertionMetrics.readPageSource(driver);
 	}
 
 	/**
-	 * Tests if <em>title</em> contains the <code>sequence</code>.
+	 * Starts assertions run against all <code>drivers</code> at the same time, which all must finish before the <code>timeout</code>:
 	 * 
-	 * @param driver
-	 *            the <code>driver</code> where will be checked
+	 * <pre>
+	 * inParallel(drivers, 30, TimeUnit.SECONDS).check(driver -&gt; assertTitleEquals(driver, "Checkout")).assertPassed();
+	 * </pre>
 	 * 
-	 * @param sequence
-	 *            the <code>sequence</code> to search for
+	 * @param drivers
+	 *            the <code>drivers</code> where will be checked
+	 * 
+	 * @param timeout
+	 *            the maximum time to wait for the assertions of all <code>drivers</code>
+	 * 
+	 * @param unit
+	 *            the unit of the <code>timeout</code>
+	 * 
+	 * @return the parallel assertions on the pages
 	 */
-	public static void assertTitleContains(WebDriver driver, String sequence) {
-		String title = driver.getTitle();
-
-		assertTrue("The title <" + title + "> does not contain <" + sequence + ">", title.contains(sequence));
+	public static ParallelWebDriverAssert inParallel(Collection<? extends WebDriver> drivers, long timeout, TimeUnit unit) {
+		return new ParallelWebDriverAssert(drivers, timeout, unit);
 	}
 
 	/**
-	 * Tests if <em>title</em> contains the <code>sequence</code> ignoring case.
+	 * Starts asynchronous assertions on the page of the <code>driver</code>, which run on the <code>executor</code> and return a {@link java.util.concurrent.CompletableFuture}:
+	 * 
+	 * <pre>
+	 * async(driver, executor).title(StringCondition.equalTo("Checkout")).join();
+	 * </pre>
 	 * 
 	 * @param driver
 	 *            the <code>driver</code> where will be checked
 	 * 
-	 * @param sequence
-	 *            the <code>sequence</code> to search for
+	 * @param executor
+	 *            the <code>executor</code> where the checks run
+	 * 
+	 * @return the asynchronous assertions on the page
 	 */
-	public static void assertTitleContainsIgnoreCase(WebDriver driver, String sequence) {
-		String title = driver.getTitle().toLowerCase();
-		sequence = sequence.toLowerCase();
-
-		assertTrue("The title <" + title + "> does not contain <" + sequence + ">", title.contains(sequence));
+	public static AsyncWebDriverAssert async(WebDriver driver, Executor executor) {
+		return new AsyncWebDriverAssert(driver, executor);
 	}
 
 	/**
-	 * Tests if <em>title</em> does not contain the <code>sequence</code>.
+	 * Starts assertions evaluated inside the browser, where a batch of checks on the page and on the text of its elements costs a single script, which returns only the failures:
+	 * 
+	 * <pre>
+	 * InBrowserWebDriverAssert audit = inBrowser(driver);
+	 * 
+	 * audit.title().isEqualTo("Checkout");
+	 * audit.text(".cart .price").matches("\\$\\d+\\.\\d{2}");
+	 * audit.assertAll();
+	 * </pre>
 	 * 
 	 * @param driver
 	 *            the <code>driver</code> where will be checked
 	 * 
-	 * @param sequence
-	 *            the <code>sequence</code> to search for
+	 * @return the assertions evaluated inside the browser
 	 */
-	public static void assertTitleDoesNotContain(WebDriver driver, String sequence) {
-		String title = driver.getTitle();
-
-		assertFalse("The title <" + title + "> contains <" + sequence + ">", title.contains(sequence));
+	public static InBrowserWebDriverAssert inBrowser(WebDriver driver) {
+		return new InBrowserWebDriverAssert(driver);
 	}
 
 	/**
-	 * Tests if <em>title</em> does not contain the <code>sequence</code>.
+	 * Reports a check of the fluent, soft, eventual, parallel, asynchronous, in browser or element assertions, which throw or collect their failures themselves: the check is reported to the
+	 * {@link AssertionMetrics}, and the {@link FailureArtifacts} of its failure, if any, are captured.
+	 * 
+	 * @param assertion
+	 *            the name of the assertion, the class of the API, e.g. <em>PageAssert</em>
 	 * 
 	 * @param driver
-	 *            the <code>driver</code> where will be checked
+	 *            the <code>driver</code> which was checked, or <code>null</code> if there is none
 	 * 
-	 * @param sequence
-	 *            the <code>sequence</code> to search for
+	 * @param start
+	 *            the start of the check, see {@link AssertionMetrics#start()}
+	 * 
+	 * @param failure
+	 *            the failure of the check, or <code>null</code> if it passed
 	 */
-	public static void assertTitleDoesNotContainIgnoreCase(WebDriver driver, String sequence) {
-		String title = driver.getTitle().toLowerCase();
-		sequence = sequence.toLowerCase();
+	static void report(String assertion, WebDriver driver, long start, AssertionError failure) {
+		AssertionMetrics.evaluated(assertion, start, failure == null);
 
-		assertFalse("The title <" + title + "> contains <" + sequence + ">", title.contains(sequence));
+		if (failure != null)
+			FailureArtifacts.failed(assertion, driver, failure);
 	}
 
 	/**
-	 * Tests if <em>title</em> matches the given <code>regex</code>.
+	 * Reports the check of the <code>assertion</code> to the {@link AssertionMetrics} and throws its <code>failure</code>, if any.
 	 * 
-	 * @param driver
-	 *            the <code>driver</code> where will be checked
+	 * @param assertion
+	 *            the name of the assertion method
 	 * 
-	 * @param regex
-	 *            the regular expression to which this string is to be matched
+	 * @param failure
+	 *            the result of a {@link StringChecks} check
 	 */
-	public static void assertTitleMatches(WebDriver driver, String regex) {
-		String title = driver.getTitle();
-
-		assertTrue("The title <" + title + "> does not match <" + regex + ">", title.matches(regex));
+	private static void verify(String assertion, AssertionError failure) {
+		verify(assertion, null, failure);
 	}
 
 	/**
-	 * Tests if <em>title</em> does not match the given <code>regex</code>.
+	 * Reports the check of the <code>assertion</code> to the {@link AssertionMetrics} and throws its <code>failure</code>, if any, after capturing its {@link FailureArtifacts}.
+	 * 
+	 * @param assertion
+	 *            the name of the assertion method
 	 * 
 	 * @param driver
-	 *            the <code>driver</code> where will be checked
+	 *            the <code>driver</code> which was checked
 	 * 
-	 * @param regex
-	 *            the regular expression to which this string is to be matched
+	 * @param failure
+	 *            the result of a {@link StringChecks} check
 	 */
-	public static void assertTitleDoesNotMatch(WebDriver driver, String regex) {
-		String title = driver.getTitle();
+	private static void verify(String assertion, WebDriver driver, AssertionError failure) {
+		AssertionMetrics.verified(assertion, failure == null);
+
+		if (failure == null)
+			return;
+
+		FailureArtifacts.failed(assertion, driver, failure);
 
-		assertFalse("The title <" + title + "> matches <" + regex + ">", title.matches(regex));
+		throw failure;
 	}
 
 	/**
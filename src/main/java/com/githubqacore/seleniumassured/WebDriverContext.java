@@ -0,0 +1,89 @@
+package com.githubqacore.seleniumassured;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * An optional driver bound to the current thread, which the driverless {@link WebDriverAssert} overloads check, so tests running in parallel do not pass their driver through every helper:
+ *
+ * <pre>
+ * WebDriverContext.bind(driver);
+ *
+ * try {
+ *     assertCurrentUrlStartsWith("https://");
+ *     assertTitleEquals("Checkout");
+ * } finally {
+ *     WebDriverContext.unbind();
+ * }
+ * </pre>
+ *
+ * Each thread sees only its own driver, and resolving it takes no lock. {@link WebDriverPoolRule} binds the driver it acquires for the duration of the test.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see WebDriverAssert
+ *
+ * @since 1.0.0
+ *
+ */
+public final class WebDriverContext {
+
+	private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+
+	/**
+	 * Binds the <code>driver</code> to the current thread, replacing the bound one, if any.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> to be bound
+	 */
+	public static void bind(WebDriver driver) {
+		if (driver == null)
+			throw new IllegalArgumentException("The driver can not be null");
+
+		DRIVER.set(driver);
+	}
+
+	/**
+	 * Unbinds the driver of the current thread, if any. Threads of a pool must unbind it, or the next task on the thread sees it.
+	 */
+	public static void unbind() {
+		DRIVER.remove();
+	}
+
+	/**
+	 * Returns the driver bound to the current thread.
+	 *
+	 * @return the driver bound to the current thread
+	 *
+	 * @throws IllegalStateException
+	 *             if no driver is bound to the current thread
+	 */
+	public static WebDriver getDriver() {
+		WebDriver driver = DRIVER.get();
+
+		if (driver == null)
+			throw new IllegalStateException("No driver is bound to the thread " + Thread.currentThread().getName() + ", see WebDriverContext.bind(WebDriver)");
+
+		return driver;
+	}
+
+	/**
+	 * Tests if a driver is bound to the current thread.
+	 *
+	 * @return <code>true</code> if a driver is bound to the current thread. Otherwise, false.
+	 */
+	public static boolean isBound() {
+		return DRIVER.get() != null;
+	}
+
+	/**
+	 * Private constructor (static class)
+	 */
+	private WebDriverContext() {
+
+	}
+
+}
@@ -0,0 +1,464 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * A pool of browser sessions, which are reused by the tests instead of starting a browser for each one:
+ *
+ * <pre>
+ * WebDriverPool pool = new WebDriverPool(ChromeDriver::new, 4);
+ *
+ * WebDriver driver = pool.acquire();
+ *
+ * try {
+ *     // ... run the test
+ * } finally {
+ *     pool.release(driver);
+ * }
+ * </pre>
+ *
+ * Each thread gets back the session it released last when it is idle, and otherwise the session released most recently, whose browser is the warmest. A session is created only when none is idle,
+ * up to the maximum size of the pool, after which the threads wait for a release.
+ * <p>
+ * Released sessions are reset for the next test: the extra windows are closed, the cookies of the domain and the local and session storage of the origin of the page each window shows are
+ * cleared, and the main window navigates to <em>about:blank</em>. WebDriver only reaches the cookies and storage of the current page, so those of the other domains visited during the test, e.g.
+ * a single sign-on host, carry over to the next test. A test which needs isolation across domains should {@link #invalidate(WebDriver)} its session instead of releasing it, so the next one
+ * gets a fresh browser, or use a browser outside of the pool. The reset is also the health check: a session which fails it is quit and evicted. Sessions idle for more than {@link #VALIDATION_INTERVAL_MILLIS} are checked again before
+ * being handed out, since remote browsers time out.
+ * <p>
+ * See {@link WebDriverPoolRule} to acquire and release the sessions in JUnit tests, and {@link #getStatistics()} for the metrics of the pool.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see WebDriverPoolRule
+ *
+ * @since 1.0.0
+ *
+ */
+public final class WebDriverPool implements AutoCloseable {
+
+	/**
+	 * How long {@link #acquire()} waits for a session to be released, in seconds.
+	 */
+	public static final long					DEFAULT_TIMEOUT_SECONDS		= 60;
+
+	/**
+	 * Sessions idle for longer are checked before being handed out, in milliseconds.
+	 */
+	public static final long					VALIDATION_INTERVAL_MILLIS	= 30_000;
+
+	private static final String					CLEAR_STORAGE				= "try { window.localStorage.clear(); } catch (e) {}\n"
+			+ "try { window.sessionStorage.clear(); } catch (e) {}";
+
+	private final Supplier<? extends WebDriver>	factory;
+
+	private final int							maxSize;
+
+	/**
+	 * The idle sessions, the most recently released last, guarded by <code>this</code>.
+	 */
+	private final Deque<Session>				idle						= new ArrayDeque<>();
+
+	/**
+	 * The sessions handed out, by driver, guarded by <code>this</code>.
+	 */
+	private final Map<WebDriver, Session>		busy						= new IdentityHashMap<>();
+
+	/**
+	 * The session each thread released last, which it gets back when it is idle.
+	 */
+	private final ThreadLocal<Session>			affinity					= new ThreadLocal<>();
+
+	/**
+	 * The sessions which are idle, busy or being created, guarded by <code>this</code>.
+	 */
+	private int									size;
+
+	private boolean								closed;
+
+	private final LongAdder						acquired					= new LongAdder();
+
+	private final LongAdder						hits						= new LongAdder();
+
+	private final LongAdder						affinityHits				= new LongAdder();
+
+	private final LongAdder						created						= new LongAdder();
+
+	private final LongAdder						evicted						= new LongAdder();
+
+	private final LatencyHistogram				waits						= new LatencyHistogram();
+
+	private final LatencyHistogram				startups					= new LatencyHistogram();
+
+	private final LatencyHistogram				resets						= new LatencyHistogram();
+
+	/**
+	 * Creates a pool, which starts empty.
+	 *
+	 * @param factory
+	 *            the <code>factory</code> which starts a new browser session
+	 *
+	 * @param maxSize
+	 *            the maximum number of sessions, idle or busy
+	 */
+	public WebDriverPool(Supplier<? extends WebDriver> factory, int maxSize) {
+		if (factory == null)
+			throw new IllegalArgumentException("The factory can not be null");
+
+		if (maxSize < 1)
+			throw new IllegalArgumentException("Invalid max size " + maxSize);
+
+		this.factory = factory;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Acquires a session, waiting up to {@link #DEFAULT_TIMEOUT_SECONDS} for a release when the pool is exhausted.
+	 *
+	 * @return the driver of the session, which must be released by {@link #release(WebDriver)}
+	 *
+	 * @throws TimeoutException
+	 *             if no session was released in time
+	 *
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while waiting
+	 */
+	public WebDriver acquire() throws InterruptedException {
+		return acquire(DEFAULT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Acquires a session, waiting for a release when the pool is exhausted.
+	 *
+	 * @param timeout
+	 *            the maximum time to wait
+	 *
+	 * @param unit
+	 *            the unit of the <code>timeout</code>
+	 *
+	 * @return the driver of the session, which must be released by {@link #release(WebDriver)}
+	 *
+	 * @throws TimeoutException
+	 *             if no session was released in time
+	 *
+	 * @throws InterruptedException
+	 *             if the current thread is interrupted while waiting
+	 */
+	public WebDriver acquire(long timeout, TimeUnit unit) throws InterruptedException {
+		long start = System.nanoTime();
+		long deadline = start + unit.toNanos(timeout);
+
+		while (true) {
+			Session session = null;
+
+			synchronized (this) {
+				while (session == null) {
+					if (closed)
+						throw new IllegalStateException("The pool is closed");
+
+					session = takeIdle();
+
+					if (session == null && size < maxSize) {
+						size++;
+						break;
+					}
+
+					if (session == null) {
+						long remaining = deadline - System.nanoTime();
+
+						if (remaining <= 0)
+							throw new TimeoutException("No session was released in " + timeout + " " + unit.toString().toLowerCase() + ", all " + maxSize + " are busy");
+
+						TimeUnit.NANOSECONDS.timedWait(this, remaining);
+					}
+				}
+			}
+
+			if (session == null) {
+				waits.record(System.nanoTime() - start);
+
+				return handOut(create(), false);
+			}
+
+			if (System.currentTimeMillis() - session.released <= VALIDATION_INTERVAL_MILLIS || isHealthy(session)) {
+				waits.record(System.nanoTime() - start);
+
+				return handOut(session, true);
+			}
+
+			evict(session);
+		}
+	}
+
+	/**
+	 * Releases a session, which is reset for the next test, or evicted if it is broken.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> returned by {@link #acquire()}
+	 */
+	public void release(WebDriver driver) {
+		Session session = remove(driver);
+		boolean healthy = reset(session);
+
+		synchronized (this) {
+			if (healthy && !closed) {
+				session.released = System.currentTimeMillis();
+				idle.addLast(session);
+				affinity.set(session);
+				notifyAll();
+
+				return;
+			}
+		}
+
+		if (healthy)
+			quit(session);
+		else
+			evict(session);
+	}
+
+	/**
+	 * Evicts a session without resetting it, e.g. when the test knows that the browser crashed.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> returned by {@link #acquire()}
+	 */
+	public void invalidate(WebDriver driver) {
+		evict(remove(driver));
+	}
+
+	/**
+	 * Returns a snapshot of the metrics of the pool.
+	 *
+	 * @return the metrics of the pool
+	 */
+	public WebDriverPoolStatistics getStatistics() {
+		int idleSessions;
+		int busySessions;
+
+		synchronized (this) {
+			idleSessions = idle.size();
+			busySessions = busy.size();
+		}
+
+		return new WebDriverPoolStatistics(acquired.sum(), hits.sum(), affinityHits.sum(), created.sum(), evicted.sum(), idleSessions, busySessions, waits.snapshot(), startups.snapshot(),
+				resets.snapshot());
+	}
+
+	/**
+	 * Returns the maximum number of sessions.
+	 *
+	 * @return the maximum number of sessions
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Quits the idle sessions. The busy ones are quit when released, and no session can be acquired anymore.
+	 */
+	@Override
+	public void close() {
+		List<Session> sessions;
+
+		synchronized (this) {
+			closed = true;
+			sessions = new ArrayList<>(idle);
+			idle.clear();
+			notifyAll();
+		}
+
+		for (Session session : sessions)
+			quit(session);
+	}
+
+	/**
+	 * Takes the idle session released last by the current thread, or else the idle session released last. Must hold the lock.
+	 */
+	private Session takeIdle() {
+		Session preferred = affinity.get();
+
+		if (preferred != null && idle.removeLastOccurrence(preferred)) {
+			affinityHits.increment();
+
+			return preferred;
+		}
+
+		return idle.pollLast();
+	}
+
+	private Session create() {
+		long start = System.nanoTime();
+		WebDriver driver;
+
+		try {
+			driver = factory.get();
+		} catch (RuntimeException | Error e) {
+			synchronized (this) {
+				size--;
+				notifyAll();
+			}
+
+			throw e;
+		}
+
+		startups.record(System.nanoTime() - start);
+		created.increment();
+
+		String window = null;
+
+		try {
+			window = driver.getWindowHandle();
+		} catch (RuntimeException e) {
+			// adopted by the first reset
+		}
+
+		return new Session(driver, window);
+	}
+
+	private WebDriver handOut(Session session, boolean hit) {
+		synchronized (this) {
+			busy.put(session.driver, session);
+		}
+
+		acquired.increment();
+
+		if (hit)
+			hits.increment();
+
+		return session.driver;
+	}
+
+	private synchronized Session remove(WebDriver driver) {
+		Session session = busy.remove(driver);
+
+		if (session == null)
+			throw new IllegalArgumentException("The driver was not acquired from this pool, or was already released");
+
+		return session;
+	}
+
+	/**
+	 * Closes the extra windows and clears the state of the session, returning <code>false</code> if the browser does not respond or cannot be reset.
+	 */
+	private boolean reset(Session session) {
+		long start = System.nanoTime();
+		WebDriver driver = session.driver;
+
+		try {
+			Set<String> windows = driver.getWindowHandles();
+
+			if (windows.isEmpty())
+				return false;
+
+			if (session.window == null || !windows.contains(session.window))
+				session.window = windows.iterator().next();
+
+			for (String window : windows) {
+				if (window.equals(session.window))
+					continue;
+
+				driver.switchTo().window(window);
+				clear(driver);
+				driver.close();
+			}
+
+			if (windows.size() > 1)
+				driver.switchTo().window(session.window);
+
+			clear(driver);
+			driver.get("about:blank");
+
+			return true;
+		} catch (RuntimeException e) {
+			// any failure evicts the session, whose slot would leak otherwise
+			return false;
+		} finally {
+			resets.record(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Clears the cookies and the storage of the current page, which are per domain: those of the other domains the session visited are kept.
+	 */
+	private static void clear(WebDriver driver) {
+		driver.manage().deleteAllCookies();
+
+		if (!(driver instanceof JavascriptExecutor))
+			return;
+
+		try {
+			((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE);
+		} catch (WebDriverException | UnsupportedOperationException e) {
+			// no scripts, or no page loaded yet, so no storage to clear. A dead browser fails the other calls.
+		}
+	}
+
+	private static boolean isHealthy(Session session) {
+		try {
+			session.driver.getWindowHandle();
+
+			return true;
+		} catch (RuntimeException e) {
+			return false;
+		}
+	}
+
+	private void evict(Session session) {
+		evicted.increment();
+		quit(session);
+	}
+
+	private void quit(Session session) {
+		synchronized (this) {
+			size--;
+			notifyAll();
+		}
+
+		try {
+			session.driver.quit();
+		} catch (WebDriverException e) {
+			// already gone
+		}
+	}
+
+	/**
+	 * A browser session and its main window.
+	 */
+	private static final class Session {
+
+		private final WebDriver	driver;
+
+		private String			window;
+
+		/**
+		 * When the session was released last, in milliseconds.
+		 */
+		private long			released;
+
+		Session(WebDriver driver, String window) {
+			this.driver = driver;
+			this.window = window;
+		}
+
+	}
+
+}
@@ -0,0 +1,128 @@
+package com.githubqacore.seleniumassured;
+
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Acquires a session from a {@link WebDriverPool} for each test, and releases it after the test, pass or fail:
+ *
+ * <pre>
+ * private static final WebDriverPool POOL = new WebDriverPool(ChromeDriver::new, 4);
+ *
+ * &#64;Rule
+ * public WebDriverPoolRule browser = new WebDriverPoolRule(POOL);
+ *
+ * &#64;Test
+ * public void checkoutTest() {
+ *     WebDriver driver = browser.getDriver();
+ *
+ *     driver.get("https://shop.example.com/checkout");
+ *     WebDriverAssert.assertTitleEquals(driver, "Checkout");
+ * }
+ * </pre>
+ *
+ * The session is only acquired when the test calls {@link #getDriver()}, so tests which do not use the browser do not wait for one. Once acquired, the driver is also bound to the thread of the
+ * test by {@link WebDriverContext}, so the driverless assertions check it, e.g. <code>assertTitleEquals("Checkout")</code>. If the session has a {@link BrowserLog}, it is marked, so the entries logged by the
+ * previous test are not checked.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see WebDriverPool
+ *
+ * @since 1.0.0
+ *
+ */
+public class WebDriverPoolRule implements TestRule {
+
+	private final WebDriverPool	pool;
+
+	private boolean				running;
+
+	private WebDriver			driver;
+
+	/**
+	 * Creates a rule acquiring the sessions from the <code>pool</code>.
+	 *
+	 * @param pool
+	 *            the <code>pool</code> of the sessions
+	 */
+	public WebDriverPoolRule(WebDriverPool pool) {
+		if (pool == null)
+			throw new IllegalArgumentException("The pool can not be null");
+
+		this.pool = pool;
+	}
+
+	/**
+	 * Returns the driver of the running test, acquiring it, binding it to the current thread and marking its browser log on the first call.
+	 *
+	 * @return the driver of the running test
+	 *
+	 * @throws IllegalStateException
+	 *             if no test is running
+	 */
+	public WebDriver getDriver() {
+		if (!running)
+			throw new IllegalStateException("The driver is only available while a test is running");
+
+		if (driver == null) {
+			try {
+				driver = pool.acquire();
+				WebDriverContext.bind(driver);
+
+				BrowserLog log = BrowserLog.existing(driver);
+
+				if (log != null)
+					log.mark();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+
+				throw new IllegalStateException("Interrupted while waiting for a session", e);
+			}
+		}
+
+		return driver;
+	}
+
+	/**
+	 * Returns the pool of the sessions.
+	 *
+	 * @return the pool of the sessions
+	 */
+	public WebDriverPool getPool() {
+		return pool;
+	}
+
+	@Override
+	public Statement apply(Statement base, Description description) {
+		return new Statement() {
+
+			@Override
+			public void evaluate() throws Throwable {
+				running = true;
+
+				try {
+					base.evaluate();
+				} finally {
+					running = false;
+
+					if (driver != null) {
+						WebDriver released = driver;
+
+						driver = null;
+						WebDriverContext.unbind();
+						pool.release(released);
+					}
+				}
+			}
+
+		};
+	}
+
+}
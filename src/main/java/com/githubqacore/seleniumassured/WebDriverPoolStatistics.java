@@ -0,0 +1,192 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The metrics of a {@link WebDriverPool}, as of the moment they were taken.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see WebDriverPool#getStatistics()
+ *
+ * @since 1.0.0
+ *
+ */
+public final class WebDriverPoolStatistics {
+
+	private final long				acquired;
+
+	private final long				hits;
+
+	private final long				affinityHits;
+
+	private final long				created;
+
+	private final long				evicted;
+
+	private final int				idle;
+
+	private final int				busy;
+
+	private final LatencyHistogram	waits;
+
+	private final LatencyHistogram	startups;
+
+	private final LatencyHistogram	resets;
+
+	WebDriverPoolStatistics(long acquired, long hits, long affinityHits, long created, long evicted, int idle, int busy, LatencyHistogram waits, LatencyHistogram startups,
+			LatencyHistogram resets) {
+		this.acquired = acquired;
+		this.hits = hits;
+		this.affinityHits = affinityHits;
+		this.created = created;
+		this.evicted = evicted;
+		this.idle = idle;
+		this.busy = busy;
+		this.waits = waits;
+		this.startups = startups;
+		this.resets = resets;
+	}
+
+	/**
+	 * Returns how many sessions were acquired.
+	 *
+	 * @return how many sessions were acquired
+	 */
+	public long getAcquired() {
+		return acquired;
+	}
+
+	/**
+	 * Returns how many acquired sessions were reused, instead of created.
+	 *
+	 * @return how many acquired sessions were reused
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the fraction of the acquired sessions which were reused.
+	 *
+	 * @return the hit rate, from <code>0</code> to <code>1</code>, or <code>0</code> if no session was acquired
+	 */
+	public double getHitRate() {
+		return acquired == 0 ? 0 : (double) hits / acquired;
+	}
+
+	/**
+	 * Returns how many reused sessions were the ones the acquiring thread released last.
+	 *
+	 * @return how many reused sessions were the ones the acquiring thread released last
+	 */
+	public long getAffinityHits() {
+		return affinityHits;
+	}
+
+	/**
+	 * Returns how many sessions were created.
+	 *
+	 * @return how many sessions were created
+	 */
+	public long getCreated() {
+		return created;
+	}
+
+	/**
+	 * Returns how many broken sessions were evicted.
+	 *
+	 * @return how many broken sessions were evicted
+	 */
+	public long getEvicted() {
+		return evicted;
+	}
+
+	/**
+	 * Returns how many sessions were idle.
+	 *
+	 * @return how many sessions were idle
+	 */
+	public int getIdle() {
+		return idle;
+	}
+
+	/**
+	 * Returns how many sessions were acquired and not released.
+	 *
+	 * @return how many sessions were busy
+	 */
+	public int getBusy() {
+		return busy;
+	}
+
+	/**
+	 * Returns the time below or equal to which the given <code>percentile</code> of the acquisitions waited for a session, not counting its creation.
+	 *
+	 * @param percentile
+	 *            the <code>percentile</code>, from 0 to 100
+	 *
+	 * @param unit
+	 *            the unit of the returned time
+	 *
+	 * @return the wait time of the <code>percentile</code>, with an error below 12.5%
+	 */
+	public long getWaitTime(double percentile, TimeUnit unit) {
+		return unit.convert(waits.getPercentile(percentile), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the time spent waiting for sessions.
+	 *
+	 * @param unit
+	 *            the unit of the returned time
+	 *
+	 * @return the time spent waiting for sessions
+	 */
+	public long getTotalWaitTime(TimeUnit unit) {
+		return unit.convert(waits.getTotal(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the time below or equal to which the given <code>percentile</code> of the sessions took to start.
+	 *
+	 * @param percentile
+	 *            the <code>percentile</code>, from 0 to 100
+	 *
+	 * @param unit
+	 *            the unit of the returned time
+	 *
+	 * @return the startup time of the <code>percentile</code>, with an error below 12.5%
+	 */
+	public long getStartupTime(double percentile, TimeUnit unit) {
+		return unit.convert(startups.getPercentile(percentile), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the time below or equal to which the given <code>percentile</code> of the resets took.
+	 *
+	 * @param percentile
+	 *            the <code>percentile</code>, from 0 to 100
+	 *
+	 * @param unit
+	 *            the unit of the returned time
+	 *
+	 * @return the reset time of the <code>percentile</code>, with an error below 12.5%
+	 */
+	public long getResetTime(double percentile, TimeUnit unit) {
+		return unit.convert(resets.getPercentile(percentile), TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public String toString() {
+		return acquired + " acquired, " + String.format(Locale.ROOT, "%.1f%%", getHitRate() * 100) + " reused, " + created + " created (p50 " + getStartupTime(50, TimeUnit.MILLISECONDS)
+				+ " ms), " + evicted + " evicted, " + idle + " idle, " + busy + " busy, waited " + getTotalWaitTime(TimeUnit.MILLISECONDS) + " ms (p99 " + getWaitTime(99, TimeUnit.MILLISECONDS)
+				+ " ms), reset in p50 " + getResetTime(50, TimeUnit.MILLISECONDS) + " ms";
+	}
+
+}
@@ -0,0 +1,337 @@
+package com.githubqacore.seleniumassured;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.ComparisonFailure;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Assertions on the <em>text</em>, attributes, visibility and state of a list of elements. The checks are recorded, and {@link #assertAll()} reads every property they need from all elements in a
+ * single script, evaluates them locally and throws a single {@link AssertionError} with all failures:
+ *
+ * <pre>
+ * WebElementAssert items = assertThat(driver, driver.findElements(By.cssSelector(".cart li a")));
+ *
+ * items.text().startsWith("Item").doesNotContainIgnoreCase("sold out");
+ * items.attribute("href").contains("/product/");
+ * items.isDisplayed().isEnabled();
+ *
+ * items.assertAll();
+ * </pre>
+ *
+ * Every check applies to every element, so checking <em>n</em> elements costs one remote call instead of one per element and property. When the <code>driver</code> is not a
+ * {@link JavascriptExecutor}, or if the script fails, the properties are read through the {@link WebElement} methods. The script mirrors them closely, but not exactly: the <em>text</em> is the
+ * trimmed <code>innerText</code>, and an element is displayed unless it, or one of its ancestors, is not rendered, hidden or transparent.
+ * <p>
+ * A batch ends on {@link #assertAll()}, so the next checks are a new batch. Instances are not thread safe.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ * @see WebDriverAssert#assertThat(WebDriver, List)
+ *
+ * @since 1.0.0
+ *
+ */
+public final class WebElementAssert {
+
+	private static final String		TEXT			= "text";
+
+	private static final String		DISPLAYED		= "displayed";
+
+	private static final String		ENABLED			= "enabled";
+
+	/**
+	 * Prefix of the attribute properties, which is not a valid character of an attribute name.
+	 */
+	private static final char		ATTRIBUTE		= '@';
+
+	/**
+	 * Reads the properties (<code>arguments[1]</code>) of all elements (<code>arguments[0]</code>), returning one row of values per element.
+	 */
+	private static final String		READ_SCRIPT		= ConditionScripts.ELEMENT_FUNCTIONS
+			+ "var elements = arguments[0], properties = arguments[1], rows = [];"
+			+ "for (var i = 0; i < elements.length; i++) {"
+			+ "  var row = [];"
+			+ "  for (var j = 0; j < properties.length; j++) {"
+			+ "    var p = properties[j], e = elements[i];"
+			+ "    row.push(p == 'text' ? text(e) : p == 'displayed' ? displayed(e) : p == 'enabled' ? enabled(e) : attribute(e, p.substring(1)));"
+			+ "  }"
+			+ "  rows.push(row);"
+			+ "}"
+			+ "return rows;";
+
+	private final WebDriver			driver;
+
+	private final List<WebElement>	elements;
+
+	private final List<String>		properties		= new ArrayList<>();
+
+	private final List<Check>		checks			= new ArrayList<>();
+
+	/**
+	 * Creates the assertions on the <code>elements</code> of the page of the <code>driver</code>.
+	 *
+	 * @param driver
+	 *            the <code>driver</code> where the <code>elements</code> were found
+	 *
+	 * @param elements
+	 *            the <code>elements</code> to be checked
+	 */
+	public WebElementAssert(WebDriver driver, List<? extends WebElement> elements) {
+		this.driver = driver;
+		this.elements = Collections.unmodifiableList(new ArrayList<WebElement>(elements));
+	}
+
+	/**
+	 * Starts a chain of checks on the <em>text</em> of every element.
+	 *
+	 * @return the chain of checks on the <em>text</em>
+	 */
+	public StringPropertyAssert text() {
+		return new StringPropertyAssert(condition -> record(TEXT, "text", condition, true));
+	}
+
+	/**
+	 * Starts a chain of checks on the attribute <code>name</code> of every element. An element without the attribute fails all of them.
+	 *
+	 * @param name
+	 *            the <code>name</code> of the attribute, or property, as in {@link WebElement#getAttribute(String)}
+	 *
+	 * @return the chain of checks on the attribute
+	 */
+	public StringPropertyAssert attribute(String name) {
+		if (name == null || name.isEmpty() || name.indexOf(ATTRIBUTE) >= 0)
+			throw new IllegalArgumentException("Invalid attribute name <" + name + ">");
+
+		return new StringPropertyAssert(condition -> record(ATTRIBUTE + name, "attribute <" + name + ">", condition, true));
+	}
+
+	/**
+	 * Checks that every element is displayed.
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public WebElementAssert isDisplayed() {
+		return record(DISPLAYED, "displayed", null, true);
+	}
+
+	/**
+	 * Checks that no element is displayed.
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public WebElementAssert isNotDisplayed() {
+		return record(DISPLAYED, "displayed", null, false);
+	}
+
+	/**
+	 * Checks that every element is enabled.
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public WebElementAssert isEnabled() {
+		return record(ENABLED, "enabled", null, true);
+	}
+
+	/**
+	 * Checks that no element is enabled.
+	 *
+	 * @return this assertion, for chaining
+	 */
+	public WebElementAssert isNotEnabled() {
+		return record(ENABLED, "enabled", null, false);
+	}
+
+	/**
+	 * Returns the checked elements.
+	 *
+	 * @return the checked elements
+	 */
+	public List<WebElement> getElements() {
+		return elements;
+	}
+
+	/**
+	 * Reads the properties needed by the recorded checks and evaluates them against every element, then starts a new batch.
+	 *
+	 * @throws AssertionError
+	 *             with all failures, if any check fails on any element
+	 */
+	public void assertAll() {
+		List<String> batchProperties = new ArrayList<>(properties);
+		List<Check> batch = new ArrayList<>(checks);
+
+		properties.clear();
+		checks.clear();
+
+		if (batch.isEmpty() || elements.isEmpty())
+			return;
+
+		long start = AssertionMetrics.start();
+		List<? extends List<?>> rows = read(batchProperties);
+		List<AssertionError> failures = new ArrayList<>();
+
+		for (int i = 0; i < rows.size(); i++) {
+			List<?> row = rows.get(i);
+
+			for (Check check : batch) {
+				AssertionError failure = check.evaluate(i, row.get(check.property));
+
+				if (failure != null)
+					failures.add(failure);
+			}
+		}
+
+		if (failures.isEmpty()) {
+			WebDriverAssert.report("WebElementAssert", driver, start, null);
+			return;
+		}
+
+		StringBuilder message = new StringBuilder();
+
+		message.append(failures.size()).append(failures.size() == 1 ? " element assertion failed:" : " element assertions failed:");
+
+		for (int i = 0; i < failures.size(); i++)
+			message.append('\n').append(i + 1).append(") ").append(failures.get(i).getMessage());
+
+		AssertionError error = new AssertionError(message.toString());
+
+		for (AssertionError failure : failures)
+			error.addSuppressed(failure);
+
+		WebDriverAssert.report("WebElementAssert", driver, start, error);
+
+		throw error;
+	}
+
+	private WebElementAssert record(String property, String description, StringCondition condition, boolean expected) {
+		int index = properties.indexOf(property);
+
+		if (index < 0) {
+			index = properties.size();
+			properties.add(property);
+		}
+
+		checks.add(new Check(index, description, condition, expected));
+
+		return this;
+	}
+
+	/**
+	 * Reads the <code>properties</code> of all elements by a single script, falling back to the {@link WebElement} methods.
+	 */
+	private List<? extends List<?>> read(List<String> properties) {
+		if (driver instanceof JavascriptExecutor) {
+			Object result;
+
+			try {
+				result = ((JavascriptExecutor) driver).executeScript(READ_SCRIPT, elements, properties);
+			} catch (WebDriverException e) {
+				result = null;
+			}
+
+			if (isTable(result, properties.size())) {
+				@SuppressWarnings("unchecked")
+				List<? extends List<?>> rows = (List<? extends List<?>>) result;
+
+				return rows;
+			}
+		}
+
+		List<List<Object>> rows = new ArrayList<>(elements.size());
+
+		for (WebElement element : elements) {
+			List<Object> row = new ArrayList<>(properties.size());
+
+			for (String property : properties)
+				row.add(read(element, property));
+
+			rows.add(row);
+		}
+
+		return rows;
+	}
+
+	private boolean isTable(Object result, int columns) {
+		if (!(result instanceof List) || ((List<?>) result).size() != elements.size())
+			return false;
+
+		for (Object row : (List<?>) result)
+			if (!(row instanceof List) || ((List<?>) row).size() != columns)
+				return false;
+
+		return true;
+	}
+
+	private static Object read(WebElement element, String property) {
+		switch (property) {
+			case TEXT:
+				return element.getText();
+
+			case DISPLAYED:
+				return element.isDisplayed();
+
+			case ENABLED:
+				return element.isEnabled();
+
+			default:
+				return element.getAttribute(property.substring(1));
+		}
+	}
+
+	/**
+	 * A recorded check: a string <code>condition</code> on a property, or the <code>expected</code> value of a boolean property when there is no condition.
+	 */
+	private static final class Check {
+
+		private final int				property;
+
+		private final String			description;
+
+		private final StringCondition	condition;
+
+		private final boolean			expected;
+
+		Check(int property, String description, StringCondition condition, boolean expected) {
+			this.property = property;
+			this.description = description;
+			this.condition = condition;
+			this.expected = expected;
+		}
+
+		AssertionError evaluate(int element, Object value) {
+			if (condition == null) {
+				if (Boolean.valueOf(String.valueOf(value)) == expected)
+					return null;
+
+				return new AssertionError("The element [" + element + "] is " + (expected ? "not " : "") + description);
+			}
+
+			String subject = description + " of the element [" + element + "]";
+
+			if (value == null)
+				return new AssertionError("The " + subject + " is absent, expected " + condition);
+
+			AssertionError failure = condition.check(subject, value.toString());
+
+			if (failure instanceof ComparisonFailure) {
+				ComparisonFailure comparison = (ComparisonFailure) failure;
+
+				return new ComparisonFailure("The " + subject, comparison.getExpected(), comparison.getActual());
+			}
+
+			return failure;
+		}
+
+	}
+
+}
@@ -0,0 +1,218 @@
+package qacore.seleniumassured;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.githubqacore.seleniumassured.AssertionMetrics;
+import com.githubqacore.seleniumassured.AssertionStatistics;
+import com.githubqacore.seleniumassured.BrowserLog;
+import com.githubqacore.seleniumassured.NavigationTimings;
+import com.githubqacore.seleniumassured.PageDigest;
+import com.githubqacore.seleniumassured.PageSnapshot;
+import com.githubqacore.seleniumassured.RecordingAssertionListener;
+import com.githubqacore.seleniumassured.SoftWebDriverAssert;
+import com.githubqacore.seleniumassured.WebDriverAssert;
+
+/**
+ * 
+ * 
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ */
+public class AssertionMetricsTest {
+
+	@After
+	public void tearDown() {
+		AssertionMetrics.setListener(null);
+	}
+
+	@Test
+	public void disabledByDefaultTest() {
+		assertNull(AssertionMetrics.getListener());
+	}
+
+	@Test
+	public void recordTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/checkout", "Checkout") {
+
+			@Override
+			public String getTitle() {
+				try {
+					Thread.sleep(2);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+
+				return super.getTitle();
+			}
+
+		};
+		RecordingAssertionListener recorder = new RecordingAssertionListener();
+
+		AssertionMetrics.setListener(recorder);
+
+		WebDriverAssert.assertTitleEquals(driver, "Checkout");
+		WebDriverAssert.assertTitleEquals(driver, "Checkout");
+
+		try {
+			WebDriverAssert.assertTitleEquals(driver, "Cart");
+			fail();
+		} catch (AssertionError e) {
+			// expected
+		}
+
+		WebDriverAssert.assertCurrentUrlStartsWith(driver, "https://");
+		WebDriverAssert.assertCurrentUrlStartsWith(PageSnapshot.capture(driver), "https://", 0);
+
+		List<AssertionStatistics> statistics = recorder.getStatistics();
+
+		assertEquals(2, statistics.size());
+
+		AssertionStatistics startsWith = statistics.get(0);
+
+		assertEquals("assertCurrentUrlStartsWith", startsWith.getAssertion());
+		assertEquals(1, startsWith.getDriverCalls());
+		assertEquals(2, startsWith.getPassed());
+		assertEquals(0, startsWith.getFailed());
+
+		AssertionStatistics equals = statistics.get(1);
+
+		assertEquals("assertTitleEquals", equals.getAssertion());
+		assertEquals(3, equals.getDriverCalls());
+		assertEquals(2, equals.getPassed());
+		assertEquals(1, equals.getFailed());
+		assertTrue(equals.toString(), equals.getDriverCallLatency(50, TimeUnit.MILLISECONDS) >= 1);
+		assertTrue(equals.toString(), equals.getDriverCallTime(TimeUnit.MILLISECONDS) >= 6);
+		assertTrue(equals.toString(), equals.getDriverCallLatency(100, TimeUnit.NANOSECONDS) <= equals.getDriverCallTime(TimeUnit.NANOSECONDS));
+	}
+
+	@Test
+	public void fluentTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/checkout", "Checkout");
+		RecordingAssertionListener recorder = new RecordingAssertionListener();
+
+		AssertionMetrics.setListener(recorder);
+
+		WebDriverAssert.assertThat(driver).title().isEqualTo("Checkout").startsWith("Check");
+
+		try {
+			WebDriverAssert.assertThat(driver).currentUrl().endsWith("/cart");
+			fail();
+		} catch (AssertionError e) {
+			// expected
+		}
+
+		SoftWebDriverAssert softly = new SoftWebDriverAssert(driver);
+
+		softly.title().isEqualTo("Cart");
+		softly.currentUrl().startsWith("https://");
+
+		List<AssertionStatistics> statistics = recorder.getStatistics();
+
+		assertEquals(2, statistics.size());
+
+		AssertionStatistics fluent = statistics.get(0);
+
+		assertEquals("PageAssert", fluent.getAssertion());
+		assertEquals(0, fluent.getDriverCalls());
+		assertEquals(2, fluent.getPassed());
+		assertEquals(1, fluent.getFailed());
+
+		AssertionStatistics soft = statistics.get(1);
+
+		assertEquals("SoftWebDriverAssert", soft.getAssertion());
+		assertEquals(1, soft.getPassed());
+		assertEquals(1, soft.getFailed());
+	}
+
+	@Test
+	public void navigationTimingTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/checkout", "Checkout");
+		RecordingAssertionListener recorder = new RecordingAssertionListener();
+
+		driver.setScriptHandler((script, args) -> Arrays.asList("https://example.com/checkout", 50L, 80L, 100L, 10L));
+		AssertionMetrics.setListener(recorder);
+
+		// a driver call outside any assertion, as made by WebDriverPoolRule, leaves a probe behind
+		BrowserLog.of(driver).mark();
+
+		WebDriverAssert.assertPageLoadWithin(driver, 1, TimeUnit.SECONDS);
+
+		NavigationTimings timings = NavigationTimings.sample(driver, "https://example.com/checkout", 3);
+
+		WebDriverAssert.assertPageLoadWithin(timings, 95, 1, TimeUnit.SECONDS);
+
+		List<AssertionStatistics> statistics = recorder.getStatistics();
+
+		assertEquals(1, statistics.size());
+
+		AssertionStatistics pageLoad = statistics.get(0);
+
+		// the capture of the first assertion is its only driver call, the percentile is computed from the samples
+		assertEquals("assertPageLoadWithin", pageLoad.getAssertion());
+		assertEquals(1, pageLoad.getDriverCalls());
+		assertEquals(2, pageLoad.getPassed());
+		assertEquals(4, driver.getScriptCalls());
+	}
+
+	@Test
+	public void pageDigestTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/checkout", "Checkout");
+		RecordingAssertionListener recorder = new RecordingAssertionListener();
+
+		driver.setPageSource("<html><body>Checkout</body></html>");
+		AssertionMetrics.setListener(recorder);
+
+		PageDigest digest = PageDigest.capture(driver);
+
+		WebDriverAssert.assertPageUnchanged(driver, digest);
+		driver.setPageSource("<html><body>Cart</body></html>");
+		WebDriverAssert.assertPageChanged(driver, digest);
+
+		List<AssertionStatistics> statistics = recorder.getStatistics();
+
+		assertEquals(2, statistics.size());
+		assertEquals("assertPageChanged", statistics.get(0).getAssertion());
+		assertEquals(1, statistics.get(0).getDriverCalls());
+		assertEquals(1, statistics.get(0).getPassed());
+		assertEquals("assertPageUnchanged", statistics.get(1).getAssertion());
+		assertEquals(1, statistics.get(1).getDriverCalls());
+		assertEquals(1, statistics.get(1).getPassed());
+	}
+
+	@Test
+	public void exportTest() throws Exception {
+		StubWebDriver driver = new StubWebDriver("https://example.com/checkout", "Checkout");
+		RecordingAssertionListener recorder = new RecordingAssertionListener();
+
+		AssertionMetrics.setListener(recorder);
+		WebDriverAssert.assertTitleContainsIgnoreCase(driver, "CHECK");
+
+		Path file = Files.createTempDirectory("metrics").resolve("reports/metrics.csv");
+
+		recorder.export(file);
+
+		List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+
+		assertEquals(2, lines.size());
+		assertTrue(lines.get(0), lines.get(0).startsWith("assertion,passed,failed,driver_calls,"));
+		assertTrue(lines.get(1), lines.get(1).startsWith("assertTitleContainsIgnoreCase,1,0,1,"));
+	}
+
+}
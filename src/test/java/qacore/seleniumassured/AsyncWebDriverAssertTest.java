@@ -0,0 +1,139 @@
+package qacore.seleniumassured;
+
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertCurrentUrlEndsWith;
+import static com.githubqacore.seleniumassured.WebDriverAssert.async;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.githubqacore.seleniumassured.StringCondition;
+
+/**
+ * 
+ * 
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ */
+public class AsyncWebDriverAssertTest {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void overlappingTest() {
+		StubWebDriver first = new SlowWebDriver("https://example.com/checkout", "Checkout", 200);
+		StubWebDriver second = new SlowWebDriver("https://example.com/cart", "Cart", 200);
+		long start = System.nanoTime();
+
+		CompletableFuture.allOf(
+				async(first, executor).title(StringCondition.equalTo("Checkout"), StringCondition.startsWith("Check")),
+				async(first, executor).check(driver -> assertCurrentUrlEndsWith(driver, "/checkout")),
+				async(second, executor).title(StringCondition.equalTo("Cart")),
+				async(second, executor).currentUrl(StringCondition.contains("/cart"))).join();
+
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		// four remote calls of 200 ms, overlapped
+		assertTrue("Took " + elapsed + " ms", elapsed < 600);
+		assertEquals(1, first.getTitleCalls());
+		assertEquals(1, first.getCurrentUrlCalls());
+	}
+
+	@Test
+	public void failureTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/cart", "Cart");
+
+		try {
+			async(driver, executor).title(StringCondition.equalTo("Cart"), StringCondition.endsWith("Checkout")).join();
+			fail();
+		} catch (CompletionException e) {
+			assertTrue(e.getCause() instanceof AssertionError);
+			assertEquals("The title <Cart> doesn't end with <Checkout>", e.getCause().getMessage());
+		}
+	}
+
+	@Test
+	public void cancelTest() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch interrupted = new CountDownLatch(1);
+		StubWebDriver driver = new StubWebDriver("https://example.com/", "Checkout") {
+
+			@Override
+			public String getTitle() {
+				started.countDown();
+
+				try {
+					Thread.sleep(10000);
+				} catch (InterruptedException e) {
+					interrupted.countDown();
+				}
+
+				return super.getTitle();
+			}
+
+		};
+
+		CompletableFuture<Void> future = async(driver, executor).title(StringCondition.equalTo("Checkout"));
+
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		assertTrue(future.cancel(true));
+		assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+		assertTrue(future.isCancelled());
+	}
+
+	/**
+	 * A driver whose values take a while to read.
+	 */
+	private static class SlowWebDriver extends StubWebDriver {
+
+		private final long delay;
+
+		SlowWebDriver(String currentUrl, String title, long delay) {
+			super(currentUrl, title);
+
+			this.delay = delay;
+		}
+
+		@Override
+		public String getCurrentUrl() {
+			sleep();
+
+			return super.getCurrentUrl();
+		}
+
+		@Override
+		public String getTitle() {
+			sleep();
+
+			return super.getTitle();
+		}
+
+		private void sleep() {
+			try {
+				Thread.sleep(delay);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+	}
+
+}
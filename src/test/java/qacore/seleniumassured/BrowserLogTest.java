@@ -0,0 +1,211 @@
+package qacore.seleniumassured;
+
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertBrowserLogContains;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertBrowserLogDoesNotMatch;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertNoBrowserErrors;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.logging.Level;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+import org.openqa.selenium.logging.LogEntry;
+
+import com.githubqacore.seleniumassured.BrowserLog;
+import com.githubqacore.seleniumassured.StringCondition;
+
+/**
+ * 
+ * 
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ */
+public class BrowserLogTest {
+
+	@Test
+	public void noBrowserErrorsTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/", "Shop");
+
+		driver.log(Level.INFO, "ready");
+		driver.log(Level.WARNING, "slow script");
+		assertNoBrowserErrors(driver);
+		assertBrowserLogDoesNotMatch(driver, ".*TypeError.*");
+
+		driver.log(Level.SEVERE, "Uncaught TypeError: cart is undefined");
+
+		try {
+			assertNoBrowserErrors(driver);
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The browser log has 1 entry at level SEVERE or above:\n  [SEVERE] Uncaught TypeError: cart is undefined", e.getMessage());
+		}
+
+		try {
+			assertBrowserLogDoesNotMatch(driver, Pattern.compile(".*TypeError.*"));
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The browser log has 1 entry which matches <.*TypeError.*>:\n  [SEVERE] Uncaught TypeError: cart is undefined", e.getMessage());
+		}
+
+		BrowserLog.of(driver).mark();
+
+		assertNoBrowserErrors(driver);
+		assertBrowserLogDoesNotMatch(driver, ".*TypeError.*");
+		assertEquals(0, BrowserLog.of(driver).getEntries().size());
+	}
+
+	@Test
+	public void containsTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/", "Shop");
+
+		try {
+			assertBrowserLogContains(driver, "ready");
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The browser log has no entry which contains <ready>, among 0 entries", e.getMessage());
+		}
+
+		driver.log(Level.INFO, "checkout ready");
+		driver.log(Level.INFO, "checkout failed");
+		assertBrowserLogContains(driver, "ready");
+
+		try {
+			assertBrowserLogContains(driver, Level.WARNING, StringCondition.containsIgnoreCase("FAILED"));
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The browser log has no entry at level WARNING or above which contains <FAILED> ignoring case, among 0 entries", e.getMessage());
+		}
+
+		driver.log(Level.SEVERE, "Checkout failed");
+		assertBrowserLogContains(driver, Level.WARNING, StringCondition.containsIgnoreCase("FAILED"));
+
+		List<LogEntry> warnings = BrowserLog.of(driver).getEntries(Level.WARNING);
+
+		assertEquals(1, warnings.size());
+		assertEquals("Checkout failed", warnings.get(0).getMessage());
+		assertEquals(3, BrowserLog.of(driver).getEntries().size());
+	}
+
+	@Test
+	public void ringBufferTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/", "Shop");
+		BrowserLog log = BrowserLog.of(driver, 4);
+
+		assertSame(log, BrowserLog.of(driver));
+		assertEquals(4, log.getCapacity());
+
+		for (int i = 0; i < 10; i++)
+			driver.log(Level.INFO, "entry " + i);
+
+		List<LogEntry> entries = log.getEntries();
+
+		assertEquals(4, entries.size());
+		assertEquals("entry 6", entries.get(0).getMessage());
+		assertEquals("entry 9", entries.get(3).getMessage());
+		assertEquals(6, log.getDropped());
+
+		try {
+			assertBrowserLogContains(driver, "entry 0");
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The browser log has no entry which contains <entry 0>, among 4 entries (6 older entries were dropped)", e.getMessage());
+		}
+
+		// the entries dropped before any scan could have matched
+		try {
+			assertBrowserLogDoesNotMatch(driver, ".*entry 0.*");
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The browser log dropped 6 entries before they were checked for an entry which matches <.*entry 0.*>", e.getMessage());
+		}
+
+		// only the entries dropped since the last scan of the check are missed
+		log.mark();
+		driver.log(Level.INFO, "entry 10");
+		assertBrowserLogDoesNotMatch(driver, ".*entry 0.*");
+
+		for (int i = 11; i < 20; i++)
+			driver.log(Level.INFO, "entry " + i);
+
+		try {
+			assertBrowserLogDoesNotMatch(driver, ".*entry 0.*");
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The browser log dropped 5 entries before they were checked for an entry which matches <.*entry 0.*>", e.getMessage());
+		}
+
+		log.mark();
+		assertEquals(0, log.getDropped());
+	}
+
+	@Test
+	public void incrementalTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/", "Shop");
+		BrowserLog log = BrowserLog.of(driver, 2);
+
+		driver.log(Level.INFO, "ready");
+		assertBrowserLogContains(driver, "ready");
+
+		for (int i = 0; i < 5; i++)
+			driver.log(Level.INFO, "entry " + i);
+
+		// the match is remembered, although it left the buffer
+		assertBrowserLogContains(driver, "ready");
+
+		driver.log(Level.SEVERE, "boom");
+
+		// "ready" left the buffer before this check could see it
+		try {
+			assertBrowserLogDoesNotMatch(driver, "ready");
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The browser log dropped 5 entries before they were checked for an entry which matches <ready>", e.getMessage());
+		}
+
+		for (int i = 0; i < 5; i++)
+			driver.log(Level.INFO, "entry " + i);
+
+		// the errors are kept apart, so the flood of INFO entries does not push them out
+		try {
+			assertNoBrowserErrors(driver);
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The browser log has 1 entry at level SEVERE or above:\n  [SEVERE] boom", e.getMessage());
+		}
+
+		assertEquals(2, log.getEntries().size());
+		assertEquals(1, log.getEntries(Level.SEVERE).size());
+		assertEquals(10, log.getDropped());
+
+		driver.log(Level.INFO, "ready again");
+
+		try {
+			assertBrowserLogDoesNotMatch(driver, "ready.*");
+			fail();
+		} catch (AssertionError e) {
+			assertTrue(e.getMessage(), e.getMessage().startsWith("The browser log has 1 entry which matches <ready.*>:\n  [INFO] ready again"));
+		}
+
+		// each call pulls the new entries once, and each entry is only read once from the driver
+		assertEquals(7, driver.getLogCalls());
+		assertEquals(0, log.pull());
+	}
+
+	@Test
+	public void conditionEqualityTest() {
+		assertEquals(StringCondition.matches(".*TypeError.*"), StringCondition.matches(Pattern.compile(".*TypeError.*")));
+		assertEquals(StringCondition.matches(".*TypeError.*").hashCode(), StringCondition.matches(Pattern.compile(".*TypeError.*")).hashCode());
+		assertEquals(StringCondition.contains("a").negate(), StringCondition.contains("a").negate());
+		assertTrue(!StringCondition.contains("a").equals(StringCondition.containsIgnoreCase("a")));
+		assertTrue(!StringCondition.matches("a").equals(StringCondition.matches(Pattern.compile("a", Pattern.CASE_INSENSITIVE))));
+	}
+
+}
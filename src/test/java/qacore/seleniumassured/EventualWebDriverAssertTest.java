@@ -0,0 +1,141 @@
+package qacore.seleniumassured;
+
+import static com.githubqacore.seleniumassured.WebDriverAssert.eventually;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+
+import com.githubqacore.seleniumassured.EventualWebDriverAssert;
+import com.githubqacore.seleniumassured.PollReport;
+
+/**
+ * 
+ * 
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ */
+public class EventualWebDriverAssertTest {
+
+	@Test
+	public void eventuallySatisfiedTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/", "Loading") {
+
+			@Override
+			public String getTitle() {
+				String title = super.getTitle();
+
+				if (getTitleCalls() == 3)
+					setTitle("Checkout");
+
+				return title;
+			}
+
+		};
+
+		EventualWebDriverAssert eventually = eventually(driver, 5, TimeUnit.SECONDS).pollingEvery(1, 10, TimeUnit.MILLISECONDS);
+
+		eventually.title().isEqualTo("Checkout");
+		eventually.currentUrl().startsWith("https://");
+
+		PollReport title = eventually.getReports().get(0);
+
+		assertTrue(title.isSatisfied());
+		assertEquals(4, title.getPolls());
+		assertEquals("title equals to <Checkout>", title.getDescription());
+		assertEquals(1, eventually.getReports().get(1).getPolls());
+	}
+
+	@Test
+	public void timeoutTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/", "Loading");
+		EventualWebDriverAssert eventually = eventually(driver, 100, TimeUnit.MILLISECONDS);
+
+		try {
+			eventually.currentUrl().contains("/checkout");
+			fail();
+		} catch (AssertionError e) {
+			assertTrue(e.getMessage().startsWith("The current url <https://example.com/> does not contain </checkout> after "));
+		}
+
+		PollReport report = eventually.getReports().get(0);
+
+		assertFalse(report.isSatisfied());
+		assertTrue(report.getPolls() > 1);
+		assertTrue(report.getElapsed(TimeUnit.MILLISECONDS) >= 100);
+	}
+
+	@Test
+	public void inBrowserTest() throws Exception {
+		String html = "<html><head><title>Loading</title></head><body><script>"
+				+ "setTimeout(function () { document.title = 'Done'; }, 300);"
+				+ "setTimeout(function () { history.pushState({}, '', '/checkout'); }, 600);"
+				+ "</script></body></html>";
+
+		try (LocalHttpServer server = new LocalHttpServer().page("/", html)) {
+			HtmlUnitDriver driver = new HtmlUnitDriver(true);
+
+			try {
+				driver.manage().timeouts().setScriptTimeout(10, TimeUnit.SECONDS);
+				driver.get(server.url("/"));
+
+				EventualWebDriverAssert eventually = eventually(driver, 5, TimeUnit.SECONDS).inBrowser();
+
+				eventually.title().isEqualToIgnoreCase("DONE").matches("D.ne");
+				eventually.currentUrl().endsWith("/checkout");
+
+				for (PollReport report : eventually.getReports()) {
+					assertTrue(report.toString(), report.isSatisfied());
+					assertEquals(report.toString(), 1, report.getPolls());
+				}
+			} finally {
+				driver.quit();
+			}
+		}
+	}
+
+	@Test
+	public void inBrowserIgnoreCaseTest() throws Exception {
+		try (LocalHttpServer server = new LocalHttpServer().page("/", "<html><head><title>\u0130stanbul</title></head><body></body></html>")) {
+			HtmlUnitDriver driver = new HtmlUnitDriver(true);
+
+			try {
+				driver.manage().timeouts().setScriptTimeout(10, TimeUnit.SECONDS);
+				driver.get(server.url("/"));
+
+				EventualWebDriverAssert eventually = eventually(driver, 5, TimeUnit.SECONDS).inBrowser();
+
+				// U+0130 folds to 'i' in Java, so the script must not wait for the timeout
+				eventually.title().isEqualToIgnoreCase("istanbul");
+
+				PollReport report = eventually.getReports().get(0);
+
+				assertEquals(report.toString(), 1, report.getPolls());
+				assertTrue(report.toString(), report.getElapsed(TimeUnit.SECONDS) < 5);
+			} finally {
+				driver.quit();
+			}
+		}
+	}
+
+	@Test
+	public void inBrowserFallbackTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/", "Checkout");
+		EventualWebDriverAssert eventually = eventually(driver, 1, TimeUnit.SECONDS).inBrowser();
+
+		eventually.title().isEqualTo("Checkout");
+
+		assertEquals(1, driver.getScriptCalls());
+		assertEquals(1, driver.getTitleCalls());
+	}
+
+}
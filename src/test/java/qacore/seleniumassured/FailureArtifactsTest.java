@@ -0,0 +1,269 @@
+package qacore.seleniumassured;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Test;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+
+import com.githubqacore.seleniumassured.FailureArtifacts;
+import com.githubqacore.seleniumassured.PageSnapshot;
+import com.githubqacore.seleniumassured.SoftWebDriverAssert;
+import com.githubqacore.seleniumassured.WebDriverAssert;
+
+/**
+ * 
+ * 
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ */
+public class FailureArtifactsTest {
+
+	@After
+	public void tearDown() {
+		FailureArtifacts.disable();
+	}
+
+	@Test
+	public void writeTest() throws Exception {
+		Path directory = Files.createTempDirectory("failures");
+		FailureArtifacts artifacts = FailureArtifacts.enable(directory);
+		ScreenshotDriver driver = new ScreenshotDriver(new byte[] { 1, 2, 3 });
+
+		for (int i = 0; i < 3; i++) {
+			try {
+				WebDriverAssert.assertTitleEquals(driver, "Checkout");
+				fail();
+			} catch (AssertionError e) {
+				assertEquals(1, e.getSuppressed().length);
+				assertEquals("Failure artifacts #" + (i + 1) + " in " + directory.toAbsolutePath() + " (see failures.csv)", e.getSuppressed()[0].getMessage());
+			}
+		}
+
+		// passing assertions capture nothing
+		WebDriverAssert.assertTitleEquals(driver, "Cart");
+
+		assertTrue(artifacts.flush(10, TimeUnit.SECONDS));
+		assertEquals(3, driver.screenshots.get());
+		assertEquals(3, artifacts.getCaptured());
+		assertEquals(3, artifacts.getWritten());
+		assertEquals(2, artifacts.getDuplicates());
+
+		List<String> files;
+
+		try (Stream<Path> list = Files.list(directory)) {
+			files = list.map(path -> path.getFileName().toString()).sorted().collect(Collectors.toList());
+		}
+
+		assertEquals(5, files.size());
+		assertEquals("000001-assertTitleEquals.html", files.get(0));
+		assertEquals("failures.csv", files.get(3));
+		assertTrue(files.get(4), files.get(4).matches("screenshot-[0-9a-f]{64}\\.png"));
+		assertEquals(driver.getPageSource(), new String(Files.readAllBytes(directory.resolve(files.get(0))), StandardCharsets.UTF_8));
+
+		List<String> index = Files.readAllLines(directory.resolve("failures.csv"), StandardCharsets.UTF_8);
+
+		assertEquals(3, index.size());
+		assertEquals("3,assertTitleEquals," + Thread.currentThread().getName() + "," + files.get(4) + ",000003-assertTitleEquals.html", index.get(2));
+	}
+
+	@Test
+	public void reusedDirectoryTest() throws Exception {
+		Path directory = Files.createTempDirectory("failures");
+		ScreenshotDriver driver = new ScreenshotDriver(new byte[] { 1, 2, 3 });
+
+		for (int run = 1; run <= 2; run++) {
+			FailureArtifacts artifacts = FailureArtifacts.enable(directory);
+
+			driver.setTitle("Run " + run);
+
+			try {
+				WebDriverAssert.assertTitleEquals(driver, "Checkout");
+				fail();
+			} catch (AssertionError e) {
+				// the ids continue after the previous run, so nothing of it is overwritten
+				assertEquals("Failure artifacts #" + run + " in " + directory.toAbsolutePath() + " (see failures.csv)", e.getSuppressed()[0].getMessage());
+			}
+
+			FailureArtifacts.disable();
+
+			assertEquals(1, artifacts.getWritten());
+			assertEquals(0, artifacts.getErrors());
+			// the screenshot of the previous run is the only duplicate
+			assertEquals(run - 1, artifacts.getDuplicates());
+		}
+
+		assertTrue(new String(Files.readAllBytes(directory.resolve("000001-assertTitleEquals.html")), StandardCharsets.UTF_8).contains("Run 1"));
+		assertTrue(new String(Files.readAllBytes(directory.resolve("000002-assertTitleEquals.html")), StandardCharsets.UTF_8).contains("Run 2"));
+
+		List<String> index = Files.readAllLines(directory.resolve("failures.csv"), StandardCharsets.UTF_8);
+
+		assertEquals(2, index.size());
+		assertTrue(index.get(1), index.get(1).startsWith("2,assertTitleEquals,"));
+	}
+
+	@Test
+	public void notCapturedTest() throws Exception {
+		FailureArtifacts artifacts = FailureArtifacts.enable(Files.createTempDirectory("failures"));
+		ScreenshotDriver driver = new ScreenshotDriver(new byte[] { 1 });
+
+		try {
+			WebDriverAssert.assertTitleEquals(PageSnapshot.capture(driver), "Checkout");
+			fail();
+		} catch (AssertionError e) {
+			assertEquals(0, e.getSuppressed().length);
+		}
+
+		FailureArtifacts.disable();
+
+		try {
+			WebDriverAssert.assertTitleEquals(driver, "Checkout");
+			fail();
+		} catch (AssertionError e) {
+			assertEquals(0, e.getSuppressed().length);
+		}
+
+		assertEquals(0, driver.screenshots.get());
+		assertEquals(0, artifacts.getCaptured());
+	}
+
+	@Test
+	public void fluentTest() throws Exception {
+		FailureArtifacts artifacts = FailureArtifacts.enable(Files.createTempDirectory("failures"));
+		ScreenshotDriver driver = new ScreenshotDriver(new byte[] { 1 });
+
+		try {
+			WebDriverAssert.assertThat(driver).title().isEqualTo("Cart").isEqualTo("Checkout");
+			fail();
+		} catch (AssertionError e) {
+			assertEquals(1, e.getSuppressed().length);
+		}
+
+		SoftWebDriverAssert softly = new SoftWebDriverAssert(driver);
+
+		softly.currentUrl().endsWith("/checkout");
+
+		assertEquals(1, softly.getFailures().get(0).getSuppressed().length);
+
+		try {
+			WebDriverAssert.eventually(driver, 50, TimeUnit.MILLISECONDS).title().isEqualTo("Checkout");
+			fail();
+		} catch (AssertionError e) {
+			assertEquals(1, e.getSuppressed().length);
+		}
+
+		// a snapshot has no driver to capture
+		try {
+			WebDriverAssert.assertThat(PageSnapshot.capture(driver)).title().isEqualTo("Checkout");
+			fail();
+		} catch (AssertionError e) {
+			assertEquals(0, e.getSuppressed().length);
+		}
+
+		assertTrue(artifacts.flush(10, TimeUnit.SECONDS));
+		assertEquals(3, artifacts.getCaptured());
+		assertEquals(3, artifacts.getWritten());
+	}
+
+	@Test
+	public void disableWritesQueuedTest() throws Exception {
+		Path directory = Files.createTempDirectory("failures");
+		FailureArtifacts artifacts = FailureArtifacts.enable(directory, 64);
+
+		for (int i = 0; i < 60; i++) {
+			try {
+				WebDriverAssert.assertTitleEquals(new ScreenshotDriver(new byte[] { (byte) i }), "Checkout");
+				fail();
+			} catch (AssertionError e) {
+				// expected
+			}
+		}
+
+		// no flush, disabling must write the queued failures
+		FailureArtifacts.disable();
+
+		assertEquals(60, artifacts.getCaptured());
+		assertEquals(60, artifacts.getWritten());
+		assertEquals(0, artifacts.getErrors());
+		assertEquals(60, Files.readAllLines(directory.resolve("failures.csv"), StandardCharsets.UTF_8).size());
+	}
+
+	@Test
+	public void failureStormTest() throws Exception {
+		FailureArtifacts artifacts = FailureArtifacts.enable(Files.createTempDirectory("failures"), 2);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Future<?>> futures = new ArrayList<>();
+
+		try {
+			for (int t = 0; t < 8; t++) {
+				byte[] screenshot = new byte[1 << 20];
+
+				screenshot[0] = (byte) t;
+
+				futures.add(executor.submit(() -> {
+					ScreenshotDriver driver = new ScreenshotDriver(screenshot);
+
+					for (int i = 0; i < 100; i++) {
+						try {
+							WebDriverAssert.assertCurrentUrlEndsWith(driver, "/checkout");
+						} catch (AssertionError e) {
+							// expected
+						}
+					}
+				}));
+			}
+
+			for (Future<?> future : futures)
+				future.get(30, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertTrue(artifacts.flush(30, TimeUnit.SECONDS));
+		assertEquals(800, artifacts.getCaptured() + artifacts.getShed());
+		assertEquals(artifacts.getCaptured(), artifacts.getWritten());
+		assertEquals(0, artifacts.getErrors());
+		assertTrue(artifacts.toString(), artifacts.getCaptured() >= 1);
+	}
+
+	private static final class ScreenshotDriver extends StubWebDriver implements TakesScreenshot {
+
+		private final byte[]		screenshot;
+
+		private final AtomicInteger	screenshots	= new AtomicInteger();
+
+		ScreenshotDriver(byte[] screenshot) {
+			super("https://example.com/cart", "Cart");
+			this.screenshot = screenshot;
+		}
+
+		@Override
+		public <X> X getScreenshotAs(OutputType<X> target) {
+			screenshots.incrementAndGet();
+
+			return target.convertFromPngBytes(screenshot);
+		}
+
+	}
+
+}
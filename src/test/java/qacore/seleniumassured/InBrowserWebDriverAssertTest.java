@@ -0,0 +1,180 @@
+package qacore.seleniumassured;
+
+import static com.githubqacore.seleniumassured.WebDriverAssert.inBrowser;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.junit.ComparisonFailure;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+
+import com.githubqacore.seleniumassured.InBrowserWebDriverAssert;
+
+/**
+ * 
+ * 
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ */
+public class InBrowserWebDriverAssertTest {
+
+	@Test
+	public void inBrowserTest() throws Exception {
+		StringBuilder html = new StringBuilder("<html><head><title>Checkout</title></head><body><h1>Your Cart</h1><ul>");
+
+		for (int i = 0; i < 100; i++)
+			html.append("<li class='price'>$").append(i).append(".99</li>");
+
+		html.append("<li class='price'>free</li></ul></body></html>");
+
+		AtomicInteger scriptCalls = new AtomicInteger();
+
+		try (LocalHttpServer server = new LocalHttpServer().page("/checkout", html.toString())) {
+			HtmlUnitDriver driver = new HtmlUnitDriver(true) {
+
+				@Override
+				public Object executeScript(String script, Object... args) {
+					scriptCalls.incrementAndGet();
+
+					return super.executeScript(script, args);
+				}
+
+			};
+
+			try {
+				driver.get(server.url("/checkout"));
+
+				InBrowserWebDriverAssert audit = inBrowser(driver);
+
+				audit.currentUrl().startsWith("http://127.0.0.1:").endsWith("/checkout").doesNotContain("/debug");
+				audit.title().isEqualTo("Checkout").matches(Pattern.compile("CHECKOUT", Pattern.CASE_INSENSITIVE));
+				audit.text("h1").isEqualToIgnoreCase("your cart").startsWith("Cart", 5);
+				audit.text(driver.findElement(By.tagName("h1"))).isEqualTo("Your Cart");
+				audit.text("li.price").matches("\\$\\d+\\.\\d{2}").isNotEmpty();
+				audit.text(".missing").isNotEmpty();
+
+				try {
+					audit.assertAll();
+					fail();
+				} catch (AssertionError e) {
+					assertTrue(e.getMessage(), e.getMessage().startsWith("2 in browser assertions failed:"));
+					assertTrue(e.getMessage(), e.getMessage().contains("1) The text of <li.price> [100] <free> does not match <\\$\\d+\\.\\d{2}>"));
+					assertTrue(e.getMessage(), e.getMessage().contains("2) The selector <.missing> matches no element, expected a text that not empty"));
+				}
+
+				assertEquals(1, scriptCalls.get());
+
+				audit.text("h1").isEqualTo("Your Cart!");
+				audit.title().isNotEqualToIgnoreCase("checkout");
+
+				try {
+					audit.assertAll();
+					fail();
+				} catch (AssertionError e) {
+					assertTrue(e.getSuppressed()[0] instanceof ComparisonFailure);
+					assertEquals("The text of <h1> [0] expected:<Your Cart[!]> but was:<Your Cart[]>", e.getSuppressed()[0].getMessage());
+					assertTrue(e.getMessage(), e.getMessage().contains("2) Values should be different ignoring case. Actual: Checkout"));
+				}
+
+				assertEquals(2, scriptCalls.get());
+			} finally {
+				driver.quit();
+			}
+		}
+	}
+
+	@Test
+	public void ignoreCaseTest() throws Exception {
+		try (LocalHttpServer server = new LocalHttpServer().page("/", "<html><head><title>\u0130stanbul</title></head><body><h1>\u0130STANBUL</h1></body></html>")) {
+			HtmlUnitDriver driver = new HtmlUnitDriver(true);
+
+			try {
+				driver.get(server.url("/"));
+
+				InBrowserWebDriverAssert audit = inBrowser(driver);
+
+				// U+0130 folds to 'i' in Java, and must fold the same way in the browser
+				audit.title().isEqualToIgnoreCase("istanbul").isNotEqualToIgnoreCase("istanbul");
+				audit.text("h1").startsWithIgnoreCase("ist").isEqualToIgnoreCase("\u0130stanbul");
+
+				try {
+					audit.assertAll();
+					fail();
+				} catch (AssertionError e) {
+					assertEquals(1, e.getSuppressed().length);
+					assertEquals("Values should be different ignoring case. Actual: \u0130stanbul", e.getSuppressed()[0].getMessage());
+				}
+			} finally {
+				driver.quit();
+			}
+		}
+	}
+
+	@Test
+	public void regexTest() throws Exception {
+		try (LocalHttpServer server = new LocalHttpServer().page("/", "<html><head><title>Order&#160;42</title></head><body></body></html>")) {
+			HtmlUnitDriver driver = new HtmlUnitDriver(true);
+
+			try {
+				driver.get(server.url("/"));
+
+				InBrowserWebDriverAssert audit = inBrowser(driver);
+
+				// \s matches U+00A0 in JavaScript, but not in Java
+				audit.title().matches("Order\\s42").doesNotMatch("Order\\s42");
+
+				try {
+					audit.assertAll();
+					fail();
+				} catch (AssertionError e) {
+					assertEquals(1, e.getSuppressed().length);
+					assertEquals("The title <Order\u00a042> does not match <Order\\s42>", e.getSuppressed()[0].getMessage());
+				}
+			} finally {
+				driver.quit();
+			}
+		}
+	}
+
+	@Test
+	public void fallbackTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/cart", "Cart");
+		InBrowserWebDriverAssert audit = inBrowser(driver);
+
+		audit.currentUrl().startsWith("https://").endsWith("/checkout");
+		audit.title().isEqualTo("Cart");
+		audit.text("h1").isNotEmpty();
+
+		try {
+			audit.assertAll();
+			fail();
+		} catch (AssertionError e) {
+			assertTrue(e.getMessage(), e.getMessage().startsWith("2 in browser assertions failed:"));
+			assertTrue(e.getMessage(), e.getMessage().contains("1) The current url <https://example.com/cart> doesn't end with </checkout>"));
+			assertTrue(e.getMessage(), e.getMessage().contains("2) The selector <h1> matches no element"));
+		}
+
+		assertEquals(1, driver.getScriptCalls());
+		assertEquals(1, driver.getCurrentUrlCalls());
+		assertEquals(1, driver.getTitleCalls());
+	}
+
+	@Test
+	public void emptyBatchTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/cart", "Cart");
+
+		inBrowser(driver).assertAll();
+
+		assertEquals(0, driver.getScriptCalls());
+	}
+
+}
@@ -0,0 +1,61 @@
+package qacore.seleniumassured;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * A local HTTP server serving fixed HTML pages, scripts and stylesheets, for the tests running a real browser engine.
+ * 
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ */
+public class LocalHttpServer implements AutoCloseable {
+
+	private final HttpServer			server;
+
+	private final Map<String, String>	pages	= new ConcurrentHashMap<>();
+
+	public LocalHttpServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", exchange -> {
+			String path = exchange.getRequestURI().getPath();
+			String page = pages.get(path);
+			byte[] body = (page == null ? "<html><head><title>Not Found</title></head></html>" : page).getBytes(StandardCharsets.UTF_8);
+			String type = path.endsWith(".js") ? "application/javascript" : path.endsWith(".css") ? "text/css" : "text/html";
+
+			exchange.getResponseHeaders().add("Content-Type", type + "; charset=UTF-8");
+			exchange.sendResponseHeaders(page == null ? 404 : 200, body.length);
+
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		server.start();
+	}
+
+	public LocalHttpServer page(String path, String html) {
+		pages.put(path, html);
+
+		return this;
+	}
+
+	public String url(String path) {
+		return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+
+}
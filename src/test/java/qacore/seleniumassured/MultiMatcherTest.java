@@ -0,0 +1,170 @@
+package qacore.seleniumassured;
+
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertCurrentUrlContainsAny;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertCurrentUrlContainsNone;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertTitleMatchesAny;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertTitleMatchesNone;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import com.githubqacore.seleniumassured.LiteralMatcher;
+import com.githubqacore.seleniumassured.RegexMatcher;
+
+/**
+ * 
+ * 
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ */
+public class MultiMatcherTest {
+
+	@Test
+	public void literalMatcherTest() {
+		Random random = new Random(42);
+
+		for (int round = 0; round < 500; round++) {
+			List<String> literals = new ArrayList<>();
+
+			for (int i = random.nextInt(20) + 1; i > 0; i--)
+				literals.add(randomString(random, random.nextInt(4) + 1));
+
+			String value = randomString(random, random.nextInt(40));
+
+			assertEquals(literals + " in " + value, naiveFind(literals, value, false), LiteralMatcher.of(literals).find(value));
+			assertEquals(literals + " in " + value, naiveFind(literals, value, true), LiteralMatcher.ofIgnoreCase(literals).find(value));
+		}
+	}
+
+	@Test
+	public void literalMatcherEdgeCasesTest() {
+		assertEquals(-1, LiteralMatcher.of().find("anything"));
+		assertEquals(1, LiteralMatcher.of("zzz", "").find("anything"));
+		assertEquals(1, LiteralMatcher.of("bcd", "c").find("abcd"));
+		assertEquals(0, LiteralMatcher.of("he", "she", "his", "hers").find("ushers"));
+		assertEquals(0, LiteralMatcher.ofIgnoreCase("caf\u00c9").find("Le Caf\u00e9"));
+	}
+
+	@Test
+	public void regexMatcherTest() {
+		RegexMatcher matcher = RegexMatcher.of("/cart", "/checkout/(\\d+)", "/orders/([a-z]+)-(\\d+)", "(/\\w+)\\1", "/(?<id>\\d+)", "/.*");
+
+		assertEquals(0, matcher.find("/cart"));
+		assertEquals(1, matcher.find("/checkout/42"));
+		assertEquals(2, matcher.find("/orders/abc-7"));
+		assertEquals(3, matcher.find("/ab/ab"));
+		assertEquals(4, matcher.find("/123"));
+		assertEquals(5, matcher.find("/cart/items"));
+		assertEquals(-1, matcher.find("cart"));
+
+		// the same named group twice can not be combined in one alternation
+		RegexMatcher named = RegexMatcher.of("a(?<x>b)", "c(?<x>d)");
+
+		assertEquals(1, named.find("cd"));
+		assertEquals(-1, RegexMatcher.of().find(""));
+	}
+
+	@Test
+	public void regexMatcherRandomTest() {
+		Random random = new Random(7);
+		String[] atoms = { "a", "b", "[ab]", "a*", "b+", "(ab)?", ".", "(a|bb)" };
+
+		for (int round = 0; round < 300; round++) {
+			List<String> regexes = new ArrayList<>();
+
+			for (int i = random.nextInt(6) + 1; i > 0; i--) {
+				StringBuilder regex = new StringBuilder();
+
+				for (int j = random.nextInt(4) + 1; j > 0; j--)
+					regex.append(atoms[random.nextInt(atoms.length)]);
+
+				regexes.add(regex.toString());
+			}
+
+			String value = randomString(random, random.nextInt(6)).toLowerCase();
+			int expected = -1;
+
+			for (int i = 0; i < regexes.size() && expected < 0; i++)
+				if (Pattern.matches(regexes.get(i), value))
+					expected = i;
+
+			assertEquals(regexes + " on " + value, expected, RegexMatcher.of(regexes).find(value));
+		}
+	}
+
+	@Test
+	public void assertionsTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/admin/users", "Internal Error");
+		LiteralMatcher forbidden = LiteralMatcher.of("/debug", "/admin", "/internal");
+		RegexMatcher errors = RegexMatcher.of("Not Found", "(?i).*error.*");
+
+		assertCurrentUrlContainsAny(driver, forbidden);
+		assertTitleMatchesAny(driver, errors);
+
+		try {
+			assertCurrentUrlContainsNone(driver, forbidden);
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The current url <https://example.com/admin/users> contains </admin> at index 19", e.getMessage());
+		}
+
+		try {
+			assertTitleMatchesNone(driver, errors);
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The title <Internal Error> matches <(?i).*error.*>", e.getMessage());
+		}
+
+		try {
+			assertCurrentUrlContainsAny(driver, LiteralMatcher.ofIgnoreCase("/CART", "/CHECKOUT"));
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The current url <https://example.com/admin/users> contains none of [/CART, /CHECKOUT] ignoring case", e.getMessage());
+		}
+	}
+
+	/**
+	 * The literal whose first occurrence ends first, the lowest index on ties.
+	 */
+	private static int naiveFind(List<String> literals, String value, boolean ignoreCase) {
+		int found = -1;
+		int foundEnd = Integer.MAX_VALUE;
+
+		for (int i = 0; i < literals.size(); i++) {
+			for (int start = 0; start + literals.get(i).length() <= value.length(); start++) {
+				int end = start + literals.get(i).length();
+
+				if (value.regionMatches(ignoreCase, start, literals.get(i), 0, literals.get(i).length())) {
+					if (end < foundEnd) {
+						found = i;
+						foundEnd = end;
+					}
+
+					break;
+				}
+			}
+		}
+
+		return found;
+	}
+
+	private static String randomString(Random random, int length) {
+		StringBuilder value = new StringBuilder();
+
+		for (int i = 0; i < length; i++)
+			value.append("abAB".charAt(random.nextInt(4)));
+
+		return value.toString();
+	}
+
+}
@@ -0,0 +1,213 @@
+package qacore.seleniumassured;
+
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertDomContentLoadedWithin;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertPageLoadWithin;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertResourceCountAtMost;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertTimeToFirstByteWithin;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+
+import com.githubqacore.seleniumassured.NavigationTiming;
+import com.githubqacore.seleniumassured.NavigationTimings;
+
+/**
+ * 
+ * 
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ */
+public class NavigationTimingTest {
+
+	private static final String HTML = "<html><head><title>Shop</title>"
+			+ "<link rel='stylesheet' href='/shop.css'><script src='/shop.js'></script></head>"
+			+ "<body><img src='/logo.png'><p id='total'>Total</p></body></html>";
+
+	@Test
+	public void inBrowserTest() throws Exception {
+		try (LocalHttpServer server = new LocalHttpServer().page("/", HTML).page("/shop.js", "var shop = 1;").page("/shop.css", "p { color: red; }")) {
+			HtmlUnitDriver driver = new HtmlUnitDriver(true);
+
+			try {
+				driver.get(server.url("/"));
+
+				NavigationTiming timing = NavigationTiming.capture(driver);
+
+				assertEquals(server.url("/"), timing.getUrl());
+				assertTrue(timing.toString(), timing.getTimeToFirstByte() >= 0);
+				assertTrue(timing.toString(), timing.getDomContentLoaded() >= timing.getTimeToFirstByte());
+				assertTrue(timing.toString(), timing.getPageLoad() >= timing.getDomContentLoaded());
+				assertEquals(3, timing.getResourceCount());
+
+				assertTimeToFirstByteWithin(driver, 30, TimeUnit.SECONDS);
+				assertDomContentLoadedWithin(driver, 30, TimeUnit.SECONDS);
+				assertPageLoadWithin(driver, 30, TimeUnit.SECONDS);
+				assertResourceCountAtMost(driver, 3);
+
+				try {
+					assertResourceCountAtMost(driver, 2);
+					fail();
+				} catch (AssertionError e) {
+					assertEquals("The resource count of <" + server.url("/") + "> is 3, above the budget of 2", e.getMessage());
+				}
+
+				NavigationTimings timings = NavigationTimings.sample(driver, server.url("/"), 5);
+
+				assertEquals(5, timings.getSamples().size());
+				assertPageLoadWithin(timings, 95, 30, TimeUnit.SECONDS);
+				assertResourceCountAtMost(timings, 100, 3);
+			} finally {
+				driver.quit();
+			}
+		}
+	}
+
+	@Test
+	public void budgetTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/", "Shop");
+
+		driver.setScriptHandler((script, args) -> Arrays.asList("https://example.com/", 120.5, 800L, 1500L, 12L));
+
+		assertTimeToFirstByteWithin(driver, 200, TimeUnit.MILLISECONDS);
+		assertDomContentLoadedWithin(driver, 800, TimeUnit.MILLISECONDS);
+		assertResourceCountAtMost(driver, 12);
+
+		try {
+			assertPageLoadWithin(driver, 1, TimeUnit.SECONDS);
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The page load time of <https://example.com/> is 1500 ms, above the budget of 1000 ms", e.getMessage());
+		}
+
+		try {
+			assertTimeToFirstByteWithin(driver, 100, TimeUnit.MILLISECONDS);
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The time to first byte of <https://example.com/> is 120.5 ms, above the budget of 100 ms", e.getMessage());
+		}
+
+		// still loading
+		driver.setScriptHandler((script, args) -> Arrays.asList("https://example.com/", 120.5, 800L, -1L, 12L));
+
+		try {
+			assertPageLoadWithin(driver, 1, TimeUnit.SECONDS);
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The page load time of <https://example.com/> is unknown, the navigation did not reach it", e.getMessage());
+		}
+
+		// a single script call per assertion
+		assertEquals(6, driver.getScriptCalls());
+	}
+
+	@Test
+	public void percentileTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/", "Shop");
+		Deque<Long> loads = new ArrayDeque<>();
+
+		for (long load = 2000; load >= 100; load -= 100)
+			loads.add(load);
+
+		driver.setScriptHandler((script, args) -> Arrays.asList("https://example.com/", 50L, 80L, loads.poll(), 10L));
+
+		NavigationTimings timings = NavigationTimings.sample(driver, "https://example.com/", 20);
+
+		assertPageLoadWithin(timings, 50, 1, TimeUnit.SECONDS);
+		assertPageLoadWithin(timings, 100, 2, TimeUnit.SECONDS);
+
+		try {
+			assertPageLoadWithin(timings, 95, 1500, TimeUnit.MILLISECONDS);
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The p95 page load time over 20 navigations to <https://example.com/> is 1900 ms, above the budget of 1500 ms (min 100 ms, max 2000 ms)", e.getMessage());
+		}
+
+		try {
+			assertResourceCountAtMost(timings, 99.9, 9);
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The p99.9 resource count over 20 navigations to <https://example.com/> is 10, above the budget of 9 (min 10, max 10)", e.getMessage());
+		}
+
+		driver.setScriptHandler((script, args) -> Arrays.asList("https://example.com/", 50L, 80L, -1L, 10L));
+
+		try {
+			assertPageLoadWithin(NavigationTimings.sample(driver, "https://example.com/", 2), 50, 1, TimeUnit.SECONDS);
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The p50 page load time over 2 navigations to <https://example.com/> is unknown, 2 navigations did not reach it", e.getMessage());
+		}
+	}
+
+	@Test
+	public void resourceBufferFullTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/", "Shop");
+
+		driver.setScriptHandler((script, args) -> Arrays.asList("https://example.com/", 50L, 80L, 100L, 250L, true));
+
+		NavigationTiming timing = NavigationTiming.capture(driver);
+
+		assertEquals(NavigationTiming.RESOURCE_TIMING_BUFFER_SIZE, timing.getResourceCount());
+		assertTrue(timing.isResourceCountLowerBound());
+
+		try {
+			assertResourceCountAtMost(driver, 100);
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The resource count of <https://example.com/> is at least 250, above the budget of 100 (the Resource Timing buffer was full)", e.getMessage());
+		}
+
+		// the page may have loaded more than the budget
+		try {
+			assertResourceCountAtMost(driver, 300);
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The resource count of <https://example.com/> is unknown, the Resource Timing buffer was full at 250", e.getMessage());
+		}
+
+		NavigationTimings timings = NavigationTimings.sample(driver, "https://example.com/", 2);
+
+		try {
+			assertResourceCountAtMost(timings, 50, 100);
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The p50 resource count over 2 navigations to <https://example.com/> is 250, above the budget of 100 (min 250, max 250; 2 navigations filled the Resource Timing buffer, a lower bound)",
+					e.getMessage());
+		}
+
+		try {
+			assertResourceCountAtMost(timings, 50, 300);
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The p50 resource count over 2 navigations to <https://example.com/> is unknown, 2 navigations filled the Resource Timing buffer", e.getMessage());
+		}
+
+		// a count below the buffer size is exact
+		driver.setScriptHandler((script, args) -> Arrays.asList("https://example.com/", 50L, 80L, 100L, 249L, false));
+
+		assertResourceCountAtMost(driver, 300);
+		assertResourceCountAtMost(NavigationTimings.sample(driver, "https://example.com/", 2), 100, 249);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void unsupportedTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/", "Shop");
+
+		driver.setScriptHandler((script, args) -> null);
+
+		assertPageLoadWithin(driver, 1, TimeUnit.SECONDS);
+	}
+
+}
@@ -0,0 +1,143 @@
+package qacore.seleniumassured;
+
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertCurrentUrlContains;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertCurrentUrlEquals;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertCurrentUrlStartsWith;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertThat;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertTitleEquals;
+import static com.githubqacore.seleniumassured.WebDriverAssert.eventually;
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.openqa.selenium.support.events.EventFiringWebDriver;
+
+import com.githubqacore.seleniumassured.PageCache;
+
+/**
+ * 
+ * 
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ */
+public class PageCacheTest {
+
+	private final StubWebDriver			stub	= new StubWebDriver("https://example.com/checkout", "Checkout");
+
+	private final EventFiringWebDriver	driver	= new EventFiringWebDriver(stub);
+
+	@After
+	public void tearDown() {
+		PageCache.disable(driver);
+	}
+
+	@Test
+	public void cacheTest() {
+		PageCache cache = PageCache.enable(driver);
+
+		assertCurrentUrlStartsWith(driver, "https://");
+		assertCurrentUrlContains(driver, "/checkout");
+		assertThat(driver).currentUrl().endsWith("/checkout");
+		assertTitleEquals(driver, "Checkout");
+		assertTitleEquals(driver, "Checkout");
+
+		assertEquals(1, stub.getCurrentUrlCalls());
+		assertEquals(1, stub.getTitleCalls());
+		assertEquals(3, cache.getHits());
+		assertEquals(2, cache.getMisses());
+
+		driver.get("https://example.com/cart");
+		assertCurrentUrlEquals(driver, "https://example.com/cart");
+		assertCurrentUrlEquals(driver, "https://example.com/cart");
+
+		assertEquals(2, stub.getCurrentUrlCalls());
+
+		stub.setScriptHandler((script, args) -> null);
+		driver.executeScript("history.back()");
+		assertCurrentUrlStartsWith(driver, "https://");
+
+		assertEquals(3, stub.getCurrentUrlCalls());
+	}
+
+	@Test
+	public void lookupTest() {
+		EventFiringWebDriver other = new EventFiringWebDriver(new StubWebDriver("https://example.com/", "Home"));
+
+		PageCache.enable(other);
+
+		try {
+			// the thread remembers that the driver has no cache, until a cache is enabled
+			assertTitleEquals(driver, "Checkout");
+			assertTitleEquals(driver, "Checkout");
+
+			PageCache cache = PageCache.enable(driver);
+
+			assertTitleEquals(driver, "Checkout");
+			assertTitleEquals(driver, "Checkout");
+
+			assertEquals(3, stub.getTitleCalls());
+			assertEquals(1, cache.getHits());
+
+			PageCache.disable(driver);
+			assertTitleEquals(driver, "Checkout");
+
+			assertEquals(4, stub.getTitleCalls());
+		} finally {
+			PageCache.disable(other);
+		}
+	}
+
+	@Test
+	public void invalidateTest() {
+		PageCache cache = PageCache.enable(driver);
+		long epoch = cache.getEpoch();
+
+		assertTitleEquals(driver, "Checkout");
+
+		// e.g. after switching windows, which fires no event
+		stub.setTitle("Cart");
+		cache.invalidate();
+		assertTitleEquals(driver, "Cart");
+
+		assertEquals(2, stub.getTitleCalls());
+		assertEquals(epoch + 1, cache.getEpoch());
+	}
+
+	@Test
+	public void timeToLiveTest() throws Exception {
+		PageCache.enable(driver, 50, TimeUnit.MILLISECONDS);
+
+		assertTitleEquals(driver, "Checkout");
+		assertTitleEquals(driver, "Checkout");
+		Thread.sleep(100);
+		assertTitleEquals(driver, "Checkout");
+
+		assertEquals(2, stub.getTitleCalls());
+	}
+
+	@Test
+	public void disableTest() {
+		PageCache.enable(driver);
+		assertTitleEquals(driver, "Checkout");
+		PageCache.disable(driver);
+		assertTitleEquals(driver, "Checkout");
+
+		assertEquals(2, stub.getTitleCalls());
+	}
+
+	@Test
+	public void eventuallyBypassesCacheTest() {
+		PageCache.enable(driver);
+		assertTitleEquals(driver, "Checkout");
+		eventually(driver, 1, TimeUnit.SECONDS).title().isEqualTo("Checkout");
+
+		assertEquals(2, stub.getTitleCalls());
+	}
+
+}
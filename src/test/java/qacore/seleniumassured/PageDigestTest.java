@@ -0,0 +1,161 @@
+package qacore.seleniumassured;
+
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertPageChanged;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertPageUnchanged;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.UnhandledAlertException;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+
+import com.githubqacore.seleniumassured.PageDigest;
+
+/**
+ * 
+ * 
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ */
+public class PageDigestTest {
+
+	private static final String HTML = "<html><head><title>Cart</title></head><body>"
+			+ "<div id='cart'><ul><li>Item one</li><li>Item two</li></ul><input id='qty' value='1'></div>"
+			+ "<p id='status'>Ready</p>"
+			+ "<button id='noop' onclick='return false'>No-op</button>"
+			+ "<button id='status-button' onclick=\"document.getElementById('status').textContent = 'Saved'\">Save</button>"
+			+ "<button id='remove' onclick=\"var c = document.getElementById('cart'); c.parentNode.removeChild(c)\">Remove</button>"
+			+ "</body></html>";
+
+	@Test
+	public void inBrowserTest() throws Exception {
+		try (LocalHttpServer server = new LocalHttpServer().page("/", HTML)) {
+			HtmlUnitDriver driver = new HtmlUnitDriver(true);
+
+			try {
+				driver.get(server.url("/"));
+
+				PageDigest page = PageDigest.capture(driver);
+				PageDigest cart = PageDigest.capture(driver, "#cart");
+
+				assertEquals(16, page.getDigest().length());
+				assertEquals("html", page.getSubtrees().keySet().iterator().next());
+				assertEquals(cart.getDigest(), cart.getSubtrees().get("#cart"));
+
+				driver.findElement(By.id("noop")).click();
+
+				assertPageUnchanged(driver, page);
+				assertPageUnchanged(driver, cart);
+
+				driver.findElement(By.id("status-button")).click();
+
+				assertPageChanged(driver, page);
+				assertPageUnchanged(driver, cart);
+
+				try {
+					assertPageUnchanged(driver, page);
+					fail();
+				} catch (AssertionError e) {
+					assertEquals("The page changed:\n  html > body:nth-child(2) > p#status:nth-child(2) changed", e.getMessage());
+				}
+
+				driver.findElement(By.id("qty")).sendKeys("0");
+
+				try {
+					assertPageUnchanged(driver, cart);
+					fail();
+				} catch (AssertionError e) {
+					assertEquals("The subtree <#cart> changed:\n  #cart > input#qty:nth-child(2) changed", e.getMessage());
+				}
+
+				cart = PageDigest.capture(driver, "#cart", 0);
+
+				assertEquals(1, cart.getSubtrees().size());
+
+				driver.findElement(By.id("remove")).click();
+
+				try {
+					assertPageUnchanged(driver, cart);
+					fail();
+				} catch (AssertionError e) {
+					assertEquals("The subtree <#cart> was removed", e.getMessage());
+				}
+
+				PageDigest removed = PageDigest.capture(driver, "#cart");
+
+				assertNull(removed.getDigest());
+
+				try {
+					assertPageChanged(driver, removed);
+					fail();
+				} catch (AssertionError e) {
+					assertEquals("The subtree <#cart> is still absent", e.getMessage());
+				}
+			} finally {
+				driver.quit();
+			}
+		}
+	}
+
+	@Test
+	public void fallbackTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/cart", "Cart");
+
+		driver.setPageSource("<html><body><p>Ready</p></body></html>");
+
+		PageDigest page = PageDigest.capture(driver);
+
+		assertEquals(1, driver.getScriptCalls());
+		assertEquals(0, page.getSubtrees().size());
+
+		assertPageUnchanged(driver, page);
+
+		// the fallback is kept by the later captures
+		assertEquals(1, driver.getScriptCalls());
+
+		driver.setPageSource("<html><body><p>Saved</p></body></html>");
+
+		assertPageChanged(driver, page);
+
+		try {
+			assertPageUnchanged(driver, page);
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The page changed from digest <" + page.getDigest() + "> to <" + PageDigest.capture(driver).getDigest() + ">", e.getMessage());
+		}
+	}
+
+	@Test
+	public void scriptFailureTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/cart", "Cart");
+
+		driver.setPageSource("<html><body><p>Ready</p></body></html>");
+		driver.setScriptHandler((script, args) -> Arrays.asList("00000000deadbeef", Collections.emptyList()));
+
+		PageDigest page = PageDigest.capture(driver);
+
+		assertEquals("00000000deadbeef", page.getDigest());
+
+		// the hash of the page source can not be compared with the structural digest
+		driver.setScriptHandler((script, args) -> {
+			throw new UnhandledAlertException("Leave the page?");
+		});
+
+		try {
+			assertPageUnchanged(driver, page);
+			fail();
+		} catch (UnhandledAlertException e) {
+			assertEquals(2, driver.getScriptCalls());
+		}
+	}
+
+}
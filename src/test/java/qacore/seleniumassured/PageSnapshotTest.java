@@ -0,0 +1,61 @@
+package qacore.seleniumassured;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.githubqacore.seleniumassured.PageSnapshot;
+import com.githubqacore.seleniumassured.WebDriverAssert;
+
+/**
+ * 
+ * 
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ */
+public class PageSnapshotTest {
+
+	@Test
+	public void captureWithScriptTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/checkout/42", "Checkout");
+
+		driver.setScriptHandler((script, args) -> Arrays.asList("https://example.com/checkout/42", "Checkout", "complete"));
+
+		PageSnapshot snapshot = PageSnapshot.capture(driver);
+
+		assertEquals(1, driver.getScriptCalls());
+		assertEquals("complete", snapshot.getReadyState());
+
+		WebDriverAssert.assertCurrentUrlStartsWith(snapshot, "https://");
+		WebDriverAssert.assertCurrentUrlMatches(snapshot, "https://[^/]+/checkout/\\d+");
+		WebDriverAssert.assertTitleEquals(snapshot, "Checkout");
+		WebDriverAssert.assertTitleDoesNotContainIgnoreCase(snapshot, "CART");
+
+		assertEquals(0, driver.getCurrentUrlCalls());
+		assertEquals(0, driver.getTitleCalls());
+	}
+
+	@Test
+	public void captureWithoutScriptTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/", "Home");
+
+		PageSnapshot snapshot = PageSnapshot.capture(driver);
+
+		assertEquals("https://example.com/", snapshot.getCurrentUrl());
+		assertEquals("Home", snapshot.getTitle());
+		assertNull(snapshot.getReadyState());
+	}
+
+	@Test(expected = AssertionError.class)
+	public void snapshotFailureTest() {
+		WebDriverAssert.assertTitleIsEmpty(PageSnapshot.capture(new StubWebDriver("about:blank", "Home")));
+	}
+
+}
@@ -0,0 +1,133 @@
+package qacore.seleniumassured;
+
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertPageSourceContains;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertPageSourceContainsAll;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertPageSourceContainsAny;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertPageSourceContainsIgnoreCase;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertPageSourceContainsNone;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertPageSourceDoesNotContain;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertPageSourceDoesNotContainIgnoreCase;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertPageSourceDoesNotMatch;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertPageSourceMatches;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.githubqacore.seleniumassured.LiteralMatcher;
+
+/**
+ * 
+ * 
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ */
+public class PageSourceAssertTest {
+
+	private static final StubWebDriver DRIVER = new StubWebDriver("https://example.com/orders/42", "Order");
+
+	static {
+		StringBuilder source = new StringBuilder("<html><head><title>Order</title></head><body>\n");
+
+		while (source.length() < 5 << 20)
+			source.append("<div class=\"row\"><span>lorem ipsum dolor sit amet</span></div>\n");
+
+		DRIVER.setPageSource(source.append("<h1 id=\"order-123456\">Order Confirmed</h1>\n</body></html>").toString());
+	}
+
+	@Test
+	public void passingTest() {
+		assertPageSourceContains(DRIVER, "Order Confirmed");
+		assertPageSourceContainsIgnoreCase(DRIVER, "ORDER CONFIRMED</H1>");
+		assertPageSourceDoesNotContain(DRIVER, "Payment failed");
+		assertPageSourceDoesNotContainIgnoreCase(DRIVER, "PAYMENT FAILED");
+		assertPageSourceMatches(DRIVER, "order-\\d{6}");
+		assertPageSourceDoesNotMatch(DRIVER, "(?i)error-\\d+");
+		assertPageSourceContainsAll(DRIVER, LiteralMatcher.ofIgnoreCase("<TITLE>ORDER", "confirmed", "lorem"));
+		assertPageSourceContainsAny(DRIVER, LiteralMatcher.of("Shipped", "Confirmed"));
+		assertPageSourceContainsNone(DRIVER, LiteralMatcher.of("Exception", "stack trace", "undefined"));
+	}
+
+	@Test
+	public void boundedFailureTest() {
+		try {
+			assertPageSourceContains(DRIVER, "Order Confirmation");
+			fail();
+		} catch (AssertionError e) {
+			String source = DRIVER.getPageSource();
+
+			assertEquals("The page source (" + source.length() + " characters) does not contain <Order Confirmation>, the closest match is its first 13 characters at index "
+					+ source.indexOf("Order Confirmed") + ": ...amet</span></div>\\n<h1 id=\"order-123456\">[Order Confirm]ed</h1>\\n</body></html>", e.getMessage());
+		}
+
+		try {
+			assertPageSourceDoesNotContainIgnoreCase(DRIVER, "LOREM IPSUM");
+			fail();
+		} catch (AssertionError e) {
+			assertTrue(e.getMessage(), e.getMessage().contains(" contains <LOREM IPSUM> ignoring case at index 69: "));
+			assertTrue(e.getMessage(), e.getMessage().endsWith("...le></head><body>\\n<div class=\"row\"><span>[lorem ipsum] dolor sit amet</span></div>\\n<div class=..."));
+			assertTrue(e.getMessage(), e.getMessage().length() < 300);
+		}
+
+		try {
+			assertPageSourceContainsAll(DRIVER, LiteralMatcher.of("lorem", "Shipped", "Delivered"));
+			fail();
+		} catch (AssertionError e) {
+			assertTrue(e.getMessage(), e.getMessage().endsWith(" does not contain 2 of 3 literals: [Shipped, Delivered]"));
+		}
+
+		try {
+			assertPageSourceMatches(DRIVER, "order-\\d{7}");
+			fail();
+		} catch (AssertionError e) {
+			assertTrue(e.getMessage(), e.getMessage().endsWith(" has no match of <order-\\d{7}>"));
+		}
+	}
+
+	@Test
+	public void ignoreCaseSearchTest() {
+		// includes characters whose case folding is not ASCII: the Kelvin sign, the dotted I and the long s
+		char[] alphabet = { 'a', 'b', 'K', 'k', '\u212a', 'S', 's', '\u017f', 'I', 'i', '\u0130', '\u00e9', '\u00c9' };
+		Random random = new Random(42);
+		StubWebDriver driver = new StubWebDriver("https://example.com/", "Store");
+
+		for (int n = 0; n < 5000; n++) {
+			String source = random(random, alphabet, random.nextInt(64));
+			String needle = random(random, alphabet, 1 + random.nextInt(8));
+			boolean expected = false;
+
+			for (int i = 0; i + needle.length() <= source.length() && !expected; i++)
+				expected = source.regionMatches(true, i, needle, 0, needle.length());
+
+			driver.setPageSource(source);
+
+			boolean passed;
+
+			try {
+				assertPageSourceContainsIgnoreCase(driver, needle);
+				passed = true;
+			} catch (AssertionError e) {
+				passed = false;
+			}
+
+			assertEquals(source + " / " + needle, expected, passed);
+		}
+	}
+
+	private static String random(Random random, char[] alphabet, int length) {
+		char[] value = new char[length];
+
+		for (int i = 0; i < length; i++)
+			value[i] = alphabet[random.nextInt(alphabet.length)];
+
+		return new String(value);
+	}
+
+}
@@ -0,0 +1,136 @@
+package qacore.seleniumassured;
+
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertTitleEquals;
+import static com.githubqacore.seleniumassured.WebDriverAssert.inParallel;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+
+import com.githubqacore.seleniumassured.ParallelAssertionResult;
+import com.githubqacore.seleniumassured.StringCondition;
+
+/**
+ * 
+ * 
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ */
+public class ParallelWebDriverAssertTest {
+
+	@Test
+	public void passingTest() {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maximum = new AtomicInteger();
+		List<WebDriver> drivers = new ArrayList<>();
+
+		for (int i = 0; i < 20; i++)
+			drivers.add(new SlowWebDriver("https://example.com/" + i, "Checkout", 100, running, maximum));
+
+		ParallelAssertionResult result = inParallel(drivers, 10, TimeUnit.SECONDS).parallelism(10).check(driver -> assertTitleEquals(driver, "Checkout"));
+
+		result.assertPassed();
+
+		assertTrue(result.isPassed());
+		assertEquals(20, result.getDrivers().size());
+		assertEquals(10, maximum.get());
+		// two rounds of 10 sessions, instead of 20 serial calls
+		assertTrue(result.toString(), result.getElapsed(TimeUnit.MILLISECONDS) < 1000);
+	}
+
+	@Test
+	public void duplicateDriverTest() {
+		WebDriver driver = new StubWebDriver("https://example.com/", "Checkout");
+
+		try {
+			inParallel(Arrays.asList(driver, new StubWebDriver("https://example.com/", "Checkout"), driver), 1, TimeUnit.SECONDS);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("The driver " + driver + " appears more than once", e.getMessage());
+		}
+	}
+
+	@Test
+	public void failingTest() {
+		WebDriver first = new StubWebDriver("https://example.com/", "Checkout");
+		WebDriver second = new StubWebDriver("https://example.com/", "Cart");
+		WebDriver third = new StubWebDriver("https://example.com/", "Checkout");
+
+		ParallelAssertionResult result = inParallel(Arrays.asList(first, second, third), 10, TimeUnit.SECONDS).title(StringCondition.equalTo("Checkout"));
+
+		assertEquals(1, result.getFailures().size());
+		assertTrue(result.getFailures().containsKey(second));
+
+		try {
+			result.assertPassed();
+			fail();
+		} catch (AssertionError e) {
+			assertTrue(e.getMessage(), e.getMessage().startsWith("1 of 3 sessions failed:\n1) "));
+			assertTrue(e.getMessage(), e.getMessage().endsWith(": expected:<C[heckou]t> but was:<C[ar]t>"));
+			assertSame(result.getFailures().get(second), e.getSuppressed()[0]);
+		}
+	}
+
+	@Test
+	public void timeoutTest() {
+		WebDriver fast = new StubWebDriver("https://example.com/", "Checkout");
+		WebDriver hanging = new SlowWebDriver("https://example.com/", "Checkout", 10000, new AtomicInteger(), new AtomicInteger());
+
+		ParallelAssertionResult result = inParallel(Arrays.asList(fast, hanging), 200, TimeUnit.MILLISECONDS).check(driver -> assertTitleEquals(driver, "Checkout"));
+
+		assertEquals(1, result.getFailures().size());
+		assertTrue(result.getFailures().get(hanging) instanceof TimeoutException);
+		assertTrue(result.toString(), result.getElapsed(TimeUnit.MILLISECONDS) < 5000);
+	}
+
+	/**
+	 * A driver whose title takes a while to read, tracking how many are read at the same time.
+	 */
+	private static class SlowWebDriver extends StubWebDriver {
+
+		private final long			delay;
+
+		private final AtomicInteger	running;
+
+		private final AtomicInteger	maximum;
+
+		SlowWebDriver(String currentUrl, String title, long delay, AtomicInteger running, AtomicInteger maximum) {
+			super(currentUrl, title);
+
+			this.delay = delay;
+			this.running = running;
+			this.maximum = maximum;
+		}
+
+		@Override
+		public String getTitle() {
+			maximum.accumulateAndGet(running.incrementAndGet(), Math::max);
+
+			try {
+				Thread.sleep(delay);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				running.decrementAndGet();
+			}
+
+			return super.getTitle();
+		}
+
+	}
+
+}
@@ -0,0 +1,93 @@
+package qacore.seleniumassured;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import com.githubqacore.seleniumassured.SoftWebDriverAssert;
+
+/**
+ * 
+ * 
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ */
+public class SoftWebDriverAssertTest {
+
+	@Test
+	public void passingBatchTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/checkout", "Checkout");
+		SoftWebDriverAssert softly = new SoftWebDriverAssert(driver);
+
+		softly.currentUrl().startsWith("https://").endsWith("/checkout");
+		softly.currentUrl().doesNotContain("/cart");
+		softly.title().isEqualTo("Checkout");
+		softly.assertAll();
+
+		assertEquals(1, driver.getCurrentUrlCalls());
+		assertEquals(1, driver.getTitleCalls());
+	}
+
+	@Test
+	public void failingBatchTest() {
+		StubWebDriver driver = new StubWebDriver("http://example.com/cart", "Cart");
+		SoftWebDriverAssert softly = new SoftWebDriverAssert(driver);
+
+		softly.currentUrl().startsWith("https://").doesNotContain("/cart").isNotEmpty();
+		softly.title().isEqualTo("Cart");
+
+		assertEquals(2, softly.getFailures().size());
+
+		try {
+			softly.assertAll();
+			fail();
+		} catch (AssertionError e) {
+			assertTrue(e.getMessage().startsWith("2 soft assertions failed:"));
+			assertTrue(e.getMessage().contains("1) The current url <http://example.com/cart> doesn't start with <https://> at index 0"));
+			assertTrue(e.getMessage().contains("2) The current url <http://example.com/cart> contains </cart>"));
+			assertEquals(2, e.getSuppressed().length);
+		}
+
+		assertTrue(softly.getFailures().isEmpty());
+	}
+
+	@Test
+	public void newBatchReadsAgainTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/", "Home");
+		SoftWebDriverAssert softly = new SoftWebDriverAssert(driver);
+
+		softly.title().isEqualTo("Home");
+		softly.assertAll();
+
+		driver.setTitle("Checkout");
+		softly.title().isEqualTo("Checkout");
+		softly.assertAll();
+
+		assertEquals(2, driver.getTitleCalls());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void threadConfinedTest() throws Throwable {
+		SoftWebDriverAssert softly = new SoftWebDriverAssert(new StubWebDriver("https://example.com/", "Home"));
+		Throwable[] thrown = new Throwable[1];
+		Thread thread = new Thread(() -> {
+			try {
+				softly.title().isEqualTo("Home");
+			} catch (Throwable e) {
+				thrown[0] = e;
+			}
+		});
+
+		thread.start();
+		thread.join();
+
+		throw thrown[0];
+	}
+
+}
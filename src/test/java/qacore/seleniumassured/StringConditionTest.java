@@ -0,0 +1,51 @@
+package qacore.seleniumassured;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.githubqacore.seleniumassured.StringCondition;
+
+/**
+ * 
+ * 
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ */
+public class StringConditionTest {
+
+	@Test
+	public void testTest() {
+		assertTrue(StringCondition.equalTo("Home").test("Home"));
+		assertTrue(StringCondition.equalToIgnoreCase("HOME").test("home"));
+		assertTrue(StringCondition.isEmpty(true).test(" \t "));
+		assertFalse(StringCondition.isEmpty().test(" "));
+		assertTrue(StringCondition.startsWith("example", 8).test("https://example.com"));
+		assertTrue(StringCondition.startsWithIgnoreCase("HTTPS").test("https://example.com"));
+		assertTrue(StringCondition.endsWith(".com").test("https://example.com"));
+		assertTrue(StringCondition.containsIgnoreCase("EXAMPLE").test("https://example.com"));
+		assertTrue(StringCondition.matches("https://.*").test("https://example.com"));
+	}
+
+	@Test
+	public void negateTest() {
+		StringCondition condition = StringCondition.contains("/cart");
+
+		assertFalse(condition.negate().test("https://example.com/cart"));
+		assertTrue(condition.negate().test("https://example.com/checkout"));
+		assertTrue(condition.negate().negate().test("https://example.com/cart"));
+	}
+
+	@Test
+	public void toStringTest() {
+		assertEquals("starts with <https://> at index 0", StringCondition.startsWith("https://").toString());
+		assertEquals("not contains <cart> ignoring case", StringCondition.containsIgnoreCase("cart").negate().toString());
+	}
+
+}
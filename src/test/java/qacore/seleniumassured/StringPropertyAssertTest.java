@@ -0,0 +1,72 @@
+package qacore.seleniumassured;
+
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import com.githubqacore.seleniumassured.PageSnapshot;
+import com.githubqacore.seleniumassured.StringCondition;
+
+/**
+ * 
+ * 
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ */
+public class StringPropertyAssertTest {
+
+	@Test
+	public void chainReadsOnceTest() {
+		StubWebDriver driver = new StubWebDriver("https://shop.example.com/checkout/42", "Checkout - Store");
+
+		assertThat(driver).currentUrl().startsWith("https://").contains("/checkout").matches(".*/\\d+").doesNotContainIgnoreCase("/CART").satisfies(StringCondition.endsWith("42"));
+		assertThat(driver).title().isNotEmpty().endsWithIgnoreCase("- store").startsWith("Store", 11).doesNotMatch(Pattern.compile("Cart.*"));
+
+		assertEquals(1, driver.getCurrentUrlCalls());
+		assertEquals(1, driver.getTitleCalls());
+	}
+
+	@Test
+	public void eachChainReadsAgainTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/", "Home");
+
+		assertThat(driver).title().isEqualTo("Home");
+		driver.setTitle("Checkout");
+		assertThat(driver).title().isEqualTo("Checkout");
+
+		assertEquals(2, driver.getTitleCalls());
+	}
+
+	@Test
+	public void failureTest() {
+		StubWebDriver driver = new StubWebDriver("http://example.com/", "Home");
+
+		try {
+			assertThat(driver).currentUrl().isNotEmpty().startsWith("https://");
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The current url <http://example.com/> doesn't start with <https://> at index 0", e.getMessage());
+		}
+	}
+
+	@Test
+	public void snapshotTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/", "Home");
+
+		PageSnapshot snapshot = PageSnapshot.capture(driver);
+
+		assertThat(snapshot).currentUrl().isEqualToIgnoreCase("HTTPS://EXAMPLE.COM/");
+		assertThat(snapshot).title().isNotEqualTo("Checkout");
+
+		assertEquals(1, driver.getCurrentUrlCalls());
+	}
+
+}
@@ -0,0 +1,208 @@
+package qacore.seleniumassured;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.logging.Level;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.logging.LogEntries;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.Logs;
+
+/**
+ * An in-memory {@link WebDriver} returning fixed values and counting the remote calls made. Scripts are answered by the script handler, if any. The browser log returns the logged entries once,
+ * like the drivers do, and the other options are not supported.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ */
+public class StubWebDriver implements WebDriver, JavascriptExecutor {
+
+	private String								currentUrl;
+
+	private String								title;
+
+	private String								pageSource;
+
+	private int									currentUrlCalls;
+
+	private int									titleCalls;
+
+	private int									scriptCalls;
+
+	private BiFunction<String, Object[], Object>	scriptHandler;
+
+	private List<LogEntry>						browserLog	= new ArrayList<>();
+
+	private int									logCalls;
+
+	public StubWebDriver(String currentUrl, String title) {
+		this.currentUrl = currentUrl;
+		this.title = title;
+	}
+
+	public void setCurrentUrl(String currentUrl) {
+		this.currentUrl = currentUrl;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public void setPageSource(String pageSource) {
+		this.pageSource = pageSource;
+	}
+
+	public int getCurrentUrlCalls() {
+		return currentUrlCalls;
+	}
+
+	public int getTitleCalls() {
+		return titleCalls;
+	}
+
+	public int getScriptCalls() {
+		return scriptCalls;
+	}
+
+	public int getLogCalls() {
+		return logCalls;
+	}
+
+	public void log(Level level, String message) {
+		browserLog.add(new LogEntry(level, System.currentTimeMillis(), message));
+	}
+
+	public void setScriptHandler(BiFunction<String, Object[], Object> scriptHandler) {
+		this.scriptHandler = scriptHandler;
+	}
+
+	@Override
+	public void get(String url) {
+		this.currentUrl = url;
+	}
+
+	@Override
+	public String getCurrentUrl() {
+		currentUrlCalls++;
+
+		return currentUrl;
+	}
+
+	@Override
+	public String getTitle() {
+		titleCalls++;
+
+		return title;
+	}
+
+	@Override
+	public List<WebElement> findElements(By by) {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public WebElement findElement(By by) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public String getPageSource() {
+		if (pageSource != null)
+			return pageSource;
+
+		return "<html><head><title>" + title + "</title></head><body></body></html>";
+	}
+
+	@Override
+	public void close() {
+
+	}
+
+	@Override
+	public void quit() {
+
+	}
+
+	@Override
+	public Set<String> getWindowHandles() {
+		return Collections.singleton(getWindowHandle());
+	}
+
+	@Override
+	public String getWindowHandle() {
+		return "stub";
+	}
+
+	@Override
+	public TargetLocator switchTo() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Navigation navigate() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Options manage() {
+		Logs logs = new Logs() {
+
+			@Override
+			public LogEntries get(String logType) {
+				if (!LogType.BROWSER.equals(logType))
+					throw new UnsupportedCommandException(logType);
+
+				logCalls++;
+
+				LogEntries entries = new LogEntries(browserLog);
+
+				browserLog = new ArrayList<>();
+
+				return entries;
+			}
+
+			@Override
+			public Set<String> getAvailableLogTypes() {
+				return Collections.singleton(LogType.BROWSER);
+			}
+
+		};
+
+		return (Options) Proxy.newProxyInstance(Options.class.getClassLoader(), new Class<?>[] { Options.class }, (proxy, method, args) -> {
+			if (method.getName().equals("logs"))
+				return logs;
+
+			throw new UnsupportedOperationException(method.getName());
+		});
+	}
+
+	@Override
+	public Object executeScript(String script, Object... args) {
+		scriptCalls++;
+
+		if (scriptHandler == null)
+			throw new UnsupportedCommandException("executeScript");
+
+		return scriptHandler.apply(script, args);
+	}
+
+	@Override
+	public Object executeAsyncScript(String script, Object... args) {
+		return executeScript(script, args);
+	}
+
+}
@@ -0,0 +1,251 @@
+package qacore.seleniumassured;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+
+import com.githubqacore.seleniumassured.VisualBaselines;
+import com.githubqacore.seleniumassured.WebDriverAssert;
+
+/**
+ * 
+ * 
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ */
+public class VisualBaselinesTest {
+
+	private static final int	WIDTH	= 1200;
+
+	private static final int	HEIGHT	= 900;
+
+	private Path				directory;
+
+	private Path				workDirectory;
+
+	private Path				previousDirectory;
+
+	private Path				previousWorkDirectory;
+
+	@Before
+	public void setUp() throws Exception {
+		previousDirectory = VisualBaselines.getDirectory();
+		previousWorkDirectory = VisualBaselines.getWorkDirectory();
+		directory = Files.createTempDirectory("baselines");
+		workDirectory = Files.createTempDirectory("baselines-work");
+
+		VisualBaselines.setDirectory(directory);
+		VisualBaselines.setWorkDirectory(workDirectory);
+	}
+
+	@After
+	public void tearDown() {
+		VisualBaselines.setDirectory(previousDirectory);
+		VisualBaselines.setWorkDirectory(previousWorkDirectory);
+	}
+
+	@Test
+	public void recordTest() throws Exception {
+		ScreenshotDriver driver = new ScreenshotDriver(png(page(Color.WHITE)));
+
+		try {
+			WebDriverAssert.assertScreenshotMatchesBaseline(driver, "home", 0);
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The baseline <home> did not exist, it was recorded from the current screenshot in " + directory.resolve("home.png").toAbsolutePath(), e.getMessage());
+		}
+
+		assertTrue(Files.exists(directory.resolve("home.png")));
+
+		// the first comparison decodes the baseline, the next ones map its pixels
+		WebDriverAssert.assertScreenshotMatchesBaseline(driver, "home", 0);
+
+		Path pixels = workDirectory.resolve("home.pixels");
+		FileTime written = FileTime.fromMillis(1000);
+
+		assertEquals(32 + 4L * WIDTH * HEIGHT, Files.size(pixels));
+		Files.setLastModifiedTime(pixels, written);
+
+		WebDriverAssert.assertScreenshotMatchesBaseline(driver, "home", 0);
+		assertEquals(written, Files.getLastModifiedTime(pixels));
+
+		assertTrue(Files.notExists(workDirectory.resolve("home-diff.png")));
+	}
+
+	@Test
+	public void toleranceTest() throws Exception {
+		ScreenshotDriver driver = new ScreenshotDriver(png(page(Color.WHITE)));
+
+		record(driver, "cart");
+
+		BufferedImage changed = page(Color.WHITE);
+
+		changed.setRGB(WIDTH - 10, HEIGHT - 10, 10, 10, filled(100, 0xff00ff00), 0, 10);
+		driver.screenshot = png(changed);
+
+		WebDriverAssert.assertScreenshotMatchesBaseline(driver, "cart", 0.001);
+
+		try {
+			WebDriverAssert.assertScreenshotMatchesBaseline(driver, "cart", 0.00005);
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The screenshot differs from the baseline <cart> in 0.01% of the pixels (100 of 1080000), above the tolerance of 0.01%, see "
+					+ workDirectory.resolve("cart-diff.png").toAbsolutePath(), e.getMessage());
+		}
+
+		BufferedImage diff = ImageIO.read(workDirectory.resolve("cart-diff.png").toFile());
+
+		assertEquals(0xff0000, diff.getRGB(WIDTH - 1, HEIGHT - 1) & 0xffffff);
+		assertTrue((diff.getRGB(0, 0) & 0xffffff) != 0xff0000);
+		assertTrue(Files.exists(workDirectory.resolve("cart-actual.png")));
+	}
+
+	@Test
+	public void earlyStopTest() throws Exception {
+		ScreenshotDriver driver = new ScreenshotDriver(png(page(Color.WHITE)));
+
+		record(driver, "checkout");
+		driver.screenshot = png(page(Color.BLACK));
+
+		try {
+			WebDriverAssert.assertScreenshotMatchesBaseline(driver, "checkout", 0.1);
+			fail();
+		} catch (AssertionError e) {
+			// the failure counts all pixels, even though the comparison stopped early
+			assertTrue(e.getMessage(), e.getMessage().startsWith("The screenshot differs from the baseline <checkout> in 80.00% of the pixels (864000 of 1080000)"));
+		}
+	}
+
+	@Test
+	public void sizeTest() throws Exception {
+		ScreenshotDriver driver = new ScreenshotDriver(png(page(Color.WHITE)));
+
+		record(driver, "home");
+		driver.screenshot = png(new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB));
+
+		try {
+			WebDriverAssert.assertScreenshotMatchesBaseline(driver, "home", 0.5);
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The screenshot is 800x600, but the baseline <home> is 1200x900, see " + workDirectory.resolve("home-actual.png").toAbsolutePath(), e.getMessage());
+		}
+
+		assertTrue(Files.notExists(workDirectory.resolve("home-diff.png")));
+	}
+
+	@Test
+	public void updatedBaselineTest() throws Exception {
+		ScreenshotDriver driver = new ScreenshotDriver(png(page(Color.WHITE)));
+
+		record(driver, "home");
+		WebDriverAssert.assertScreenshotMatchesBaseline(driver, "home", 0);
+
+		// replacing the baseline decodes it again
+		byte[] dark = png(page(Color.DARK_GRAY));
+		Path baseline = directory.resolve("home.png");
+
+		Files.write(baseline, dark);
+		Files.setLastModifiedTime(baseline, FileTime.fromMillis(Files.getLastModifiedTime(baseline).toMillis() + 2000));
+		driver.screenshot = dark;
+
+		WebDriverAssert.assertScreenshotMatchesBaseline(driver, "home", 0);
+	}
+
+	@Test
+	public void invalidNameTest() throws Exception {
+		ScreenshotDriver driver = new ScreenshotDriver(png(page(Color.WHITE)));
+
+		for (String name : new String[] { null, "", "../home", "home page" }) {
+			try {
+				WebDriverAssert.assertScreenshotMatchesBaseline(driver, name, 0);
+				fail(name);
+			} catch (IllegalArgumentException e) {
+				assertEquals("Invalid baseline name <" + name + ">", e.getMessage());
+			}
+		}
+
+		try (Stream<Path> files = Files.list(directory)) {
+			assertNull(files.findAny().orElse(null));
+		}
+	}
+
+	private static void record(ScreenshotDriver driver, String name) {
+		try {
+			WebDriverAssert.assertScreenshotMatchesBaseline(driver, name, 0);
+			fail();
+		} catch (AssertionError e) {
+			assertTrue(e.getMessage(), e.getMessage().startsWith("The baseline <" + name + "> did not exist"));
+		}
+	}
+
+	private static BufferedImage page(Color background) {
+		BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+
+		graphics.setColor(background);
+		graphics.fillRect(0, 0, WIDTH, HEIGHT);
+		graphics.setColor(Color.BLUE);
+		graphics.fillRect(0, 0, WIDTH, 80);
+		graphics.setColor(Color.GRAY);
+		graphics.fillRect(100, 200, 400, 300);
+		graphics.dispose();
+
+		return image;
+	}
+
+	private static int[] filled(int length, int pixel) {
+		int[] pixels = new int[length];
+
+		Arrays.fill(pixels, pixel);
+
+		return pixels;
+	}
+
+	private static byte[] png(BufferedImage image) throws Exception {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		ImageIO.write(image, "png", output);
+
+		return output.toByteArray();
+	}
+
+	private static final class ScreenshotDriver extends StubWebDriver implements TakesScreenshot {
+
+		private byte[]	screenshot;
+
+		ScreenshotDriver(byte[] screenshot) {
+			super("https://example.com/", "Home");
+			this.screenshot = screenshot;
+		}
+
+		@Override
+		public <X> X getScreenshotAs(OutputType<X> target) {
+			return target.convertFromPngBytes(screenshot);
+		}
+
+	}
+
+}
@@ -0,0 +1,105 @@
+package qacore.seleniumassured;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import org.junit.Test;
+
+import com.githubqacore.seleniumassured.LiteralMatcher;
+import com.githubqacore.seleniumassured.WebDriverAssert;
+
+/**
+ * Micro benchmark of the bytes allocated by passing assertions, which must not allocate anything beyond the driver call.
+ *
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ */
+public class WebDriverAssertAllocationTest {
+
+	private static final int			WARMUP_ITERATIONS	= 20000;
+
+	private static final int			ITERATIONS			= 100000;
+
+	private static final int			ROUNDS				= 3;
+
+	private static final LiteralMatcher	FORBIDDEN			= LiteralMatcher.of("/admin", "/debug", "/internal");
+
+	private static final LiteralMatcher	ROUTES				= LiteralMatcher.ofIgnoreCase("/CART", "/CHECKOUT");
+
+	@Test
+	public void passingAssertionsDoNotAllocateTest() {
+		ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+		assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+
+		com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+
+		assumeTrue(allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled());
+
+		StringBuilder url = new StringBuilder("data:text/plain,");
+
+		while (url.length() < 1 << 14)
+			url.append("0123456789abcdef");
+
+		StubWebDriver driver = new StubWebDriver(url.append("/checkout").toString(), "Checkout - Store");
+		StubWebDriver urlDriver = new StubWebDriver("https://user@Shop.Example.com:8443/checkout/42?id=42&q=caf%C3%A9+au+lait#summary", "Checkout - Store");
+
+		assertions(driver, urlDriver, WARMUP_ITERATIONS);
+
+		long threadId = Thread.currentThread().getId();
+		long allocated = Long.MAX_VALUE;
+
+		// the best of a few rounds, as a JIT recompilation may allocate on the measured thread once
+		for (int round = 0; round < ROUNDS; round++) {
+			long before = allocationBean.getThreadAllocatedBytes(threadId);
+
+			assertions(driver, urlDriver, ITERATIONS);
+
+			allocated = Math.min(allocated, allocationBean.getThreadAllocatedBytes(threadId) - before);
+		}
+
+		// a few bytes of slack for the ThreadMXBean call itself
+		assertTrue("Passing assertions allocated " + allocated + " bytes in " + ITERATIONS + " iterations", allocated < 1024);
+	}
+
+	private static void assertions(StubWebDriver driver, StubWebDriver urlDriver, int iterations) {
+		for (int i = 0; i < iterations; i++) {
+			WebDriverAssert.assertCurrentUrlStartsWith(driver, "data:");
+			WebDriverAssert.assertCurrentUrlDoesNotStartWith(driver, "https:");
+			WebDriverAssert.assertCurrentUrlEndsWith(driver, "/checkout");
+			WebDriverAssert.assertCurrentUrlDoesNotEndWith(driver, "/cart");
+			WebDriverAssert.assertCurrentUrlContains(driver, "text/plain");
+			WebDriverAssert.assertCurrentUrlDoesNotContain(driver, "text/html");
+			WebDriverAssert.assertCurrentUrlIsNotEmpty(driver, true);
+			WebDriverAssert.assertTitleEquals(driver, "Checkout - Store");
+			WebDriverAssert.assertTitleNotEquals(driver, "Cart - Store");
+			WebDriverAssert.assertTitleStartsWith(driver, "Store", 11);
+			WebDriverAssert.assertTitleEndsWith(driver, "Store");
+			WebDriverAssert.assertTitleContains(driver, " - ");
+			WebDriverAssert.assertTitleIsNotEmpty(driver, true);
+			WebDriverAssert.assertCurrentUrlStartsWithIgnoreCase(driver, "DATA:TEXT/");
+			WebDriverAssert.assertCurrentUrlEndsWithIgnoreCase(driver, "/CHECKOUT");
+			WebDriverAssert.assertCurrentUrlContainsIgnoreCase(driver, "/CHECK");
+			WebDriverAssert.assertCurrentUrlDoesNotContainIgnoreCase(driver, "TEXT/HTML");
+			WebDriverAssert.assertTitleEqualsIgnoreCase(driver, "checkout - store");
+			WebDriverAssert.assertTitleNotEqualsIgnoreCase(driver, "cart - store");
+			WebDriverAssert.assertCurrentUrlHostEquals(urlDriver, "shop.example.com");
+			WebDriverAssert.assertCurrentUrlPathEquals(urlDriver, "/checkout/42");
+			WebDriverAssert.assertCurrentUrlPathStartsWith(urlDriver, "/checkout/");
+			WebDriverAssert.assertCurrentUrlHasQueryParam(urlDriver, "q");
+			WebDriverAssert.assertCurrentUrlQueryParamEquals(urlDriver, "q", "caf\u00e9 au lait");
+			WebDriverAssert.assertCurrentUrlHasFragment(urlDriver);
+			WebDriverAssert.assertCurrentUrlFragmentEquals(urlDriver, "summary");
+			WebDriverAssert.assertCurrentUrlContainsNone(urlDriver, FORBIDDEN);
+			WebDriverAssert.assertCurrentUrlContainsAny(urlDriver, ROUTES);
+		}
+	}
+
+}
@@ -1,9 +1,11 @@
 package qacore.seleniumassured;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
+import java.util.regex.Pattern;
 
 import org.junit.Test;
 
@@ -32,4 +34,64 @@ public class WebDriverAssertTest {
 			assertEquals(true, Modifier.isPrivate(constructor.getModifiers()));
 	}
 
+	@Test
+	public void matchesTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/orders/42", "Order 42");
+
+		WebDriverAssert.assertCurrentUrlMatches(driver, "https://example\\.com/orders/\\d+");
+		WebDriverAssert.assertCurrentUrlMatches(driver, Pattern.compile(".*/orders/\\d+"));
+		WebDriverAssert.assertCurrentUrlDoesNotMatch(driver, ".*/cart");
+		WebDriverAssert.assertTitleMatches(driver, "Order \\d+");
+		WebDriverAssert.assertTitleDoesNotMatch(driver, Pattern.compile("Cart.*"));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void matchesFailureTest() {
+		WebDriverAssert.assertTitleMatches(new StubWebDriver("about:blank", "Order 42"), "Cart");
+	}
+
+	@Test
+	public void ignoreCaseTest() {
+		StubWebDriver driver = new StubWebDriver("HTTPS://Example.com/Straße/İstanbul", "Título DA Página");
+
+		WebDriverAssert.assertCurrentUrlEqualsIgnoreCase(driver, "https://example.COM/straße/İSTANBUL");
+		WebDriverAssert.assertCurrentUrlStartsWithIgnoreCase(driver, "https://");
+		WebDriverAssert.assertCurrentUrlStartsWithIgnoreCase(driver, "EXAMPLE", 8);
+		WebDriverAssert.assertCurrentUrlDoesNotStartWithIgnoreCase(driver, "http://");
+		WebDriverAssert.assertCurrentUrlEndsWithIgnoreCase(driver, "/İSTANBUL");
+		WebDriverAssert.assertCurrentUrlContainsIgnoreCase(driver, "STR");
+		// case is folded character by character, as by String.equalsIgnoreCase, so ß does not match SS
+		WebDriverAssert.assertCurrentUrlContainsIgnoreCase(driver, "STRAßE");
+		WebDriverAssert.assertCurrentUrlDoesNotContainIgnoreCase(driver, "STRASSE");
+		WebDriverAssert.assertCurrentUrlDoesNotContainIgnoreCase(driver, "/cart");
+		WebDriverAssert.assertTitleContainsIgnoreCase(driver, "da página");
+		WebDriverAssert.assertTitleStartsWithIgnoreCase(driver, "TÍTULO");
+		WebDriverAssert.assertTitleDoesNotEndWithIgnoreCase(driver, "pagina");
+		WebDriverAssert.assertTitleNotEqualsIgnoreCase(driver, "Título");
+	}
+
+	@Test(expected = AssertionError.class)
+	public void doesNotStartWithIgnoreCaseTest() {
+		WebDriverAssert.assertTitleDoesNotStartWithIgnoreCase(new StubWebDriver("about:blank", "Checkout"), "CHECK");
+	}
+
+	@Test
+	public void failureMessageTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/orders", "  ");
+
+		try {
+			WebDriverAssert.assertCurrentUrlStartsWith(driver, "http:");
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The current url <https://example.com/orders> doesn't start with <http:> at index 0", e.getMessage());
+		}
+
+		try {
+			WebDriverAssert.assertTitleIsNotEmpty(driver, true);
+			fail();
+		} catch (AssertionError e) {
+			assertEquals("The title <  > is empty", e.getMessage());
+		}
+	}
+
 }
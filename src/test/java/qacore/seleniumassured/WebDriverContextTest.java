@@ -0,0 +1,140 @@
+package qacore.seleniumassured;
+
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertCurrentUrlQueryParamEquals;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertCurrentUrlStartsWith;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertTitleEquals;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertTitleIsNotEmpty;
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertTitleMatches;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+
+import com.githubqacore.seleniumassured.WebDriverAssert;
+import com.githubqacore.seleniumassured.WebDriverContext;
+
+/**
+ * 
+ * 
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ */
+public class WebDriverContextTest {
+
+	@After
+	public void tearDown() {
+		WebDriverContext.unbind();
+	}
+
+	@Test
+	public void boundTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/cart?id=42", "Cart");
+
+		assertFalse(WebDriverContext.isBound());
+
+		try {
+			assertTitleEquals("Cart");
+			fail();
+		} catch (IllegalStateException e) {
+			assertEquals("No driver is bound to the thread " + Thread.currentThread().getName() + ", see WebDriverContext.bind(WebDriver)", e.getMessage());
+		}
+
+		WebDriverContext.bind(driver);
+
+		assertTrue(WebDriverContext.isBound());
+		assertTitleEquals("Cart");
+		assertTitleIsNotEmpty();
+		assertTitleMatches("C[a-z]+");
+		assertCurrentUrlStartsWith("https://");
+		assertCurrentUrlQueryParamEquals("id", "42");
+
+		try {
+			assertTitleEquals("Checkout");
+			fail();
+		} catch (AssertionError e) {
+			try {
+				assertTitleEquals(driver, "Checkout");
+				fail();
+			} catch (AssertionError expected) {
+				assertEquals(expected.getMessage(), e.getMessage());
+			}
+		}
+
+		WebDriverContext.unbind();
+
+		assertFalse(WebDriverContext.isBound());
+	}
+
+	@Test
+	public void parallelTest() throws Exception {
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		try {
+			List<Future<Integer>> results = new ArrayList<>();
+
+			for (int i = 0; i < threads; i++) {
+				String title = "Page " + i;
+
+				results.add(executor.submit(() -> {
+					StubWebDriver driver = new StubWebDriver("https://example.com/" + title.replace(' ', '-'), title);
+
+					WebDriverContext.bind(driver);
+
+					try {
+						for (int j = 0; j < 1000; j++) {
+							assertTitleEquals(title);
+							assertTitleMatches("Page \\d");
+							assertCurrentUrlStartsWith("https://example.com/Page-");
+						}
+					} finally {
+						WebDriverContext.unbind();
+					}
+
+					return driver.getTitleCalls();
+				}));
+			}
+
+			for (Future<Integer> result : results)
+				assertEquals(2000, (int) result.get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void overloadsTest() throws Exception {
+		for (Method method : WebDriverAssert.class.getMethods()) {
+			Class<?>[] parameters = method.getParameterTypes();
+
+			if (!Modifier.isStatic(method.getModifiers()) || !method.getName().matches("assert(CurrentUrl|Title).*") || parameters.length == 0 || parameters[0] != WebDriver.class)
+				continue;
+
+			// throws NoSuchMethodException when an overload is missing
+			WebDriverAssert.class.getMethod(method.getName(), Arrays.copyOfRange(parameters, 1, parameters.length));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void bindNullTest() {
+		WebDriverContext.bind(null);
+	}
+
+}
@@ -0,0 +1,264 @@
+package qacore.seleniumassured;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+
+import com.githubqacore.seleniumassured.WebDriverAssert;
+import com.githubqacore.seleniumassured.WebDriverContext;
+import com.githubqacore.seleniumassured.WebDriverPool;
+import com.githubqacore.seleniumassured.WebDriverPoolRule;
+import com.githubqacore.seleniumassured.WebDriverPoolStatistics;
+
+/**
+ * 
+ * 
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ */
+public class WebDriverPoolTest {
+
+	private static final String	HTML	= "<html><head><title>Cart</title></head><body><p>Cart</p></body></html>";
+
+	private final AtomicInteger	started	= new AtomicInteger();
+
+	private WebDriver start() {
+		started.incrementAndGet();
+
+		return new HtmlUnitDriver(true);
+	}
+
+	@Test
+	public void resetTest() throws Exception {
+		try (LocalHttpServer server = new LocalHttpServer().page("/", HTML); WebDriverPool pool = new WebDriverPool(this::start, 2)) {
+			WebDriver driver = pool.acquire();
+
+			driver.get(server.url("/"));
+			((JavascriptExecutor) driver).executeScript("document.cookie = 'session=42'; window.localStorage.setItem('cart', '3'); window.open('" + server.url("/") + "', 'popup')");
+
+			assertEquals(2, driver.getWindowHandles().size());
+
+			pool.release(driver);
+
+			WebDriver reused = pool.acquire();
+
+			assertSame(driver, reused);
+			assertEquals(1, reused.getWindowHandles().size());
+			assertEquals("about:blank", reused.getCurrentUrl());
+
+			reused.get(server.url("/"));
+
+			assertEquals("", ((JavascriptExecutor) reused).executeScript("return document.cookie"));
+			assertNull(((JavascriptExecutor) reused).executeScript("return window.localStorage.getItem('cart')"));
+			WebDriverAssert.assertTitleEquals(reused, "Cart");
+
+			pool.release(reused);
+
+			WebDriverPoolStatistics statistics = pool.getStatistics();
+
+			assertEquals(1, started.get());
+			assertEquals(2, statistics.getAcquired());
+			assertEquals(1, statistics.getHits());
+			assertEquals(0.5, statistics.getHitRate(), 0);
+			assertEquals(1, statistics.getCreated());
+			assertEquals(1, statistics.getIdle());
+			assertEquals(0, statistics.getBusy());
+		}
+	}
+
+	@Test
+	public void evictTest() throws Exception {
+		try (WebDriverPool pool = new WebDriverPool(this::start, 1)) {
+			WebDriver driver = pool.acquire();
+
+			// the browser crashed during the test
+			driver.quit();
+			pool.release(driver);
+
+			WebDriver replacement = pool.acquire();
+
+			assertNotSame(driver, replacement);
+			assertEquals("about:blank", replacement.getCurrentUrl());
+
+			pool.invalidate(replacement);
+
+			assertEquals(2, pool.getStatistics().getEvicted());
+			assertEquals(2, started.get());
+			assertEquals(0, pool.getStatistics().getIdle());
+
+			try {
+				pool.release(replacement);
+				fail();
+			} catch (IllegalArgumentException e) {
+				assertEquals("The driver was not acquired from this pool, or was already released", e.getMessage());
+			}
+		}
+	}
+
+	@Test
+	public void unsupportedResetTest() throws Exception {
+		try (WebDriverPool pool = new WebDriverPool(() -> new HtmlUnitDriver(true) {
+
+			@Override
+			public Set<String> getWindowHandles() {
+				throw new UnsupportedOperationException("getWindowHandles");
+			}
+
+		}, 1)) {
+			WebDriver driver = pool.acquire();
+
+			pool.release(driver);
+
+			assertEquals(1, pool.getStatistics().getEvicted());
+			assertEquals(0, pool.getStatistics().getIdle());
+
+			// the slot of the evicted session is free again
+			assertNotSame(driver, pool.acquire(20, TimeUnit.MILLISECONDS));
+		}
+	}
+
+	@Test
+	public void waitTest() throws Exception {
+		try (WebDriverPool pool = new WebDriverPool(this::start, 1)) {
+			WebDriver driver = pool.acquire();
+
+			try {
+				pool.acquire(20, TimeUnit.MILLISECONDS);
+				fail();
+			} catch (TimeoutException e) {
+				assertTrue(e.getMessage(), e.getMessage().startsWith("No session was released in 20 milliseconds, all 1 are busy"));
+			}
+
+			CompletableFuture<Void> release = CompletableFuture.runAsync(() -> {
+				try {
+					Thread.sleep(50);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+
+				pool.release(driver);
+			});
+
+			assertSame(driver, pool.acquire(10, TimeUnit.SECONDS));
+			release.get();
+
+			WebDriverPoolStatistics statistics = pool.getStatistics();
+
+			assertEquals(1, started.get());
+			assertTrue(statistics.toString(), statistics.getWaitTime(100, TimeUnit.MILLISECONDS) >= 40);
+		}
+	}
+
+	@Test
+	public void affinityTest() throws Exception {
+		try (WebDriverPool pool = new WebDriverPool(this::start, 2)) {
+			WebDriver first = pool.acquire();
+			WebDriver second = pool.acquire();
+
+			pool.release(first);
+			CompletableFuture.runAsync(() -> pool.release(second)).get();
+
+			// the session released last is the second, but this thread released the first
+			assertSame(first, pool.acquire());
+			assertEquals(1, pool.getStatistics().getAffinityHits());
+
+			// other threads get the session released last
+			assertSame(second, CompletableFuture.supplyAsync(() -> {
+				try {
+					return pool.acquire();
+				} catch (InterruptedException e) {
+					throw new IllegalStateException(e);
+				}
+			}).get());
+		}
+	}
+
+	@Test
+	public void ruleTest() throws Throwable {
+		try (WebDriverPool pool = new WebDriverPool(this::start, 1)) {
+			WebDriverPoolRule rule = new WebDriverPoolRule(pool);
+			WebDriver[] drivers = new WebDriver[2];
+
+			for (int i = 0; i < drivers.length; i++) {
+				int test = i;
+
+				try {
+					rule.apply(new Statement() {
+
+						@Override
+						public void evaluate() {
+							drivers[test] = rule.getDriver();
+
+							assertSame(drivers[test], rule.getDriver());
+							assertSame(drivers[test], WebDriverContext.getDriver());
+							WebDriverAssert.assertTitleEquals("Checkout");
+						}
+
+					}, Description.EMPTY).evaluate();
+					fail();
+				} catch (AssertionError e) {
+					// released and unbound even though the test failed
+					assertEquals(0, pool.getStatistics().getBusy());
+					assertFalse(WebDriverContext.isBound());
+				}
+			}
+
+			assertSame(drivers[0], drivers[1]);
+			assertEquals(1, started.get());
+
+			try {
+				rule.getDriver();
+				fail();
+			} catch (IllegalStateException e) {
+				assertEquals("The driver is only available while a test is running", e.getMessage());
+			}
+		}
+	}
+
+	@Test
+	public void closeTest() throws Exception {
+		WebDriverPool pool = new WebDriverPool(this::start, 2);
+		WebDriver idle = pool.acquire();
+		WebDriver busy = pool.acquire();
+
+		pool.release(idle);
+		pool.close();
+
+		assertEquals(0, pool.getStatistics().getIdle());
+
+		try {
+			pool.acquire();
+			fail();
+		} catch (IllegalStateException e) {
+			assertEquals("The pool is closed", e.getMessage());
+		}
+
+		// quit instead of reused
+		pool.release(busy);
+
+		assertEquals(0, pool.getStatistics().getIdle());
+		assertEquals(0, pool.getStatistics().getEvicted());
+	}
+
+}
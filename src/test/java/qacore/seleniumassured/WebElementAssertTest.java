@@ -0,0 +1,178 @@
+package qacore.seleniumassured;
+
+import static com.githubqacore.seleniumassured.WebDriverAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.ComparisonFailure;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+
+import com.githubqacore.seleniumassured.WebElementAssert;
+
+/**
+ * 
+ * 
+ * @author Leonardo Carmona da Silva
+ *         <ul>
+ *         <li><a href="https://br.linkedin.com/in/l3ocarmona">https://br.linkedin.com/in/l3ocarmona</a></li>
+ *         <li><a href="https://github.com/LeoCarmona">https://github.com/LeoCarmona</a></li>
+ *         </ul>
+ *
+ */
+public class WebElementAssertTest {
+
+	private static final String HTML = "<html><head><title>Cart</title></head><body><ul>"
+			+ "<li><a class='item' href='/product/1'>Item one</a></li>"
+			+ "<li><a class='item' href='/product/2'>\n  Item two&nbsp;</a></li>"
+			+ "<li style='display: none'><a class='item' href='/product/3'>Item three</a></li>"
+			+ "</ul><button id='buy'>Buy</button><button id='sold' disabled>Sold out</button>"
+			+ "<input id='qty' value='1'><input id='token' type='hidden' value='abc'>"
+			+ "</body></html>";
+
+	@Test
+	public void inBrowserTest() throws Exception {
+		AtomicInteger scriptCalls = new AtomicInteger();
+
+		try (LocalHttpServer server = new LocalHttpServer().page("/", HTML)) {
+			HtmlUnitDriver driver = new HtmlUnitDriver(true) {
+
+				@Override
+				public Object executeScript(String script, Object... args) {
+					scriptCalls.incrementAndGet();
+
+					return super.executeScript(script, args);
+				}
+
+			};
+
+			try {
+				driver.get(server.url("/"));
+
+				List<WebElement> items = driver.findElements(By.cssSelector("a.item"));
+				WebElementAssert visible = assertThat(driver, items.subList(0, 2));
+
+				visible.text().startsWith("Item").doesNotContainIgnoreCase("three").matches("Item \\w+");
+				visible.attribute("href").contains("/product/");
+				visible.attribute("class").isEqualTo("item");
+				visible.isDisplayed().isEnabled();
+				visible.assertAll();
+
+				assertEquals(1, scriptCalls.get());
+
+				assertThat(driver, items.subList(2, 3)).isNotDisplayed().assertAll();
+				assertThat(driver, driver.findElements(By.id("token"))).isNotDisplayed().assertAll();
+				assertThat(driver, driver.findElements(By.id("sold"))).isNotEnabled().isDisplayed().assertAll();
+
+				WebElementAssert inputs = assertThat(driver, driver.findElements(By.cssSelector("#qty, #buy")));
+
+				inputs.attribute("disabled").isEqualTo("true");
+				inputs.isNotEnabled();
+
+				try {
+					inputs.assertAll();
+					fail();
+				} catch (AssertionError e) {
+					assertTrue(e.getMessage(), e.getMessage().startsWith("4 element assertions failed:"));
+					assertTrue(e.getMessage(), e.getMessage().contains("1) The attribute <disabled> of the element [0] is absent, expected equals to <true>"));
+					assertTrue(e.getMessage(), e.getMessage().contains("2) The element [0] is enabled"));
+					assertEquals(4, e.getSuppressed().length);
+				}
+
+				assertEquals(5, scriptCalls.get());
+			} finally {
+				driver.quit();
+			}
+		}
+	}
+
+	@Test
+	public void failingBatchTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/cart", "Cart");
+
+		driver.setScriptHandler((script, args) -> Arrays.asList(Arrays.asList("Item one", true), Arrays.asList("Sold out", false)));
+
+		WebElementAssert items = assertThat(driver, Arrays.asList(element("a"), element("b")));
+
+		items.text().startsWith("Item").isEqualTo("Item one");
+		items.isDisplayed();
+
+		try {
+			items.assertAll();
+			fail();
+		} catch (AssertionError e) {
+			assertTrue(e.getMessage(), e.getMessage().startsWith("3 element assertions failed:"));
+			assertTrue(e.getMessage(), e.getMessage().contains("1) The text of the element [1] <Sold out> doesn't start with <Item> at index 0"));
+			assertTrue(e.getMessage(), e.getMessage().contains("3) The element [1] is not displayed"));
+			assertTrue(e.getSuppressed()[1] instanceof ComparisonFailure);
+			assertEquals("The text of the element [1] expected:<[Item one]> but was:<[Sold out]>", e.getSuppressed()[1].getMessage());
+		}
+
+		assertEquals(1, driver.getScriptCalls());
+
+		// the batch was cleared
+		items.assertAll();
+
+		assertEquals(1, driver.getScriptCalls());
+	}
+
+	@Test
+	public void fallbackTest() {
+		StubWebDriver driver = new StubWebDriver("https://example.com/cart", "Cart");
+		AtomicInteger elementCalls = new AtomicInteger();
+		List<WebElement> elements = Arrays.asList(element("Item one", elementCalls), element("Item two", elementCalls));
+
+		WebElementAssert items = assertThat(driver, elements);
+
+		items.text().startsWith("Item").endsWith("e");
+		items.isDisplayed();
+
+		try {
+			items.assertAll();
+			fail();
+		} catch (AssertionError e) {
+			assertTrue(e.getMessage(), e.getMessage().startsWith("1 element assertion failed:"));
+			assertTrue(e.getMessage(), e.getMessage().contains("The text of the element [1] <Item two> doesn't end with <e>"));
+		}
+
+		// the script is rejected, so each property is read once per element
+		assertEquals(1, driver.getScriptCalls());
+		assertEquals(4, elementCalls.get());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidAttributeTest() {
+		assertThat(new StubWebDriver("https://example.com/", "Store"), Arrays.<WebElement> asList()).attribute("@href");
+	}
+
+	private static WebElement element(String text) {
+		return element(text, new AtomicInteger());
+	}
+
+	private static WebElement element(String text, AtomicInteger calls) {
+		return (WebElement) Proxy.newProxyInstance(WebElement.class.getClassLoader(), new Class<?>[] { WebElement.class }, (proxy, method, args) -> {
+			calls.incrementAndGet();
+
+			switch (method.getName()) {
+				case "getText":
+					return text;
+
+				case "isDisplayed":
+				case "isEnabled":
+					return true;
+
+				default:
+					throw new UnsupportedOperationException(method.getName());
+			}
+		});
+	}
+
+}